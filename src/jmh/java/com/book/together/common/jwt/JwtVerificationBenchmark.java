@@ -0,0 +1,82 @@
+package com.book.together.common.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.SecretKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 인증 필터의 토큰 처리 비용 비교 (요청 1건 기준)
+ *
+ * <ul>
+ *   <li>{@code rebuildParserTwice}: 이전 방식. 요청마다 파서를 새로 만들어 userId, role을 따로 파싱(검증 2회)</li>
+ *   <li>{@code prebuiltParserOnce}: 기동 시 만든 파서로 1회 검증</li>
+ *   <li>{@code verifiedCacheHit}: 같은 토큰 반복 요청. SHA-256 1회 + 맵 조회</li>
+ * </ul>
+ *
+ * <pre>./gradlew jmh</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtVerificationBenchmark {
+
+    private static final long EXPIRATION_MS = TimeUnit.HOURS.toMillis(1);
+
+    private SecretKey accessKey;
+
+    private JwtProvider jwtProvider;
+
+    private VerifiedTokenCache verifiedTokenCache;
+
+    private String token;
+
+    @Setup
+    public void setUp() {
+        byte[] accessSecret = new byte[32];
+        byte[] refreshSecret = new byte[32];
+        SecureRandom random = new SecureRandom();
+        random.nextBytes(accessSecret);
+        random.nextBytes(refreshSecret);
+
+        accessKey = Keys.hmacShaKeyFor(accessSecret);
+        jwtProvider = new JwtProvider(Encoders.BASE64.encode(accessSecret), Encoders.BASE64.encode(refreshSecret),
+                EXPIRATION_MS, EXPIRATION_MS);
+        verifiedTokenCache = new VerifiedTokenCache(jwtProvider, true, 10_000, new SimpleMeterRegistry());
+        token = jwtProvider.generateAccessToken(1L, "USER");
+        verifiedTokenCache.verify(token); // 캐시 적재
+    }
+
+    @Benchmark
+    public void rebuildParserTwice(Blackhole bh) {
+        Claims forUserId = Jwts.parser().verifyWith(accessKey).clockSkewSeconds(120).build()
+                .parseSignedClaims(token).getPayload();
+        bh.consume(Long.parseLong(forUserId.getSubject()));
+
+        Claims forRole = Jwts.parser().verifyWith(accessKey).clockSkewSeconds(120).build()
+                .parseSignedClaims(token).getPayload();
+        bh.consume(forRole.get("USER_ROLE", String.class));
+    }
+
+    @Benchmark
+    public VerifiedAccessToken prebuiltParserOnce() {
+        return jwtProvider.verifyAccessToken(token);
+    }
+
+    @Benchmark
+    public VerifiedAccessToken verifiedCacheHit() {
+        return verifiedTokenCache.verify(token);
+    }
+}
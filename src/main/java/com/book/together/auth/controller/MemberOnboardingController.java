@@ -0,0 +1,35 @@
+package com.book.together.auth.controller;
+
+import com.book.together.auth.dto.request.OnboardMembersRequest;
+import com.book.together.auth.entity.MemberRole;
+import com.book.together.auth.service.MemberOnboardingService;
+import com.book.together.common.annotation.RequireRole;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/admin/members")
+@RestController
+public class MemberOnboardingController {
+
+    private final MemberOnboardingService memberOnboardingService;
+
+    // 회사 단위 일괄 등록 (관리자): 행별 결과를 NDJSON으로 청크마다 스트리밍
+    @RequireRole(value = {MemberRole.ADMIN})
+    @PostMapping("/onboarding")
+    public ResponseEntity<StreamingResponseBody> onboard(
+            @RequestBody @Valid OnboardMembersRequest request
+    ) {
+        StreamingResponseBody body = memberOnboardingService.onboard(request);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+}
@@ -0,0 +1,30 @@
+package com.book.together.auth.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+
+/**
+ * 회사 단위 일괄 회원 등록. 행별 검증은 서비스에서 하고 결과로 알려 준다.
+ */
+public record OnboardMembersRequest(
+
+        @NotBlank(message = "회사명: 회사명은 필수입니다.")
+        String companyName,
+
+        @NotEmpty(message = "회원: 등록할 회원이 없습니다.")
+        List<Entry> members
+) {
+
+    public record Entry(
+            String email,
+
+            String name,
+
+            @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
+            String password
+    ) {
+
+    }
+}
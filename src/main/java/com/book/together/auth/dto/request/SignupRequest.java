@@ -13,7 +13,7 @@ public record SignupRequest(
 
         @NotBlank(message = "비밀번호: 비밀번호는 필수입니다.")
         @Pattern(
-                regexp = "^(?=.*[A-Za-z])(?=.*\\d)(?=.*[!@#$%^&*()_+\\-={}|\\[\\]:\";'<>?,./]).{8,}$",
+                regexp = SignupRequest.PASSWORD_REGEX,
                 message = "비밀번호: 최소 8자, 영문자/숫자/특수문자를 각각 1개 이상 포함해야 합니다."
         )
         @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
@@ -26,4 +26,7 @@ public record SignupRequest(
         String companyName
 ) {
 
+    // 일괄 등록(MemberOnboardingService)도 같은 규칙으로 검사
+    public static final String PASSWORD_REGEX =
+            "^(?=.*[A-Za-z])(?=.*\\d)(?=.*[!@#$%^&*()_+\\-={}|\\[\\]:\";'<>?,./]).{8,}$";
 }
@@ -0,0 +1,28 @@
+package com.book.together.auth.dto.response;
+
+/**
+ * 일괄 등록 결과 한 줄 (NDJSON)
+ *
+ * @param line 요청 members 배열 순번 (1부터)
+ */
+public record OnboardingResultResponse(
+        int line,
+        String email,
+        Status status,
+        Long memberId
+) {
+
+    public enum Status {
+        CREATED,
+        DUPLICATE_EMAIL,
+        INVALID
+    }
+
+    public static OnboardingResultResponse created(int line, String email, Long memberId) {
+        return new OnboardingResultResponse(line, email, Status.CREATED, memberId);
+    }
+
+    public static OnboardingResultResponse failed(int line, String email, Status status) {
+        return new OnboardingResultResponse(line, email, status, null);
+    }
+}
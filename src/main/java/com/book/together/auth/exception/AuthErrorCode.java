@@ -16,7 +16,9 @@ public enum AuthErrorCode implements ErrorCode {
     AT_BLACKLIST(HttpStatus.FORBIDDEN, "회원: 해당 AT 토큰은 블랙리스트로 등록되어 있습니다."),
     RT_BLACKLIST(HttpStatus.FORBIDDEN, "회원: 해당 RT 토큰은 블랙리스트로 등록되어 있습니다."),
     RT_NOT_FOUND(HttpStatus.NOT_FOUND, "회원: 해당 RT 토큰은 찾을 수 없습니다."),
-    RT_JTI_INCORRECT(HttpStatus.BAD_REQUEST, "회원: 저장된 RT 토큰의 JTI와 틀립니다.");
+    RT_JTI_INCORRECT(HttpStatus.BAD_REQUEST, "회원: 저장된 RT 토큰의 JTI와 틀립니다."),
+    ONBOARDING_TOO_LARGE(HttpStatus.BAD_REQUEST, "회원: 한 번에 등록할 수 있는 회원은 최대 %s명입니다."),
+    ONBOARDING_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "회원: 다른 일괄 등록이 진행 중입니다. 잠시 후 다시 시도해 주세요.");
 
 
 
@@ -25,11 +27,11 @@ public enum AuthErrorCode implements ErrorCode {
 
     @Override
     public HttpStatus getHttpStatus() {
-        return null;
+        return code;
     }
 
     @Override
     public String getMessage() {
-        return "";
+        return message;
     }
 }
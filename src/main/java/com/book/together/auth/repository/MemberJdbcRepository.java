@@ -0,0 +1,72 @@
+package com.book.together.auth.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 회원 대량 INSERT (JDBC batch)
+ *
+ * <p>IDENTITY 전략의 {@code save}는 행마다 INSERT를 실행하므로 일괄 등록은 여기서 한다.
+ * {@code rewriteBatchedStatements=true}로 multi-row INSERT가 되고 생성된 id도 입력 순서대로 돌려받는다.</p>
+ */
+@RequiredArgsConstructor
+@Repository
+public class MemberJdbcRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    private static final String INSERT_MEMBER = """
+            insert into v1_members
+                (email, password, member_role, name, company_name, image, created_at, updated_at)
+            values
+                (:email, :password, 'USER', :name, :companyName, null, :now, :now)
+            """;
+
+    /**
+     * @return 입력 순서대로 생성된 회원 id
+     */
+    public List<Long> insertMembers(List<NewMember> rows, LocalDateTime now) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        SqlParameterSource[] params = new SqlParameterSource[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            NewMember m = rows.get(i);
+            params[i] = new MapSqlParameterSource()
+                    .addValue("email", m.email())
+                    .addValue("password", m.password())
+                    .addValue("name", m.name())
+                    .addValue("companyName", m.companyName())
+                    .addValue("now", Timestamp.valueOf(now));
+        }
+
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(INSERT_MEMBER, params, keys, new String[]{"member_id"});
+
+        List<Long> ids = new ArrayList<>(rows.size());
+        for (Map<String, Object> key : keys.getKeyList()) {
+            ids.add(((Number) key.values().iterator().next()).longValue());
+        }
+        return ids;
+    }
+
+    public record NewMember(
+            String email,
+            String password,
+            String name,
+            String companyName
+    ) {
+
+    }
+}
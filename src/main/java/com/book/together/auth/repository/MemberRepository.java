@@ -1,13 +1,20 @@
 package com.book.together.auth.repository;
 
 import com.book.together.auth.entity.Member;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
 
     boolean existsByEmail(String email);
 
     Optional<Member> findByEmail(String email);
+
+    // 일괄 등록 중복 검사: 이미 가입된 이메일만 반환 (email unique 인덱스)
+    @Query("select m.email from Member m where m.email in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
 }
@@ -0,0 +1,23 @@
+package com.book.together.auth.service;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@ConfigurationProperties(prefix = "member.onboarding")
+@Component
+public class MemberOnboardingProperties {
+
+    // 요청 1건에 담을 수 있는 최대 회원 수
+    private int maxMembers = 10_000;
+
+    // 중복 검사 IN / 해시 / batch INSERT / 결과 flush 단위
+    private int chunkSize = 500;
+
+    // BCrypt 전용 스레드 수. 0이면 코어 수의 절반 (나머지 코어는 일반 가입/로그인 요청용)
+    private int hashThreads = 0;
+
+    // 노드당 동시에 실행할 수 있는 일괄 등록 수
+    private int maxConcurrent = 1;
+}
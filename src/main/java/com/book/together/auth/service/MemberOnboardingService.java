@@ -0,0 +1,298 @@
+package com.book.together.auth.service;
+
+import com.book.together.auth.dto.request.OnboardMembersRequest;
+import com.book.together.auth.dto.request.SignupRequest;
+import com.book.together.auth.dto.response.OnboardingResultResponse;
+import com.book.together.auth.dto.response.OnboardingResultResponse.Status;
+import com.book.together.auth.exception.AuthErrorCode;
+import com.book.together.auth.exception.AuthException;
+import com.book.together.auth.repository.MemberJdbcRepository;
+import com.book.together.auth.repository.MemberJdbcRepository.NewMember;
+import com.book.together.auth.repository.MemberRepository;
+import com.book.together.common.util.AsyncPermit;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * 회사 단위 일괄 회원 등록 (관리자)
+ *
+ * <p>{@code chunk-size}명씩 이메일 중복 검사({@code IN} 1회) → BCrypt 해시(전용 풀에서 병렬) → batch INSERT
+ * (청크마다 커밋) 순서로 처리하고, 청크가 끝날 때마다 행별 결과를 NDJSON으로 내려보낸다.</p>
+ *
+ * <p>BCrypt는 의도적으로 느린 CPU 작업이라, 해시는 코어 수보다 적은 크기의 전용 풀에서만 돌린다. 일괄 등록이
+ * 몇 개가 동시에 돌든 이 노드에서 해시에 쓰는 코어는 {@code hash-threads}개로 묶이므로, 나머지 코어에서 도는 일반
+ * 가입/로그인 요청이 밀리지 않는다. 동시 실행 수도 {@code max-concurrent}로 제한한다.</p>
+ */
+@Slf4j(topic = "MemberOnboardingService")
+@Service
+public class MemberOnboardingService {
+
+    private static final Pattern EMAIL = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+    private static final Pattern PASSWORD = Pattern.compile(SignupRequest.PASSWORD_REGEX);
+
+    private static final int MAX_EMAIL_LENGTH = 100;
+    private static final int MAX_NAME_LENGTH = 50;
+
+    private final MemberRepository memberRepository;
+
+    private final MemberJdbcRepository memberJdbcRepository;
+
+    private final PasswordEncoder passwordEncoder;
+
+    private final MemberOnboardingProperties properties;
+
+    private final ObjectMapper objectMapper;
+
+    private final TransactionTemplate chunkTransaction;
+
+    private final ThreadPoolExecutor hashers;
+
+    private final int hashThreads;
+
+    private final Semaphore permits;
+
+    public MemberOnboardingService(
+            MemberRepository memberRepository,
+            MemberJdbcRepository memberJdbcRepository,
+            PasswordEncoder passwordEncoder,
+            MemberOnboardingProperties properties,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.memberRepository = memberRepository;
+        this.memberJdbcRepository = memberJdbcRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.permits = new Semaphore(properties.getMaxConcurrent());
+
+        this.hashThreads = properties.getHashThreads() > 0
+                ? properties.getHashThreads()
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+        // 작업은 청크마다 hashThreads개만 넣고 끝날 때까지 기다리므로 큐 길이는 hashThreads × max-concurrent 이하
+        AtomicInteger seq = new AtomicInteger();
+        this.hashers = new ThreadPoolExecutor(
+                hashThreads, hashThreads,
+                0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                r -> {
+                    Thread t = new Thread(r, "onboarding-hash-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                }
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashers.shutdownNow();
+    }
+
+    /**
+     * 동시 실행 수를 넘거나 인원이 너무 많으면 응답을 시작하기 전에 거절한다.
+     */
+    public StreamingResponseBody onboard(OnboardMembersRequest request) {
+        List<OnboardMembersRequest.Entry> members = request.members();
+        if (members.size() > properties.getMaxMembers()) {
+            throw new AuthException(AuthErrorCode.ONBOARDING_TOO_LARGE, properties.getMaxMembers());
+        }
+        AsyncPermit permit = AsyncPermit.tryAcquire(permits);
+        if (permit == null) {
+            throw new AuthException(AuthErrorCode.ONBOARDING_BUSY);
+        }
+
+        String companyName = request.companyName().trim();
+        return out -> {
+            if (!permit.begin()) {
+                return;
+            }
+            long startedAt = System.nanoTime();
+            int created = 0;
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.setRootValueSeparator(null);
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+                Set<String> seen = new HashSet<>();
+                int chunkSize = properties.getChunkSize();
+                for (int from = 0; from < members.size(); from += chunkSize) {
+                    int to = Math.min(from + chunkSize, members.size());
+                    for (OnboardingResultResponse result : onboardChunk(members, from, to, companyName, seen)) {
+                        generator.writeObject(result);
+                        generator.writeRaw('\n');
+                        if (result.status() == Status.CREATED) {
+                            created++;
+                        }
+                    }
+                    generator.flush(); // 청크마다 결과를 바로 내려보냄
+                }
+            } finally {
+                permit.release();
+                log.info("일괄 회원 등록: company={}, members={}, created={}, {}ms", companyName,
+                        members.size(), created, (System.nanoTime() - startedAt) / 1_000_000);
+            }
+        };
+    }
+
+    private List<OnboardingResultResponse> onboardChunk(List<OnboardMembersRequest.Entry> members,
+            int from, int to, String companyName, Set<String> seen) {
+        OnboardingResultResponse[] results = new OnboardingResultResponse[to - from];
+
+        // 1) 행별 검증 + 요청 안 중복 제거
+        List<Integer> valid = new ArrayList<>(to - from);
+        List<String> emails = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            OnboardMembersRequest.Entry e = members.get(i);
+            String email = e == null || e.email() == null ? null : e.email().trim();
+            if (!isValid(e, email)) {
+                results[i - from] = OnboardingResultResponse.failed(i + 1, email, Status.INVALID);
+            } else if (!seen.add(email.toLowerCase(Locale.ROOT))) { // 컬럼 collation이 대소문자 무시
+                results[i - from] = OnboardingResultResponse.failed(i + 1, email, Status.DUPLICATE_EMAIL);
+            } else {
+                valid.add(i);
+                emails.add(email);
+            }
+        }
+
+        // 2) 이미 가입된 이메일 제외 (IN 1회) → 해시할 필요도 없음
+        Set<String> existing = emails.isEmpty() ? Set.of() : lowerCase(memberRepository.findExistingEmails(emails));
+        List<Integer> accepted = new ArrayList<>(valid.size());
+        for (int k = 0; k < valid.size(); k++) {
+            int i = valid.get(k);
+            if (existing.contains(emails.get(k).toLowerCase(Locale.ROOT))) {
+                results[i - from] = OnboardingResultResponse.failed(i + 1, emails.get(k), Status.DUPLICATE_EMAIL);
+            } else {
+                accepted.add(i);
+            }
+        }
+
+        // 3) 전용 풀에서 병렬 해시
+        String[] hashes = hash(members, accepted);
+        List<NewMember> rows = new ArrayList<>(accepted.size());
+        for (int k = 0; k < accepted.size(); k++) {
+            OnboardMembersRequest.Entry e = members.get(accepted.get(k));
+            rows.add(new NewMember(e.email().trim(), hashes[k], e.name().trim(), companyName));
+        }
+
+        // 4) batch INSERT (청크 단위 커밋). 그 사이 다른 경로로 가입된 이메일이 있으면 빼고 한 번 더 시도하고,
+        //    그래도 겹치면 한 명씩 넣어 겹친 행만 DUPLICATE_EMAIL로 돌려줌
+        List<Long> ids = insert(rows);
+        if (ids == null) {
+            Set<String> raced = lowerCase(memberRepository.findExistingEmails(
+                    rows.stream().map(NewMember::email).toList()));
+            List<Integer> retryIndexes = new ArrayList<>(accepted.size());
+            List<NewMember> retryRows = new ArrayList<>(rows.size());
+            for (int k = 0; k < rows.size(); k++) {
+                int i = accepted.get(k);
+                if (raced.contains(rows.get(k).email().toLowerCase(Locale.ROOT))) {
+                    results[i - from] = OnboardingResultResponse.failed(i + 1, rows.get(k).email(),
+                            Status.DUPLICATE_EMAIL);
+                } else {
+                    retryIndexes.add(i);
+                    retryRows.add(rows.get(k));
+                }
+            }
+            accepted = retryIndexes;
+            rows = retryRows;
+            ids = insert(rows);
+            if (ids == null) {
+                ids = insertEach(rows);
+            }
+        }
+
+        for (int k = 0; k < ids.size(); k++) {
+            int i = accepted.get(k);
+            results[i - from] = ids.get(k) == null
+                    ? OnboardingResultResponse.failed(i + 1, rows.get(k).email(), Status.DUPLICATE_EMAIL)
+                    : OnboardingResultResponse.created(i + 1, rows.get(k).email(), ids.get(k));
+        }
+        return List.of(results);
+    }
+
+    // 한 명씩 커밋. 중복 키로 실패한 행은 null
+    private List<Long> insertEach(List<NewMember> rows) {
+        List<Long> ids = new ArrayList<>(rows.size());
+        for (NewMember row : rows) {
+            List<Long> id = insert(List.of(row));
+            ids.add(id == null ? null : id.get(0));
+        }
+        return ids;
+    }
+
+    // 중복 키면 null
+    private List<Long> insert(List<NewMember> rows) {
+        try {
+            return chunkTransaction.execute(status -> memberJdbcRepository.insertMembers(rows, LocalDateTime.now()));
+        } catch (DuplicateKeyException e) {
+            return null;
+        }
+    }
+
+    private String[] hash(List<OnboardMembersRequest.Entry> members, List<Integer> indexes) {
+        String[] hashes = new String[indexes.size()];
+        int slice = (indexes.size() + hashThreads - 1) / hashThreads;
+
+        List<Future<?>> futures = new ArrayList<>(hashThreads);
+        for (int start = 0; start < indexes.size(); start += slice) {
+            int s = start;
+            int e = Math.min(start + slice, indexes.size());
+            futures.add(hashers.submit(() -> {
+                for (int k = s; k < e; k++) {
+                    hashes[k] = passwordEncoder.encode(members.get(indexes.get(k)).password());
+                }
+            }));
+        }
+
+        try {
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(f -> f.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 해시 중단", e);
+        } catch (ExecutionException e) {
+            futures.forEach(f -> f.cancel(true));
+            throw new IllegalStateException("비밀번호 해시 실패", e.getCause());
+        }
+        return hashes;
+    }
+
+    private static Set<String> lowerCase(List<String> emails) {
+        Set<String> set = new HashSet<>(emails.size() * 2);
+        for (String email : emails) {
+            set.add(email.toLowerCase(Locale.ROOT));
+        }
+        return set;
+    }
+
+    private static boolean isValid(OnboardMembersRequest.Entry e, String email) {
+        return e != null
+                && email != null && email.length() <= MAX_EMAIL_LENGTH && EMAIL.matcher(email).matches()
+                && e.name() != null && !e.name().isBlank() && e.name().trim().length() <= MAX_NAME_LENGTH
+                && e.password() != null && PASSWORD.matcher(e.password()).matches();
+    }
+}
@@ -0,0 +1,122 @@
+package com.book.together.common.cache;
+
+import com.book.together.common.response.TotalCount;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 필터 키별 전체 개수(total) 캐시.
+ *
+ * <p>동작:
+ * <ul>
+ *   <li>캐시 없음 또는 {@code max-stale} 초과: 요청 스레드에서 직접 COUNT 후 저장 → 정확한 값</li>
+ *   <li>{@code ttl} 이내: 캐시 값 반환 → 근사값</li>
+ *   <li>{@code ttl} ~ {@code max-stale}: 캐시 값을 반환하고 백그라운드에서 갱신 → 근사값</li>
+ * </ul>
+ *
+ * @implNote 같은 키의 백그라운드 갱신은 동시에 하나만 수행한다. 갱신 큐가 가득 차면 이번 갱신은 건너뛴다.
+ */
+@Slf4j(topic = "TotalCountCache")
+@Component
+public class TotalCountCache {
+
+    private final long ttlNanos;
+    private final long maxStaleNanos;
+    private final int maxEntries;
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolExecutor refresher;
+
+    public TotalCountCache(
+            @Value("${pagination.total-count.ttl:30s}") Duration ttl,
+            @Value("${pagination.total-count.max-stale:5m}") Duration maxStale,
+            @Value("${pagination.total-count.max-entries:10000}") int maxEntries
+    ) {
+        this.ttlNanos = ttl.toNanos();
+        this.maxStaleNanos = Math.max(maxStale.toNanos(), ttlNanos);
+        this.maxEntries = maxEntries;
+        this.refresher = new ThreadPoolExecutor(
+                1, 1,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(256),
+                r -> {
+                    Thread t = new Thread(r, "total-count-refresher");
+                    t.setDaemon(true);
+                    return t;
+                }
+        );
+    }
+
+    public TotalCount get(String key, LongSupplier counter) {
+        long now = System.nanoTime();
+        Entry entry = entries.get(key);
+
+        if (entry == null || now - entry.countedAt() > maxStaleNanos) {
+            long value = counter.getAsLong();
+            put(key, value, now);
+            return TotalCount.exact(value);
+        }
+
+        if (now - entry.countedAt() > ttlNanos) {
+            refreshAsync(key, counter);
+        }
+        return TotalCount.approximate(entry.value());
+    }
+
+    /**
+     * 키가 prefix로 시작하는 캐시를 모두 제거한다. (생성/취소처럼 total이 크게 바뀌는 경우)
+     */
+    public void evictByPrefix(String prefix) {
+        entries.keySet().removeIf(k -> k.startsWith(prefix));
+    }
+
+    private void refreshAsync(String key, LongSupplier counter) {
+        if (!refreshing.add(key)) {
+            return; // 이미 갱신 중
+        }
+        try {
+            refresher.execute(() -> {
+                try {
+                    put(key, counter.getAsLong(), System.nanoTime());
+                } catch (RuntimeException e) {
+                    log.warn("total 백그라운드 갱신 실패: key={}, cause={}", key, e.toString());
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key); // 큐 포화 → 다음 요청에서 재시도
+        }
+    }
+
+    private void put(String key, long value, long countedAt) {
+        if (entries.size() >= maxEntries && !entries.containsKey(key)) {
+            long now = System.nanoTime();
+            entries.values().removeIf(e -> now - e.countedAt() > maxStaleNanos);
+            if (entries.size() >= maxEntries) {
+                return; // 키 폭증 시 캐시하지 않고 매번 정확히 센다
+            }
+        }
+        entries.put(key, new Entry(value, countedAt));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    private record Entry(long value, long countedAt) {
+
+    }
+}
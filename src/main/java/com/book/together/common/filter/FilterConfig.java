@@ -1,6 +1,6 @@
 package com.book.together.common.filter;
 
-import com.book.together.common.jwt.JwtProvider;
+import com.book.together.common.jwt.VerifiedTokenCache;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.DispatcherType;
 import java.util.EnumSet;
@@ -46,11 +46,11 @@ public class FilterConfig {
      */
     @Bean
     public FilterRegistrationBean<JwtAuthenticationFilter> jwtAuthenticationFilter(
-            JwtProvider jwtProvider,
+            VerifiedTokenCache verifiedTokenCache,
             JwtAuthenticationFilterProperties props
     ) {
         FilterRegistrationBean<JwtAuthenticationFilter> reg = new FilterRegistrationBean<>();
-        reg.setFilter(new JwtAuthenticationFilter(jwtProvider, props));
+        reg.setFilter(new JwtAuthenticationFilter(verifiedTokenCache, props));
         reg.setName("jwtAuthenticationFilter");
         reg.addUrlPatterns("/*");
         reg.setDispatcherTypes(EnumSet.of(
@@ -3,8 +3,9 @@ package com.book.together.common.filter;
 import com.book.together.auth.entity.MemberRole;
 import com.book.together.common.exception.CommonErrorCode;
 import com.book.together.common.exception.ErrorException;
-import com.book.together.common.jwt.JwtProvider;
 import com.book.together.common.jwt.TokenException;
+import com.book.together.common.jwt.VerifiedAccessToken;
+import com.book.together.common.jwt.VerifiedTokenCache;
 import com.book.together.common.util.AuthKeys;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -28,7 +29,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final String AUTH_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
 
-    private final JwtProvider jwtProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
     private final JwtAuthenticationFilterProperties properties;
 
     private final List<PathPattern> excludePatterns;   // EXCLUDE: 완전 공개
@@ -37,9 +38,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final PathPatternParser parser = PathPatternParser.defaultInstance;
 
-    public JwtAuthenticationFilter(JwtProvider jwtProvider,
+    public JwtAuthenticationFilter(VerifiedTokenCache verifiedTokenCache,
             JwtAuthenticationFilterProperties properties) {
-        this.jwtProvider = Objects.requireNonNull(jwtProvider, "jwtProvider");
+        this.verifiedTokenCache = Objects.requireNonNull(verifiedTokenCache, "verifiedTokenCache");
         this.properties = Objects.requireNonNull(properties, "properties");
 
         this.excludePatterns = preparse(properties.getExcludePathPatterns());
@@ -116,8 +117,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 throw new ErrorException(CommonErrorCode.TOKEN_REQUIRED);
             }
             try {
-                Long userId = jwtProvider.getAtUserId(at);
-                String role = jwtProvider.getAtUserRole(at); // enum을 쓰면 타입을 UserRole로 변경
+                // 토큰당 한 번만 검증 (같은 토큰의 반복 요청은 검증 캐시에서 바로 반환)
+                VerifiedAccessToken verified = verifiedTokenCache.verify(at);
+                Long userId = verified.userId();
+                String role = verified.role();
 
                 if (userId == null || !StringUtils.hasText(role)) {
                     throw new ErrorException(CommonErrorCode.INVALID_TOKEN);
@@ -140,8 +143,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
         try {
-            Long userId = jwtProvider.getAtUserId(at);
-            String role = jwtProvider.getAtUserRole(at);
+            VerifiedAccessToken verified = verifiedTokenCache.verify(at);
+            Long userId = verified.userId();
+            String role = verified.role();
             if (userId != null && StringUtils.hasText(role)) {
                 MemberRole roleEnum = MemberRole.parseForToken(role); // 실패해도 OPTIONAL은 세팅 생략 후 통과
                 setCurrentUserAttributes(request, userId, roleEnum);
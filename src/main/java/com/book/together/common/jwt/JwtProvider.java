@@ -4,6 +4,7 @@ import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.IncorrectClaimException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.Jwts.SIG;
 import io.jsonwebtoken.MalformedJwtException;
@@ -13,9 +14,13 @@ import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.util.Date;
 import java.util.UUID;
+import javax.crypto.Mac;
 import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -31,6 +36,10 @@ public class JwtProvider {
     private final SecretKey accessTokenKey;
     private final SecretKey refreshTokenKey;
 
+    // 파서는 불변·스레드 안전이므로 기동 시 한 번만 만든다 (요청마다 builder → build 반복 방지)
+    private final JwtParser accessTokenParser;
+    private final JwtParser refreshTokenParser;
+
     private final long accessTokenExpirationTime;
     private final long refreshTokenExpirationTime;
 
@@ -42,6 +51,8 @@ public class JwtProvider {
     ) {
         this.accessTokenKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(accessSecretBase64));
         this.refreshTokenKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(refreshSecretBase64));
+        this.accessTokenParser = parser(accessTokenKey);
+        this.refreshTokenParser = parser(refreshTokenKey);
         this.accessTokenExpirationTime = accessTokenExpirationTime;
         this.refreshTokenExpirationTime = refreshTokenExpirationTime;
     }
@@ -77,6 +88,21 @@ public class JwtProvider {
                 .compact();
     }
 
+    /**
+     * access 키에서 용도별 HMAC-SHA256 키를 파생한다 ({@code HMAC(accessKey, "together:" + purpose)}).
+     * JWT 서명 키를 다른 토큰 형식에 그대로 쓰지 않기 위함이며, 같은 시크릿이면 모든 노드에서 같은 키가 나온다.
+     */
+    public SecretKey deriveKey(String purpose) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(accessTokenKey);
+            byte[] derived = mac.doFinal(("together:" + purpose).getBytes(StandardCharsets.UTF_8));
+            return new SecretKeySpec(derived, "HmacSHA256");
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("키 파생 실패: " + purpose, e);
+        }
+    }
+
     public String getRtJti(String token) {
         Claims claims = parseRtClaims(token);
         return claims.getId();
@@ -109,6 +135,19 @@ public class JwtProvider {
 
     public String getAtUserRole(String at) {
         Claims c = parseAtClaims(at);
+        return requireRole(c);
+    }
+
+    /**
+     * access 토큰을 한 번만 검증해 사용자 id, 권한, 만료 시각을 함께 꺼낸다 (인증 필터용).
+     */
+    public VerifiedAccessToken verifyAccessToken(String at) {
+        Claims c = parseAtClaims(at);
+        return new VerifiedAccessToken(Long.parseLong(c.getSubject()), requireRole(c),
+                c.getExpiration().getTime());
+    }
+
+    private String requireRole(Claims c) {
         String role = c.get(CLAIM_USER_ROLE, String.class);
         if (role == null || role.isBlank()) {
             throw new TokenException(JwtErrorCode.INVALID_CLAIMS);
@@ -118,21 +157,25 @@ public class JwtProvider {
 
 
     private Claims parseRtClaims(String rt) {
-        return getClaims(rt, refreshTokenKey);
+        return getClaims(rt, refreshTokenParser);
     }
 
     private Claims parseAtClaims(String at) {
-        return getClaims(at, accessTokenKey);
+        return getClaims(at, accessTokenParser);
+    }
+
+    private static JwtParser parser(SecretKey key) {
+        return Jwts.parser()
+                .verifyWith(key)
+                .clockSkewSeconds(DEFAULT_CLOCK_SKEW_SECONDS)
+                .build();
     }
 
-    private Claims getClaims(String token, SecretKey key) {
+    private Claims getClaims(String token, JwtParser parser) {
         String stripped = stripBearer(token);
 
         try {
-            return Jwts.parser()
-                    .verifyWith(key)
-                    .clockSkewSeconds(DEFAULT_CLOCK_SKEW_SECONDS)
-                    .build()
+            return parser
                     .parseSignedClaims(stripped)
                     .getPayload();
 
@@ -0,0 +1,14 @@
+package com.book.together.common.jwt;
+
+/**
+ * 서명 검증을 마친 access 토큰의 주체 정보
+ *
+ * @param expiresAtMs 토큰 {@code exp} (epoch millis)
+ */
+public record VerifiedAccessToken(
+        Long userId,
+        String role,
+        long expiresAtMs
+) {
+
+}
@@ -0,0 +1,115 @@
+package com.book.together.common.jwt;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서명 검증을 마친 access 토큰 캐시 (노드 로컬).
+ *
+ * <p>같은 access 토큰으로 들어오는 반복 요청은 HMAC 검증과 JSON 파싱 없이 캐시된 주체 정보를 쓴다. 키는 토큰
+ * 원문이 아니라 SHA-256 값이라 메모리에 토큰을 들고 있지 않으며, 항목은 토큰의 {@code exp}에 만료된다.
+ * 검증에 성공한 토큰만 넣으므로 위조 토큰이 캐시를 거쳐 통과하는 일은 없다.</p>
+ *
+ * @implNote 만료된 항목은 {@code purge-interval}마다 한 번에 치운다. 요청 경로에서는 훑지 않으므로, 항목 수가
+ * {@code max-entries}에 닿으면 다음 정리 때까지 새 토큰은 캐시하지 않고 매번 검증한다 (조회/저장은 항상 O(1)).
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final JwtProvider jwtProvider;
+
+    private final boolean enabled;
+    private final int maxEntries;
+
+    private final ConcurrentHashMap<TokenKey, VerifiedAccessToken> entries = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public VerifiedTokenCache(
+            JwtProvider jwtProvider,
+            @Value("${security.jwt.verified-cache.enabled:true}") boolean enabled,
+            @Value("${security.jwt.verified-cache.max-entries:50000}") int maxEntries,
+            MeterRegistry meterRegistry
+    ) {
+        this.jwtProvider = jwtProvider;
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.hits = Counter.builder("jwt.verified_cache.requests").tag("result", "hit")
+                .description("검증 캐시로 서명 검증을 건너뛴 요청 수")
+                .register(meterRegistry);
+        this.misses = Counter.builder("jwt.verified_cache.requests").tag("result", "miss")
+                .description("서명 검증을 수행한 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("jwt.verified_cache.size", entries, ConcurrentHashMap::size)
+                .description("검증 캐시 항목 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @throws TokenException 캐시에 없고 검증에도 실패한 경우 (만료/서명 오류/클레임 오류 등)
+     */
+    public VerifiedAccessToken verify(String at) {
+        if (!enabled) {
+            return jwtProvider.verifyAccessToken(at);
+        }
+
+        TokenKey key = TokenKey.of(at);
+        long now = System.currentTimeMillis();
+        VerifiedAccessToken cached = entries.get(key);
+        if (cached != null) {
+            if (now < cached.expiresAtMs()) {
+                hits.increment();
+                return cached;
+            }
+            entries.remove(key, cached);
+        }
+
+        misses.increment();
+        VerifiedAccessToken verified = jwtProvider.verifyAccessToken(at);
+        if (verified.expiresAtMs() > now) { // 시계 오차 허용 구간으로 통과한 토큰은 넣지 않음
+            put(key, verified);
+        }
+        return verified;
+    }
+
+    private void put(TokenKey key, VerifiedAccessToken verified) {
+        if (entries.size() >= maxEntries) {
+            return;
+        }
+        entries.put(key, verified);
+    }
+
+    @Scheduled(fixedDelayString = "${security.jwt.verified-cache.purge-interval:PT30S}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(v -> v.expiresAtMs() <= now);
+    }
+
+    // SHA-256(토큰) 32바이트를 long 4개로 보관 (문자열/배열 키보다 작고 equals가 빠름)
+    private record TokenKey(long a, long b, long c, long d) {
+
+        static TokenKey of(String token) {
+            MessageDigest digest = SHA_256.get();
+            ByteBuffer hash = ByteBuffer.wrap(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+            return new TokenKey(hash.getLong(), hash.getLong(), hash.getLong(), hash.getLong());
+        }
+    }
+}
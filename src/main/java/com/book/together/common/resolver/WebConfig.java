@@ -1,19 +1,52 @@
 package com.book.together.common.resolver;
 
+import jakarta.annotation.PreDestroy;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
-@RequiredArgsConstructor
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
     private final CurrentUserArgumentResolver currentUserArgumentResolver;
 
+    // StreamingResponseBody 전용 실행기. @Async 풀(spring.task.execution)과 나눠 긴 응답이 리스너 작업을 막지 않게 함.
+    // 빈으로 등록하면 Boot의 기본 applicationTaskExecutor가 빠지므로 여기서만 만들어 씀
+    private final ThreadPoolTaskExecutor asyncExecutor;
+
+    public WebConfig(
+            CurrentUserArgumentResolver currentUserArgumentResolver,
+            @Value("${web.async.pool-size:8}") int poolSize
+    ) {
+        this.currentUserArgumentResolver = currentUserArgumentResolver;
+
+        // 긴 응답만 오므로 큐에 쌓지 않음. 풀이 다 차면 바로 거절
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("mvc-async-");
+        executor.setDaemon(true);
+        executor.initialize();
+        this.asyncExecutor = executor;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        asyncExecutor.shutdown();
+    }
+
     @Override
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
         resolvers.add(currentUserArgumentResolver);
     }
-}
\ No newline at end of file
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(asyncExecutor);
+    }
+}
@@ -1,15 +1,36 @@
 package com.book.together.common.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.util.List;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
+/**
+ * <p>공통 페이지 응답</p>
+ *
+ * 엔드포인트마다 전체 개수(total) 산출 방식을 고른다. <br/>
+ * - {@link #of(Page)}: 매 요청 {@code COUNT(*)} 수행, 정확한 total <br/>
+ * - {@link #of(Slice)}: total 없이 size+1 조회로 {@code hasNext}만 판단 <br/>
+ * - {@link #of(Slice, TotalCount)}: 캐시된 total 사용, {@code totalExact}로 정확/근사 여부 표기
+ *
+ * @param content    페이지 데이터
+ * @param page       현재 페이지 번호(0부터)
+ * @param size       페이지 크기
+ * @param total      전체 개수(slice 모드에서는 {@code null})
+ * @param totalPages 전체 페이지 수(slice 모드에서는 {@code null})
+ * @param hasNext    다음 페이지 존재 여부
+ * @param totalExact total이 이번 요청에서 계산된 정확한 값인지 여부(slice 모드에서는 {@code null})
+ * @param <T>        페이로드 타입
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record PageResponse<T>(
         List<T> content,
         int page,
         int size,
-        long total,
-        int totalPages,
-        boolean hasNext
+        Long total,
+        Integer totalPages,
+        boolean hasNext,
+        Boolean totalExact
 ) {
 
     public static <T> PageResponse<T> of(Page<T> page) {
@@ -19,8 +40,36 @@ public record PageResponse<T>(
                 page.getSize(),
                 page.getTotalElements(),
                 page.getTotalPages(),
-                page.hasNext()
+                page.hasNext(),
+                true
+        );
+    }
+
+    public static <T> PageResponse<T> of(Slice<T> slice) {
+        return new PageResponse<>(
+                slice.getContent(),
+                slice.getNumber(),
+                slice.getSize(),
+                null,
+                null,
+                slice.hasNext(),
+                null
         );
     }
-}
 
+    public static <T> PageResponse<T> of(Slice<T> slice, TotalCount totalCount) {
+        long total = totalCount.value();
+        int size = slice.getSize();
+        int totalPages = size == 0 ? 1 : (int) Math.ceil((double) total / (double) size);
+
+        return new PageResponse<>(
+                slice.getContent(),
+                slice.getNumber(),
+                size,
+                total,
+                totalPages,
+                slice.hasNext(),
+                totalCount.exact()
+        );
+    }
+}
@@ -0,0 +1,21 @@
+package com.book.together.common.response;
+
+/**
+ * <p>페이지 응답용 전체 개수</p>
+ *
+ * @param value 전체 개수
+ * @param exact 이번 요청에서 직접 계산한 값이면 {@code true}, 캐시에서 꺼낸 근사값이면 {@code false}
+ */
+public record TotalCount(
+        long value,
+        boolean exact
+) {
+
+    public static TotalCount exact(long value) {
+        return new TotalCount(value, true);
+    }
+
+    public static TotalCount approximate(long value) {
+        return new TotalCount(value, false);
+    }
+}
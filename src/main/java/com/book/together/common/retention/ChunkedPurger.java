@@ -0,0 +1,200 @@
+package com.book.together.common.retention;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 보존 기간이 지난 행을 작은 청크로 지우는 공통 실행기.
+ *
+ * <p>청크마다 (1) 인덱스 순서로 대상 id를 최대 {@code chunk-size}개 고르고 (2) 짧은 트랜잭션에서 id 목록으로
+ * DELETE 문들을 실행한다. 트랜잭션 안에서는 {@code innodb_lock_wait_timeout}을 낮춰, 참여 요청 등이 잡은
+ * 락과 부딪히면 오래 기다리지 않고 그 청크를 포기한다. 초당 삭제량은 {@code max-rows-per-second}로 제한한다.</p>
+ *
+ * <p>정리 작업은 {@link #submit}으로 전용 스레드 1개에서 차례로 실행한다. 청크 사이 sleep과 락 대기가
+ * 스케줄러 스레드를 잡지 않으므로 이벤트 릴레이/write-behind flush 같은 짧은 주기 작업이 밀리지 않는다.
+ * {@code max-run-time}은 작업 1회(모든 대상 합계)의 상한이며, 다 못 지운 대상은 다음 실행에서 이어 지운다.</p>
+ *
+ * <p>진행 상황은 {@code retention.purge.rows}, {@code retention.purge.chunks},
+ * {@code retention.purge.lock-timeouts} 카운터(target 태그)로 노출한다.</p>
+ */
+@Slf4j(topic = "ChunkedPurger")
+@Component
+public class ChunkedPurger {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate chunkTransaction;
+
+    private final PurgeProperties properties;
+
+    private final MeterRegistry meterRegistry;
+
+    private final ThreadPoolExecutor runner;
+
+    public ChunkedPurger(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            PurgeProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.runner = new ThreadPoolExecutor(
+                1, 1,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(8),
+                r -> {
+                    Thread t = new Thread(r, "retention-purge");
+                    t.setDaemon(true);
+                    return t;
+                }
+        );
+    }
+
+    /**
+     * 정리 작업을 전용 스레드에 넘기고 바로 반환한다 (스케줄러 스레드에서 호출).
+     *
+     * @param job  로그용 이름
+     * @param body 작업 전체의 마감 시각({@link System#nanoTime} 기준)을 받아 {@link #purge}를 차례로 호출
+     */
+    public void submit(String job, LongConsumer body) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            runner.execute(() -> {
+                long deadline = System.nanoTime() + properties.getMaxRunTime().toNanos();
+                try {
+                    body.accept(deadline);
+                } catch (RuntimeException e) {
+                    log.error("보존 정리 실패: job={}", job, e);
+                }
+                if (System.nanoTime() >= deadline) {
+                    log.warn("보존 정리 시간 초과 (max-run-time={}), 남은 대상은 다음 실행에서: job={}",
+                            properties.getMaxRunTime(), job);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("보존 정리 대기열이 가득 차 이번 실행 건너뜀: job={}", job);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        runner.shutdownNow();
+    }
+
+    /**
+     * @param deadline  작업 전체의 마감 시각 ({@link #submit}이 넘겨준 값)
+     * @param target    메트릭/로그용 이름
+     * @param selectIds 기준 id를 인덱스 순서로 고르는 SELECT (마지막 파라미터로 LIMIT이 붙는다)
+     * @param deletes   {@code in (%s)} 자리에 id 목록이 들어갈 DELETE 문들. 자식 테이블부터, 마지막이 기준 테이블
+     * @param args      selectIds 파라미터
+     * @return 기준 테이블에서 지운 행 수
+     */
+    public long purge(long deadline, String target, String selectIds, List<String> deletes, Object... args) {
+        if (!properties.isEnabled() || System.nanoTime() >= deadline) {
+            return 0;
+        }
+
+        Counter rows = meterRegistry.counter("retention.purge.rows", "target", target);
+        Counter chunks = meterRegistry.counter("retention.purge.chunks", "target", target);
+        Counter lockTimeouts = meterRegistry.counter("retention.purge.lock-timeouts", "target", target);
+
+        long nanosPerRow = TimeUnit.SECONDS.toNanos(1) / Math.max(properties.getMaxRowsPerSecond(), 1);
+        int consecutiveTimeouts = 0;
+        long total = 0;
+
+        List<Object> selectArgs = new ArrayList<>(List.of(args));
+        selectArgs.add(properties.getChunkSize());
+
+        while (System.nanoTime() < deadline) {
+            long startedAt = System.nanoTime();
+
+            List<Long> ids = jdbcTemplate.queryForList(
+                    selectIds + " limit ?", Long.class, selectArgs.toArray());
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            int deleted;
+            try {
+                deleted = deleteChunk(ids, deletes);
+                consecutiveTimeouts = 0;
+            } catch (PessimisticLockingFailureException e) {
+                lockTimeouts.increment();
+                if (++consecutiveTimeouts >= properties.getMaxLockTimeouts()) {
+                    log.warn("보존 정리 중단 (락 타임아웃 {}회 연속): target={}", consecutiveTimeouts, target);
+                    break;
+                }
+                sleep(Math.min(TimeUnit.SECONDS.toNanos(properties.getLockWaitTimeoutSeconds()),
+                        deadline - System.nanoTime()));
+                continue;
+            }
+
+            total += deleted;
+            rows.increment(deleted);
+            chunks.increment();
+
+            if (ids.size() < properties.getChunkSize()) {
+                break;
+            }
+            // 초당 삭제량 제한
+            sleep(Math.min(ids.size() * nanosPerRow - (System.nanoTime() - startedAt),
+                    deadline - System.nanoTime()));
+        }
+
+        if (total > 0) {
+            log.info("보존 정리 완료: target={}, {}건", target, total);
+        }
+        return total;
+    }
+
+    private int deleteChunk(List<Long> ids, List<String> deletes) {
+        String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+        Object[] idArgs = ids.toArray();
+
+        Integer deleted = chunkTransaction.execute(status -> {
+            jdbcTemplate.execute("set session innodb_lock_wait_timeout = "
+                    + properties.getLockWaitTimeoutSeconds());
+            try {
+                int last = 0;
+                for (String delete : deletes) {
+                    last = jdbcTemplate.update(delete.formatted(placeholders), idArgs);
+                }
+                return last;
+            } finally {
+                jdbcTemplate.execute("set session innodb_lock_wait_timeout = default");
+            }
+        });
+        return deleted == null ? 0 : deleted;
+    }
+
+    private static void sleep(long nanos) {
+        if (nanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
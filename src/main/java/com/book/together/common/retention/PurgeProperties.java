@@ -0,0 +1,29 @@
+package com.book.together.common.retention;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@ConfigurationProperties(prefix = "retention.purge")
+@Component
+public class PurgeProperties {
+
+    private boolean enabled = true;
+
+    // 청크(트랜잭션) 1개에서 지울 기준 행 수
+    private int chunkSize = 500;
+
+    // 초당 최대 삭제 행 수 (청크 사이 sleep으로 맞춤)
+    private int maxRowsPerSecond = 2_000;
+
+    // 청크 트랜잭션의 innodb_lock_wait_timeout (초). 운영 트래픽과 부딪히면 빨리 포기하고 다음 청크로
+    private int lockWaitTimeoutSeconds = 2;
+
+    // 연속 락 타임아웃이 이 횟수를 넘으면 이번 실행에서 해당 대상 중단
+    private int maxLockTimeouts = 5;
+
+    // 정리 작업 1회(모든 대상 합계)의 최대 실행 시간
+    private Duration maxRunTime = Duration.ofMinutes(30);
+}
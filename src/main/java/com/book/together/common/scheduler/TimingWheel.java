@@ -0,0 +1,212 @@
+package com.book.together.common.scheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 계층형 타이밍 휠 (Varghese &amp; Lauck)
+ *
+ * <p>틱 단위 절대 시각을 {@code wheelBits}비트씩 잘라 레벨별 슬롯을 정한다. 등록은 "현재 틱과 상위 자릿수가 같은
+ * 가장 낮은 레벨"의 슬롯에 O(1)로 연결하고, 하위 레벨이 한 바퀴 돌 때마다 상위 레벨의 현재 슬롯을 아래로 내려보낸다.
+ * 최상위 레벨 범위를 넘는 작업은 overflow 목록에 두었다가 최상위 레벨이 한 바퀴 돌 때 다시 배치한다.</p>
+ *
+ * <p>작업은 람다 대신 {@code (key, type, arg)} 원시값만 담는 노드로 저장해, 수백만 건을 등록해도 노드당
+ * 수십 바이트만 사용한다. 만료된 작업은 전용 스레드에서 {@link Handler}로 넘기며, 핸들러는 빨리 반환해야 한다.</p>
+ */
+@Slf4j(topic = "TimingWheel")
+public class TimingWheel {
+
+    private final long tickMs;
+    private final int wheelBits;
+    private final int wheelMask;
+    private final int levels;
+    private final long startMs;
+
+    private final Node[][] buckets; // [level][slot] → 원형 이중 연결 리스트의 sentinel
+    private final Node overflow = Node.sentinel();
+
+    private final Handler handler;
+    private final Thread driver;
+
+    private long currentTick = 0;
+    private int size = 0;
+    private volatile boolean running = true;
+
+    public TimingWheel(String name, long tickMs, int wheelBits, int levels, Handler handler) {
+        this.tickMs = tickMs;
+        this.wheelBits = wheelBits;
+        this.wheelMask = (1 << wheelBits) - 1;
+        this.levels = levels;
+        this.handler = handler;
+        this.startMs = System.currentTimeMillis();
+
+        this.buckets = new Node[levels][1 << wheelBits];
+        for (int l = 0; l < levels; l++) {
+            for (int s = 0; s <= wheelMask; s++) {
+                buckets[l][s] = Node.sentinel();
+            }
+        }
+
+        this.driver = new Thread(this::run, name);
+        this.driver.setDaemon(true);
+        this.driver.start();
+    }
+
+    /**
+     * deadlineMs(epoch ms)에 만료될 작업을 등록한다. 이미 지난 시각이면 다음 틱에 만료된다.
+     */
+    public synchronized void schedule(long deadlineMs, long key, int type, int arg) {
+        long deadlineTick = Math.max(
+                (deadlineMs - startMs + tickMs - 1) / tickMs,
+                currentTick + 1
+        );
+        place(new Node(deadlineTick, key, type, arg));
+        size++;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public void stop() {
+        running = false;
+        driver.interrupt();
+    }
+
+    private void place(Node node) {
+        long deadline = node.deadlineTick;
+        for (int l = 0; l < levels; l++) {
+            int shift = wheelBits * (l + 1);
+            if ((deadline >>> shift) == (currentTick >>> shift)) {
+                int slot = (int) ((deadline >>> (wheelBits * l)) & wheelMask);
+                buckets[l][slot].append(node);
+                return;
+            }
+        }
+        overflow.append(node);
+    }
+
+    // 한 틱 전진: 하위 레벨이 한 바퀴 돈 레벨은 현재 슬롯을 재배치, 그다음 레벨 0 슬롯 만료
+    private synchronized List<Node> advance() {
+        currentTick++;
+
+        for (int l = 1; l < levels; l++) {
+            long lowerMask = (1L << (wheelBits * l)) - 1;
+            if ((currentTick & lowerMask) != 0) {
+                break;
+            }
+            int slot = (int) ((currentTick >>> (wheelBits * l)) & wheelMask);
+            cascade(buckets[l][slot]);
+
+            if (l == levels - 1 && slot == 0) {
+                cascade(overflow); // 최상위 레벨이 한 바퀴 돌았으면 overflow 재배치
+            }
+        }
+
+        Node head = buckets[0][(int) (currentTick & wheelMask)];
+        List<Node> expired = new ArrayList<>();
+        for (Node n = head.next; n != head; ) {
+            Node next = n.next;
+            n.unlink();
+            expired.add(n);
+            n = next;
+        }
+        size -= expired.size();
+        return expired;
+    }
+
+    // 목록을 먼저 떼어낸 뒤 재배치 (overflow처럼 같은 목록으로 되돌아가는 노드가 있어도 한 번만 순회)
+    private void cascade(Node head) {
+        Node first = head.next;
+        Node last = head.prev;
+        if (first == head) {
+            return;
+        }
+        head.next = head;
+        head.prev = head;
+        last.next = null;
+
+        for (Node n = first; n != null; ) {
+            Node next = n.next;
+            n.prev = null;
+            n.next = null;
+            place(n);
+            n = next;
+        }
+    }
+
+    private void run() {
+        while (running) {
+            long nextTickAt;
+            synchronized (this) {
+                nextTickAt = startMs + (currentTick + 1) * tickMs;
+            }
+
+            long sleepMs = nextTickAt - System.currentTimeMillis();
+            if (sleepMs > 0) {
+                try {
+                    TimeUnit.MILLISECONDS.sleep(sleepMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                continue;
+            }
+
+            for (Node n : advance()) {
+                try {
+                    handler.onExpire(n.key, n.type, n.arg);
+                } catch (RuntimeException e) {
+                    log.error("타이머 핸들러 실패: key={}, type={}", n.key, n.type, e);
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface Handler {
+
+        void onExpire(long key, int type, int arg);
+    }
+
+    private static final class Node {
+
+        private final long deadlineTick;
+        private final long key;
+        private final int type;
+        private final int arg;
+
+        private Node prev;
+        private Node next;
+
+        private Node(long deadlineTick, long key, int type, int arg) {
+            this.deadlineTick = deadlineTick;
+            this.key = key;
+            this.type = type;
+            this.arg = arg;
+        }
+
+        static Node sentinel() {
+            Node s = new Node(0, 0, 0, 0);
+            s.prev = s;
+            s.next = s;
+            return s;
+        }
+
+        void append(Node node) {
+            node.prev = this.prev;
+            node.next = this;
+            this.prev.next = node;
+            this.prev = node;
+        }
+
+        void unlink() {
+            prev.next = next;
+            next.prev = prev;
+            prev = null;
+            next = null;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.book.together.common.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+
+/**
+ * {@code StreamingResponseBody} 동시 실행 허가 1개.
+ *
+ * <p>허가는 요청 스레드에서 응답을 시작하기 전에 받아야 초과 시 503으로 거절할 수 있다. 그런데 본문은 나중에
+ * async 스레드에서 돌기 때문에, 실행기가 거절하거나 시작 전에 타임아웃/연결 종료로 요청이 끝나면 본문의
+ * {@code finally}가 아예 실행되지 않는다. 그래서 본문이 {@link #begin()}으로 먼저 차지하지 못한 채 async 요청이
+ * 끝나면 완료 콜백에서 돌려준다. 본문이 시작됐으면 본문이 끝날 때만 돌려주므로, 타임아웃 뒤에도 돌고 있는 본문이
+ * 허가 없이 하나 더 생기지 않는다.</p>
+ */
+public final class AsyncPermit {
+
+    private final Semaphore semaphore;
+
+    private final AtomicBoolean claimed = new AtomicBoolean();
+
+    private AsyncPermit(Semaphore semaphore) {
+        this.semaphore = semaphore;
+    }
+
+    /**
+     * @return 허가, 남은 허가가 없으면 null
+     */
+    public static AsyncPermit tryAcquire(Semaphore semaphore) {
+        if (!semaphore.tryAcquire()) {
+            return null;
+        }
+        AsyncPermit permit = new AsyncPermit(semaphore);
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servlet) {
+            HttpServletRequest request = servlet.getRequest();
+            WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(permit,
+                    new CallableProcessingInterceptor() {
+                        @Override
+                        public <T> void afterCompletion(NativeWebRequest webRequest, Callable<T> task) {
+                            if (permit.claimed.compareAndSet(false, true)) {
+                                semaphore.release();
+                            }
+                        }
+                    });
+        }
+        return permit;
+    }
+
+    /**
+     * 본문 시작 시 호출. false면 요청이 이미 끝나 허가를 돌려준 것이므로 본문을 실행하지 않는다.
+     */
+    public boolean begin() {
+        return claimed.compareAndSet(false, true);
+    }
+
+    // begin()이 true였을 때만 본문의 finally에서 호출
+    public void release() {
+        semaphore.release();
+    }
+}
@@ -0,0 +1,58 @@
+package com.book.together.gatherings.cache;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.springframework.stereotype.Component;
+
+/**
+ * 모임별 체크인 현황 (노드 로컬)
+ *
+ * <p>참가자 id를 비트 위치로 쓰는 희소 비트맵이다. 64개 id가 {@link AtomicLong} 한 워드를 공유하고, 한 모임의
+ * 참가자 id는 가입 시기별로 몰려 있어 워드 수가 참가자 수에 가깝게 유지된다. 체크인 1건은 CAS 한 번이며
+ * 락이나 DB 접근이 없다. 주최자/모임 시각은 모임당 처음 한 번만 읽어 둔다.</p>
+ */
+@Component
+public class CheckInBoard {
+
+    private final Map<Long, Board> boards = new ConcurrentHashMap<>();
+
+    public Board get(Long gatheringId, Function<Long, Board> loader) {
+        return boards.computeIfAbsent(gatheringId, loader);
+    }
+
+    // 체크인 시간이 끝난 모임 정리
+    public int prune(LocalDateTime closedBefore) {
+        int before = boards.size();
+        boards.values().removeIf(b -> b.dateTime().isBefore(closedBefore));
+        return before - boards.size();
+    }
+
+    public record Board(
+            long hostId,
+            LocalDateTime dateTime,
+            Map<Long, AtomicLong> words,
+            AtomicInteger checkedIn
+    ) {
+
+        public static Board of(long hostId, LocalDateTime dateTime) {
+            return new Board(hostId, dateTime, new ConcurrentHashMap<>(), new AtomicInteger());
+        }
+
+        /**
+         * @return 이 노드에서 처음 체크인이면 true
+         */
+        public boolean mark(long participantId) {
+            AtomicLong word = words.computeIfAbsent(participantId >>> 6, k -> new AtomicLong());
+            long bit = 1L << (participantId & 63);
+            if ((word.getAndUpdate(w -> w | bit) & bit) != 0) {
+                return false;
+            }
+            checkedIn.incrementAndGet();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.book.together.gatherings.cache;
+
+import com.book.together.gatherings.dto.response.CommentResponse;
+import com.book.together.gatherings.service.GatheringCommentProperties;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * 모임별 최신 댓글 tail (노드 로컬, LRU)
+ *
+ * <p>모임마다 최신 {@code tailSize}개 댓글을 id 내림차순으로 들고 있어, 첫 페이지와 그 근처 커서 조회는 DB를
+ * 읽지 않는다. tail은 DB 조회 <b>전에</b> 먼저 등록하고, 그 사이 이 노드에서 커밋된 댓글은 {@link #append}로
+ * 함께 쌓았다가 조회 결과와 합친다. 따라서 적재 중에 커밋된 댓글이 빠지지 않는다.</p>
+ *
+ * <p>다른 노드에서 쓴 댓글은 알 수 없으므로 {@code tail-ttl}가 지난 tail은 한 요청만 다시 적재하고,
+ * 나머지 요청은 적재가 끝날 때까지 이전 tail로 응답한다.</p>
+ */
+@Component
+public class CommentTailCache {
+
+    private static final Comparator<Long> NEWEST_FIRST = Comparator.reverseOrder();
+
+    private final int tailSize;
+
+    private final long ttlMs;
+
+    private final Map<Long, Tail> tails;
+
+    public CommentTailCache(GatheringCommentProperties properties) {
+        this.tailSize = properties.getTailSize();
+        this.ttlMs = properties.getTailTtl().toMillis();
+        int maxGatherings = properties.getMaxCachedGatherings();
+        this.tails = new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Tail> eldest) {
+                return size() > maxGatherings;
+            }
+        };
+    }
+
+    public int getTailSize() {
+        return tailSize;
+    }
+
+    /**
+     * tail에서 {@code beforeId}보다 오래된 댓글을 최신순으로 최대 limit개 읽는다.
+     *
+     * @return tail만으로 답할 수 없으면(미적재/범위 밖) null
+     */
+    public List<CommentResponse> read(long gatheringId, long beforeId, int limit) {
+        Tail tail;
+        synchronized (tails) {
+            tail = tails.get(gatheringId);
+        }
+        return tail == null ? null : tail.read(beforeId, limit);
+    }
+
+    /**
+     * 적재가 필요하면 빈 tail을 먼저 등록해 반환한다. 다른 요청이 이미 적재 중이거나 tail이 신선하면 null.
+     */
+    public Tail beginLoad(long gatheringId, long nowMs) {
+        synchronized (tails) {
+            Tail current = tails.get(gatheringId);
+            if (current != null && (!current.isLoaded() || nowMs - current.loadedAtMs < ttlMs)) {
+                return null;
+            }
+            Tail next = new Tail(current);
+            tails.put(gatheringId, next);
+            return next;
+        }
+    }
+
+    public void abortLoad(long gatheringId, Tail tail) {
+        synchronized (tails) {
+            tails.remove(gatheringId, tail);
+        }
+    }
+
+    // 커밋된 댓글 반영: tail이 없으면 다음 조회가 DB에서 적재하므로 무시
+    public void append(CommentResponse comment) {
+        Tail tail;
+        synchronized (tails) {
+            tail = tails.get(comment.gatheringId());
+        }
+        if (tail != null) {
+            tail.append(comment);
+        }
+    }
+
+    public void evict(long gatheringId) {
+        synchronized (tails) {
+            tails.remove(gatheringId);
+        }
+    }
+
+    public final class Tail {
+
+        private final TreeMap<Long, CommentResponse> rows = new TreeMap<>(NEWEST_FIRST);
+
+        private Tail previous; // 재적재 중에는 이전 tail로 응답
+
+        private boolean loaded;
+
+        private boolean exhaustive; // 모임의 모든 댓글을 담고 있음
+
+        private long loadedAtMs;
+
+        private Tail(Tail previous) {
+            this.previous = previous;
+        }
+
+        public synchronized void complete(List<CommentResponse> latest, long nowMs) {
+            for (CommentResponse c : latest) {
+                rows.put(c.id(), c);
+            }
+            exhaustive = latest.size() < tailSize;
+            trim();
+            loaded = true;
+            loadedAtMs = nowMs;
+            previous = null;
+        }
+
+        private synchronized boolean isLoaded() {
+            return loaded;
+        }
+
+        private synchronized void append(CommentResponse comment) {
+            rows.put(comment.id(), comment);
+            trim();
+        }
+
+        private List<CommentResponse> read(long beforeId, int limit) {
+            Tail fallback;
+            synchronized (this) {
+                if (loaded) {
+                    List<CommentResponse> result = new ArrayList<>(limit);
+                    for (CommentResponse c : rows.tailMap(beforeId, false).values()) {
+                        if (result.size() == limit) {
+                            break;
+                        }
+                        result.add(c);
+                    }
+                    return result.size() == limit || exhaustive ? result : null;
+                }
+                fallback = previous;
+            }
+            return fallback == null ? null : fallback.read(beforeId, limit);
+        }
+
+        private void trim() {
+            while (rows.size() > tailSize) {
+                rows.pollLastEntry();
+                exhaustive = false;
+            }
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.book.together.gatherings.cache;
+
+import com.book.together.gatherings.entity.GatheringLocation;
+import com.book.together.gatherings.entity.GatheringType;
+import com.book.together.gatherings.entity.RollupGranularity;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * 모임 수요 집계의 노드 로컬 버퍼.
+ *
+ * <p>(granularity, 버킷 시작) 하나가 {@code long[]} 하나이며, 배열은 (유형, 장소, 모임 시작 시, 지표)를 평평하게
+ * 펼친 고정 크기다 (4 × 4 × 24 × 9 = 3,456칸, 약 27KB). 이벤트 1건은 세 단위 버킷의 칸 몇 개를 더할 뿐이라
+ * 객체를 만들지 않는다.</p>
+ *
+ * <p>{@link #drain()}은 버킷 맵을 새 맵으로 바꾼 뒤 기존 버킷을 하나씩 봉인하면서 0이 아닌 칸만 꺼낸다.
+ * 증가는 버킷 잠금 안에서 맵이 바뀌지 않았는지 먼저 확인한다. 그 확인을 통과한 버킷은 맵이 바뀌기 전에 이미
+ * 기존 맵에 들어가 있으므로 drain이 반드시 봉인해 꺼내고, 봉인/교체 뒤에 도착한 증가분은 새 맵의 버킷으로
+ * 다시 들어가므로 잃지 않는다.</p>
+ */
+@Component
+public class GatheringRollupBuffer {
+
+    public static final int CREATED = 0;
+    public static final int CAPACITY = 1;
+    public static final int JOINED = 2;
+    public static final int LEFT = 3;
+    public static final int SEATS = 4;
+    public static final int FILLED = 5;
+    public static final int TIME_TO_FULL_SEC = 6;
+    public static final int CANCELED = 7;
+    public static final int CANCELED_CAPACITY = 8;
+    public static final int METRICS = 9;
+
+    private static final GatheringType[] TYPES = GatheringType.values();
+    private static final GatheringLocation[] LOCATIONS = GatheringLocation.values();
+    private static final RollupGranularity[] GRANULARITIES = RollupGranularity.values();
+    private static final int HOURS = 24;
+    private static final int CELLS = TYPES.length * LOCATIONS.length * HOURS * METRICS;
+
+    private volatile Map<Long, Bucket> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * @param metrics (지표, 값) 쌍을 이어 붙인 배열. 예: {@code {JOINED, 1, SEATS, 1}}
+     */
+    public void add(LocalDateTime eventTime, GatheringType type, GatheringLocation location,
+            int hourOfDay, long... metrics) {
+        int base = base(type, location, hourOfDay);
+        for (RollupGranularity granularity : GRANULARITIES) {
+            increment(key(granularity, granularity.truncate(eventTime)), base, metrics);
+        }
+    }
+
+    /**
+     * 지금까지 모은 증가분을 꺼내고 버퍼를 비운다. 0이 아닌 (버킷, 차원)만 반환한다.
+     */
+    public List<Cell> drain() {
+        Map<Long, Bucket> drained = buckets;
+        buckets = new ConcurrentHashMap<>();
+
+        List<Cell> cells = new ArrayList<>();
+        for (Map.Entry<Long, Bucket> e : drained.entrySet()) {
+            RollupGranularity granularity = GRANULARITIES[(int) (e.getKey() % GRANULARITIES.length)];
+            LocalDateTime bucketStart = LocalDateTime.ofEpochSecond(
+                    e.getKey() / GRANULARITIES.length * 60, 0, ZoneOffset.UTC);
+            long[] values;
+            synchronized (e.getValue()) {
+                e.getValue().sealed = true;
+                values = e.getValue().cells;
+            }
+            collect(granularity, bucketStart, values, cells);
+        }
+        return cells;
+    }
+
+    /**
+     * 반영에 실패한 증가분을 다시 더한다 (다음 drain에 포함).
+     */
+    public void giveBack(List<Cell> cells) {
+        for (Cell c : cells) {
+            long[] metrics = new long[METRICS * 2];
+            for (int m = 0; m < METRICS; m++) {
+                metrics[m * 2] = m;
+                metrics[m * 2 + 1] = c.values()[m];
+            }
+            increment(key(c.granularity(), c.bucketStart()), base(c.type(), c.location(), c.hourOfDay()), metrics);
+        }
+    }
+
+    private void increment(long key, int base, long[] metrics) {
+        while (true) {
+            Map<Long, Bucket> map = buckets;
+            Bucket bucket = map.computeIfAbsent(key, k -> new Bucket());
+            synchronized (bucket) {
+                // drain 중인 버킷이거나, 맵이 이미 바뀌어 drain이 이 버킷을 지나쳤을 수 있음 → 새 맵에서 다시
+                if (bucket.sealed || map != buckets) {
+                    continue;
+                }
+                for (int i = 0; i < metrics.length; i += 2) {
+                    bucket.cells[base + (int) metrics[i]] += metrics[i + 1];
+                }
+                return;
+            }
+        }
+    }
+
+    private static int base(GatheringType type, GatheringLocation location, int hourOfDay) {
+        return ((type.ordinal() * LOCATIONS.length + location.ordinal()) * HOURS + hourOfDay) * METRICS;
+    }
+
+    private static void collect(RollupGranularity granularity, LocalDateTime bucketStart, long[] values,
+            List<Cell> out) {
+        for (int base = 0; base < CELLS; base += METRICS) {
+            boolean empty = true;
+            for (int m = 0; m < METRICS && empty; m++) {
+                empty = values[base + m] == 0;
+            }
+            if (empty) {
+                continue;
+            }
+            int dims = base / METRICS;
+            int hour = dims % HOURS;
+            int location = (dims / HOURS) % LOCATIONS.length;
+            int type = dims / HOURS / LOCATIONS.length;
+
+            long[] metrics = new long[METRICS];
+            System.arraycopy(values, base, metrics, 0, METRICS);
+            out.add(new Cell(granularity, bucketStart, TYPES[type], LOCATIONS[location], hour, metrics));
+        }
+    }
+
+    // 버킷 시작(LocalDateTime)을 분 단위 정수로 바꿔 단위와 함께 키로 씀 (UTC는 왕복 변환용일 뿐)
+    private static long key(RollupGranularity granularity, LocalDateTime bucketStart) {
+        long epochMinute = bucketStart.toEpochSecond(ZoneOffset.UTC) / 60;
+        return epochMinute * GRANULARITIES.length + granularity.ordinal();
+    }
+
+    public record Cell(
+            RollupGranularity granularity,
+            LocalDateTime bucketStart,
+            GatheringType type,
+            GatheringLocation location,
+            int hourOfDay,
+            long[] values
+    ) {
+
+    }
+
+    private static final class Bucket {
+
+        private final long[] cells = new long[CELLS];
+
+        private boolean sealed;
+    }
+}
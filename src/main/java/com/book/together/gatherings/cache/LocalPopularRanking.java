@@ -0,0 +1,104 @@
+package com.book.together.gatherings.cache;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 장애 시 사용하는 노드 로컬 인기 랭킹.
+ *
+ * <p>{@link com.book.together.gatherings.repository.GatheringRankingRepository}와 같은 감쇠 공식을 쓰며,
+ * 이 노드에서 처리된 참여만 반영한다. 점수 순 정렬 집합(TreeSet)으로 top-K를 O(log N + K)에 읽는다.</p>
+ */
+@Component
+public class LocalPopularRanking {
+
+    private static final Comparator<Entry> ORDER = Comparator
+            .comparingDouble((Entry e) -> e.score).reversed()
+            .thenComparingLong(e -> e.gatheringId);
+
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final TreeSet<Entry> ranking = new TreeSet<>(ORDER);
+
+    private long epochMs = System.currentTimeMillis();
+
+    public synchronized void increment(long gatheringId, double baseWeight, long expireAtSec,
+            long nowMs, long halfLifeMs) {
+        double weight = Math.pow(2, (double) (nowMs - epochMs) / halfLifeMs) * baseWeight;
+
+        Entry old = entries.get(gatheringId);
+        double score = weight;
+        if (old != null) {
+            ranking.remove(old);
+            score += old.score;
+        }
+
+        Entry entry = new Entry(gatheringId, score, expireAtSec, nowMs);
+        entries.put(gatheringId, entry);
+        ranking.add(entry);
+    }
+
+    public synchronized List<Ranked> top(int k) {
+        List<Ranked> result = new ArrayList<>(k);
+        Iterator<Entry> it = ranking.iterator();
+        while (it.hasNext() && result.size() < k) {
+            Entry e = it.next();
+            result.add(new Ranked(e.gatheringId, e.score));
+        }
+        return result;
+    }
+
+    public synchronized void remove(long gatheringId) {
+        Entry old = entries.remove(gatheringId);
+        if (old != null) {
+            ranking.remove(old);
+        }
+    }
+
+    public synchronized int prune(long nowSec, long windowStartMs) {
+        int removed = 0;
+        Iterator<Entry> it = entries.values().iterator();
+        while (it.hasNext()) {
+            Entry e = it.next();
+            if (e.expireAtSec <= nowSec || e.lastJoinMs <= windowStartMs) {
+                it.remove();
+                ranking.remove(e);
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    public synchronized void rebase(long nowMs, long halfLifeMs, int maxHalfLives) {
+        double halves = (double) (nowMs - epochMs) / halfLifeMs;
+        if (halves < maxHalfLives) {
+            return;
+        }
+
+        double factor = Math.pow(2, -halves);
+        List<Entry> rescaled = new ArrayList<>(entries.size());
+        for (Entry e : entries.values()) {
+            rescaled.add(new Entry(e.gatheringId, e.score * factor, e.expireAtSec, e.lastJoinMs));
+        }
+        entries.clear();
+        ranking.clear();
+        for (Entry e : rescaled) {
+            entries.put(e.gatheringId, e);
+            ranking.add(e);
+        }
+        epochMs = nowMs;
+    }
+
+    public record Ranked(long gatheringId, double score) {
+
+    }
+
+    private record Entry(long gatheringId, double score, long expireAtSec, long lastJoinMs) {
+
+    }
+}
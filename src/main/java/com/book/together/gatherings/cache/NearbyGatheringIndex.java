@@ -0,0 +1,235 @@
+package com.book.together.gatherings.cache;
+
+import com.book.together.common.util.GeoUtils;
+import com.book.together.gatherings.entity.Gathering;
+import com.book.together.gatherings.entity.GatheringLocation;
+import com.book.together.gatherings.entity.GatheringType;
+import com.book.together.gatherings.event.GatheringCreatedEvent;
+import com.book.together.gatherings.event.GatheringSnapshot;
+import com.book.together.gatherings.event.ParticipantCanceledEvent;
+import com.book.together.gatherings.event.ParticipantJoinedEvent;
+import com.book.together.gatherings.repository.GatheringRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 예정된 모임의 위치 인덱스 (노드 로컬)
+ *
+ * <p>장소 좌표를 {@code cell-degrees} 크기의 위경도 격자에 올려 두고, 장소마다 예정 모임을
+ * (모임 시각, id) 순으로 정렬해 들고 있다. 반경 검색은 반경을 덮는 격자 칸의 장소만 거리 계산 후
+ * 시간 구간을 잘라 읽으므로, 전체 모임 수와 무관하게 주변 장소 수와 결과 수에만 비례한다.</p>
+ *
+ * <p>참가자 수는 참여/취소 이벤트로 갱신하므로 조회 시 DB를 읽지 않는다.</p>
+ */
+@Slf4j(topic = "NearbyGatheringIndex")
+@Component
+public class NearbyGatheringIndex {
+
+    private static final Comparator<Entry> BY_TIME = Comparator
+            .comparing((Entry e) -> e.dateTime)
+            .thenComparingLong(e -> e.id);
+
+    private final GatheringRepository gatheringRepository;
+
+    private final double cellDegrees;
+
+    // 격자 칸 → 그 칸에 있는 장소들 (장소는 정적이므로 기동 시 한 번 구성)
+    private final Map<Long, List<GatheringLocation>> cells = new HashMap<>();
+
+    private final List<GatheringLocation> venues = List.of(GatheringLocation.values());
+
+    private final Map<GatheringLocation, NavigableSet<Entry>> byLocation =
+            new EnumMap<>(GatheringLocation.class);
+
+    private final Map<Long, Entry> byId = new ConcurrentHashMap<>();
+
+    public NearbyGatheringIndex(
+            GatheringRepository gatheringRepository,
+            @Value("${gathering.nearby.cell-degrees:0.02}") double cellDegrees
+    ) {
+        this.gatheringRepository = gatheringRepository;
+        this.cellDegrees = cellDegrees;
+
+        for (GatheringLocation location : GatheringLocation.values()) {
+            long cell = cellKey(cellOf(location.getLatitude()), cellOf(location.getLongitude()));
+            cells.computeIfAbsent(cell, k -> new ArrayList<>()).add(location);
+            byLocation.put(location, new ConcurrentSkipListSet<>(BY_TIME));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<Gathering> upcoming = gatheringRepository
+                .findAllByCanceledAtIsNullAndDateTimeAfter(LocalDateTime.now());
+        for (Gathering g : upcoming) {
+            add(GatheringSnapshot.from(g));
+        }
+        log.info("위치 인덱스 적재 완료: {}건", upcoming.size());
+    }
+
+    @TransactionalEventListener
+    public void on(GatheringCreatedEvent event) {
+        add(event.gathering());
+    }
+
+    @TransactionalEventListener
+    public void on(ParticipantJoinedEvent event) {
+        Entry entry = byId.get(event.gathering().id());
+        if (entry != null) {
+            entry.participantCount.incrementAndGet();
+        }
+    }
+
+    @TransactionalEventListener
+    public void on(ParticipantCanceledEvent event) {
+        Entry entry = byId.get(event.gathering().id());
+        if (entry != null) {
+            entry.participantCount.updateAndGet(c -> Math.max(0, c - 1));
+        }
+    }
+
+    public void add(GatheringSnapshot g) {
+        Entry entry = new Entry(g.id(), g.type(), g.name(), g.location(), g.dateTime(),
+                g.capacity(), new AtomicInteger(g.participantCount()));
+        Entry old = byId.put(entry.id, entry);
+        if (old != null) {
+            byLocation.get(old.location).remove(old);
+        }
+        byLocation.get(entry.location).add(entry);
+    }
+
+    public void remove(Long gatheringId) {
+        Entry old = byId.remove(gatheringId);
+        if (old != null) {
+            byLocation.get(old.location).remove(old);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${gathering.nearby.prune-interval:PT10M}")
+    public void prunePast() {
+        LocalDateTime now = LocalDateTime.now();
+        for (NavigableSet<Entry> entries : byLocation.values()) {
+            while (true) {
+                Entry first = entries.isEmpty() ? null : entries.first();
+                if (first == null || first.dateTime.isAfter(now)) {
+                    break;
+                }
+                entries.remove(first);
+                byId.remove(first.id, first);
+            }
+        }
+    }
+
+    /**
+     * 반경 안의 예정 모임을 거리 → 시간 순으로 최대 limit개 반환한다.
+     */
+    public List<Hit> search(double lat, double lng, double radiusKm, LocalDateTime from,
+            LocalDateTime to, int limit) {
+        Entry lower = Entry.bound(from, Long.MIN_VALUE);
+        Entry upper = Entry.bound(to, Long.MAX_VALUE);
+
+        List<Hit> hits = new ArrayList<>();
+        for (GatheringLocation venue : candidates(lat, lng, radiusKm)) {
+            double distance = GeoUtils.distanceKm(lat, lng,
+                    venue.getLatitude(), venue.getLongitude());
+            if (distance > radiusKm) {
+                continue;
+            }
+            for (Entry e : byLocation.get(venue).subSet(lower, true, upper, true)) {
+                hits.add(new Hit(e.id, e.type, e.name, e.location, e.dateTime,
+                        e.participantCount.get(), e.capacity, distance));
+            }
+        }
+
+        hits.sort(Comparator.comparingDouble(Hit::distanceKm)
+                .thenComparing(Hit::dateTime)
+                .thenComparingLong(Hit::id));
+        return hits.size() > limit ? new ArrayList<>(hits.subList(0, limit)) : hits;
+    }
+
+    /**
+     * 반경을 덮는 격자 칸의 장소들. 극지방처럼 경도 폭이 커지는 좌표에서도 훑는 칸 수가 위경도 범위를 넘지 않도록
+     * 자르고, 훑을 칸이 장소 수보다 많으면 칸 대신 장소 전체를 본다 (요청 1건의 비용 상한 = 장소 수).
+     */
+    private List<GatheringLocation> candidates(double lat, double lng, double radiusKm) {
+        double latSpan = radiusKm / GeoUtils.KM_PER_DEGREE_LAT;
+        double lngSpan = radiusKm / GeoUtils.kmPerDegreeLng(lat);
+
+        long minLatCell = cellOf(Math.max(-90.0, lat - latSpan));
+        long maxLatCell = cellOf(Math.min(90.0, lat + latSpan));
+
+        // 360도 이상이거나 날짜변경선을 넘으면 위도 줄 전체
+        boolean wholeRow = lngSpan >= 180.0 || lng - lngSpan < -180.0 || lng + lngSpan > 180.0;
+        long minLngCell = cellOf(wholeRow ? -180.0 : lng - lngSpan);
+        long maxLngCell = cellOf(wholeRow ? 180.0 : lng + lngSpan);
+
+        long cellCount = (maxLatCell - minLatCell + 1) * (maxLngCell - minLngCell + 1);
+        if (cellCount > venues.size()) {
+            return venues;
+        }
+
+        List<GatheringLocation> found = new ArrayList<>();
+        for (long la = minLatCell; la <= maxLatCell; la++) {
+            for (long ln = minLngCell; ln <= maxLngCell; ln++) {
+                List<GatheringLocation> inCell = cells.get(cellKey(la, ln));
+                if (inCell != null) {
+                    found.addAll(inCell);
+                }
+            }
+        }
+        return found;
+    }
+
+    private long cellOf(double degrees) {
+        return (long) Math.floor(degrees / cellDegrees);
+    }
+
+    private static long cellKey(long latCell, long lngCell) {
+        return (latCell << 32) ^ (lngCell & 0xFFFFFFFFL);
+    }
+
+    public record Hit(
+            long id,
+            GatheringType type,
+            String name,
+            GatheringLocation location,
+            LocalDateTime dateTime,
+            int participantCount,
+            int capacity,
+            double distanceKm
+    ) {
+
+    }
+
+    private record Entry(
+            long id,
+            GatheringType type,
+            String name,
+            GatheringLocation location,
+            LocalDateTime dateTime,
+            int capacity,
+            AtomicInteger participantCount
+    ) {
+
+        // subSet 경계용 (dateTime, id)만 의미 있음
+        static Entry bound(LocalDateTime dateTime, long id) {
+            return new Entry(id, null, null, null, dateTime, 0, null);
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package com.book.together.gatherings.cache;
+
+import com.book.together.gatherings.dto.response.OccupancyResponse;
+import com.book.together.gatherings.entity.Gathering;
+import com.book.together.gatherings.entity.GatheringLocation;
+import com.book.together.gatherings.event.GatheringCreatedEvent;
+import com.book.together.gatherings.event.GatheringSnapshot;
+import com.book.together.gatherings.event.ParticipantCanceledEvent;
+import com.book.together.gatherings.event.ParticipantJoinedEvent;
+import com.book.together.gatherings.repository.GatheringRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 장소 × 날짜 × 시간 슬롯 점유 현황 (노드 로컬, 증분 유지)
+ *
+ * <p>장소마다 {@code horizon-days}일짜리 링 버퍼를 두고, 하루를 {@value #SLOT_MINUTES}분 슬롯으로 나눠
+ * 모임 수/참가자 수/정원을 int 배열에 누적한다. 행(날짜)은 {@code epochDay % horizonDays}로 재사용하며,
+ * 행에 기록된 epochDay가 다르면 지난 날짜의 흔적으로 보고 비어 있는 것으로 취급한다. 구간 밖 모임은 그리드에
+ * 넣지 않으므로, 매일 자정에 구간 끝으로 새로 들어온 날짜를 DB에서 채운다.</p>
+ *
+ * <p>정확한 (장소, 시각) 점유 여부는 별도 키 집합으로 들고 있어, 생성 요청의 중복을 DB 조회 전에 걸러낸다.
+ * 이 집합에 없다고 중복이 아니라는 보장은 없으므로(다른 노드에서 생성 등) 최종 판단은 DB가 한다.</p>
+ */
+@Slf4j(topic = "OccupancyGrid")
+@Component
+public class OccupancyGrid {
+
+    public static final int SLOT_MINUTES = 30;
+    private static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+
+    private final GatheringRepository gatheringRepository;
+
+    private final int horizonDays;
+    private final LocationGrid[] grids;
+
+    // (장소, 모임 시각) → 정확한 중복 판별용
+    private final Set<TakenKey> takenKeys = ConcurrentHashMap.newKeySet();
+
+    public OccupancyGrid(
+            GatheringRepository gatheringRepository,
+            @Value("${gathering.occupancy.horizon-days:92}") int horizonDays
+    ) {
+        this.gatheringRepository = gatheringRepository;
+        this.horizonDays = horizonDays;
+
+        GatheringLocation[] locations = GatheringLocation.values();
+        this.grids = new LocationGrid[locations.length];
+        for (int i = 0; i < locations.length; i++) {
+            grids[i] = new LocationGrid(horizonDays);
+        }
+    }
+
+    public int getHorizonDays() {
+        return horizonDays;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<Gathering> upcoming = gatheringRepository
+                .findAllByCanceledAtIsNullAndDateTimeAfter(LocalDateTime.now());
+        for (Gathering g : upcoming) {
+            add(g.getGatheringLocation(), g.getDateTime(), g.getCapacity(), g.getParticipantCount());
+        }
+        log.info("점유 현황 적재 완료: {}건", upcoming.size());
+    }
+
+    /**
+     * 날짜가 바뀌면 구간 끝에 새로 들어온 날짜를 DB에서 다시 채운다. 그 날짜의 모임은 생성 시점에 구간 밖이라
+     * 그리드에 반영되지 않았으므로, 행을 비우고 조회 결과로 통째로 바꾼다.
+     */
+    @Scheduled(cron = "${gathering.occupancy.roll-cron:0 0 0 * * *}")
+    public void loadEnteringDay() {
+        LocalDate day = LocalDate.now().plusDays(horizonDays - 1L);
+        List<Gathering> gatherings = gatheringRepository
+                .findAllByCanceledAtIsNullAndDateTimeGreaterThanEqualAndDateTimeLessThan(
+                        day.atStartOfDay(), day.plusDays(1).atStartOfDay());
+
+        Map<GatheringLocation, List<Gathering>> byLocation = new EnumMap<>(GatheringLocation.class);
+        for (Gathering g : gatherings) {
+            byLocation.computeIfAbsent(g.getGatheringLocation(), l -> new ArrayList<>()).add(g);
+        }
+        for (GatheringLocation location : GatheringLocation.values()) {
+            List<Gathering> rows = byLocation.getOrDefault(location, List.of());
+            rows.forEach(g -> takenKeys.add(new TakenKey(location, g.getDateTime())));
+            grids[location.ordinal()].replaceDay(day.toEpochDay(), rows, today());
+        }
+        log.info("점유 현황 새 날짜 적재: {} {}건", day, gatherings.size());
+    }
+
+    @TransactionalEventListener
+    public void on(GatheringCreatedEvent event) {
+        GatheringSnapshot g = event.gathering();
+        add(g.location(), g.dateTime(), g.capacity(), g.participantCount());
+    }
+
+    @TransactionalEventListener
+    public void on(ParticipantJoinedEvent event) {
+        GatheringSnapshot g = event.gathering();
+        adjustParticipants(g.location(), g.dateTime(), 1);
+    }
+
+    @TransactionalEventListener
+    public void on(ParticipantCanceledEvent event) {
+        GatheringSnapshot g = event.gathering();
+        adjustParticipants(g.location(), g.dateTime(), -1);
+    }
+
+    /**
+     * 해당 장소/시각에 이 노드가 알고 있는 모임이 있으면 true (false는 "모름"이지 "없음"이 아님)
+     */
+    public boolean isTaken(GatheringLocation location, LocalDateTime dateTime) {
+        return takenKeys.contains(new TakenKey(location, dateTime));
+    }
+
+    public void add(GatheringLocation location, LocalDateTime dateTime, int capacity,
+            int participants) {
+        takenKeys.add(new TakenKey(location, dateTime));
+        grids[location.ordinal()].apply(dateTime, 1, participants, capacity, today());
+    }
+
+    public void remove(GatheringLocation location, LocalDateTime dateTime, int capacity,
+            int participants) {
+        takenKeys.remove(new TakenKey(location, dateTime));
+        grids[location.ordinal()].apply(dateTime, -1, -participants, -capacity, today());
+    }
+
+    public void adjustParticipants(GatheringLocation location, LocalDateTime dateTime, int delta) {
+        grids[location.ordinal()].apply(dateTime, 0, delta, 0, today());
+    }
+
+    /**
+     * [from, to] 구간에서 점유된 슬롯만 반환한다. 범위 검증은 호출 측 책임.
+     */
+    public List<OccupancyResponse.Day> query(GatheringLocation location, LocalDate from,
+            LocalDate to) {
+        return grids[location.ordinal()].read(from.toEpochDay(), to.toEpochDay());
+    }
+
+    private long today() {
+        return LocalDate.now().toEpochDay();
+    }
+
+    private void pruneTakenKeys(long epochDay) {
+        LocalDateTime cutoff = LocalDate.ofEpochDay(epochDay).atStartOfDay();
+        takenKeys.removeIf(k -> k.dateTime().isBefore(cutoff));
+    }
+
+    // 장소 수와 무관하게 충돌하지 않도록 (장소, 시각) 그대로를 키로 씀
+    private record TakenKey(GatheringLocation location, LocalDateTime dateTime) {
+
+    }
+
+    /**
+     * 한 장소의 링 버퍼. 쓰기/읽기 모두 인스턴스 락으로 직렬화한다(장소 단위 락 스트라이핑).
+     */
+    private final class LocationGrid {
+
+        private final long[] rowEpochDay;
+        private final int[] gatherings;
+        private final int[] participants;
+        private final int[] capacity;
+
+        LocationGrid(int days) {
+            this.rowEpochDay = new long[days];
+            Arrays.fill(rowEpochDay, Long.MIN_VALUE);
+            this.gatherings = new int[days * SLOTS_PER_DAY];
+            this.participants = new int[days * SLOTS_PER_DAY];
+            this.capacity = new int[days * SLOTS_PER_DAY];
+        }
+
+        synchronized void apply(LocalDateTime dateTime, int gatheringDelta, int participantDelta,
+                int capacityDelta, long today) {
+            long epochDay = dateTime.toLocalDate().toEpochDay();
+            if (epochDay < today || epochDay >= today + horizonDays) {
+                return; // 관리 구간 밖
+            }
+
+            int row = (int) Math.floorMod(epochDay, (long) horizonDays);
+            if (rowEpochDay[row] != epochDay) {
+                if (gatheringDelta <= 0) {
+                    return; // 모르는 날짜의 감소/참가자 변경은 무시
+                }
+                resetRow(row, epochDay);
+            }
+
+            int idx = row * SLOTS_PER_DAY + slotOf(dateTime.toLocalTime());
+            gatherings[idx] = Math.max(0, gatherings[idx] + gatheringDelta);
+            participants[idx] = Math.max(0, participants[idx] + participantDelta);
+            capacity[idx] = Math.max(0, capacity[idx] + capacityDelta);
+        }
+
+        // 한 날짜의 행을 비우고 주어진 모임으로 다시 채움
+        synchronized void replaceDay(long epochDay, List<Gathering> rows, long today) {
+            if (epochDay < today || epochDay >= today + horizonDays) {
+                return;
+            }
+            resetRow((int) Math.floorMod(epochDay, (long) horizonDays), epochDay);
+            for (Gathering g : rows) {
+                apply(g.getDateTime(), 1, g.getParticipantCount(), g.getCapacity(), today);
+            }
+        }
+
+        synchronized List<OccupancyResponse.Day> read(long fromDay, long toDay) {
+            List<OccupancyResponse.Day> days = new ArrayList<>();
+            for (long d = fromDay; d <= toDay; d++) {
+                int row = (int) Math.floorMod(d, (long) horizonDays);
+                if (rowEpochDay[row] != d) {
+                    continue;
+                }
+
+                List<OccupancyResponse.Slot> slots = new ArrayList<>();
+                int base = row * SLOTS_PER_DAY;
+                for (int s = 0; s < SLOTS_PER_DAY; s++) {
+                    if (gatherings[base + s] == 0) {
+                        continue;
+                    }
+                    slots.add(OccupancyResponse.Slot.of(
+                            LocalTime.ofSecondOfDay((long) s * SLOT_MINUTES * 60),
+                            gatherings[base + s],
+                            participants[base + s],
+                            capacity[base + s]
+                    ));
+                }
+                if (!slots.isEmpty()) {
+                    days.add(new OccupancyResponse.Day(LocalDate.ofEpochDay(d), slots));
+                }
+            }
+            return days;
+        }
+
+        private void resetRow(int row, long epochDay) {
+            long previous = rowEpochDay[row];
+            rowEpochDay[row] = epochDay;
+            int base = row * SLOTS_PER_DAY;
+            Arrays.fill(gatherings, base, base + SLOTS_PER_DAY, 0);
+            Arrays.fill(participants, base, base + SLOTS_PER_DAY, 0);
+            Arrays.fill(capacity, base, base + SLOTS_PER_DAY, 0);
+
+            if (previous != Long.MIN_VALUE) {
+                pruneTakenKeys(epochDay - horizonDays + 1); // 링이 한 바퀴 돈 시점에 지난 키 정리
+            }
+        }
+
+        private int slotOf(LocalTime time) {
+            return (time.getHour() * 60 + time.getMinute()) / SLOT_MINUTES;
+        }
+    }
+}
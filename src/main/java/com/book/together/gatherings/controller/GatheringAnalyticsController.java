@@ -0,0 +1,42 @@
+package com.book.together.gatherings.controller;
+
+import com.book.together.auth.entity.MemberRole;
+import com.book.together.common.annotation.RequireRole;
+import com.book.together.common.response.ApiResponse;
+import com.book.together.gatherings.dto.response.AnalyticsResponse;
+import com.book.together.gatherings.entity.AnalyticsGroupBy;
+import com.book.together.gatherings.entity.GatheringType;
+import com.book.together.gatherings.entity.RollupGranularity;
+import com.book.together.gatherings.service.GatheringAnalyticsService;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/admin/analytics")
+@RestController
+public class GatheringAnalyticsController {
+
+    private final GatheringAnalyticsService gatheringAnalyticsService;
+
+    // 정원 충족률 / 마감까지 걸린 시간 / 취소율 (관리자)
+    @RequireRole(value = {MemberRole.ADMIN})
+    @GetMapping("/gatherings")
+    public ResponseEntity<ApiResponse<AnalyticsResponse>> getGatheringAnalytics(
+            @RequestParam(defaultValue = "HOUR") RollupGranularity granularity,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "TYPE") AnalyticsGroupBy groupBy,
+            @RequestParam(required = false) GatheringType type,
+            @RequestParam(required = false) String location
+    ) {
+        AnalyticsResponse response = gatheringAnalyticsService.query(
+                granularity, from, to, groupBy, type, location);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+}
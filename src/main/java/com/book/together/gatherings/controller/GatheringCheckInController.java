@@ -0,0 +1,53 @@
+package com.book.together.gatherings.controller;
+
+import com.book.together.auth.entity.MemberRole;
+import com.book.together.common.annotation.CurrentUser;
+import com.book.together.common.annotation.RequireRole;
+import com.book.together.common.response.ApiResponse;
+import com.book.together.common.util.CurrentUserInfo;
+import com.book.together.gatherings.dto.request.CheckInRequest;
+import com.book.together.gatherings.dto.response.CheckInResponse;
+import com.book.together.gatherings.dto.response.CheckInTokenResponse;
+import com.book.together.gatherings.service.GatheringCheckInService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/gatherings/{id}")
+@RestController
+public class GatheringCheckInController {
+
+    private final GatheringCheckInService gatheringCheckInService;
+
+    // 내 체크인 QR 토큰 발급 (참가자)
+    @RequireRole(value = {MemberRole.USER, MemberRole.ADMIN})
+    @GetMapping("/check-in-token")
+    public ResponseEntity<ApiResponse<CheckInTokenResponse>> issueToken(
+            @PathVariable Long id,
+            @CurrentUser CurrentUserInfo info
+    ) {
+        CheckInTokenResponse response = gatheringCheckInService.issueToken(id, info);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    // QR 스캔 체크인 (주최자/관리자)
+    @RequireRole(value = {MemberRole.USER, MemberRole.ADMIN})
+    @PostMapping("/check-ins")
+    public ResponseEntity<ApiResponse<CheckInResponse>> checkIn(
+            @PathVariable Long id,
+            @RequestBody @Valid CheckInRequest request,
+            @CurrentUser CurrentUserInfo info
+    ) {
+        CheckInResponse response = gatheringCheckInService.checkIn(id, request, info);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+}
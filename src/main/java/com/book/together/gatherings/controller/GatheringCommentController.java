@@ -0,0 +1,60 @@
+package com.book.together.gatherings.controller;
+
+import com.book.together.auth.entity.MemberRole;
+import com.book.together.common.annotation.CurrentUser;
+import com.book.together.common.annotation.RequireRole;
+import com.book.together.common.response.ApiResponse;
+import com.book.together.common.util.CurrentUserInfo;
+import com.book.together.gatherings.dto.request.CreateCommentRequest;
+import com.book.together.gatherings.dto.response.CommentPageResponse;
+import com.book.together.gatherings.dto.response.CommentResponse;
+import com.book.together.gatherings.service.GatheringCommentService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/gatherings/{id}/comments")
+@RestController
+public class GatheringCommentController {
+
+    private final GatheringCommentService gatheringCommentService;
+
+    private static final int MAX_PAGE_SIZE = 50;
+
+    // 댓글 작성 (참가자/관리자)
+    @RequireRole(value = {MemberRole.USER, MemberRole.ADMIN})
+    @PostMapping
+    public ResponseEntity<ApiResponse<CommentResponse>> write(
+            @PathVariable Long id,
+            @RequestBody @Valid CreateCommentRequest request,
+            @CurrentUser CurrentUserInfo info
+    ) {
+        CommentResponse response = gatheringCommentService.write(id, request, info);
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(ApiResponse.success(response));
+    }
+
+    // 댓글 목록 (최신순 커서 페이지)
+    @RequireRole(value = {MemberRole.USER, MemberRole.ADMIN})
+    @GetMapping
+    public ResponseEntity<ApiResponse<CommentPageResponse>> getComments(
+            @PathVariable Long id,
+            @RequestParam(required = false) Long before,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        CommentPageResponse response = gatheringCommentService.getComments(
+                id, before, Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+}
@@ -4,19 +4,43 @@ import com.book.together.auth.entity.MemberRole;
 import com.book.together.common.annotation.CurrentUser;
 import com.book.together.common.annotation.RequireRole;
 import com.book.together.common.response.ApiResponse;
+import com.book.together.common.response.PageResponse;
 import com.book.together.common.util.CurrentUserInfo;
 import com.book.together.gatherings.dto.request.CreateGatheringRequest;
+import com.book.together.gatherings.dto.request.CreateGatheringSeriesRequest;
 import com.book.together.gatherings.dto.response.CreateGatheringResponse;
+import com.book.together.gatherings.dto.response.GatheringDetailResponse;
+import com.book.together.gatherings.dto.response.GatheringHistoryResponse;
+import com.book.together.gatherings.dto.response.GatheringImportResponse;
+import com.book.together.gatherings.dto.response.GatheringSeriesResponse;
+import com.book.together.gatherings.dto.response.GatheringSummaryResponse;
+import com.book.together.gatherings.dto.response.NearbyGatheringResponse;
+import com.book.together.gatherings.dto.response.OccupancyResponse;
+import com.book.together.gatherings.dto.response.PopularGatheringResponse;
+import com.book.together.gatherings.entity.GatheringType;
+import com.book.together.gatherings.service.GatheringArchiveService;
+import com.book.together.gatherings.service.GatheringImportService;
+import com.book.together.gatherings.service.GatheringSeriesService;
 import com.book.together.gatherings.service.GatheringService;
+import com.book.together.gatherings.service.PopularGatheringService;
 import jakarta.validation.Valid;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.apache.coyote.Response;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RequiredArgsConstructor
@@ -26,6 +50,16 @@ public class GatheringController {
 
     private final GatheringService gatheringService;
 
+    private final PopularGatheringService popularGatheringService;
+
+    private final GatheringArchiveService gatheringArchiveService;
+
+    private final GatheringSeriesService gatheringSeriesService;
+
+    private final GatheringImportService gatheringImportService;
+
+    private static final int MAX_PAGE_SIZE = 100;
+
     @RequireRole(value = {MemberRole.USER, MemberRole.ADMIN})
     @PostMapping
     public ResponseEntity<ApiResponse<CreateGatheringResponse>> create(
@@ -39,6 +73,40 @@ public class GatheringController {
     }
 
 
+    // 반복 모임 시리즈 생성 (horizon 안의 회차를 한 번에 생성)
+    @RequireRole(value = {MemberRole.USER, MemberRole.ADMIN})
+    @PostMapping("/series")
+    public ResponseEntity<ApiResponse<GatheringSeriesResponse>> createSeries(
+            @RequestBody @Valid CreateGatheringSeriesRequest request,
+            @CurrentUser CurrentUserInfo info
+    ) {
+        GatheringSeriesResponse response = gatheringSeriesService.create(request, info);
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(ApiResponse.success(response));
+    }
+
+    // 대량 등록 (JSON 배열): 행별 결과 보고, 실패한 행만 빼고 등록
+    @RequireRole(value = {MemberRole.USER, MemberRole.ADMIN})
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponse<GatheringImportResponse>> importJson(
+            @RequestBody List<CreateGatheringRequest> requests,
+            @CurrentUser CurrentUserInfo info
+    ) {
+        GatheringImportResponse response = gatheringImportService.importJson(requests, info);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    // 대량 등록 (CSV, 첫 줄 헤더)
+    @RequireRole(value = {MemberRole.USER, MemberRole.ADMIN})
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<ApiResponse<GatheringImportResponse>> importCsv(
+            @RequestBody String body,
+            @CurrentUser CurrentUserInfo info
+    ) {
+        GatheringImportResponse response = gatheringImportService.importCsv(body, info);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
 
     @RequireRole(value = {MemberRole.USER, MemberRole.ADMIN})
     @PostMapping("/{id}/join")
@@ -51,18 +119,128 @@ public class GatheringController {
         return ResponseEntity.ok(ApiResponse.success("모임에 참여했습니다.", null));
     }
 
-    // 모임 목록 조회
+    // 모임 목록 조회 (total: 캐시된 근사값 모드)
+    @RequireRole(value = {MemberRole.USER, MemberRole.ADMIN})
+    @GetMapping
+    public ResponseEntity<ApiResponse<PageResponse<GatheringSummaryResponse>>> getGatherings(
+            @RequestParam(required = false) GatheringType type,
+            @RequestParam(required = false) String location,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        PageResponse<GatheringSummaryResponse> response =
+                gatheringService.getGatherings(type, location, pageRequest(page, size));
 
-    // 로그인된 사용자가 참석한 모임 목록 조회
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
 
-    // 모임 상세 조회
+    // 로그인된 사용자가 참석한 모임 목록 조회 (total 없는 slice 모드)
+    @RequireRole(value = {MemberRole.USER, MemberRole.ADMIN})
+    @GetMapping("/joined")
+    public ResponseEntity<ApiResponse<PageResponse<GatheringSummaryResponse>>> getJoinedGatherings(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @CurrentUser CurrentUserInfo info
+    ) {
+        PageResponse<GatheringSummaryResponse> response =
+                gatheringService.getJoinedGatherings(info, pageRequest(page, size));
 
-    // 특정 모임의 참가자 목록 조회
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
 
-    // 모임 취소
+    // 로그인된 사용자의 지난 참여 이력 (보관 테이블 포함, 커서 페이지)
+    @RequireRole(value = {MemberRole.USER, MemberRole.ADMIN})
+    @GetMapping("/history")
+    public ResponseEntity<ApiResponse<GatheringHistoryResponse>> getHistory(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime before,
+            @RequestParam(required = false) Long beforeId,
+            @RequestParam(defaultValue = "20") int size,
+            @CurrentUser CurrentUserInfo info
+    ) {
+        GatheringHistoryResponse response = gatheringArchiveService.getHistory(info, before, beforeId, size);
 
-    // 모임 참여
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    // 지금 인기 있는 모임 (최근 참여 속도 + 정원 충족률)
+    @RequireRole(value = {MemberRole.USER, MemberRole.ADMIN})
+    @GetMapping("/popular")
+    public ResponseEntity<ApiResponse<List<PopularGatheringResponse>>> getPopular(
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        List<PopularGatheringResponse> response = popularGatheringService.getPopular(size);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    // 내 주변 모임 (반경 + 기간, 거리 → 시간 순)
+    @RequireRole(value = {MemberRole.USER, MemberRole.ADMIN})
+    @GetMapping("/nearby")
+    public ResponseEntity<ApiResponse<List<NearbyGatheringResponse>>> getNearby(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(defaultValue = "3") double radiusKm,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        List<NearbyGatheringResponse> response = gatheringService.getNearby(
+                lat, lng, radiusKm, from, to, Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    // 장소/기간별 시간 슬롯 점유 현황 (모임 생성 전 빈 슬롯 확인용)
+    @RequireRole(value = {MemberRole.USER, MemberRole.ADMIN})
+    @GetMapping("/occupancy")
+    public ResponseEntity<ApiResponse<OccupancyResponse>> getOccupancy(
+            @RequestParam String location,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        OccupancyResponse response = gatheringService.getOccupancy(location, from, to);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
 
     // 모임 참여 취소
+    @RequireRole(value = {MemberRole.USER, MemberRole.ADMIN})
+    @DeleteMapping("/{id}/join")
+    public ResponseEntity<ApiResponse<String>> leave(
+            @PathVariable Long id,
+            @CurrentUser CurrentUserInfo info
+    ) {
+        gatheringService.leave(id, info);
+
+        return ResponseEntity.ok(ApiResponse.success("모임 참여를 취소했습니다.", null));
+    }
+
+    // 모임 취소 (주최자 또는 관리자)
+    @RequireRole(value = {MemberRole.USER, MemberRole.ADMIN})
+    @PostMapping("/{id}/cancel")
+    public ResponseEntity<ApiResponse<String>> cancel(
+            @PathVariable Long id,
+            @CurrentUser CurrentUserInfo info
+    ) {
+        gatheringService.cancel(id, info);
+
+        return ResponseEntity.ok(ApiResponse.success("모임을 취소했습니다.", null));
+    }
+
+    // 모임 상세 조회
+    @RequireRole(value = {MemberRole.USER, MemberRole.ADMIN})
+    @GetMapping("/{id}")
+    public ResponseEntity<ApiResponse<GatheringDetailResponse>> getGathering(
+            @PathVariable Long id,
+            @CurrentUser CurrentUserInfo info
+    ) {
+        GatheringDetailResponse response = gatheringService.getGathering(id, info);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    // 특정 모임의 참가자 목록 조회
 
+    private PageRequest pageRequest(int page, int size) {
+        return PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+    }
 }
@@ -0,0 +1,45 @@
+package com.book.together.gatherings.controller;
+
+import com.book.together.auth.entity.MemberRole;
+import com.book.together.common.annotation.RequireRole;
+import com.book.together.gatherings.entity.ExportFormat;
+import com.book.together.gatherings.service.GatheringExportService;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/admin/exports")
+@RestController
+public class GatheringExportController {
+
+    private final GatheringExportService gatheringExportService;
+
+    // 모임 × 참가자 전체 내보내기 (정산용, 관리자)
+    @RequireRole(value = {MemberRole.ADMIN})
+    @GetMapping("/gatherings")
+    public ResponseEntity<StreamingResponseBody> exportGatherings(
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "false") boolean includeArchived
+    ) {
+        StreamingResponseBody body = gatheringExportService.export(format, from, to, includeArchived);
+        String filename = "gatherings-" + LocalDate.now() + "." + format.getExtension();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+}
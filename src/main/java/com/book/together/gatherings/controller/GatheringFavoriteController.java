@@ -0,0 +1,56 @@
+package com.book.together.gatherings.controller;
+
+import com.book.together.auth.entity.MemberRole;
+import com.book.together.common.annotation.CurrentUser;
+import com.book.together.common.annotation.RequireRole;
+import com.book.together.common.response.ApiResponse;
+import com.book.together.common.util.CurrentUserInfo;
+import com.book.together.gatherings.dto.response.FavoriteResponse;
+import com.book.together.gatherings.dto.response.GatheringSummaryResponse;
+import com.book.together.gatherings.service.GatheringFavoriteService;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/gatherings")
+@RestController
+public class GatheringFavoriteController {
+
+    private final GatheringFavoriteService gatheringFavoriteService;
+
+    // 모임 찜 (멱등)
+    @RequireRole(value = {MemberRole.USER, MemberRole.ADMIN})
+    @PutMapping("/{id}/favorite")
+    public ResponseEntity<ApiResponse<FavoriteResponse>> add(
+            @PathVariable Long id,
+            @CurrentUser CurrentUserInfo info
+    ) {
+        return ResponseEntity.ok(ApiResponse.success(gatheringFavoriteService.add(id, info)));
+    }
+
+    // 모임 찜 해제 (멱등)
+    @RequireRole(value = {MemberRole.USER, MemberRole.ADMIN})
+    @DeleteMapping("/{id}/favorite")
+    public ResponseEntity<ApiResponse<FavoriteResponse>> remove(
+            @PathVariable Long id,
+            @CurrentUser CurrentUserInfo info
+    ) {
+        return ResponseEntity.ok(ApiResponse.success(gatheringFavoriteService.remove(id, info)));
+    }
+
+    // 내 찜 목록 (모임 시각 순)
+    @RequireRole(value = {MemberRole.USER, MemberRole.ADMIN})
+    @GetMapping("/favorites")
+    public ResponseEntity<ApiResponse<List<GatheringSummaryResponse>>> getFavorites(
+            @CurrentUser CurrentUserInfo info
+    ) {
+        return ResponseEntity.ok(ApiResponse.success(gatheringFavoriteService.getFavorites(info)));
+    }
+}
@@ -0,0 +1,34 @@
+package com.book.together.gatherings.controller;
+
+import com.book.together.auth.entity.MemberRole;
+import com.book.together.common.annotation.RequireRole;
+import com.book.together.common.response.ApiResponse;
+import com.book.together.gatherings.dto.response.JournalHistoryResponse;
+import com.book.together.gatherings.service.ParticipationJournalService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/admin/journal")
+@RestController
+public class GatheringJournalController {
+
+    private final ParticipationJournalService participationJournalService;
+
+    // 모임의 참여/취소 이력 (이 서버의 저널 기준, 관리자)
+    @RequireRole(value = {MemberRole.ADMIN})
+    @GetMapping("/gatherings/{id}")
+    public ResponseEntity<ApiResponse<JournalHistoryResponse>> getHistory(
+            @PathVariable Long id,
+            @RequestParam(required = false) Long afterSeq,
+            @RequestParam(defaultValue = "100") int size
+    ) {
+        JournalHistoryResponse response = participationJournalService.getHistory(id, afterSeq, size);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+}
@@ -0,0 +1,87 @@
+package com.book.together.gatherings.controller;
+
+import com.book.together.auth.entity.MemberRole;
+import com.book.together.common.annotation.CurrentUser;
+import com.book.together.common.annotation.RequireRole;
+import com.book.together.common.response.ApiResponse;
+import com.book.together.common.util.CurrentUserInfo;
+import com.book.together.gatherings.dto.request.CreateReviewRequest;
+import com.book.together.gatherings.dto.response.RatingResponse;
+import com.book.together.gatherings.dto.response.ReviewPageResponse;
+import com.book.together.gatherings.dto.response.ReviewResponse;
+import com.book.together.gatherings.dto.response.TopRatedGatheringResponse;
+import com.book.together.gatherings.entity.GatheringType;
+import com.book.together.gatherings.entity.ReviewScope;
+import com.book.together.gatherings.service.GatheringReviewService;
+import jakarta.validation.Valid;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/gatherings")
+@RestController
+public class GatheringReviewController {
+
+    private final GatheringReviewService gatheringReviewService;
+
+    private static final int MAX_PAGE_SIZE = 50;
+
+    // 후기 작성 (끝난 모임의 참가자)
+    @RequireRole(value = {MemberRole.USER, MemberRole.ADMIN})
+    @PostMapping("/{id}/reviews")
+    public ResponseEntity<ApiResponse<ReviewResponse>> write(
+            @PathVariable Long id,
+            @RequestBody @Valid CreateReviewRequest request,
+            @CurrentUser CurrentUserInfo info
+    ) {
+        ReviewResponse response = gatheringReviewService.write(id, request, info);
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(ApiResponse.success(response));
+    }
+
+    // 후기 목록 (최신순 커서 페이지, 첫 페이지에 모임 평점 포함)
+    @RequireRole(value = {MemberRole.USER, MemberRole.ADMIN})
+    @GetMapping("/{id}/reviews")
+    public ResponseEntity<ApiResponse<ReviewPageResponse>> getReviews(
+            @PathVariable Long id,
+            @RequestParam(required = false) Long before,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        ReviewPageResponse response = gatheringReviewService.getReviews(
+                id, before, Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    // 평점 일괄 조회 (목록 화면용): scope=GATHERING&keys=1,2,3 / scope=TYPE / scope=LOCATION
+    @RequireRole(value = {MemberRole.USER, MemberRole.ADMIN})
+    @GetMapping("/ratings")
+    public ResponseEntity<ApiResponse<List<RatingResponse>>> getRatings(
+            @RequestParam ReviewScope scope,
+            @RequestParam(required = false) List<String> keys
+    ) {
+        List<RatingResponse> response = gatheringReviewService.getRatings(scope, keys);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    // 유형별 평점 상위 모임 (캐시)
+    @RequireRole(value = {MemberRole.USER, MemberRole.ADMIN})
+    @GetMapping("/top-rated")
+    public ResponseEntity<ApiResponse<List<TopRatedGatheringResponse>>> getTopRated(
+            @RequestParam GatheringType type,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        List<TopRatedGatheringResponse> response = gatheringReviewService.getTopRated(type, size);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+}
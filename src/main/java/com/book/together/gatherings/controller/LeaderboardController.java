@@ -0,0 +1,71 @@
+package com.book.together.gatherings.controller;
+
+import com.book.together.auth.entity.MemberRole;
+import com.book.together.common.annotation.CurrentUser;
+import com.book.together.common.annotation.RequireRole;
+import com.book.together.common.response.ApiResponse;
+import com.book.together.common.util.CurrentUserInfo;
+import com.book.together.gatherings.dto.response.LeaderboardRankResponse;
+import com.book.together.gatherings.dto.response.LeaderboardResponse;
+import com.book.together.gatherings.entity.LeaderboardPeriod;
+import com.book.together.gatherings.service.LeaderboardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/leaderboards")
+@RestController
+public class LeaderboardController {
+
+    private final LeaderboardService leaderboardService;
+
+    // 회사 참여 순위
+    @RequireRole(value = {MemberRole.USER, MemberRole.ADMIN})
+    @GetMapping("/companies")
+    public ResponseEntity<ApiResponse<LeaderboardResponse>> getCompanies(
+            @RequestParam(defaultValue = "WEEKLY") LeaderboardPeriod period,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        LeaderboardResponse response = leaderboardService.getCompanies(period, size);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    // 내 회사의 순위
+    @RequireRole(value = {MemberRole.USER, MemberRole.ADMIN})
+    @GetMapping("/companies/me")
+    public ResponseEntity<ApiResponse<LeaderboardRankResponse>> getMyCompanyRank(
+            @RequestParam(defaultValue = "WEEKLY") LeaderboardPeriod period,
+            @CurrentUser CurrentUserInfo info
+    ) {
+        LeaderboardRankResponse response = leaderboardService.getMyCompanyRank(period, info);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    // 회사 안 회원 참여 순위
+    @RequireRole(value = {MemberRole.USER, MemberRole.ADMIN})
+    @GetMapping("/companies/{company}/members")
+    public ResponseEntity<ApiResponse<LeaderboardResponse>> getMembers(
+            @PathVariable String company,
+            @RequestParam(defaultValue = "WEEKLY") LeaderboardPeriod period,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        LeaderboardResponse response = leaderboardService.getMembers(company, period, size);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    // 회사 안에서 내 순위
+    @RequireRole(value = {MemberRole.USER, MemberRole.ADMIN})
+    @GetMapping("/members/me")
+    public ResponseEntity<ApiResponse<LeaderboardRankResponse>> getMyRank(
+            @RequestParam(defaultValue = "WEEKLY") LeaderboardPeriod period,
+            @CurrentUser CurrentUserInfo info
+    ) {
+        LeaderboardRankResponse response = leaderboardService.getMyRank(period, info);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+}
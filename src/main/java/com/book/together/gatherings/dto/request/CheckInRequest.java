@@ -0,0 +1,11 @@
+package com.book.together.gatherings.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record CheckInRequest(
+
+        @NotBlank(message = "체크인: QR 토큰은 필수입니다.")
+        String token
+) {
+
+}
@@ -0,0 +1,13 @@
+package com.book.together.gatherings.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public record CreateCommentRequest(
+
+        @NotBlank(message = "댓글: 내용은 필수입니다.")
+        @Size(max = 500, message = "댓글: 내용은 500자 이하여야 합니다.")
+        String content
+) {
+
+}
@@ -0,0 +1,58 @@
+package com.book.together.gatherings.dto.request;
+
+import com.book.together.gatherings.entity.GatheringRecurrence;
+import com.book.together.gatherings.entity.GatheringType;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Set;
+
+public record CreateGatheringSeriesRequest(
+
+        @NotBlank(message = "모임: 모임 장소는 필수입니다.")
+        String location,
+
+        @NotNull(message = "모임: 모임 서비스 종류는 필수입니다.")
+        GatheringType type,
+
+        @NotBlank(message = "모임: 모임 이름은 필수입니다.")
+        String name,
+
+        @NotNull(message = "모임: 모임 정원(최소 5인 이상)은 필수입니다.")
+        @Min(value = 3, message = "모임: 모임 정원은 최소 5명 이상이어야 합니다.")
+        Integer capacity,
+
+        String image,
+
+        @NotNull(message = "모임: 반복 주기(DAILY/WEEKLY)는 필수입니다.")
+        GatheringRecurrence recurrence,
+
+        // 몇 일/주마다 (기본 1)
+        @Min(value = 1, message = "모임: 반복 간격은 1 이상이어야 합니다.")
+        @Max(value = 52, message = "모임: 반복 간격은 52 이하여야 합니다.")
+        Integer interval,
+
+        // WEEKLY일 때 요일 (예: ["MONDAY", "WEDNESDAY"])
+        Set<DayOfWeek> daysOfWeek,
+
+        @NotNull(message = "모임: 시리즈 시작일은 필수입니다.")
+        LocalDate startDate,
+
+        @NotNull(message = "모임: 모임 시작 시각은 필수입니다.")
+        LocalTime time,
+
+        LocalDate endDate,
+
+        @Min(value = 1, message = "모임: 반복 횟수는 1 이상이어야 합니다.")
+        Integer count,
+
+        // 모임 시작 몇 분 전에 모집 마감
+        @Min(value = 0, message = "모임: 모집 마감 시각이 올바르지 않습니다.")
+        Integer registrationCloseMinutes
+) {
+
+}
@@ -0,0 +1,19 @@
+package com.book.together.gatherings.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public record CreateReviewRequest(
+
+        @NotNull(message = "후기: 평점은 필수입니다.")
+        @Min(value = 1, message = "후기: 평점은 1점 이상이어야 합니다.")
+        @Max(value = 5, message = "후기: 평점은 5점 이하여야 합니다.")
+        Integer score,
+
+        @Size(max = 1000, message = "후기: 내용은 1000자 이하여야 합니다.")
+        String content
+) {
+
+}
@@ -0,0 +1,21 @@
+package com.book.together.gatherings.dto.response;
+
+import com.book.together.gatherings.entity.AnalyticsGroupBy;
+import com.book.together.gatherings.entity.RollupGranularity;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record AnalyticsResponse(
+
+        RollupGranularity granularity,
+        LocalDateTime from,
+        LocalDateTime to,
+        AnalyticsGroupBy groupBy,
+        List<AnalyticsRowResponse> rows
+) {
+
+    public static AnalyticsResponse of(RollupGranularity granularity, LocalDateTime from, LocalDateTime to,
+            AnalyticsGroupBy groupBy, List<AnalyticsRowResponse> rows) {
+        return new AnalyticsResponse(granularity, from, to, groupBy, rows);
+    }
+}
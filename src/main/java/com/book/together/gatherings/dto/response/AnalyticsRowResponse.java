@@ -0,0 +1,55 @@
+package com.book.together.gatherings.dto.response;
+
+import static com.book.together.gatherings.cache.GatheringRollupBuffer.CANCELED;
+import static com.book.together.gatherings.cache.GatheringRollupBuffer.CANCELED_CAPACITY;
+import static com.book.together.gatherings.cache.GatheringRollupBuffer.CAPACITY;
+import static com.book.together.gatherings.cache.GatheringRollupBuffer.CREATED;
+import static com.book.together.gatherings.cache.GatheringRollupBuffer.FILLED;
+import static com.book.together.gatherings.cache.GatheringRollupBuffer.JOINED;
+import static com.book.together.gatherings.cache.GatheringRollupBuffer.LEFT;
+import static com.book.together.gatherings.cache.GatheringRollupBuffer.SEATS;
+import static com.book.together.gatherings.cache.GatheringRollupBuffer.TIME_TO_FULL_SEC;
+
+/**
+ * @param fillRate            순증 참가자 / (생성된 정원 − 취소된 정원)
+ * @param avgTimeToFullSec    정원이 찬 모임의 생성 → 마감까지 평균 초, 없으면 null
+ * @param cancelRate          참여 취소 / 참여
+ * @param gatheringCancelRate 모임 취소 / 모임 생성
+ */
+public record AnalyticsRowResponse(
+
+        String key,
+        long created,
+        long joined,
+        long left,
+        long canceled,
+        long seats,
+        long capacity,
+        double fillRate,
+        Double avgTimeToFullSec,
+        double cancelRate,
+        double gatheringCancelRate
+) {
+
+    // m: GatheringRollupBuffer 지표 순서의 합계
+    public static AnalyticsRowResponse of(String key, long[] m) {
+        long capacity = m[CAPACITY] - m[CANCELED_CAPACITY];
+        return new AnalyticsRowResponse(
+                key,
+                m[CREATED],
+                m[JOINED],
+                m[LEFT],
+                m[CANCELED],
+                m[SEATS],
+                capacity,
+                ratio(m[SEATS], capacity),
+                m[FILLED] == 0 ? null : (double) m[TIME_TO_FULL_SEC] / m[FILLED],
+                ratio(m[LEFT], m[JOINED]),
+                ratio(m[CANCELED], m[CREATED])
+        );
+    }
+
+    private static double ratio(long numerator, long denominator) {
+        return denominator <= 0 ? 0.0 : (double) numerator / denominator;
+    }
+}
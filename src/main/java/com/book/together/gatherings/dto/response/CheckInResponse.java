@@ -0,0 +1,16 @@
+package com.book.together.gatherings.dto.response;
+
+/**
+ * @param alreadyCheckedIn 이미 체크인된 QR을 다시 스캔한 경우
+ * @param checkedInCount   이 노드에서 집계한 체크인 수
+ */
+public record CheckInResponse(
+        Long memberId,
+        boolean alreadyCheckedIn,
+        int checkedInCount
+) {
+
+    public static CheckInResponse of(Long memberId, boolean alreadyCheckedIn, int checkedInCount) {
+        return new CheckInResponse(memberId, alreadyCheckedIn, checkedInCount);
+    }
+}
@@ -0,0 +1,13 @@
+package com.book.together.gatherings.dto.response;
+
+import java.time.LocalDateTime;
+
+public record CheckInTokenResponse(
+        String token,
+        LocalDateTime expiresAt
+) {
+
+    public static CheckInTokenResponse of(String token, LocalDateTime expiresAt) {
+        return new CheckInTokenResponse(token, expiresAt);
+    }
+}
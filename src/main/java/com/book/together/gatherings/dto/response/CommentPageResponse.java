@@ -0,0 +1,23 @@
+package com.book.together.gatherings.dto.response;
+
+import java.util.List;
+
+/**
+ * 댓글 커서 페이지 (최신순). 다음 페이지는 {@code before=nextBefore}로 요청한다.
+ */
+public record CommentPageResponse(
+        List<CommentResponse> content,
+        boolean hasNext,
+        Long nextBefore
+) {
+
+    public static CommentPageResponse of(List<CommentResponse> rows, int size) {
+        boolean hasNext = rows.size() > size;
+        List<CommentResponse> content = hasNext ? rows.subList(0, size) : rows;
+        return new CommentPageResponse(
+                content,
+                hasNext,
+                hasNext ? content.get(content.size() - 1).id() : null
+        );
+    }
+}
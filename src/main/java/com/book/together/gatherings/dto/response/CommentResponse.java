@@ -0,0 +1,23 @@
+package com.book.together.gatherings.dto.response;
+
+import com.book.together.gatherings.entity.GatheringComment;
+import java.time.LocalDateTime;
+
+public record CommentResponse(
+        Long id,
+        Long gatheringId,
+        Long memberId,
+        String content,
+        LocalDateTime createdAt
+) {
+
+    public static CommentResponse from(GatheringComment comment) {
+        return new CommentResponse(
+                comment.getId(),
+                comment.getGatheringId(),
+                comment.getMemberId(),
+                comment.getContent(),
+                comment.getCreatedAt()
+        );
+    }
+}
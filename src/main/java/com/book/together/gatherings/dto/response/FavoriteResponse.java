@@ -0,0 +1,12 @@
+package com.book.together.gatherings.dto.response;
+
+public record FavoriteResponse(
+        Long gatheringId,
+        boolean favorite,
+        long favoriteCount
+) {
+
+    public static FavoriteResponse of(Long gatheringId, boolean favorite, long favoriteCount) {
+        return new FavoriteResponse(gatheringId, favorite, favoriteCount);
+    }
+}
@@ -0,0 +1,52 @@
+package com.book.together.gatherings.dto.response;
+
+import com.book.together.gatherings.entity.Gathering;
+import com.book.together.gatherings.entity.GatheringType;
+import java.time.LocalDateTime;
+
+public record GatheringDetailResponse(
+
+        Long id,
+        GatheringType type,
+        String name,
+        LocalDateTime dateTime,
+        LocalDateTime registrationEnd,
+        String location,
+        int participantCount,
+        int capacity,
+        String image,
+        Long createdBy,
+        Long seriesId,
+        boolean registrationClosed,
+        boolean canceled,
+        long viewCount,
+        long uniqueViewers, // HyperLogLog 추정치 (오차 약 0.81%)
+        long favoriteCount
+) {
+
+    public static GatheringDetailResponse of(
+            Gathering gathering,
+            long viewCount,
+            long uniqueViewers,
+            long favoriteCount
+    ) {
+        return new GatheringDetailResponse(
+                gathering.getId(),
+                gathering.getGatheringType(),
+                gathering.getName(),
+                gathering.getDateTime(),
+                gathering.getRegistrationEnd(),
+                gathering.getGatheringLocation().getName(),
+                gathering.getParticipantCount(),
+                gathering.getCapacity(),
+                gathering.getImage(),
+                gathering.getCreatedBy(),
+                gathering.getSeriesId(),
+                gathering.isRegistrationClosed(),
+                gathering.getCanceledAt() != null,
+                viewCount,
+                uniqueViewers,
+                favoriteCount
+        );
+    }
+}
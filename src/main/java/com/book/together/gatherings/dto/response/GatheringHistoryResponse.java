@@ -0,0 +1,28 @@
+package com.book.together.gatherings.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 지난 참여 이력 (커서 페이지). 다음 페이지는 {@code before=nextBefore&beforeId=nextBeforeId}로 요청한다.
+ */
+public record GatheringHistoryResponse(
+        List<GatheringSummaryResponse> content,
+        boolean hasNext,
+        LocalDateTime nextBefore,
+        Long nextBeforeId
+) {
+
+    public static GatheringHistoryResponse of(List<GatheringSummaryResponse> rows, int size) {
+        boolean hasNext = rows.size() > size;
+        List<GatheringSummaryResponse> content = hasNext ? rows.subList(0, size) : rows;
+        GatheringSummaryResponse last = content.isEmpty() ? null : content.get(content.size() - 1);
+
+        return new GatheringHistoryResponse(
+                content,
+                hasNext,
+                hasNext ? last.dateTime() : null,
+                hasNext ? last.id() : null
+        );
+    }
+}
@@ -0,0 +1,21 @@
+package com.book.together.gatherings.dto.response;
+
+import java.util.List;
+
+/**
+ * @param results 입력 순서대로 행별 결과 (성공이면 id, 실패면 error)
+ */
+public record GatheringImportResponse(
+        int total,
+        int created,
+        int failed,
+        List<Result> results
+) {
+
+    /**
+     * @param line CSV는 레코드가 시작하는 줄 번호(헤더 = 1), JSON은 배열 순번(1부터)
+     */
+    public record Result(int line, Long id, String error) {
+
+    }
+}
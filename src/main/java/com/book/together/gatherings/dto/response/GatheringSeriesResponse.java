@@ -0,0 +1,20 @@
+package com.book.together.gatherings.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * @param occurrences 이번에 생성된 회차
+ * @param skipped     같은 장소/시각에 이미 모임이 있어 건너뛴 회차 시각
+ */
+public record GatheringSeriesResponse(
+        Long seriesId,
+        LocalDateTime generatedUntil,
+        List<Occurrence> occurrences,
+        List<LocalDateTime> skipped
+) {
+
+    public record Occurrence(Long id, LocalDateTime dateTime) {
+
+    }
+}
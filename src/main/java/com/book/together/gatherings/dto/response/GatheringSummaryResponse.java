@@ -0,0 +1,48 @@
+package com.book.together.gatherings.dto.response;
+
+import com.book.together.gatherings.entity.Gathering;
+import com.book.together.gatherings.entity.GatheringArchive;
+import com.book.together.gatherings.entity.GatheringType;
+import java.time.LocalDateTime;
+
+public record GatheringSummaryResponse(
+
+        Long id,
+        GatheringType type,
+        String name,
+        LocalDateTime dateTime,
+        LocalDateTime registrationEnd,
+        String location,
+        int participantCount,
+        int capacity,
+        String image
+) {
+
+    public static GatheringSummaryResponse from(Gathering gathering) {
+        return new GatheringSummaryResponse(
+                gathering.getId(),
+                gathering.getGatheringType(),
+                gathering.getName(),
+                gathering.getDateTime(),
+                gathering.getRegistrationEnd(),
+                gathering.getGatheringLocation().getName(),
+                gathering.getParticipantCount(),
+                gathering.getCapacity(),
+                gathering.getImage()
+        );
+    }
+
+    public static GatheringSummaryResponse from(GatheringArchive gathering) {
+        return new GatheringSummaryResponse(
+                gathering.getId(),
+                gathering.getGatheringType(),
+                gathering.getName(),
+                gathering.getDateTime(),
+                gathering.getRegistrationEnd(),
+                gathering.getGatheringLocation().getName(),
+                gathering.getParticipantCount(),
+                gathering.getCapacity(),
+                gathering.getImage()
+        );
+    }
+}
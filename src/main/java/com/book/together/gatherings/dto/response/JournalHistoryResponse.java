@@ -0,0 +1,45 @@
+package com.book.together.gatherings.dto.response;
+
+import com.book.together.gatherings.journal.JournalEntry;
+import com.book.together.gatherings.journal.ParticipationAction;
+import com.book.together.gatherings.journal.ParticipationSource;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * @param nextAfterSeq 다음 페이지 조회 시 afterSeq로 넘길 값 (더 없으면 null)
+ */
+public record JournalHistoryResponse(
+        List<Entry> entries,
+        Long nextAfterSeq
+) {
+
+    public static JournalHistoryResponse of(List<JournalEntry> entries, int size) {
+        List<Entry> rows = entries.stream().map(Entry::from).toList();
+        Long next = entries.size() < size ? null : entries.get(entries.size() - 1).seq();
+        return new JournalHistoryResponse(rows, next);
+    }
+
+    public record Entry(
+            long seq,
+            LocalDateTime at,
+            long gatheringId,
+            long memberId,
+            ParticipationAction action,
+            ParticipationSource source
+    ) {
+
+        static Entry from(JournalEntry e) {
+            return new Entry(
+                    e.seq(),
+                    LocalDateTime.ofInstant(Instant.ofEpochMilli(e.timestampMs()), ZoneId.systemDefault()),
+                    e.gatheringId(),
+                    e.memberId(),
+                    e.action(),
+                    e.source()
+            );
+        }
+    }
+}
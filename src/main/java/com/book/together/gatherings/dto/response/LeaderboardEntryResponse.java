@@ -0,0 +1,15 @@
+package com.book.together.gatherings.dto.response;
+
+/**
+ * @param key  회사 보드면 회사명, 회원 보드면 회원 id
+ * @param name 회사명 또는 회원 이름
+ */
+public record LeaderboardEntryResponse(
+
+        int rank,
+        String key,
+        String name,
+        long score
+) {
+
+}
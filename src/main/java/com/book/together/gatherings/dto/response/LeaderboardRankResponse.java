@@ -0,0 +1,29 @@
+package com.book.together.gatherings.dto.response;
+
+import com.book.together.gatherings.entity.LeaderboardPeriod;
+
+/**
+ * @param rank 1부터 시작, 참여 기록이 없으면 null
+ */
+public record LeaderboardRankResponse(
+
+        LeaderboardPeriod period,
+        String periodKey,
+        String company,
+        String key,
+        Long rank,
+        long score
+) {
+
+    public static LeaderboardRankResponse of(LeaderboardPeriod period, String periodKey, String company,
+            String key, long[] rankAndScore) {
+        return new LeaderboardRankResponse(
+                period,
+                periodKey,
+                company,
+                key,
+                rankAndScore == null ? null : rankAndScore[0] + 1,
+                rankAndScore == null ? 0 : rankAndScore[1]
+        );
+    }
+}
@@ -0,0 +1,21 @@
+package com.book.together.gatherings.dto.response;
+
+import com.book.together.gatherings.entity.LeaderboardPeriod;
+import java.util.List;
+
+/**
+ * @param company 회사 안의 회원 보드면 회사명, 회사 보드면 null
+ */
+public record LeaderboardResponse(
+
+        LeaderboardPeriod period,
+        String periodKey,
+        String company,
+        List<LeaderboardEntryResponse> entries
+) {
+
+    public static LeaderboardResponse of(LeaderboardPeriod period, String periodKey, String company,
+            List<LeaderboardEntryResponse> entries) {
+        return new LeaderboardResponse(period, periodKey, company, entries);
+    }
+}
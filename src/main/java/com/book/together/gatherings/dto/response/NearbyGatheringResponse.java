@@ -0,0 +1,35 @@
+package com.book.together.gatherings.dto.response;
+
+import com.book.together.gatherings.cache.NearbyGatheringIndex;
+import com.book.together.gatherings.entity.GatheringType;
+import java.time.LocalDateTime;
+
+public record NearbyGatheringResponse(
+
+        Long id,
+        GatheringType type,
+        String name,
+        LocalDateTime dateTime,
+        String location,
+        double latitude,
+        double longitude,
+        double distanceKm,
+        int participantCount,
+        int capacity
+) {
+
+    public static NearbyGatheringResponse from(NearbyGatheringIndex.Hit hit) {
+        return new NearbyGatheringResponse(
+                hit.id(),
+                hit.type(),
+                hit.name(),
+                hit.dateTime(),
+                hit.location().getName(),
+                hit.location().getLatitude(),
+                hit.location().getLongitude(),
+                Math.round(hit.distanceKm() * 1000) / 1000.0,
+                hit.participantCount(),
+                hit.capacity()
+        );
+    }
+}
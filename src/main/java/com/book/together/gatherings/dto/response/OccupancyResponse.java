@@ -0,0 +1,39 @@
+package com.book.together.gatherings.dto.response;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+public record OccupancyResponse(
+
+        String location,
+        int slotMinutes,
+        List<Day> days
+) {
+
+    public static OccupancyResponse of(String location, int slotMinutes, List<Day> days) {
+        return new OccupancyResponse(location, slotMinutes, days);
+    }
+
+    public record Day(
+            LocalDate date,
+            List<Slot> slots
+    ) {
+
+    }
+
+    public record Slot(
+            LocalTime time,
+            int gatheringCount,
+            int participantCount,
+            int capacity,
+            double fillRate
+    ) {
+
+        public static Slot of(LocalTime time, int gatheringCount, int participantCount,
+                int capacity) {
+            double fillRate = capacity == 0 ? 0.0 : (double) participantCount / capacity;
+            return new Slot(time, gatheringCount, participantCount, capacity, fillRate);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.book.together.gatherings.dto.response;
+
+import com.book.together.gatherings.entity.Gathering;
+
+public record PopularGatheringResponse(
+
+        int rank,
+        double score,
+        GatheringSummaryResponse gathering
+) {
+
+    public static PopularGatheringResponse of(int rank, double score, Gathering gathering) {
+        return new PopularGatheringResponse(rank, score, GatheringSummaryResponse.from(gathering));
+    }
+}
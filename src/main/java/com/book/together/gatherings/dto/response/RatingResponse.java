@@ -0,0 +1,32 @@
+package com.book.together.gatherings.dto.response;
+
+import com.book.together.gatherings.entity.ReviewAggregate;
+import com.book.together.gatherings.entity.ReviewScope;
+import java.util.List;
+
+/**
+ * 평점 집계. {@code histogram}은 1점부터 5점까지의 후기 수다.
+ */
+public record RatingResponse(
+
+        ReviewScope scope,
+        String key,
+        long reviewCount,
+        double average,
+        List<Long> histogram
+) {
+
+    public static RatingResponse from(ReviewAggregate aggregate) {
+        return new RatingResponse(
+                aggregate.getScope(),
+                aggregate.getScopeKey(),
+                aggregate.getReviewCount(),
+                aggregate.getReviewCount() == 0 ? 0.0 : (double) aggregate.getScoreSum() / aggregate.getReviewCount(),
+                aggregate.histogram()
+        );
+    }
+
+    public static RatingResponse empty(ReviewScope scope, String key) {
+        return new RatingResponse(scope, key, 0, 0.0, List.of(0L, 0L, 0L, 0L, 0L));
+    }
+}
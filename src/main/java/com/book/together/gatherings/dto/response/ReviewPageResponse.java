@@ -0,0 +1,25 @@
+package com.book.together.gatherings.dto.response;
+
+import java.util.List;
+
+/**
+ * 후기 커서 페이지 (최신순). 다음 페이지는 {@code before=nextBefore}로 요청한다.
+ */
+public record ReviewPageResponse(
+        RatingResponse rating,
+        List<ReviewResponse> content,
+        boolean hasNext,
+        Long nextBefore
+) {
+
+    public static ReviewPageResponse of(RatingResponse rating, List<ReviewResponse> rows, int size) {
+        boolean hasNext = rows.size() > size;
+        List<ReviewResponse> content = hasNext ? rows.subList(0, size) : rows;
+        return new ReviewPageResponse(
+                rating,
+                content,
+                hasNext,
+                hasNext ? content.get(content.size() - 1).id() : null
+        );
+    }
+}
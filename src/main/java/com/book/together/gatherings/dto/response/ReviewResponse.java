@@ -0,0 +1,24 @@
+package com.book.together.gatherings.dto.response;
+
+import com.book.together.gatherings.entity.GatheringReview;
+import java.time.LocalDateTime;
+
+public record ReviewResponse(
+
+        Long id,
+        Long memberId,
+        int score,
+        String content,
+        LocalDateTime createdAt
+) {
+
+    public static ReviewResponse from(GatheringReview review) {
+        return new ReviewResponse(
+                review.getId(),
+                review.getMemberId(),
+                review.getScore(),
+                review.getContent(),
+                review.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,32 @@
+package com.book.together.gatherings.dto.response;
+
+import com.book.together.gatherings.entity.GatheringType;
+import com.book.together.gatherings.entity.ReviewAggregate;
+import java.time.LocalDateTime;
+
+public record TopRatedGatheringResponse(
+
+        int rank,
+        Long id,
+        GatheringType type,
+        String name,
+        LocalDateTime dateTime,
+        String location,
+        double average,
+        long reviewCount
+) {
+
+    public static TopRatedGatheringResponse of(int rank, GatheringSummaryResponse gathering,
+            ReviewAggregate aggregate) {
+        return new TopRatedGatheringResponse(
+                rank,
+                gathering.id(),
+                gathering.type(),
+                gathering.name(),
+                gathering.dateTime(),
+                gathering.location(),
+                (double) aggregate.getScoreSum() / aggregate.getReviewCount(),
+                aggregate.getReviewCount()
+        );
+    }
+}
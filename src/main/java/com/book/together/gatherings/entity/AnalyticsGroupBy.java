@@ -0,0 +1,8 @@
+package com.book.together.gatherings.entity;
+
+public enum AnalyticsGroupBy {
+    BUCKET,       // 시간 버킷별 추이
+    TYPE,
+    LOCATION,
+    HOUR_OF_DAY   // 모임 시작 시각의 시
+}
@@ -7,6 +7,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
@@ -16,10 +17,20 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "v1_gathering")
+@Table(
+        name = "v1_gathering",
+        indexes = {
+                @Index(name = "idx_gathering_date_time", columnList = "date_time, id"),
+                @Index(name = "idx_gathering_canceled_at", columnList = "canceled_at, id"),
+                @Index(name = "idx_gathering_series", columnList = "series_id")
+        }
+)
+// 변경된 컬럼만 UPDATE: 참여 수 변경이 다른 경로의 조건부 UPDATE(모집 마감, 조회수 반영 등)를 덮어쓰지 않도록
+@DynamicUpdate
 @Entity
 public class Gathering {
 
@@ -36,6 +47,8 @@ public class Gathering {
 
     private LocalDateTime registrationEnd; // 모집 마감일자
 
+    private boolean registrationClosed; // 모집 마감 타이머가 닫은 경우 true
+
     @Enumerated(EnumType.STRING)
     private GatheringLocation gatheringLocation;
 
@@ -53,6 +66,10 @@ public class Gathering {
 
     private LocalDateTime updatedAt;
 
+    private Long seriesId; // 반복 시리즈로 생성된 회차면 시리즈 id
+
+    private long viewCount; // GatheringViewService가 주기적으로 더함 (조회마다 갱신하지 않음)
+
     @OneToMany(mappedBy = "gathering", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<GatheringParticipant> participants = new ArrayList<>();
 
@@ -73,6 +90,7 @@ public class Gathering {
         this.dateTime = dateTime;
         this.registrationEnd = registrationEnd;
         this.gatheringLocation = gatheringLocation;
+        this.registrationClosed = false;
         this.participantCount = 0;
         this.capacity = capacity;
         this.image = image;
@@ -0,0 +1,63 @@
+package com.book.together.gatherings.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 지난 모임 보관 테이블. {@link Gathering}과 같은 컬럼에 보관 시각만 더했으며, 보관 작업이
+ * INSERT ... SELECT로만 채운다(id는 원본 그대로).
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "v1_gathering_archive",
+        indexes = @Index(name = "idx_gathering_archive_date_time", columnList = "date_time, id")
+)
+@Entity
+public class GatheringArchive {
+
+    @Id
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    private GatheringType gatheringType;
+
+    private String name;
+
+    private LocalDateTime dateTime;
+
+    private LocalDateTime registrationEnd;
+
+    private boolean registrationClosed;
+
+    @Enumerated(EnumType.STRING)
+    private GatheringLocation gatheringLocation;
+
+    private int participantCount;
+
+    private int capacity;
+
+    private String image;
+
+    private LocalDateTime createdAt;
+
+    private Long createdBy;
+
+    private LocalDateTime canceledAt;
+
+    private LocalDateTime updatedAt;
+
+    private Long seriesId;
+
+    private long viewCount;
+
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,43 @@
+package com.book.together.gatherings.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 모임 댓글 (추가 전용). 쓰기는 {@code GatheringCommentJdbcRepository#insertComments} 배치로만 하고,
+ * 읽기는 (gathering_id, id) 인덱스를 id 내림차순 커서로 읽는다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "v1_gathering_comments",
+        indexes = @Index(name = "idx_comment_gathering_id", columnList = "gathering_id, id")
+)
+@Entity
+public class GatheringComment {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "gathering_id", nullable = false)
+    private Long gatheringId;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "content", nullable = false, length = 500)
+    private String content;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
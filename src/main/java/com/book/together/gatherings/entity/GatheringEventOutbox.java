@@ -0,0 +1,65 @@
+package com.book.together.gatherings.entity;
+
+import com.book.together.gatherings.event.GatheringEventType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 모임 도메인 이벤트 outbox. 도메인 변경과 같은 트랜잭션에 적재되고, relay가 Redis Streams로 옮긴 뒤
+ * {@code publishedAt}을 채운다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "v1_gathering_event_outbox",
+        indexes = @Index(name = "idx_event_outbox_published", columnList = "published_at, id")
+)
+@Entity
+public class GatheringEventOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "gathering_id", nullable = false)
+    private Long gatheringId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 32)
+    private GatheringEventType eventType;
+
+    @Lob
+    @Column(name = "payload", nullable = false)
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    private GatheringEventOutbox(Long gatheringId, GatheringEventType eventType, String payload) {
+        this.gatheringId = gatheringId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.createdAt = LocalDateTime.now();
+        this.publishedAt = null;
+    }
+
+    public static GatheringEventOutbox of(Long gatheringId, GatheringEventType eventType,
+            String payload) {
+        return new GatheringEventOutbox(gatheringId, eventType, payload);
+    }
+}
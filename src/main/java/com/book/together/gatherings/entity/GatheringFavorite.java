@@ -0,0 +1,45 @@
+package com.book.together.gatherings.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 모임 찜 영구 기록.
+ *
+ * <p>찜 상태의 기준은 Redis 회원별 집합이며, 이 테이블은 {@code GatheringFavoriteService}가 모아서
+ * 반영하는 사본이다. (member_id, gathering_id)가 유니크라서 반영은 INSERT IGNORE / DELETE로 멱등하다.</p>
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "v1_gathering_favorites",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_favorite_member_gathering", columnNames = {"member_id", "gathering_id"}),
+        indexes = @Index(name = "idx_favorite_gathering_id", columnList = "gathering_id")
+)
+@Entity
+public class GatheringFavorite {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "gathering_id", nullable = false)
+    private Long gatheringId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
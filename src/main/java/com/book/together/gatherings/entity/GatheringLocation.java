@@ -9,13 +9,17 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 @Getter
 public enum GatheringLocation {
-    KONKUK_UNIVERSITY_STATION("건대입구"),
-    EULJIRO_3GA("을지로3가"),
-    SILLIM("신림"),
-    HONGIK_UNIVERSITY_STATION("홍대입구");
+    KONKUK_UNIVERSITY_STATION("건대입구", 37.540372, 127.069276),
+    EULJIRO_3GA("을지로3가", 37.566295, 126.991076),
+    SILLIM("신림", 37.484201, 126.929715),
+    HONGIK_UNIVERSITY_STATION("홍대입구", 37.557192, 126.925381);
 
     private final String name;
 
+    // WGS84 위도/경도
+    private final double latitude;
+    private final double longitude;
+
     public static GatheringLocation from(String value) {
         return Arrays.stream(values())
                 .filter(loc -> loc.name.equals(value))
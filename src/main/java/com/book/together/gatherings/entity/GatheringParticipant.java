@@ -6,6 +6,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -16,7 +17,13 @@ import lombok.NoArgsConstructor;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "v1_gathering_participants")
+@Table(
+        name = "v1_gathering_participants",
+        indexes = {
+                @Index(name = "idx_participant_gathering_member", columnList = "gathering_id, member_id, canceled_at"),
+                @Index(name = "idx_participant_canceled_at", columnList = "canceled_at, id")
+        }
+)
 @Entity
 public class GatheringParticipant {
 
@@ -37,6 +44,10 @@ public class GatheringParticipant {
     @Column(name = "canceled_at")
     private LocalDateTime canceledAt;
 
+    // 체크인 시각 (CheckInService가 배치로 기록)
+    @Column(name = "checked_in_at")
+    private LocalDateTime checkedInAt;
+
     private GatheringParticipant(Gathering gathering, Long memberId) {
         this.gathering = gathering;
         this.memberId = memberId;
@@ -0,0 +1,45 @@
+package com.book.together.gatherings.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 지난 모임 참가자 보관 테이블. 원본 FK 대신 gathering_id 값만 둔다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "v1_gathering_participants_archive",
+        indexes = {
+                @Index(name = "idx_participant_archive_member", columnList = "member_id, gathering_id"),
+                @Index(name = "idx_participant_archive_gathering", columnList = "gathering_id")
+        }
+)
+@Entity
+public class GatheringParticipantArchive {
+
+    @Id
+    private Long id;
+
+    @Column(name = "gathering_id", nullable = false)
+    private Long gatheringId;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "joined_at", nullable = false)
+    private LocalDateTime joinedAt;
+
+    @Column(name = "canceled_at")
+    private LocalDateTime canceledAt;
+
+    @Column(name = "checked_in_at")
+    private LocalDateTime checkedInAt;
+}
@@ -0,0 +1,6 @@
+package com.book.together.gatherings.entity;
+
+public enum GatheringRecurrence {
+    DAILY,
+    WEEKLY
+}
@@ -0,0 +1,59 @@
+package com.book.together.gatherings.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 모임 후기. 참가자 1명당 모임마다 1건이며, 평점 집계는 {@link ReviewAggregate}에 같은 트랜잭션으로 더한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "v1_gathering_reviews",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_review_gathering_member", columnNames = {"gathering_id", "member_id"}),
+        indexes = @Index(name = "idx_review_gathering_id", columnList = "gathering_id, id")
+)
+@Entity
+public class GatheringReview {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "gathering_id", nullable = false)
+    private Long gatheringId;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "score", nullable = false)
+    private int score;
+
+    @Column(name = "content", length = 1000)
+    private String content;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public static GatheringReview create(Long gatheringId, Long memberId, int score, String content,
+            LocalDateTime now) {
+        GatheringReview review = new GatheringReview();
+        review.gatheringId = gatheringId;
+        review.memberId = memberId;
+        review.score = score;
+        review.content = content;
+        review.createdAt = now;
+        return review;
+    }
+}
@@ -0,0 +1,87 @@
+package com.book.together.gatherings.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 모임 수요 집계 (분/시/일 버킷 × 유형 × 장소 × 모임 시작 시각의 시).
+ *
+ * <p>{@code GatheringRollupService}가 노드 메모리에서 모은 증가분을 (granularity, bucket_start, 차원) 유니크 키로
+ * UPSERT해 더한다. 여러 노드의 증가분이 같은 행에 합쳐지며, 대시보드는 OLTP 테이블 대신 이 행만 읽는다.</p>
+ *
+ * <ul>
+ *   <li>{@code seats}: 생성 시 참가자 + 참여 − 참여 취소 − 모임 취소로 빠진 참가자 (순증감)</li>
+ *   <li>{@code filled}/{@code time_to_full_sec}: 정원을 채운 참여 수와 모임 생성부터 그때까지 걸린 초의 합</li>
+ * </ul>
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "v1_gathering_rollups",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_rollup_bucket_dims",
+                columnNames = {"granularity", "bucket_start", "gathering_type", "location", "hour_of_day"})
+)
+@Entity
+public class GatheringRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "granularity", nullable = false, length = 10)
+    private RollupGranularity granularity;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "gathering_type", nullable = false, length = 30)
+    private GatheringType gatheringType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "location", nullable = false, length = 40)
+    private GatheringLocation location;
+
+    @Column(name = "hour_of_day", nullable = false)
+    private int hourOfDay; // 모임 시작 시각의 시 (0~23)
+
+    @Column(name = "created", nullable = false)
+    private long created;
+
+    @Column(name = "capacity", nullable = false)
+    private long capacity;
+
+    @Column(name = "joined", nullable = false)
+    private long joined;
+
+    @Column(name = "left_count", nullable = false)
+    private long leftCount;
+
+    @Column(name = "seats", nullable = false)
+    private long seats;
+
+    @Column(name = "filled", nullable = false)
+    private long filled;
+
+    @Column(name = "time_to_full_sec", nullable = false)
+    private long timeToFullSec;
+
+    @Column(name = "canceled", nullable = false)
+    private long canceled;
+
+    @Column(name = "canceled_capacity", nullable = false)
+    private long canceledCapacity;
+}
@@ -0,0 +1,208 @@
+package com.book.together.gatherings.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 반복 모임 시리즈 (반복 규칙 + 회차 템플릿)
+ *
+ * <p>회차는 {@code generatedUntil}까지만 실제 모임으로 만들어 두고, 이후 회차는 시간이 지나면서
+ * 일정 기간 앞까지 이어서 생성한다.</p>
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "v1_gathering_series")
+@Entity
+public class GatheringSeries {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    private GatheringType gatheringType;
+
+    private String name;
+
+    @Enumerated(EnumType.STRING)
+    private GatheringLocation gatheringLocation;
+
+    private int capacity;
+
+    private String image;
+
+    @Enumerated(EnumType.STRING)
+    private GatheringRecurrence recurrence;
+
+    private int intervalCount; // 몇 일/주마다
+
+    private int daysOfWeekMask; // WEEKLY: 월(1) ~ 일(64) 비트
+
+    private LocalDate startDate;
+
+    private LocalTime startTime;
+
+    private LocalDate endDate; // null이면 종료일 없음
+
+    private Integer maxOccurrences; // null이면 횟수 제한 없음
+
+    private Integer registrationCloseMinutes; // 모임 시작 몇 분 전에 모집 마감 (null이면 마감 시각 없음)
+
+    private int generatedCount;
+
+    private LocalDateTime generatedUntil; // 이 시각까지의 회차는 생성 완료
+
+    private Long createdBy;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime canceledAt;
+
+    @Builder(access = AccessLevel.PRIVATE)
+    private GatheringSeries(
+            GatheringType gatheringType,
+            String name,
+            GatheringLocation gatheringLocation,
+            int capacity,
+            String image,
+            GatheringRecurrence recurrence,
+            int intervalCount,
+            int daysOfWeekMask,
+            LocalDate startDate,
+            LocalTime startTime,
+            LocalDate endDate,
+            Integer maxOccurrences,
+            Integer registrationCloseMinutes,
+            Long createdBy
+    ) {
+        this.gatheringType = gatheringType;
+        this.name = name;
+        this.gatheringLocation = gatheringLocation;
+        this.capacity = capacity;
+        this.image = image;
+        this.recurrence = recurrence;
+        this.intervalCount = intervalCount;
+        this.daysOfWeekMask = daysOfWeekMask;
+        this.startDate = startDate;
+        this.startTime = startTime;
+        this.endDate = endDate;
+        this.maxOccurrences = maxOccurrences;
+        this.registrationCloseMinutes = registrationCloseMinutes;
+        this.generatedCount = 0;
+        this.generatedUntil = null;
+        this.createdBy = createdBy;
+        this.createdAt = LocalDateTime.now();
+        this.canceledAt = null;
+    }
+
+    public static GatheringSeries of(
+            GatheringType gatheringType,
+            String name,
+            GatheringLocation gatheringLocation,
+            int capacity,
+            String image,
+            GatheringRecurrence recurrence,
+            int intervalCount,
+            Set<DayOfWeek> daysOfWeek,
+            LocalDate startDate,
+            LocalTime startTime,
+            LocalDate endDate,
+            Integer maxOccurrences,
+            Integer registrationCloseMinutes,
+            Long createdBy
+    ) {
+        int mask = 0;
+        for (DayOfWeek day : daysOfWeek) {
+            mask |= 1 << (day.getValue() - 1);
+        }
+        return GatheringSeries.builder()
+                .gatheringType(gatheringType)
+                .name(name)
+                .gatheringLocation(gatheringLocation)
+                .capacity(capacity)
+                .image(image)
+                .recurrence(recurrence)
+                .intervalCount(intervalCount)
+                .daysOfWeekMask(mask)
+                .startDate(startDate)
+                .startTime(startTime)
+                .endDate(endDate)
+                .maxOccurrences(maxOccurrences)
+                .registrationCloseMinutes(registrationCloseMinutes)
+                .createdBy(createdBy)
+                .build();
+    }
+
+    /**
+     * (after, until] 구간의 회차 시각. 남은 횟수와 limit 중 작은 만큼만 반환한다.
+     */
+    public List<LocalDateTime> occurrencesBetween(LocalDateTime after, LocalDateTime until, int limit) {
+        int remaining = maxOccurrences == null ? limit : Math.min(limit, maxOccurrences - generatedCount);
+        List<LocalDateTime> result = new ArrayList<>();
+        if (remaining <= 0) {
+            return result;
+        }
+
+        LocalDate lastDate = until.toLocalDate();
+        if (endDate != null && endDate.isBefore(lastDate)) {
+            lastDate = endDate;
+        }
+        LocalDate firstDate = after.toLocalDate().isAfter(startDate) ? after.toLocalDate() : startDate;
+        LocalDate startWeek = startDate.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+
+        for (LocalDate date = firstDate; !date.isAfter(lastDate) && result.size() < remaining;
+                date = date.plusDays(1)) {
+            if (!matches(date, startWeek)) {
+                continue;
+            }
+            LocalDateTime occurrence = date.atTime(startTime);
+            if (occurrence.isAfter(after) && !occurrence.isAfter(until)) {
+                result.add(occurrence);
+            }
+        }
+        return result;
+    }
+
+    public LocalDateTime registrationEndOf(LocalDateTime occurrence) {
+        return registrationCloseMinutes == null ? null : occurrence.minusMinutes(registrationCloseMinutes);
+    }
+
+    public boolean isFinished() {
+        return canceledAt != null
+                || (maxOccurrences != null && generatedCount >= maxOccurrences)
+                || (endDate != null && generatedUntil != null
+                && !generatedUntil.toLocalDate().isBefore(endDate));
+    }
+
+    public void markGenerated(int count, LocalDateTime until) {
+        this.generatedCount += count;
+        this.generatedUntil = until;
+    }
+
+    private boolean matches(LocalDate date, LocalDate startWeek) {
+        return switch (recurrence) {
+            case DAILY -> ChronoUnit.DAYS.between(startDate, date) % intervalCount == 0;
+            case WEEKLY -> (daysOfWeekMask & (1 << (date.getDayOfWeek().getValue() - 1))) != 0
+                    && ChronoUnit.WEEKS.between(startWeek,
+                    date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))) % intervalCount == 0;
+        };
+    }
+}
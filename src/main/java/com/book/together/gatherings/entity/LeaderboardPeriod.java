@@ -0,0 +1,6 @@
+package com.book.together.gatherings.entity;
+
+public enum LeaderboardPeriod {
+    WEEKLY,   // 모임 시각 기준 이번 ISO 주차
+    ALL_TIME
+}
@@ -0,0 +1,54 @@
+package com.book.together.gatherings.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 리더보드 스냅샷 (보드, 항목)별 마지막 점수.
+ *
+ * <p>리더보드의 기준은 Redis sorted set이며, 이 테이블은 {@code LeaderboardService}가 바뀐 항목만 주기적으로
+ * UPSERT하는 사본이다. Redis 데이터가 사라지면 여기서 전체/이번 주 보드를 다시 채운다.</p>
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "v1_leaderboard_snapshots",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_leaderboard_board_entry", columnNames = {"board", "entry"}),
+        indexes = {
+                @Index(name = "idx_leaderboard_period_id", columnList = "period_key, id"),
+                @Index(name = "idx_leaderboard_snapshot_at", columnList = "snapshot_at")
+        }
+)
+@Entity
+public class LeaderboardSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "board", nullable = false, length = 160)
+    private String board; // company:{period} 또는 member:{period}:{company}
+
+    @Column(name = "period_key", nullable = false, length = 10)
+    private String periodKey; // ALL 또는 2026-W42
+
+    @Column(name = "entry", nullable = false, length = 100)
+    private String entry; // 회사명 또는 회원 id
+
+    @Column(name = "score", nullable = false)
+    private long score;
+
+    @Column(name = "snapshot_at", nullable = false)
+    private LocalDateTime snapshotAt;
+}
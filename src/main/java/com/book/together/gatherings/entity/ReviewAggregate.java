@@ -0,0 +1,85 @@
+package com.book.together.gatherings.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 평점 집계 (리뷰 수, 점수 합, 점수별 개수).
+ *
+ * <p>후기를 쓸 때 {@code ReviewAggregateJdbcRepository#addReviewScores}가 (scope, scope_key) 유니크 키로 UPSERT해
+ * 증가분만 더한다. 읽기는 행 하나만 보므로 후기 수와 무관하게 일정하며, 후기 테이블에 AVG()를 돌리지 않는다.</p>
+ *
+ * <p>{@code avg_score}는 UPSERT 안에서 갱신된 합/개수로 다시 계산해 두는 값으로, 유형별 상위 모임 조회가
+ * (scope, gathering_type, avg_score) 인덱스만 읽게 하려는 용도다.</p>
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "v1_review_aggregates",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_review_aggregate_scope_key", columnNames = {"scope", "scope_key"}),
+        indexes = @Index(name = "idx_review_aggregate_top", columnList = "scope, gathering_type, avg_score")
+)
+@Entity
+public class ReviewAggregate {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "scope", nullable = false, length = 20)
+    private ReviewScope scope;
+
+    @Column(name = "scope_key", nullable = false, length = 40)
+    private String scopeKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "gathering_type", length = 30)
+    private GatheringType gatheringType; // GATHERING 집계에만 채움 (유형별 상위 조회용)
+
+    @Column(name = "review_count", nullable = false)
+    private long reviewCount;
+
+    @Column(name = "score_sum", nullable = false)
+    private long scoreSum;
+
+    @Column(name = "avg_score", nullable = false)
+    private double avgScore;
+
+    @Column(name = "score1", nullable = false)
+    private long score1;
+
+    @Column(name = "score2", nullable = false)
+    private long score2;
+
+    @Column(name = "score3", nullable = false)
+    private long score3;
+
+    @Column(name = "score4", nullable = false)
+    private long score4;
+
+    @Column(name = "score5", nullable = false)
+    private long score5;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // 1점부터 5점까지 개수
+    public List<Long> histogram() {
+        return List.of(score1, score2, score3, score4, score5);
+    }
+}
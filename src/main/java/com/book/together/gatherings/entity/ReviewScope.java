@@ -0,0 +1,10 @@
+package com.book.together.gatherings.entity;
+
+/**
+ * 평점 집계 단위. 집계 행의 {@code scope_key}는 GATHERING이면 모임 id, TYPE/LOCATION이면 enum 이름이다.
+ */
+public enum ReviewScope {
+    GATHERING,
+    LOCATION,
+    TYPE
+}
@@ -0,0 +1,15 @@
+package com.book.together.gatherings.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * @param canceledParticipants 함께 취소된 참가자 수 (주최자 포함)
+ */
+public record GatheringCanceledEvent(
+        GatheringSnapshot gathering,
+        Long canceledBy,
+        LocalDateTime canceledAt,
+        int canceledParticipants
+) implements GatheringEvent {
+
+}
@@ -0,0 +1,7 @@
+package com.book.together.gatherings.event;
+
+public record GatheringCreatedEvent(
+        GatheringSnapshot gathering
+) implements GatheringEvent {
+
+}
@@ -0,0 +1,9 @@
+package com.book.together.gatherings.event;
+
+/**
+ * 모임 도메인 이벤트 공통 타입
+ */
+public interface GatheringEvent {
+
+    GatheringSnapshot gathering();
+}
@@ -0,0 +1,16 @@
+package com.book.together.gatherings.event;
+
+/**
+ * Redis Streams 모임 이벤트 구독자.
+ *
+ * <p>같은 {@link #group()}을 쓰는 노드들이 파티션을 나눠 받으며, 한 파티션(= 같은 모임 id)의 이벤트는
+ * 순서대로 한 노드에서만 처리된다. 전달은 at-least-once이고, 이미 처리한 eventId는 워커가 걸러 주지만
+ * 처리 도중 중단되면 같은 이벤트가 다시 올 수 있다.</p>
+ */
+public interface GatheringEventHandler {
+
+    // 컨슈머 그룹 이름 (노드 간 공유)
+    String group();
+
+    void handle(long eventId, GatheringEvent event);
+}
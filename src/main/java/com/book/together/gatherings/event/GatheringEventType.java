@@ -0,0 +1,27 @@
+package com.book.together.gatherings.event;
+
+import java.util.Arrays;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 스트림으로 내보내는 모임 도메인 이벤트 종류 (스트림 레코드의 type 필드)
+ */
+@RequiredArgsConstructor
+@Getter
+public enum GatheringEventType {
+    GATHERING_CREATED(GatheringCreatedEvent.class),
+    PARTICIPANT_JOINED(ParticipantJoinedEvent.class),
+    PARTICIPANT_CANCELED(ParticipantCanceledEvent.class),
+    GATHERING_CANCELED(GatheringCanceledEvent.class);
+
+    private final Class<? extends GatheringEvent> eventClass;
+
+    public static GatheringEventType of(GatheringEvent event) {
+        return Arrays.stream(values())
+                .filter(t -> t.eventClass.isInstance(event))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "스트림 대상이 아닌 이벤트: " + event.getClass().getSimpleName()));
+    }
+}
@@ -0,0 +1,38 @@
+package com.book.together.gatherings.event;
+
+import com.book.together.gatherings.entity.Gathering;
+import com.book.together.gatherings.entity.GatheringLocation;
+import com.book.together.gatherings.entity.GatheringType;
+import java.time.LocalDateTime;
+
+/**
+ * 이벤트 시점의 모임 상태. 리스너가 DB를 다시 조회하지 않도록 필요한 값만 복사해 둔다.
+ */
+public record GatheringSnapshot(
+        Long id,
+        GatheringType type,
+        String name,
+        GatheringLocation location,
+        LocalDateTime dateTime,
+        LocalDateTime registrationEnd,
+        int participantCount,
+        int capacity,
+        Long createdBy,
+        LocalDateTime createdAt
+) {
+
+    public static GatheringSnapshot from(Gathering gathering) {
+        return new GatheringSnapshot(
+                gathering.getId(),
+                gathering.getGatheringType(),
+                gathering.getName(),
+                gathering.getGatheringLocation(),
+                gathering.getDateTime(),
+                gathering.getRegistrationEnd(),
+                gathering.getParticipantCount(),
+                gathering.getCapacity(),
+                gathering.getCreatedBy(),
+                gathering.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,14 @@
+package com.book.together.gatherings.event;
+
+/**
+ * 모임 타이머 만료 이벤트. 트랜잭션 밖(타이머 스레드)에서 발행되므로 {@code @EventListener}로 받는다.
+ *
+ * @param hoursBefore {@link GatheringTimerType#REMINDER}일 때 모임 시작 몇 시간 전 알림인지, 그 외 0
+ */
+public record GatheringTimerEvent(
+        Long gatheringId,
+        GatheringTimerType type,
+        int hoursBefore
+) {
+
+}
@@ -0,0 +1,14 @@
+package com.book.together.gatherings.event;
+
+public enum GatheringTimerType {
+    REGISTRATION_CLOSED,
+    GATHERING_STARTED,
+    REMINDER,
+    REGISTRATION_CLOSING;
+
+    private static final GatheringTimerType[] VALUES = values();
+
+    public static GatheringTimerType of(int ordinal) {
+        return VALUES[ordinal];
+    }
+}
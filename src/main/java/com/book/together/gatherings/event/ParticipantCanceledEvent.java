@@ -0,0 +1,11 @@
+package com.book.together.gatherings.event;
+
+import java.time.LocalDateTime;
+
+public record ParticipantCanceledEvent(
+        GatheringSnapshot gathering,
+        Long memberId,
+        LocalDateTime canceledAt
+) implements GatheringEvent {
+
+}
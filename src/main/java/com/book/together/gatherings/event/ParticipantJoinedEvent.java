@@ -0,0 +1,11 @@
+package com.book.together.gatherings.event;
+
+import java.time.LocalDateTime;
+
+public record ParticipantJoinedEvent(
+        GatheringSnapshot gathering,
+        Long memberId,
+        LocalDateTime joinedAt
+) implements GatheringEvent {
+
+}
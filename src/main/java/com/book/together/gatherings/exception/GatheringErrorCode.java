@@ -18,7 +18,30 @@ public enum GatheringErrorCode implements ErrorCode {
     ALREADY_JOINED(HttpStatus.CONFLICT, "모임: 이미 참여한 모임입니다."),
     GATHERING_CANCELED(HttpStatus.BAD_REQUEST, "모임: 이미 취소된 모임입니다."),
     GATHERING_FULL(HttpStatus.BAD_REQUEST, "모임: 이미 정원이 모두 차서 참여할 수 없습니다."),
-    GATHERING_CLOSED(HttpStatus.BAD_REQUEST, "모임: 모집 마감 이후에는 참여할 수 없습니다.");
+    GATHERING_CLOSED(HttpStatus.BAD_REQUEST, "모임: 모집 마감 이후에는 참여할 수 없습니다."),
+    GATHERING_STARTED(HttpStatus.BAD_REQUEST, "모임: 이미 시작된 모임은 참여를 취소할 수 없습니다."),
+    NOT_JOINED(HttpStatus.NOT_FOUND, "모임: 참여 중인 모임이 아닙니다."),
+    HOST_CANNOT_LEAVE(HttpStatus.BAD_REQUEST, "모임: 주최자는 참여를 취소할 수 없습니다. 모임 취소를 이용해 주세요."),
+    INVALID_DATE_RANGE(HttpStatus.BAD_REQUEST, "모임: 조회 기간이 올바르지 않습니다."),
+    INVALID_COORDINATE(HttpStatus.BAD_REQUEST, "모임: 위도/경도 또는 검색 반경이 올바르지 않습니다."),
+    NOT_HOST(HttpStatus.FORBIDDEN, "모임: 주최자 또는 관리자만 모임을 취소할 수 있습니다."),
+    CANNOT_CANCEL_STARTED(HttpStatus.BAD_REQUEST, "모임: 이미 시작된 모임은 취소할 수 없습니다."),
+    INVALID_RECURRENCE(HttpStatus.BAD_REQUEST, "모임: 반복 규칙이 올바르지 않습니다. %s"),
+    NO_OCCURRENCE(HttpStatus.BAD_REQUEST, "모임: 생성할 수 있는 회차가 없습니다."),
+    INVALID_CHECK_IN_TOKEN(HttpStatus.BAD_REQUEST, "모임: 유효하지 않거나 만료된 체크인 QR입니다."),
+    CHECK_IN_NOT_OPEN(HttpStatus.BAD_REQUEST, "모임: 체크인 가능 시간이 아닙니다."),
+    NOT_CHECK_IN_STAFF(HttpStatus.FORBIDDEN, "모임: 주최자 또는 관리자만 체크인을 처리할 수 있습니다."),
+    REVIEW_NOT_OPEN(HttpStatus.BAD_REQUEST, "모임: 후기는 모임이 끝난 뒤 %s일 이내에만 작성할 수 있습니다."),
+    ALREADY_REVIEWED(HttpStatus.CONFLICT, "모임: 이미 후기를 작성한 모임입니다."),
+    INVALID_RATING_KEYS(HttpStatus.BAD_REQUEST, "모임: 평점 조회 대상이 올바르지 않습니다. %s"),
+    NO_COMPANY(HttpStatus.BAD_REQUEST, "모임: 회사 정보가 없는 회원은 회사 리더보드 순위가 없습니다."),
+    FAVORITE_LIMIT(HttpStatus.BAD_REQUEST, "모임: 찜은 최대 %s개까지 할 수 있습니다."),
+    IMPORT_TOO_LARGE(HttpStatus.BAD_REQUEST, "모임: 한 번에 등록할 수 있는 모임은 최대 %s건입니다."),
+    INVALID_IMPORT(HttpStatus.BAD_REQUEST, "모임: 대량 등록 데이터가 올바르지 않습니다. %s"),
+    JOURNAL_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "모임: 이 서버에서는 참가 저널을 사용할 수 없습니다."),
+    EXPORT_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "모임: 다른 내보내기가 진행 중입니다. 잠시 후 다시 시도해 주세요."),
+    COMMENT_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "모임: 댓글 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해 주세요."),
+    FAVORITE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "모임: 찜 정보를 불러오는 중입니다. 잠시 후 다시 시도해 주세요.");
 
 
     private final HttpStatus httpStatus;
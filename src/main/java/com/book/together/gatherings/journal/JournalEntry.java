@@ -0,0 +1,19 @@
+package com.book.together.gatherings.journal;
+
+/**
+ * 참가 저널 레코드 1건
+ *
+ * @param seq         노드 안에서 단조 증가하는 일련번호
+ * @param timestampMs 참여/취소가 일어난 시각 (epoch ms)
+ * @param memberId    모임 취소는 취소한 회원(주최자/관리자)
+ */
+public record JournalEntry(
+        long seq,
+        long timestampMs,
+        long gatheringId,
+        long memberId,
+        ParticipationAction action,
+        ParticipationSource source
+) {
+
+}
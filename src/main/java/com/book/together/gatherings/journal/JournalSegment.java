@@ -0,0 +1,278 @@
+package com.book.together.gatherings.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * 참가 저널 세그먼트 파일 1개 (고정 크기, 전체를 mmap)
+ *
+ * <pre>
+ * 헤더 64B : magic(4) version(4) firstSeq(8) 예약(48)
+ * 레코드 40B: crc32c(4) seq(8) timestampMs(8) gatheringId(8) memberId(8) action(1) source(1) 예약(2)
+ * </pre>
+ *
+ * <p>레코드가 고정 길이라 seq → 위치가 {@code (seq - firstSeq) * 40}으로 바로 계산된다. crc는 seq 이후 36바이트에
+ * 대한 값이며, 기동 시 crc가 맞지 않거나 seq가 이어지지 않는 첫 레코드에서 끝으로 본다(중간에 끊긴 쓰기 복구).</p>
+ *
+ * <p>{@value #BLOCK_RECORDS}건마다 블록 하나로 묶어 블록별 모임 id Bloom 필터와 시각 범위를 메모리에 둔다(희소 인덱스).
+ * 특정 모임 이력은 필터에 걸린 블록만 읽는다. 쓰기는 {@link ParticipationJournal}의 단일 writer만 하며,
+ * 읽기는 volatile {@code count}를 먼저 읽어 그 이전에 쓴 레코드/필터만 본다.</p>
+ */
+final class JournalSegment {
+
+    static final int HEADER_SIZE = 64;
+    static final int RECORD_SIZE = 40;
+    static final int BLOCK_RECORDS = 4096;
+
+    private static final int MAGIC = 0x504A524E; // "PJRN"
+    private static final int VERSION = 1;
+
+    private static final int BLOOM_BITS = 16_384; // 블록당 2KB, 모임 1000개/블록일 때 오탐 약 1.4%
+    private static final int BLOOM_WORDS = BLOOM_BITS / 64;
+
+    private static final int PREALLOCATE_CHUNK = 1 << 20;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final long firstSeq;
+    private final int capacity;
+
+    private final long[][] blooms;
+    private final long[] blockMinTs;
+    private final long[] blockMaxTs;
+
+    private final byte[] scratch = new byte[RECORD_SIZE];
+    private final CRC32C crc = new CRC32C();
+
+    private volatile int count;
+    private volatile long maxTimestampMs = Long.MIN_VALUE;
+    private int forced; // force()끼리는 세그먼트 모니터로 직렬화
+
+    private JournalSegment(Path path, FileChannel channel, MappedByteBuffer buffer, long firstSeq) {
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.firstSeq = firstSeq;
+        this.capacity = (buffer.capacity() - HEADER_SIZE) / RECORD_SIZE;
+
+        int blocks = (capacity + BLOCK_RECORDS - 1) / BLOCK_RECORDS;
+        this.blooms = new long[blocks][BLOOM_WORDS];
+        this.blockMinTs = new long[blocks];
+        this.blockMaxTs = new long[blocks];
+    }
+
+    /**
+     * 새 세그먼트를 만든다. 파일을 0으로 미리 채워 디스크 블록을 확보해 두므로(sparse 파일 아님), 쓰는 도중
+     * 디스크가 가득 차 mmap 쓰기가 SIGBUS로 죽는 일이 없다.
+     */
+    static JournalSegment create(Path dir, long firstSeq, int sizeBytes) throws IOException {
+        Path path = dir.resolve(fileName(firstSeq));
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            ByteBuffer zeros = ByteBuffer.allocateDirect(PREALLOCATE_CHUNK);
+            for (long written = 0; written < sizeBytes; ) {
+                zeros.clear().limit((int) Math.min(PREALLOCATE_CHUNK, sizeBytes - written));
+                written += channel.write(zeros, written);
+            }
+            channel.force(true);
+
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, sizeBytes);
+            buffer.order(ByteOrder.BIG_ENDIAN);
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, VERSION);
+            buffer.putLong(8, firstSeq);
+            buffer.force(0, HEADER_SIZE);
+            return new JournalSegment(path, channel, buffer, firstSeq);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            Files.deleteIfExists(path);
+            throw e;
+        }
+    }
+
+    /**
+     * 기존 세그먼트를 열고 유효한 레코드 끝까지 읽어 희소 인덱스를 다시 만든다.
+     */
+    static JournalSegment open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+            if (buffer.capacity() < HEADER_SIZE + RECORD_SIZE
+                    || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                throw new IOException("저널 세그먼트 헤더가 올바르지 않음: " + path);
+            }
+
+            JournalSegment segment = new JournalSegment(path, channel, buffer, buffer.getLong(8));
+            segment.recover();
+            return segment;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    static String fileName(long firstSeq) {
+        return String.format("%020d.seg", firstSeq);
+    }
+
+    private void recover() {
+        int n = 0;
+        while (n < capacity) {
+            JournalEntry entry = read(n);
+            if (entry == null || entry.seq() != firstSeq + n) {
+                break;
+            }
+            index(n, entry.gatheringId(), entry.timestampMs());
+            n++;
+        }
+        count = n;
+        forced = n;
+    }
+
+    boolean isFull() {
+        return count >= capacity;
+    }
+
+    /**
+     * 레코드 1건을 쓴다. 호출 측(단일 writer)이 {@link #isFull()}을 먼저 확인한다.
+     */
+    void append(long seq, long timestampMs, long gatheringId, long memberId, byte action, byte source) {
+        int n = count;
+        ByteBuffer b = ByteBuffer.wrap(scratch);
+        b.putInt(0, 0);
+        b.putLong(4, seq);
+        b.putLong(12, timestampMs);
+        b.putLong(20, gatheringId);
+        b.putLong(28, memberId);
+        b.put(36, action);
+        b.put(37, source);
+        b.putShort(38, (short) 0);
+
+        crc.reset();
+        crc.update(scratch, 4, RECORD_SIZE - 4);
+        b.putInt(0, (int) crc.getValue());
+
+        buffer.put(offset(n), scratch);
+        index(n, gatheringId, timestampMs);
+        count = n + 1; // volatile 쓰기: 이 앞의 레코드/인덱스 쓰기를 읽는 쪽에 공개
+    }
+
+    private void index(int n, long gatheringId, long timestampMs) {
+        int block = n / BLOCK_RECORDS;
+        long[] bloom = blooms[block];
+        long h = mix(gatheringId);
+        int b1 = (int) (h & (BLOOM_BITS - 1));
+        int b2 = (int) ((h >>> 32) & (BLOOM_BITS - 1));
+        bloom[b1 >>> 6] |= 1L << b1;
+        bloom[b2 >>> 6] |= 1L << b2;
+
+        if (n % BLOCK_RECORDS == 0 || timestampMs < blockMinTs[block]) {
+            blockMinTs[block] = timestampMs;
+        }
+        blockMaxTs[block] = Math.max(blockMaxTs[block], timestampMs);
+        if (timestampMs > maxTimestampMs) {
+            maxTimestampMs = timestampMs;
+        }
+    }
+
+    /**
+     * 마지막 force 이후 쓴 범위만 디스크로 내린다 (그룹 커밋 flusher, 세그먼트 전환 시 호출).
+     *
+     * @return 이번 호출로 영속화가 보장된 마지막 seq, 새로 쓴 것이 없으면 -1
+     */
+    synchronized long force() {
+        int n = count;
+        if (n == forced) {
+            return -1;
+        }
+        buffer.force(offset(forced), (n - forced) * RECORD_SIZE);
+        forced = n;
+        return firstSeq + n - 1;
+    }
+
+    /**
+     * @return n번째 레코드, crc가 맞지 않으면 null
+     */
+    JournalEntry read(int n) {
+        byte[] dst = new byte[RECORD_SIZE];
+        buffer.get(offset(n), dst);
+
+        CRC32C check = new CRC32C();
+        check.update(dst, 4, RECORD_SIZE - 4);
+        ByteBuffer b = ByteBuffer.wrap(dst);
+        if (b.getInt(0) != (int) check.getValue()) {
+            return null;
+        }
+        return new JournalEntry(
+                b.getLong(4),
+                b.getLong(12),
+                b.getLong(20),
+                b.getLong(28),
+                ParticipationAction.of(b.get(36)),
+                ParticipationSource.of(b.get(37))
+        );
+    }
+
+    boolean mightContain(int block, long gatheringId) {
+        long[] bloom = blooms[block];
+        long h = mix(gatheringId);
+        int b1 = (int) (h & (BLOOM_BITS - 1));
+        int b2 = (int) ((h >>> 32) & (BLOOM_BITS - 1));
+        return (bloom[b1 >>> 6] & (1L << b1)) != 0 && (bloom[b2 >>> 6] & (1L << b2)) != 0;
+    }
+
+    long blockMinTs(int block) {
+        return blockMinTs[block];
+    }
+
+    long blockMaxTs(int block) {
+        return blockMaxTs[block];
+    }
+
+    int count() {
+        return count;
+    }
+
+    long firstSeq() {
+        return firstSeq;
+    }
+
+    long lastSeq() {
+        return firstSeq + count - 1;
+    }
+
+    long maxTimestampMs() {
+        return maxTimestampMs;
+    }
+
+    Path path() {
+        return path;
+    }
+
+    /**
+     * 채널만 닫는다. mmap 영역은 GC가 버퍼를 회수할 때 해제되므로, 이미 스캔 중인 읽기는 그대로 끝낼 수 있다.
+     */
+    void close() throws IOException {
+        channel.close();
+    }
+
+    private static int offset(int n) {
+        return HEADER_SIZE + n * RECORD_SIZE;
+    }
+
+    // splitmix64 finalizer
+    private static long mix(long x) {
+        x = (x ^ (x >>> 30)) * 0xbf58476d1ce4e5b9L;
+        x = (x ^ (x >>> 27)) * 0x94d049bb133111ebL;
+        return x ^ (x >>> 31);
+    }
+}
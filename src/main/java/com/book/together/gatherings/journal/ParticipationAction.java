@@ -0,0 +1,24 @@
+package com.book.together.gatherings.journal;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Getter
+public enum ParticipationAction {
+    JOIN((byte) 1),
+    LEAVE((byte) 2),
+    GATHERING_CANCEL((byte) 3); // 모임 취소 (취소한 회원 기준 1건, 참가자별 취소는 각각 LEAVE로 기록)
+
+    // 저널 레코드에 쓰는 값 (순서를 바꿔도 기존 파일이 깨지지 않도록 ordinal 대신 사용)
+    private final byte code;
+
+    public static ParticipationAction of(byte code) {
+        for (ParticipationAction action : values()) {
+            if (action.code == code) {
+                return action;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 저널 action: " + code);
+    }
+}
@@ -0,0 +1,301 @@
+package com.book.together.gatherings.journal;
+
+import com.book.together.gatherings.service.ParticipationJournalProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 참여/취소 감사 기록용 노드 로컬 append-only 저널
+ *
+ * <p>고정 크기 세그먼트 파일({@link JournalSegment})을 mmap해 40바이트 레코드를 이어 쓴다. append는 페이지 캐시에
+ * 쓰는 것으로 끝나고(프로세스가 죽어도 남음), 전용 flusher가 {@code flush-interval}마다 그동안 쓴 범위를 한 번에
+ * fsync한다(그룹 커밋). {@code sync-on-append}를 켜면 호출자가 자기 레코드의 fsync까지 기다린다.</p>
+ *
+ * <p>세그먼트가 차면 다음 세그먼트로 넘어가고, {@code retention}보다 오래된 세그먼트는 통째로 지운다.
+ * 조회는 seq 순 전체 재생({@link #replay})과 세그먼트 희소 인덱스를 이용한 모임별 이력({@link #history})을 제공한다.
+ * 디렉터리를 열지 못하면 저널만 끄고 서비스는 계속 동작한다.</p>
+ */
+@Slf4j(topic = "ParticipationJournal")
+@Component
+public class ParticipationJournal {
+
+    private final ParticipationJournalProperties properties;
+
+    // firstSeq 순. 마지막 원소가 현재 쓰는 세그먼트
+    private final List<JournalSegment> segments = new CopyOnWriteArrayList<>();
+
+    private final Object durable = new Object();
+
+    private Path dir;
+
+    private JournalSegment active; // append 모니터(this)로 보호
+
+    private long nextSeq;
+
+    private volatile long durableSeq = -1;
+
+    private volatile boolean available = false;
+
+    private volatile boolean running = false;
+
+    private Thread flusher;
+
+    public ParticipationJournal(ParticipationJournalProperties properties) {
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    public void open() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            dir = Path.of(properties.getDir());
+            Files.createDirectories(dir);
+
+            List<Path> files;
+            try (Stream<Path> list = Files.list(dir)) {
+                files = list.filter(p -> p.getFileName().toString().endsWith(".seg")).sorted().toList();
+            }
+            for (Path file : files) {
+                segments.add(JournalSegment.open(file));
+            }
+            if (segments.isEmpty()) {
+                segments.add(JournalSegment.create(dir, 0, segmentSize()));
+            }
+
+            active = segments.get(segments.size() - 1);
+            nextSeq = active.firstSeq() + active.count();
+            durableSeq = nextSeq - 1;
+        } catch (IOException | RuntimeException e) {
+            log.error("참가 저널을 열지 못해 비활성화: dir={}", properties.getDir(), e);
+            return;
+        }
+
+        running = true;
+        available = true;
+        flusher = new Thread(this::flushLoop, "journal-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+        log.info("참가 저널 열기: dir={}, segments={}, nextSeq={}", dir, segments.size(), nextSeq);
+    }
+
+    @PreDestroy
+    public void close() {
+        if (!available) {
+            return;
+        }
+        running = false;
+        flusher.interrupt();
+        try {
+            flusher.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (this) {
+            flush();
+            available = false;
+            for (JournalSegment segment : segments) {
+                try {
+                    segment.close();
+                } catch (IOException e) {
+                    log.warn("저널 세그먼트 닫기 실패: {}", segment.path(), e);
+                }
+            }
+        }
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    /**
+     * @return 기록한 레코드의 seq, 저널이 꺼져 있으면 -1
+     * @throws UncheckedIOException 새 세그먼트를 만들지 못한 경우
+     */
+    public long append(long timestampMs, long gatheringId, long memberId,
+            ParticipationAction action, ParticipationSource source) {
+        long seq;
+        synchronized (this) {
+            if (!available) {
+                return -1;
+            }
+            if (active.isFull()) {
+                roll();
+            }
+            seq = nextSeq;
+            active.append(seq, timestampMs, gatheringId, memberId, action.getCode(), source.getCode());
+            nextSeq++;
+        }
+
+        if (properties.isSyncOnAppend()) {
+            awaitDurable(seq);
+        }
+        return seq;
+    }
+
+    // 다 찬 세그먼트를 마저 fsync한 뒤 다음 세그먼트로 전환 (append 모니터 안에서 호출)
+    private void roll() {
+        JournalSegment full = active;
+        full.force();
+        try {
+            JournalSegment next = JournalSegment.create(dir, nextSeq, segmentSize());
+            segments.add(next);
+            active = next;
+            log.info("참가 저널 세그먼트 전환: {} → {}", full.path().getFileName(), next.path().getFileName());
+        } catch (IOException e) {
+            throw new UncheckedIOException("참가 저널 세그먼트 생성 실패", e);
+        }
+    }
+
+    private void flushLoop() {
+        long intervalMs = Math.max(1, properties.getFlushInterval().toMillis());
+        while (running) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(intervalMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            try {
+                flush();
+            } catch (RuntimeException e) {
+                log.error("참가 저널 fsync 실패", e);
+            }
+        }
+    }
+
+    // 세그먼트는 순서대로 force되고(전환 시 이전 세그먼트를 먼저 force), 마지막으로 force한 seq까지 영속화된 것으로 본다
+    private void flush() {
+        long last = -1;
+        for (JournalSegment segment : segments) {
+            last = Math.max(last, segment.force());
+        }
+        if (last >= 0) {
+            synchronized (durable) {
+                durableSeq = Math.max(durableSeq, last);
+                durable.notifyAll();
+            }
+        }
+    }
+
+    private void awaitDurable(long seq) {
+        long waitMs = Math.max(1, properties.getFlushInterval().toMillis());
+        synchronized (durable) {
+            while (durableSeq < seq && running) {
+                try {
+                    durable.wait(waitMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * fromSeq부터 seq 순으로 모든 레코드를 넘긴다 (카운터/인덱스 재구성용). 호출 시점까지 쓴 레코드만 읽는다.
+     *
+     * @return 다음에 이어 읽을 seq
+     */
+    public long replay(long fromSeq, Consumer<JournalEntry> consumer) {
+        long next = fromSeq;
+        for (JournalSegment segment : segments) {
+            int n = segment.count();
+            if (n == 0 || segment.lastSeq() < next) {
+                continue;
+            }
+            for (int i = (int) Math.max(0, next - segment.firstSeq()); i < n; i++) {
+                JournalEntry entry = segment.read(i);
+                if (entry != null) {
+                    consumer.accept(entry);
+                }
+            }
+            next = segment.lastSeq() + 1;
+        }
+        return next;
+    }
+
+    /**
+     * 모임 하나의 참여/취소 이력을 seq 순으로 최대 limit건 반환한다.
+     * 블록 Bloom 필터에 걸리지 않는 블록은 읽지 않는다.
+     *
+     * @param afterSeq 이 seq 다음부터 (처음이면 -1)
+     */
+    public List<JournalEntry> history(long gatheringId, long afterSeq, int limit) {
+        List<JournalEntry> result = new ArrayList<>();
+        for (JournalSegment segment : segments) {
+            int n = segment.count();
+            if (n == 0 || segment.lastSeq() <= afterSeq) {
+                continue;
+            }
+
+            int start = (int) Math.max(0, afterSeq + 1 - segment.firstSeq());
+            for (int block = start / JournalSegment.BLOCK_RECORDS;
+                    block <= (n - 1) / JournalSegment.BLOCK_RECORDS; block++) {
+                if (!segment.mightContain(block, gatheringId)) {
+                    continue;
+                }
+                int from = Math.max(start, block * JournalSegment.BLOCK_RECORDS);
+                int to = Math.min(n, (block + 1) * JournalSegment.BLOCK_RECORDS);
+                for (int i = from; i < to; i++) {
+                    JournalEntry entry = segment.read(i);
+                    if (entry != null && entry.gatheringId() == gatheringId) {
+                        result.add(entry);
+                        if (result.size() >= limit) {
+                            return result;
+                        }
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    // 쓰는 중인 세그먼트는 지우지 않음. 시각은 대체로 seq 순이므로 앞에서부터 보존 기간 안의 세그먼트를 만나면 멈춤
+    @Scheduled(cron = "${gathering.journal.retention-cron:0 40 4 * * *}")
+    public void purgeExpired() {
+        if (!available) {
+            return;
+        }
+        long cutoffMs = System.currentTimeMillis() - properties.getRetention().toMillis();
+        int removed = 0;
+        for (JournalSegment segment : segments) {
+            if (segment == segments.get(segments.size() - 1) || segment.maxTimestampMs() >= cutoffMs) {
+                break;
+            }
+            segments.remove(segment);
+            try {
+                segment.close();
+                Files.deleteIfExists(segment.path());
+                removed++;
+            } catch (IOException e) {
+                log.warn("저널 세그먼트 삭제 실패: {}", segment.path(), e);
+            }
+        }
+        if (removed > 0) {
+            log.info("참가 저널 보존 기간 지난 세그먼트 삭제: {}개", removed);
+        }
+    }
+
+    private int segmentSize() {
+        long size = properties.getSegmentSize().toBytes();
+        if (size < JournalSegment.HEADER_SIZE + JournalSegment.RECORD_SIZE || size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("gathering.journal.segment-size 범위 오류: " + size);
+        }
+        return (int) size;
+    }
+}
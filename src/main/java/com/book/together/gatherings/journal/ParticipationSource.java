@@ -0,0 +1,25 @@
+package com.book.together.gatherings.journal;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Getter
+public enum ParticipationSource {
+    MEMBER((byte) 1), // 본인 요청
+    HOST((byte) 2),   // 주최자
+    ADMIN((byte) 3),  // 관리자
+    SYSTEM((byte) 4); // 배치/이관 등
+
+    // 저널 레코드에 쓰는 값
+    private final byte code;
+
+    public static ParticipationSource of(byte code) {
+        for (ParticipationSource source : values()) {
+            if (source.code == code) {
+                return source;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 저널 source: " + code);
+    }
+}
@@ -0,0 +1,87 @@
+package com.book.together.gatherings.repository;
+
+import com.book.together.gatherings.entity.GatheringArchive;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * 지난 모임 보관/조회. 이동 쿼리는 보관 작업의 청크 트랜잭션 안에서 호출한다.
+ */
+public interface GatheringArchiveRepository extends JpaRepository<GatheringArchive, Long> {
+
+    // 보관 대상: 모임 시각이 cutoff 이전 (date_time, id) 인덱스 순서대로 앞에서부터
+    @Query(value = """
+            select g.id from v1_gathering g
+            where g.date_time < :cutoff
+            order by g.date_time, g.id
+            limit :limit
+            """, nativeQuery = true)
+    List<Long> findArchivableIds(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    // INSERT IGNORE: 중단 후 재실행되거나 두 노드가 겹쳐도 같은 행은 한 번만 보관
+    @Modifying
+    @Query(value = """
+            insert ignore into v1_gathering_participants_archive
+                (id, gathering_id, member_id, joined_at, canceled_at, checked_in_at)
+            select p.id, p.gathering_id, p.member_id, p.joined_at, p.canceled_at, p.checked_in_at
+            from v1_gathering_participants p
+            where p.gathering_id in :ids
+            """, nativeQuery = true)
+    int copyParticipants(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query(value = """
+            insert ignore into v1_gathering_archive
+                (id, gathering_type, name, date_time, registration_end, registration_closed,
+                 gathering_location, participant_count, capacity, image, created_at, created_by,
+                 canceled_at, updated_at, series_id, view_count, archived_at)
+            select g.id, g.gathering_type, g.name, g.date_time, g.registration_end, g.registration_closed,
+                   g.gathering_location, g.participant_count, g.capacity, g.image, g.created_at, g.created_by,
+                   g.canceled_at, g.updated_at, g.series_id, g.view_count, :now
+            from v1_gathering g
+            where g.id in :ids
+            """, nativeQuery = true)
+    int copyGatherings(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query(value = "delete from v1_gathering_participants where gathering_id in :ids", nativeQuery = true)
+    int deleteParticipants(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query(value = "delete from v1_gathering where id in :ids", nativeQuery = true)
+    int deleteGatherings(@Param("ids") Collection<Long> ids);
+
+    // 보관된 참여 이력: (dateTime, id) 커서 기준 내림차순
+    @Query("""
+            select g from GatheringArchive g, GatheringParticipantArchive p
+            where p.gatheringId = g.id
+              and p.memberId = :memberId
+              and p.canceledAt is null
+              and (g.dateTime < :before or (g.dateTime = :before and g.id < :beforeId))
+            order by g.dateTime desc, g.id desc
+            """)
+    List<GatheringArchive> findHistory(
+            @Param("memberId") Long memberId,
+            @Param("before") LocalDateTime before,
+            @Param("beforeId") Long beforeId,
+            Pageable pageable
+    );
+
+    // 보관된 모임의 참가자인지 (보관 이후에도 후기 작성 기간이 남은 모임용)
+    @Query("""
+            select count(p) > 0 from GatheringParticipantArchive p
+            where p.gatheringId = :gatheringId
+              and p.memberId = :memberId
+              and p.canceledAt is null
+            """)
+    boolean existsActiveParticipant(
+            @Param("gatheringId") Long gatheringId,
+            @Param("memberId") Long memberId
+    );
+}
@@ -0,0 +1,66 @@
+package com.book.together.gatherings.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 댓글 배치 INSERT. 그룹 커밋으로 모인 댓글을 한 번에 넣고 생성된 id를 입력 순서대로 돌려받는다.
+ */
+@RequiredArgsConstructor
+@Repository
+public class GatheringCommentJdbcRepository {
+
+    private static final String INSERT_COMMENT = """
+            insert into v1_gathering_comments (gathering_id, member_id, content, created_at)
+            values (:gatheringId, :memberId, :content, :createdAt)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * @return 입력 순서대로 생성된 댓글 id
+     */
+    public List<Long> insertComments(List<NewComment> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        SqlParameterSource[] params = new SqlParameterSource[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            NewComment c = rows.get(i);
+            params[i] = new MapSqlParameterSource()
+                    .addValue("gatheringId", c.gatheringId())
+                    .addValue("memberId", c.memberId())
+                    .addValue("content", c.content())
+                    .addValue("createdAt", Timestamp.valueOf(c.createdAt()));
+        }
+
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(INSERT_COMMENT, params, keys, new String[]{"id"});
+
+        List<Long> ids = new ArrayList<>(keys.getKeyList().size());
+        for (Map<String, Object> key : keys.getKeyList()) {
+            ids.add(((Number) key.values().iterator().next()).longValue());
+        }
+        return ids;
+    }
+
+    public record NewComment(
+            Long gatheringId,
+            Long memberId,
+            String content,
+            LocalDateTime createdAt
+    ) {
+
+    }
+}
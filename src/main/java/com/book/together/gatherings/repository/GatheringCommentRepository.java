@@ -0,0 +1,24 @@
+package com.book.together.gatherings.repository;
+
+import com.book.together.gatherings.entity.GatheringComment;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface GatheringCommentRepository extends JpaRepository<GatheringComment, Long> {
+
+    // (gathering_id, id) 인덱스 역순 스캔
+    @Query("""
+            select c from GatheringComment c
+            where c.gatheringId = :gatheringId
+              and c.id < :beforeId
+            order by c.id desc
+            """)
+    List<GatheringComment> findPage(
+            @Param("gatheringId") Long gatheringId,
+            @Param("beforeId") Long beforeId,
+            Pageable pageable
+    );
+}
@@ -0,0 +1,42 @@
+package com.book.together.gatherings.repository;
+
+import com.book.together.gatherings.entity.GatheringEventOutbox;
+import java.sql.Timestamp;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 도메인 이벤트 아웃박스 배치 INSERT. 호출 측 트랜잭션에 참여해 도메인 변경과 함께 커밋된다.
+ */
+@RequiredArgsConstructor
+@Repository
+public class GatheringEventOutboxJdbcRepository {
+
+    private static final String INSERT_EVENT = """
+            insert into v1_gathering_event_outbox (gathering_id, event_type, payload, created_at, published_at)
+            values (:gatheringId, :eventType, :payload, :createdAt, null)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public void insertEvents(List<GatheringEventOutbox> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        SqlParameterSource[] params = new SqlParameterSource[events.size()];
+        for (int i = 0; i < events.size(); i++) {
+            GatheringEventOutbox e = events.get(i);
+            params[i] = new MapSqlParameterSource()
+                    .addValue("gatheringId", e.getGatheringId())
+                    .addValue("eventType", e.getEventType().name())
+                    .addValue("payload", e.getPayload())
+                    .addValue("createdAt", Timestamp.valueOf(e.getCreatedAt()));
+        }
+        jdbcTemplate.batchUpdate(INSERT_EVENT, params);
+    }
+}
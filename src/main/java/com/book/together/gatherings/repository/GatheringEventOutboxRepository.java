@@ -0,0 +1,34 @@
+package com.book.together.gatherings.repository;
+
+import com.book.together.gatherings.entity.GatheringEventOutbox;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface GatheringEventOutboxRepository extends JpaRepository<GatheringEventOutbox, Long> {
+
+    // id 순 = 같은 모임 안에서는 커밋 순 (적재 전 flush로 모임 행 락을 먼저 잡음)
+    @Query("""
+            select o from GatheringEventOutbox o
+            where o.publishedAt is null
+            order by o.id asc
+            """)
+    List<GatheringEventOutbox> findUnpublished(Pageable pageable);
+
+    long countByPublishedAtIsNull();
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update GatheringEventOutbox o
+            set o.publishedAt = :now
+            where o.id in :ids
+            """)
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+}
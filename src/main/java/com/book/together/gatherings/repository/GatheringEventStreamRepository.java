@@ -0,0 +1,193 @@
+package com.book.together.gatherings.repository;
+
+import com.book.together.gatherings.entity.GatheringEventOutbox;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoGroup;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 모임 도메인 이벤트 스트림 (Redis Streams)
+ *
+ * <p>{@code gathering:events:{gatheringId % partitions}} 파티션 스트림에 이벤트를 쌓고, 컨슈머 그룹별로
+ * 파티션 소유권(lease)을 한 노드에만 준다. 한 파티션은 항상 한 컨슈머({@code p{partition}})가 읽으므로
+ * 같은 모임의 이벤트는 순서대로 처리되고, 소유 노드가 바뀌어도 같은 컨슈머 이름으로 미확인(pending) 메시지를
+ * 이어받는다.</p>
+ */
+@RequiredArgsConstructor
+@Repository
+public class GatheringEventStreamRepository {
+
+    private final StringRedisTemplate template;
+
+    private static final String PREFIX = "gathering:events";
+
+    public static final String F_ID = "id";
+    public static final String F_TYPE = "type";
+    public static final String F_GATHERING_ID = "gatheringId";
+    public static final String F_PAYLOAD = "payload";
+    public static final String F_ERROR = "error";
+
+    // KEYS: lease / ARGV: owner, ttlMs → 내가 소유 중이면 연장
+    private static final RedisScript<Long> RENEW = RedisScript.of("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    // KEYS: lease / ARGV: owner
+    private static final RedisScript<Long> RELEASE = RedisScript.of("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    public static String streamKey(int partition) {
+        return PREFIX + ":" + partition;
+    }
+
+    /**
+     * outbox 행들을 파이프라인 한 번으로 XADD 한다. 파티션 스트림은 maxLen 근처로 잘라낸다.
+     */
+    public void append(List<GatheringEventOutbox> events, int partitions, long maxLen) {
+        XAddOptions options = XAddOptions.maxlen(maxLen).approximateTrimming(true);
+        template.executePipelined((RedisCallback<Object>) connection -> {
+            for (GatheringEventOutbox e : events) {
+                Map<byte[], byte[]> fields = new HashMap<>();
+                fields.put(bytes(F_ID), bytes(String.valueOf(e.getId())));
+                fields.put(bytes(F_TYPE), bytes(e.getEventType().name()));
+                fields.put(bytes(F_GATHERING_ID), bytes(String.valueOf(e.getGatheringId())));
+                fields.put(bytes(F_PAYLOAD), bytes(e.getPayload()));
+
+                int partition = (int) Math.floorMod(e.getGatheringId(), (long) partitions);
+                connection.streamCommands().xAdd(
+                        StreamRecords.rawBytes(fields).withStreamKey(bytes(streamKey(partition))),
+                        options
+                );
+            }
+            return null;
+        });
+    }
+
+    // 그룹이 없으면 스트림과 함께 생성 (이미 있으면 BUSYGROUP 무시)
+    public void ensureGroup(int partition, String group) {
+        try {
+            template.execute((RedisCallback<Object>) connection -> connection.streamCommands()
+                    .xGroupCreate(bytes(streamKey(partition)), group, ReadOffset.from("0-0"), true));
+        } catch (DataAccessException e) {
+            if (e.getMessage() == null || !e.getMessage().contains("BUSYGROUP")) {
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * @param pending true면 이 컨슈머의 미확인 메시지부터, false면 새 메시지
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public List<MapRecord<String, String, String>> read(int partition, String group, int count,
+            boolean pending) {
+        List records = template.opsForStream().read(
+                Consumer.from(group, "p" + partition),
+                StreamReadOptions.empty().count(count),
+                StreamOffset.create(
+                        streamKey(partition),
+                        pending ? ReadOffset.from("0") : ReadOffset.lastConsumed()
+                )
+        );
+        return records == null ? List.of() : records;
+    }
+
+    public void ack(int partition, String group, RecordId... ids) {
+        template.opsForStream().acknowledge(streamKey(partition), group, ids);
+    }
+
+    /**
+     * 최대 시도 횟수를 넘긴 이벤트를 그룹별 dead-letter 스트림에 남긴다 (원본 필드 + 마지막 오류).
+     */
+    public void deadLetter(String group, Map<String, String> fields, String error, long maxLen) {
+        Map<String, String> record = new HashMap<>(fields);
+        record.put(F_ERROR, error);
+        template.opsForStream().add(
+                StreamRecords.string(record).withStreamKey(deadLetterKey(group)),
+                XAddOptions.maxlen(maxLen).approximateTrimming(true)
+        );
+    }
+
+    public boolean isProcessed(String group, long eventId) {
+        return Boolean.TRUE.equals(template.hasKey(processedKey(group, eventId)));
+    }
+
+    public void markProcessed(String group, long eventId, Duration ttl) {
+        template.opsForValue().set(processedKey(group, eventId), "1", ttl);
+    }
+
+    public boolean tryLease(String name, String owner, Duration ttl) {
+        return Boolean.TRUE.equals(template.opsForValue().setIfAbsent(leaseKey(name), owner, ttl));
+    }
+
+    public boolean renewLease(String name, String owner, Duration ttl) {
+        Long renewed = template.execute(RENEW, List.of(leaseKey(name)), owner,
+                String.valueOf(ttl.toMillis()));
+        return renewed != null && renewed == 1L;
+    }
+
+    public void releaseLease(String name, String owner) {
+        template.execute(RELEASE, List.of(leaseKey(name)), owner);
+    }
+
+    /**
+     * XINFO GROUPS의 lag(아직 전달되지 않은 수, Redis 7+)과 pending(전달됐지만 미확인 수)
+     */
+    public GroupLag lag(int partition, String group) {
+        for (XInfoGroup g : template.opsForStream().groups(streamKey(partition))) {
+            if (!group.equals(g.groupName())) {
+                continue;
+            }
+            Object lag = g.getRaw().get("lag");
+            return new GroupLag(
+                    lag instanceof Number n ? n.longValue() : -1L,
+                    g.pendingCount()
+            );
+        }
+        return new GroupLag(0L, 0L);
+    }
+
+    public static String deadLetterKey(String group) {
+        return PREFIX + ":dead:" + group;
+    }
+
+    private static String leaseKey(String name) {
+        return PREFIX + ":lease:" + name;
+    }
+
+    private static String processedKey(String group, long eventId) {
+        return PREFIX + ":done:" + group + ":" + eventId;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    public record GroupLag(long lag, long pending) {
+
+    }
+}
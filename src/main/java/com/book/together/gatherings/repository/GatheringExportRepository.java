@@ -0,0 +1,72 @@
+package com.book.together.gatherings.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 모임 × 참가자 내보내기용 페이지 조회.
+ *
+ * <p>모임 id 기준 keyset 페이지로 읽는다. 한 문장은 모임 {@code limit}개와 그 참가자만 읽고 바로 끝나므로,
+ * 내보내기가 오래 걸려도 긴 트랜잭션이나 오래 열린 read view(undo purge 지연)가 생기지 않는다. 각 문장은
+ * 트랜잭션 없이 autocommit SELECT라 잠금을 잡지 않는다(InnoDB consistent read).</p>
+ *
+ * <p>페이지마다 스냅숏이 다르므로 내보내는 동안 바뀐 모임은 읽은 시점의 값으로 나간다. 모임 단위로 페이지를
+ * 자르므로 한 모임의 참가자가 두 페이지에 나뉘지는 않는다.</p>
+ */
+@RequiredArgsConstructor
+@Repository
+public class GatheringExportRepository {
+
+    public static final String[] COLUMNS = {
+            "gathering_id", "gathering_type", "gathering_name", "gathering_location", "date_time",
+            "capacity", "participant_count", "created_by", "gathering_canceled_at",
+            "participant_id", "member_id", "company_name", "joined_at", "canceled_at", "checked_in_at"
+    };
+
+    // 모임 id를 PK 순서로 limit개 고른 뒤 참가자는 (gathering_id, ...) 인덱스로 붙임
+    private static final String SELECT_PAGE = """
+            select g.id, g.gathering_type, g.name, g.gathering_location, g.date_time,
+                   g.capacity, g.participant_count, g.created_by, g.canceled_at,
+                   p.id, p.member_id, m.company_name, p.joined_at, p.canceled_at, p.checked_in_at
+            from (
+                select id
+                from %1$s
+                where id > ? and date_time >= ? and date_time < ?
+                order by id
+                limit ?
+            ) k
+            join %1$s g on g.id = k.id
+            left join %2$s p on p.gathering_id = g.id
+            left join v1_members m on m.member_id = p.member_id
+            order by g.id, p.id
+            """;
+
+    private static final String SELECT_HOT = SELECT_PAGE.formatted("v1_gathering", "v1_gathering_participants");
+
+    private static final String SELECT_ARCHIVED =
+            SELECT_PAGE.formatted("v1_gathering_archive", "v1_gathering_participants_archive");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param archived true면 보관 테이블({@code v1_gathering_archive}, 참가자 보관 테이블)을 읽는다
+     * @param afterId  이전 페이지의 마지막 모임 id (첫 페이지는 0)
+     * @param limit    한 페이지의 모임 수
+     * @return {@link #COLUMNS} 순서의 값 배열, 모임 id 순. 비어 있으면 끝
+     */
+    public List<Object[]> page(boolean archived, LocalDateTime from, LocalDateTime to, long afterId, int limit) {
+        return jdbcTemplate.query(archived ? SELECT_ARCHIVED : SELECT_HOT,
+                (rs, rowNum) -> {
+                    Object[] row = new Object[COLUMNS.length];
+                    for (int i = 0; i < row.length; i++) {
+                        row[i] = rs.getObject(i + 1);
+                    }
+                    return row;
+                },
+                afterId, Timestamp.valueOf(from), Timestamp.valueOf(to), limit);
+    }
+}
@@ -0,0 +1,224 @@
+package com.book.together.gatherings.repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 모임 찜 (Redis)
+ *
+ * <ul>
+ *   <li>{@code favorite:member:{memberId}}: 찜한 모임 id 집합 (찜 상태의 기준)</li>
+ *   <li>{@code favorite:count}: 모임 id → 찜 수</li>
+ *   <li>{@code favorite:dirty}: MySQL 반영이 필요한 {@code memberId:gatheringId} 집합</li>
+ * </ul>
+ *
+ * <p>상태 변경, 찜 수 증감, dirty 표시를 스크립트 한 번으로 처리하므로 상태가 실제로 바뀐 경우에만 찜 수가
+ * 움직인다. 같은 쌍을 여러 번 토글해도 dirty 집합에는 한 번만 남는다.</p>
+ *
+ * <p>Redis가 비어 있을 수 있으므로(재시작, 장애 조치) 회원 집합과 찜 수 해시에는 적재 표시 {@value #LOADED}를
+ * 함께 둔다. 표시가 없으면 아직 MySQL에서 적재하지 않은 것이고, 스크립트는 아무것도 바꾸지 않고
+ * {@link #MEMBER_NOT_LOADED}/{@link #COUNTS_NOT_LOADED}를 돌려준다. 적재 스크립트는 표시가 이미 있으면
+ * 건너뛰므로, 적재와 찜 변경이 겹쳐도 적재가 더 최신 상태를 덮어쓰지 않는다.</p>
+ */
+@RequiredArgsConstructor
+@Repository
+public class GatheringFavoriteCacheRepository {
+
+    private static final String PREFIX = "favorite";
+    private static final String K_COUNT = PREFIX + ":count";
+    private static final String K_DIRTY = PREFIX + ":dirty";
+    private static final String K_FLUSH_LEASE = PREFIX + ":flush-lease";
+
+    // 적재 표시. 모임 id는 1부터라 실제 id와 겹치지 않음
+    public static final String LOADED = "0";
+
+    public static final long LIMIT_EXCEEDED = -1;
+    public static final long MEMBER_NOT_LOADED = -2;
+    public static final long COUNTS_NOT_LOADED = -3;
+
+    // 한 번에 HSET할 필드 수 (Lua unpack 한도 아래로)
+    private static final int LOAD_CHUNK = 1000;
+
+    private final StringRedisTemplate template;
+
+    // KEYS: member set, count, dirty / ARGV: gatheringId, desired(1/0), memberId, maxPerMember
+    // 반환: 변경 후 찜 수, 한도 초과 -1, 회원 집합 미적재 -2, 찜 수 미적재 -3 (적재 표시도 집합 원소라 한도에 +1)
+    private static final RedisScript<Long> SET_FAVORITE = RedisScript.of("""
+            if redis.call('SISMEMBER', KEYS[1], '0') == 0 then return -2 end
+            if redis.call('HEXISTS', KEYS[2], '0') == 0 then return -3 end
+            local member = redis.call('SISMEMBER', KEYS[1], ARGV[1])
+            if ARGV[2] == '1' then
+              if member == 0 then
+                if redis.call('SCARD', KEYS[1]) > tonumber(ARGV[4]) then return -1 end
+                redis.call('SADD', KEYS[1], ARGV[1])
+                redis.call('HINCRBY', KEYS[2], ARGV[1], 1)
+                redis.call('SADD', KEYS[3], ARGV[3] .. ':' .. ARGV[1])
+              end
+            elseif member == 1 then
+              redis.call('SREM', KEYS[1], ARGV[1])
+              if redis.call('HINCRBY', KEYS[2], ARGV[1], -1) <= 0 then
+                redis.call('HDEL', KEYS[2], ARGV[1])
+              end
+              redis.call('SADD', KEYS[3], ARGV[3] .. ':' .. ARGV[1])
+            end
+            return tonumber(redis.call('HGET', KEYS[2], ARGV[1]) or '0')
+            """, Long.class);
+
+    // KEYS: member set / ARGV: 적재 표시, 찜한 모임 id...
+    private static final RedisScript<Long> LOAD_MEMBER = RedisScript.of("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end
+            redis.call('SADD', KEYS[1], unpack(ARGV))
+            return 1
+            """, Long.class);
+
+    // KEYS: count / ARGV: 마지막 조각 여부(1/0), 모임 id, 찜 수, ...
+    // 이미 적재가 끝났으면(다른 노드가 먼저 끝냄) 아무것도 쓰지 않음 → 그 사이의 HINCRBY를 덮어쓰지 않음
+    private static final RedisScript<Long> LOAD_COUNTS = RedisScript.of("""
+            if redis.call('HEXISTS', KEYS[1], '0') == 1 then return 0 end
+            if #ARGV > 1 then
+              redis.call('HSET', KEYS[1], unpack(ARGV, 2))
+            end
+            if ARGV[1] == '1' then
+              redis.call('HSET', KEYS[1], '0', '0')
+            end
+            return 1
+            """, Long.class);
+
+    /**
+     * @return 변경 후 모임의 찜 수, 또는 {@link #LIMIT_EXCEEDED}, {@link #MEMBER_NOT_LOADED},
+     * {@link #COUNTS_NOT_LOADED}
+     */
+    public long set(Long memberId, Long gatheringId, boolean favorite, int maxPerMember) {
+        Long count = template.execute(
+                SET_FAVORITE,
+                List.of(memberKey(memberId), K_COUNT, K_DIRTY),
+                String.valueOf(gatheringId),
+                favorite ? "1" : "0",
+                String.valueOf(memberId),
+                String.valueOf(maxPerMember)
+        );
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * @return 찜한 모임 id (적재 표시 제외), 회원 집합을 아직 적재하지 않았으면 null
+     */
+    public Set<String> members(Long memberId) {
+        Set<String> ids = template.opsForSet().members(memberKey(memberId));
+        if (ids == null || !ids.remove(LOADED)) {
+            return null;
+        }
+        return ids;
+    }
+
+    /**
+     * 회원 집합을 MySQL 기준으로 채운다. 그 사이 다른 요청이 먼저 적재했으면 아무것도 하지 않는다.
+     */
+    public void loadMember(Long memberId, Collection<Long> gatheringIds) {
+        List<String> args = new ArrayList<>(gatheringIds.size() + 1);
+        args.add(LOADED);
+        for (Long id : gatheringIds) {
+            args.add(String.valueOf(id));
+        }
+        template.execute(LOAD_MEMBER, List.of(memberKey(memberId)), args.toArray());
+    }
+
+    /**
+     * @return 모임의 찜 수, 찜 수 해시를 아직 적재하지 않았으면 null
+     */
+    public Long count(Long gatheringId) {
+        List<Object> values = template.opsForHash().multiGet(K_COUNT, List.of(String.valueOf(gatheringId), LOADED));
+        if (values.get(1) == null) {
+            return null;
+        }
+        return values.get(0) == null ? 0L : Long.parseLong((String) values.get(0));
+    }
+
+    public boolean countsLoaded() {
+        return template.opsForHash().hasKey(K_COUNT, LOADED);
+    }
+
+    /**
+     * 찜 수 해시를 MySQL 집계로 채운다. 조각마다 적재 완료 여부를 확인하고, 마지막 조각에서 적재 표시를 남긴다.
+     */
+    public void loadCounts(Map<Long, Long> counts) {
+        List<String> args = new ArrayList<>(LOAD_CHUNK * 2 + 1);
+        int remaining = counts.size();
+        for (Map.Entry<Long, Long> e : counts.entrySet()) {
+            args.add(String.valueOf(e.getKey()));
+            args.add(String.valueOf(e.getValue()));
+            remaining--;
+            if (args.size() == LOAD_CHUNK * 2 && remaining > 0) {
+                args.add(0, "0");
+                template.execute(LOAD_COUNTS, List.of(K_COUNT), args.toArray());
+                args.clear();
+            }
+        }
+        args.add(0, "1");
+        template.execute(LOAD_COUNTS, List.of(K_COUNT), args.toArray());
+    }
+
+    // 여러 노드가 동시에 꺼내도 SPOP이라 같은 쌍을 나눠 갖지 않음
+    public List<String> popDirty(int count) {
+        List<String> popped = template.opsForSet().pop(K_DIRTY, count);
+        return popped == null ? List.of() : popped;
+    }
+
+    public void markDirty(Collection<String> pairs) {
+        if (!pairs.isEmpty()) {
+            template.opsForSet().add(K_DIRTY, pairs.toArray(String[]::new));
+        }
+    }
+
+    public long dirtySize() {
+        Long size = template.opsForSet().size(K_DIRTY);
+        return size == null ? 0 : size;
+    }
+
+    public boolean tryFlushLease(String owner, Duration ttl) {
+        return Boolean.TRUE.equals(template.opsForValue().setIfAbsent(K_FLUSH_LEASE, owner, ttl));
+    }
+
+    public void releaseFlushLease(String owner) {
+        if (owner.equals(template.opsForValue().get(K_FLUSH_LEASE))) {
+            template.delete(K_FLUSH_LEASE);
+        }
+    }
+
+    /**
+     * {@code memberId:gatheringId} 쌍마다 현재 찜 상태를 파이프라인 1회로 읽는다.
+     *
+     * @return 쌍마다 찜 여부, 회원 집합이 적재되지 않아 알 수 없으면 null
+     */
+    public List<Boolean> isFavorite(List<String> pairs) {
+        List<Object> results = template.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (String pair : pairs) {
+                int sep = pair.indexOf(':');
+                String key = memberKey(pair.substring(0, sep));
+                conn.sIsMember(key, LOADED);
+                conn.sIsMember(key, pair.substring(sep + 1));
+            }
+            return null;
+        });
+        List<Boolean> states = new ArrayList<>(pairs.size());
+        for (int i = 0; i < results.size(); i += 2) {
+            states.add(Boolean.TRUE.equals(results.get(i)) ? Boolean.TRUE.equals(results.get(i + 1)) : null);
+        }
+        return states;
+    }
+
+    private static String memberKey(Object memberId) {
+        return PREFIX + ":member:" + memberId;
+    }
+}
@@ -0,0 +1,89 @@
+package com.book.together.gatherings.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 찜 영속화. Redis에 쌓인 변경분(write-behind)을 주기마다 batch로 반영하고, Redis가 비었을 때 다시 채울 원본을
+ * 읽는다.
+ */
+@RequiredArgsConstructor
+@Repository
+public class GatheringFavoriteJdbcRepository {
+
+    private static final String INSERT_FAVORITE = """
+            insert ignore into v1_gathering_favorites (member_id, gathering_id, created_at)
+            values (:memberId, :gatheringId, :createdAt)
+            """;
+
+    private static final String DELETE_FAVORITE = """
+            delete from v1_gathering_favorites
+            where member_id = :memberId
+              and gathering_id = :gatheringId
+            """;
+
+    // uk_favorite_member_gathering (member_id, gathering_id) 인덱스만 읽음
+    private static final String SELECT_MEMBER_FAVORITES = """
+            select gathering_id
+            from v1_gathering_favorites
+            where member_id = :memberId
+            """;
+
+    // idx_favorite_gathering_id 인덱스 순서로 집계
+    private static final String COUNT_BY_GATHERING = """
+            select gathering_id, count(*)
+            from v1_gathering_favorites
+            group by gathering_id
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public List<Long> findGatheringIds(Long memberId) {
+        return jdbcTemplate.queryForList(SELECT_MEMBER_FAVORITES,
+                new MapSqlParameterSource("memberId", memberId), Long.class);
+    }
+
+    // 모임 id → 찜 수 (찜 0건인 모임은 빠짐)
+    public Map<Long, Long> countByGathering() {
+        Map<Long, Long> counts = new HashMap<>();
+        jdbcTemplate.query(COUNT_BY_GATHERING, rs -> {
+            counts.put(rs.getLong(1), rs.getLong(2));
+        });
+        return counts;
+    }
+
+    // 찜 상태 반영: 추가는 INSERT IGNORE, 해제는 DELETE (둘 다 멱등)
+    public void applyFavorites(List<FavoritePair> added, List<FavoritePair> removed, LocalDateTime now) {
+        if (!added.isEmpty()) {
+            Timestamp createdAt = Timestamp.valueOf(now);
+            jdbcTemplate.batchUpdate(INSERT_FAVORITE, added.stream()
+                    .map(f -> new MapSqlParameterSource()
+                            .addValue("memberId", f.memberId())
+                            .addValue("gatheringId", f.gatheringId())
+                            .addValue("createdAt", createdAt))
+                    .toArray(SqlParameterSource[]::new));
+        }
+        if (!removed.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_FAVORITE, removed.stream()
+                    .map(f -> new MapSqlParameterSource()
+                            .addValue("memberId", f.memberId())
+                            .addValue("gatheringId", f.gatheringId()))
+                    .toArray(SqlParameterSource[]::new));
+        }
+    }
+
+    public record FavoritePair(
+            Long memberId,
+            Long gatheringId
+    ) {
+
+    }
+}
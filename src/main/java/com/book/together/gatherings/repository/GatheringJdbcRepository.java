@@ -0,0 +1,120 @@
+package com.book.together.gatherings.repository;
+
+import com.book.together.gatherings.entity.GatheringLocation;
+import com.book.together.gatherings.entity.GatheringType;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 모임/참가자 대량 INSERT (JDBC batch)
+ *
+ * <p>JPA IDENTITY 전략은 엔티티마다 INSERT를 바로 실행해 배치가 되지 않으므로, 가져오기나 반복 모임 회차처럼
+ * 수백 건 단위 생성은 여기서 한다. 데이터소스 URL의 {@code rewriteBatchedStatements=true} 덕분에 배치가
+ * multi-row INSERT로 바뀌어 왕복 한 번에 가깝게 들어가고, 생성된 id도 함께 돌려받는다. 호출 측 트랜잭션(JPA와
+ * 같은 커넥션)에 참여한다. 다른 기능의 batch SQL은 각자의 {@code *JdbcRepository}에 둔다.</p>
+ */
+@RequiredArgsConstructor
+@Repository
+public class GatheringJdbcRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    private static final String INSERT_GATHERING = """
+            insert into v1_gathering
+                (gathering_type, name, date_time, registration_end, registration_closed,
+                 gathering_location, participant_count, capacity, image, created_at, created_by,
+                 canceled_at, updated_at, series_id, view_count)
+            values
+                (:type, :name, :dateTime, :registrationEnd, false,
+                 :location, :participantCount, :capacity, :image, :createdAt, :createdBy,
+                 null, null, :seriesId, 0)
+            """;
+
+    private static final String INSERT_PARTICIPANT = """
+            insert into v1_gathering_participants (gathering_id, member_id, joined_at, canceled_at)
+            values (:gatheringId, :memberId, :joinedAt, null)
+            """;
+
+    /**
+     * @return 입력 순서대로 생성된 모임 id
+     */
+    public List<Long> insertGatherings(List<NewGathering> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        SqlParameterSource[] params = new SqlParameterSource[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            NewGathering g = rows.get(i);
+            params[i] = new MapSqlParameterSource()
+                    .addValue("type", g.type().name())
+                    .addValue("name", g.name())
+                    .addValue("dateTime", timestamp(g.dateTime()))
+                    .addValue("registrationEnd", timestamp(g.registrationEnd()))
+                    .addValue("location", g.location().name())
+                    .addValue("participantCount", g.participantCount())
+                    .addValue("capacity", g.capacity())
+                    .addValue("image", g.image())
+                    .addValue("createdAt", timestamp(g.createdAt()))
+                    .addValue("createdBy", g.createdBy())
+                    .addValue("seriesId", g.seriesId());
+        }
+
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(INSERT_GATHERING, params, keys, new String[]{"id"});
+        return toIds(keys);
+    }
+
+    public void insertParticipants(List<Long> gatheringIds, Long memberId, LocalDateTime joinedAt) {
+        if (gatheringIds.isEmpty()) {
+            return;
+        }
+
+        SqlParameterSource[] params = new SqlParameterSource[gatheringIds.size()];
+        for (int i = 0; i < gatheringIds.size(); i++) {
+            params[i] = new MapSqlParameterSource()
+                    .addValue("gatheringId", gatheringIds.get(i))
+                    .addValue("memberId", memberId)
+                    .addValue("joinedAt", timestamp(joinedAt));
+        }
+        jdbcTemplate.batchUpdate(INSERT_PARTICIPANT, params);
+    }
+
+    private static List<Long> toIds(KeyHolder keys) {
+        List<Long> ids = new ArrayList<>(keys.getKeyList().size());
+        for (Map<String, Object> key : keys.getKeyList()) {
+            ids.add(((Number) key.values().iterator().next()).longValue());
+        }
+        return ids;
+    }
+
+    private static Timestamp timestamp(LocalDateTime time) {
+        return time == null ? null : Timestamp.valueOf(time);
+    }
+
+    public record NewGathering(
+            GatheringType type,
+            String name,
+            LocalDateTime dateTime,
+            LocalDateTime registrationEnd,
+            GatheringLocation location,
+            int participantCount,
+            int capacity,
+            String image,
+            LocalDateTime createdAt,
+            Long createdBy,
+            Long seriesId
+    ) {
+
+    }
+}
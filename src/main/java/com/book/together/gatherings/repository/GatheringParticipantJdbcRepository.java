@@ -0,0 +1,62 @@
+package com.book.together.gatherings.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 체크인 시각 배치 기록. 버퍼에 모인 체크인을 주기마다 한 번의 batch UPDATE로 반영한다.
+ */
+@RequiredArgsConstructor
+@Repository
+public class GatheringParticipantJdbcRepository {
+
+    // 취소됐거나 이미 기록된 참가자는 건너뜀 → 같은 체크인을 여러 번 기록해도 첫 시각 유지
+    private static final String MARK_CHECKED_IN = """
+            update v1_gathering_participants
+            set checked_in_at = :checkedInAt
+            where id = :participantId
+              and gathering_id = :gatheringId
+              and canceled_at is null
+              and checked_in_at is null
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * @return 실제로 기록된 행 수
+     */
+    public int markCheckedIn(List<CheckIn> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        SqlParameterSource[] params = new SqlParameterSource[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            CheckIn c = rows.get(i);
+            params[i] = new MapSqlParameterSource()
+                    .addValue("participantId", c.participantId())
+                    .addValue("gatheringId", c.gatheringId())
+                    .addValue("checkedInAt", Timestamp.valueOf(c.checkedInAt()));
+        }
+
+        int updated = 0;
+        for (int n : jdbcTemplate.batchUpdate(MARK_CHECKED_IN, params)) {
+            updated += Math.max(n, 0);
+        }
+        return updated;
+    }
+
+    public record CheckIn(
+            Long gatheringId,
+            Long participantId,
+            LocalDateTime checkedInAt
+    ) {
+
+    }
+}
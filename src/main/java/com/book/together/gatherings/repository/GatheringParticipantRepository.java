@@ -1,8 +1,13 @@
 package com.book.together.gatherings.repository;
 
 import com.book.together.gatherings.entity.GatheringParticipant;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface GatheringParticipantRepository
 extends JpaRepository<GatheringParticipant, Long> {
@@ -14,4 +19,35 @@ extends JpaRepository<GatheringParticipant, Long> {
             Long memberId
     );
 
+    @Query("""
+            select p.memberId from GatheringParticipant p
+            where p.gathering.id = :gatheringId
+              and p.canceledAt is null
+            """)
+    List<Long> findActiveMemberIds(@Param("gatheringId") Long gatheringId);
+
+    // 모임 취소와 함께 취소된 참가자 (취소 시각이 같음)
+    @Query("""
+            select p.memberId from GatheringParticipant p
+            where p.gathering.id = :gatheringId
+              and p.canceledAt = :canceledAt
+            """)
+    List<Long> findMemberIdsCanceledAt(
+            @Param("gatheringId") Long gatheringId,
+            @Param("canceledAt") LocalDateTime canceledAt
+    );
+
+    // 모임 취소 시 참가자 일괄 취소: 참가자 수와 무관하게 UPDATE 1회
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update GatheringParticipant p
+            set p.canceledAt = :now
+            where p.gathering.id = :gatheringId
+              and p.canceledAt is null
+            """)
+    int cancelAllByGatheringId(
+            @Param("gatheringId") Long gatheringId,
+            @Param("now") LocalDateTime now
+    );
+
 }
@@ -0,0 +1,122 @@
+package com.book.together.gatherings.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * "지금 인기 있는 모임" 랭킹 (Redis Sorted Set)
+ *
+ * <p>시간 감쇠는 점수를 다시 쓰지 않고 가중치 쪽에서 처리한다. 참여 1건의 가중치를
+ * {@code 2^((now - epoch) / halfLife)}로 키워서 더하면, 상대 순위는 매 시점 감쇠시킨 것과 같다.
+ * 가중치가 너무 커지기 전에 {@link #rebase}로 전체 점수를 한 번에 줄이고 epoch를 옮긴다.</p>
+ */
+@RequiredArgsConstructor
+@Repository
+public class GatheringRankingRepository {
+
+    private final StringRedisTemplate template;
+
+    private static final String PREFIX = "gathering:popular";
+
+    private static final String K_SCORE = PREFIX + ":score";   // gatheringId → 감쇠 점수
+    private static final String K_EXPIRE = PREFIX + ":expire"; // gatheringId → 모임 시각(epoch sec)
+    private static final String K_LAST = PREFIX + ":last";     // gatheringId → 마지막 참여(epoch ms)
+    private static final String K_EPOCH = PREFIX + ":epoch";   // 감쇠 기준 시각(epoch ms)
+
+    // KEYS: score, expire, last, epoch / ARGV: nowMs, halfLifeMs, baseWeight, gatheringId, expireAtSec
+    private static final RedisScript<String> INCREMENT = RedisScript.of("""
+            local epoch = redis.call('GET', KEYS[4])
+            if not epoch then
+              epoch = ARGV[1]
+              redis.call('SET', KEYS[4], epoch)
+            end
+            local w = math.pow(2, (tonumber(ARGV[1]) - tonumber(epoch)) / tonumber(ARGV[2])) * tonumber(ARGV[3])
+            redis.call('ZINCRBY', KEYS[1], w, ARGV[4])
+            redis.call('ZADD', KEYS[2], ARGV[5], ARGV[4])
+            redis.call('ZADD', KEYS[3], ARGV[1], ARGV[4])
+            return tostring(w)
+            """, String.class);
+
+    // KEYS: score, epoch / ARGV: nowMs, halfLifeMs, maxHalfLives
+    private static final RedisScript<Long> REBASE = RedisScript.of("""
+            local epoch = redis.call('GET', KEYS[2])
+            if not epoch then return 0 end
+            local halves = (tonumber(ARGV[1]) - tonumber(epoch)) / tonumber(ARGV[2])
+            if halves < tonumber(ARGV[3]) then return 0 end
+            redis.call('ZUNIONSTORE', KEYS[1], 1, KEYS[1], 'WEIGHTS', tostring(math.pow(2, -halves)))
+            redis.call('SET', KEYS[2], ARGV[1])
+            return 1
+            """, Long.class);
+
+    public void increment(Long gatheringId, double baseWeight, long expireAtSec, long nowMs,
+            long halfLifeMs) {
+        template.execute(
+                INCREMENT,
+                List.of(K_SCORE, K_EXPIRE, K_LAST, K_EPOCH),
+                String.valueOf(nowMs),
+                String.valueOf(halfLifeMs),
+                String.valueOf(baseWeight),
+                String.valueOf(gatheringId),
+                String.valueOf(expireAtSec)
+        );
+    }
+
+    // ZREVRANGE 0..k-1 → O(log N + K)
+    public List<TypedTuple<String>> top(int k) {
+        Set<TypedTuple<String>> tuples = template.opsForZSet().reverseRangeWithScores(K_SCORE, 0, k - 1);
+        return tuples == null ? List.of() : new ArrayList<>(tuples);
+    }
+
+    public void remove(Long gatheringId) {
+        String member = String.valueOf(gatheringId);
+        template.opsForZSet().remove(K_SCORE, member);
+        template.opsForZSet().remove(K_EXPIRE, member);
+        template.opsForZSet().remove(K_LAST, member);
+    }
+
+    /**
+     * 이미 지난 모임, window 동안 참여가 없던 모임을 랭킹에서 제거한다.
+     *
+     * @return 제거한 모임 수
+     */
+    public int prune(long nowSec, long windowStartMs) {
+        Set<String> expired = template.opsForZSet()
+                .rangeByScore(K_EXPIRE, Double.NEGATIVE_INFINITY, nowSec);
+        Set<String> idle = template.opsForZSet()
+                .rangeByScore(K_LAST, Double.NEGATIVE_INFINITY, windowStartMs);
+
+        List<String> targets = new ArrayList<>();
+        if (expired != null) {
+            targets.addAll(expired);
+        }
+        if (idle != null) {
+            targets.addAll(idle);
+        }
+        if (targets.isEmpty()) {
+            return 0;
+        }
+
+        Object[] members = targets.stream().distinct().toArray();
+        template.opsForZSet().remove(K_SCORE, members);
+        template.opsForZSet().remove(K_EXPIRE, members);
+        template.opsForZSet().remove(K_LAST, members);
+        return members.length;
+    }
+
+    public boolean rebase(long nowMs, long halfLifeMs, int maxHalfLives) {
+        Long rebased = template.execute(
+                REBASE,
+                List.of(K_SCORE, K_EPOCH),
+                String.valueOf(nowMs),
+                String.valueOf(halfLifeMs),
+                String.valueOf(maxHalfLives)
+        );
+        return rebased != null && rebased == 1L;
+    }
+}
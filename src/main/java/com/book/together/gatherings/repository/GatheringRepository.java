@@ -2,8 +2,20 @@ package com.book.together.gatherings.repository;
 
 import com.book.together.gatherings.entity.Gathering;
 import com.book.together.gatherings.entity.GatheringLocation;
+import com.book.together.gatherings.entity.GatheringType;
+import jakarta.persistence.LockModeType;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface GatheringRepository extends JpaRepository<Gathering,Long> {
 
@@ -11,4 +23,128 @@ public interface GatheringRepository extends JpaRepository<Gathering,Long> {
             GatheringLocation gatheringLocation,
             LocalDateTime dateTime
     );
+
+    List<Gathering> findAllByCanceledAtIsNullAndDateTimeAfter(LocalDateTime now);
+
+    // [from, to) 구간의 취소되지 않은 모임 (점유 현황 그리드에 새로 들어오는 날짜 적재)
+    List<Gathering> findAllByCanceledAtIsNullAndDateTimeGreaterThanEqualAndDateTimeLessThan(
+            LocalDateTime from, LocalDateTime to);
+
+    // 참여/참여 취소/모임 취소용 행 잠금 (SELECT ... FOR UPDATE): 세 작업이 같은 모임에서 직렬화되어
+    // 취소 커밋 전에 읽은 행으로 참여가 진행되거나, 취소 이후 참가자가 새로 생기는 일이 없음
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select g from Gathering g where g.id = :id")
+    Optional<Gathering> findByIdForUpdate(@Param("id") Long id);
+
+    // 여러 회차의 중복 검사를 한 번에: 이미 모임이 있는 시각만 반환
+    @Query("""
+            select g.dateTime from Gathering g
+            where g.gatheringLocation = :location
+              and g.canceledAt is null
+              and g.dateTime in :dateTimes
+            """)
+    List<LocalDateTime> findTakenDateTimes(
+            @Param("location") GatheringLocation location,
+            @Param("dateTimes") Collection<LocalDateTime> dateTimes
+    );
+
+    // 대량 등록 중복 검사: 장소 IN × 시각 IN 후보를 한 번에 조회 (정확한 (장소, 시각) 쌍 비교는 호출 측)
+    @Query("""
+            select g.gatheringLocation as location, g.dateTime as dateTime from Gathering g
+            where g.canceledAt is null
+              and g.gatheringLocation in :locations
+              and g.dateTime in :dateTimes
+            """)
+    List<TakenSlot> findTakenSlots(
+            @Param("locations") Collection<GatheringLocation> locations,
+            @Param("dateTimes") Collection<LocalDateTime> dateTimes
+    );
+
+    // Slice 반환 → size+1 조회로 hasNext 판단, COUNT 쿼리 없음
+    @Query("""
+            select g from Gathering g
+            where g.canceledAt is null
+              and g.dateTime > :now
+              and (:type is null or g.gatheringType = :type)
+              and (:location is null or g.gatheringLocation = :location)
+            order by g.dateTime asc, g.id asc
+            """)
+    Slice<Gathering> findOpenGatherings(
+            @Param("now") LocalDateTime now,
+            @Param("type") GatheringType type,
+            @Param("location") GatheringLocation location,
+            Pageable pageable
+    );
+
+    @Query("""
+            select count(g) from Gathering g
+            where g.canceledAt is null
+              and g.dateTime > :now
+              and (:type is null or g.gatheringType = :type)
+              and (:location is null or g.gatheringLocation = :location)
+            """)
+    long countOpenGatherings(
+            @Param("now") LocalDateTime now,
+            @Param("type") GatheringType type,
+            @Param("location") GatheringLocation location
+    );
+
+    @Query("""
+            select g from GatheringParticipant p
+            join p.gathering g
+            where p.memberId = :memberId
+              and p.canceledAt is null
+            order by g.dateTime desc, g.id desc
+            """)
+    Slice<Gathering> findJoinedGatherings(
+            @Param("memberId") Long memberId,
+            Pageable pageable
+    );
+
+    // 아직 보관되지 않은 지난 참여 이력: (dateTime, id) 커서 기준 내림차순
+    @Query("""
+            select g from GatheringParticipant p
+            join p.gathering g
+            where p.memberId = :memberId
+              and p.canceledAt is null
+              and g.dateTime <= :now
+              and (g.dateTime < :before or (g.dateTime = :before and g.id < :beforeId))
+            order by g.dateTime desc, g.id desc
+            """)
+    List<Gathering> findPastJoinedGatherings(
+            @Param("memberId") Long memberId,
+            @Param("now") LocalDateTime now,
+            @Param("before") LocalDateTime before,
+            @Param("beforeId") Long beforeId,
+            Pageable pageable
+    );
+
+    // 모집 마감 타이머용: 이미 닫혔거나 취소된 모임은 건드리지 않음 → 여러 노드가 동시에 실행해도 1건만 갱신
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update Gathering g
+            set g.registrationClosed = true, g.updatedAt = :now
+            where g.id = :id
+              and g.canceledAt is null
+              and g.registrationClosed = false
+            """)
+    int closeRegistration(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // 모임 취소: 이미 취소된 모임이면 0 → 동시 취소 요청 중 하나만 성공
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update Gathering g
+            set g.canceledAt = :now, g.updatedAt = :now
+            where g.id = :id
+              and g.canceledAt is null
+            """)
+    int cancel(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    interface TakenSlot {
+
+        GatheringLocation getLocation();
+
+        LocalDateTime getDateTime();
+    }
 }
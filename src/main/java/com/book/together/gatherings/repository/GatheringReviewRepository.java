@@ -0,0 +1,26 @@
+package com.book.together.gatherings.repository;
+
+import com.book.together.gatherings.entity.GatheringReview;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface GatheringReviewRepository extends JpaRepository<GatheringReview, Long> {
+
+    boolean existsByGatheringIdAndMemberId(Long gatheringId, Long memberId);
+
+    // (gathering_id, id) 인덱스 역순 스캔
+    @Query("""
+            select r from GatheringReview r
+            where r.gatheringId = :gatheringId
+              and r.id < :beforeId
+            order by r.id desc
+            """)
+    List<GatheringReview> findPage(
+            @Param("gatheringId") Long gatheringId,
+            @Param("beforeId") Long beforeId,
+            Pageable pageable
+    );
+}
@@ -0,0 +1,66 @@
+package com.book.together.gatherings.repository;
+
+import com.book.together.gatherings.cache.GatheringRollupBuffer;
+import com.book.together.gatherings.cache.GatheringRollupBuffer.Cell;
+import java.sql.Timestamp;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 수요 롤업 증분 반영. 노드마다 버퍼에 모은 셀을 같은 행에 더한다.
+ */
+@RequiredArgsConstructor
+@Repository
+public class GatheringRollupJdbcRepository {
+
+    // 여러 노드의 증가분이 같은 행에 더해짐
+    private static final String ADD_ROLLUP = """
+            insert into v1_gathering_rollups
+                (granularity, bucket_start, gathering_type, location, hour_of_day,
+                 created, capacity, joined, left_count, seats,
+                 filled, time_to_full_sec, canceled, canceled_capacity)
+            values
+                (:granularity, :bucketStart, :type, :location, :hourOfDay,
+                 :created, :capacity, :joined, :leftCount, :seats,
+                 :filled, :timeToFullSec, :canceled, :canceledCapacity)
+            on duplicate key update
+                created = created + values(created),
+                capacity = capacity + values(capacity),
+                joined = joined + values(joined),
+                left_count = left_count + values(left_count),
+                seats = seats + values(seats),
+                filled = filled + values(filled),
+                time_to_full_sec = time_to_full_sec + values(time_to_full_sec),
+                canceled = canceled + values(canceled),
+                canceled_capacity = canceled_capacity + values(canceled_capacity)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public void addRollups(List<Cell> cells) {
+        if (cells.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(ADD_ROLLUP, cells.stream()
+                .map(c -> new MapSqlParameterSource()
+                        .addValue("granularity", c.granularity().name())
+                        .addValue("bucketStart", Timestamp.valueOf(c.bucketStart()))
+                        .addValue("type", c.type().name())
+                        .addValue("location", c.location().name())
+                        .addValue("hourOfDay", c.hourOfDay())
+                        .addValue("created", c.values()[GatheringRollupBuffer.CREATED])
+                        .addValue("capacity", c.values()[GatheringRollupBuffer.CAPACITY])
+                        .addValue("joined", c.values()[GatheringRollupBuffer.JOINED])
+                        .addValue("leftCount", c.values()[GatheringRollupBuffer.LEFT])
+                        .addValue("seats", c.values()[GatheringRollupBuffer.SEATS])
+                        .addValue("filled", c.values()[GatheringRollupBuffer.FILLED])
+                        .addValue("timeToFullSec", c.values()[GatheringRollupBuffer.TIME_TO_FULL_SEC])
+                        .addValue("canceled", c.values()[GatheringRollupBuffer.CANCELED])
+                        .addValue("canceledCapacity", c.values()[GatheringRollupBuffer.CANCELED_CAPACITY]))
+                .toArray(SqlParameterSource[]::new));
+    }
+}
@@ -0,0 +1,93 @@
+package com.book.together.gatherings.repository;
+
+import com.book.together.gatherings.entity.GatheringLocation;
+import com.book.together.gatherings.entity.GatheringRollup;
+import com.book.together.gatherings.entity.GatheringType;
+import com.book.together.gatherings.entity.RollupGranularity;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * 수요 집계 조회. 유니크 키 (granularity, bucket_start, ...) 앞부분으로 구간만 읽고, 결과는 최대
+ * 유형 × 장소 × 24행(차원별) 또는 버킷 수만큼이다.
+ */
+public interface GatheringRollupRepository extends JpaRepository<GatheringRollup, Long> {
+
+    @Query("""
+            select r.gatheringType as type, r.location as location, r.hourOfDay as hourOfDay,
+                   sum(r.created) as created, sum(r.capacity) as capacity, sum(r.joined) as joined,
+                   sum(r.leftCount) as leftCount, sum(r.seats) as seats, sum(r.filled) as filled,
+                   sum(r.timeToFullSec) as timeToFullSec, sum(r.canceled) as canceled,
+                   sum(r.canceledCapacity) as canceledCapacity
+            from GatheringRollup r
+            where r.granularity = :granularity
+              and r.bucketStart >= :from
+              and r.bucketStart < :to
+              and (:type is null or r.gatheringType = :type)
+              and (:location is null or r.location = :location)
+            group by r.gatheringType, r.location, r.hourOfDay
+            """)
+    List<Sums> sumByDimensions(
+            @Param("granularity") RollupGranularity granularity,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("type") GatheringType type,
+            @Param("location") GatheringLocation location
+    );
+
+    @Query("""
+            select r.bucketStart as bucketStart,
+                   sum(r.created) as created, sum(r.capacity) as capacity, sum(r.joined) as joined,
+                   sum(r.leftCount) as leftCount, sum(r.seats) as seats, sum(r.filled) as filled,
+                   sum(r.timeToFullSec) as timeToFullSec, sum(r.canceled) as canceled,
+                   sum(r.canceledCapacity) as canceledCapacity
+            from GatheringRollup r
+            where r.granularity = :granularity
+              and r.bucketStart >= :from
+              and r.bucketStart < :to
+              and (:type is null or r.gatheringType = :type)
+              and (:location is null or r.location = :location)
+            group by r.bucketStart
+            order by r.bucketStart
+            """)
+    List<Sums> sumByBucket(
+            @Param("granularity") RollupGranularity granularity,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("type") GatheringType type,
+            @Param("location") GatheringLocation location
+    );
+
+    // 차원 값은 조회한 쿼리에 해당하는 것만 채워짐
+    interface Sums {
+
+        GatheringType getType();
+
+        GatheringLocation getLocation();
+
+        Integer getHourOfDay();
+
+        LocalDateTime getBucketStart();
+
+        long getCreated();
+
+        long getCapacity();
+
+        long getJoined();
+
+        long getLeftCount();
+
+        long getSeats();
+
+        long getFilled();
+
+        long getTimeToFullSec();
+
+        long getCanceled();
+
+        long getCanceledCapacity();
+    }
+}
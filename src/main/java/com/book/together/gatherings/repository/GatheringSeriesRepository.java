@@ -0,0 +1,20 @@
+package com.book.together.gatherings.repository;
+
+import com.book.together.gatherings.entity.GatheringSeries;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface GatheringSeriesRepository extends JpaRepository<GatheringSeries, Long> {
+
+    // 생성 범위를 이어서 늘려야 하는 시리즈 id
+    @Query("""
+            select s.id from GatheringSeries s
+            where s.canceledAt is null
+              and s.generatedUntil < :horizon
+            order by s.id
+            """)
+    List<Long> findIdsToExtend(@Param("horizon") LocalDateTime horizon);
+}
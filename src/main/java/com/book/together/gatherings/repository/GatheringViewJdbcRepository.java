@@ -0,0 +1,35 @@
+package com.book.together.gatherings.repository;
+
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 조회수 누적. 노드 메모리에 모인 증가분을 주기마다 모임당 UPDATE 1건으로 더한다.
+ */
+@RequiredArgsConstructor
+@Repository
+public class GatheringViewJdbcRepository {
+
+    private static final String ADD_VIEWS = """
+            update v1_gathering
+            set view_count = view_count + :delta
+            where id = :id
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public void addViews(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(ADD_VIEWS, deltas.entrySet().stream()
+                .map(e -> new MapSqlParameterSource()
+                        .addValue("id", e.getKey())
+                        .addValue("delta", e.getValue()))
+                .toArray(SqlParameterSource[]::new));
+    }
+}
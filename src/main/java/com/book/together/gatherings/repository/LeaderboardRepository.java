@@ -0,0 +1,173 @@
+package com.book.together.gatherings.repository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 참여 리더보드 (Redis sorted set)
+ *
+ * <ul>
+ *   <li>{@code leaderboard:company:{period}}: 회사명 → 참여 수</li>
+ *   <li>{@code leaderboard:member:{period}:{company}}: 회사 안의 회원 id → 참여 수</li>
+ *   <li>{@code leaderboard:dirty}: MySQL 스냅샷이 필요한 {@code board␟entry} 집합</li>
+ * </ul>
+ *
+ * <p>{@code period}는 {@code ALL} 또는 모임 시각 기준 ISO 주차({@code 2026-W42})다. 증감, dirty 표시, 재전달
+ * 중복 제거를 스크립트 한 번으로 처리하고, 0 이하가 된 항목은 집합에서 뺀다.</p>
+ */
+@RequiredArgsConstructor
+@Repository
+public class LeaderboardRepository {
+
+    public static final String SEPARATOR = "\u001f";
+
+    private static final String PREFIX = "leaderboard:";
+    private static final String K_DIRTY = PREFIX + "dirty";
+    private static final String LEASE_PREFIX = PREFIX + "lease:";
+    private static final String APPLIED_PREFIX = PREFIX + "applied:";
+
+    private final StringRedisTemplate template;
+
+    // KEYS: dedupe, dirty, board 4개 (회사 전체/주간, 회원 전체/주간)
+    // ARGV: dedupe ttl(0이면 검사 안 함), delta, 회사명, 회원 id, 주간 보드 만료 시각(epoch 초), board 이름 4개, 구분자
+    private static final RedisScript<Long> APPLY = RedisScript.of("""
+            if ARGV[1] ~= '0' and not redis.call('SET', KEYS[1], '1', 'NX', 'EX', ARGV[1]) then
+              return 0
+            end
+            for i = 3, 6 do
+              local entry = (i <= 4) and ARGV[3] or ARGV[4]
+              if redis.call('ZINCRBY', KEYS[i], ARGV[2], entry) + 0 <= 0 then
+                redis.call('ZREM', KEYS[i], entry)
+              end
+              if i == 4 or i == 6 then
+                redis.call('EXPIREAT', KEYS[i], ARGV[5])
+              end
+              redis.call('SADD', KEYS[2], ARGV[i + 3] .. ARGV[10] .. entry)
+            end
+            return 1
+            """, Long.class);
+
+    public static String companyBoard(String period) {
+        return "company:" + period;
+    }
+
+    public static String memberBoard(String period, String company) {
+        return "member:" + period + ":" + company;
+    }
+
+    /**
+     * 참여 1건(delta=1) 또는 취소 1건(delta=-1)을 전체/주간 보드에 반영한다.
+     *
+     * @param dedupeKey      같은 키로는 한 번만 반영 (null이면 검사 안 함)
+     * @param weeklyExpireAt 주간 보드 만료 시각. 반영 시점이 아니라 그 주 기준이라 먼 미래 모임의 주간 보드도
+     *                       그 주가 오기 전에 사라지지 않는다
+     * @return 반영했으면 true, 이미 반영된 이벤트면 false
+     */
+    public boolean apply(String dedupeKey, Duration dedupeTtl, int delta, String company, Long memberId,
+            String week, Instant weeklyExpireAt) {
+        List<String> boards = List.of(
+                companyBoard("ALL"), companyBoard(week),
+                memberBoard("ALL", company), memberBoard(week, company));
+
+        List<String> keys = new ArrayList<>(6);
+        keys.add(dedupeKey == null ? APPLIED_PREFIX + "none" : APPLIED_PREFIX + dedupeKey);
+        keys.add(K_DIRTY);
+        boards.forEach(b -> keys.add(PREFIX + b));
+
+        Long applied = template.execute(APPLY, keys,
+                dedupeKey == null ? "0" : String.valueOf(dedupeTtl.toSeconds()),
+                String.valueOf(delta),
+                company,
+                String.valueOf(memberId),
+                String.valueOf(weeklyExpireAt.getEpochSecond()),
+                boards.get(0), boards.get(1), boards.get(2), boards.get(3),
+                SEPARATOR);
+        return applied != null && applied == 1L;
+    }
+
+    public Set<TypedTuple<String>> top(String board, int k) {
+        return template.opsForZSet().reverseRangeWithScores(PREFIX + board, 0, k - 1);
+    }
+
+    public Set<TypedTuple<String>> range(String board, long start, long end) {
+        return template.opsForZSet().rangeWithScores(PREFIX + board, start, end);
+    }
+
+    /**
+     * ZREVRANK + ZSCORE를 한 번에. 둘 다 O(log N).
+     *
+     * @return [0부터 시작하는 순위, 점수], 보드에 없으면 null
+     */
+    public long[] rank(String board, String entry) {
+        List<Object> results = template.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            conn.zRevRank(PREFIX + board, entry);
+            conn.zScore(PREFIX + board, entry);
+            return null;
+        });
+        if (results.get(0) == null || results.get(1) == null) {
+            return null;
+        }
+        return new long[]{(Long) results.get(0), ((Double) results.get(1)).longValue()};
+    }
+
+    /**
+     * {@code board␟entry} 쌍마다 현재 점수를 파이프라인 1회로 읽는다. 보드에 없으면 null.
+     */
+    public List<Double> scores(List<String> dirtyEntries) {
+        List<Object> results = template.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (String dirty : dirtyEntries) {
+                int sep = dirty.indexOf(SEPARATOR);
+                conn.zScore(PREFIX + dirty.substring(0, sep), dirty.substring(sep + 1));
+            }
+            return null;
+        });
+        return results.stream().map(r -> (Double) r).toList();
+    }
+
+    // 여러 노드가 동시에 꺼내도 SPOP이라 같은 항목을 나눠 갖지 않음
+    public List<String> popDirty(int count) {
+        List<String> popped = template.opsForSet().pop(K_DIRTY, count);
+        return popped == null ? List.of() : popped;
+    }
+
+    public void markDirty(List<String> dirtyEntries) {
+        if (!dirtyEntries.isEmpty()) {
+            template.opsForSet().add(K_DIRTY, dirtyEntries.toArray(String[]::new));
+        }
+    }
+
+    public boolean exists(String board) {
+        return Boolean.TRUE.equals(template.hasKey(PREFIX + board));
+    }
+
+    // expireAt이 null이면 만료 없음 (ALL 보드)
+    public void add(String board, List<TypedTuple<String>> entries, Instant expireAt) {
+        template.opsForZSet().add(PREFIX + board, Set.copyOf(entries));
+        if (expireAt != null) {
+            template.expireAt(PREFIX + board, expireAt);
+        }
+    }
+
+    // name: snapshot / restore
+    public boolean tryLease(String name, String owner, Duration ttl) {
+        return Boolean.TRUE.equals(template.opsForValue().setIfAbsent(LEASE_PREFIX + name, owner, ttl));
+    }
+
+    public void releaseLease(String name, String owner) {
+        if (owner.equals(template.opsForValue().get(LEASE_PREFIX + name))) {
+            template.delete(LEASE_PREFIX + name);
+        }
+    }
+}
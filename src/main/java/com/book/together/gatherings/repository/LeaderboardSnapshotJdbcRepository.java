@@ -0,0 +1,70 @@
+package com.book.together.gatherings.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 리더보드 스냅샷 반영. Redis 정렬 집합에서 바뀐 항목만 골라 batch로 UPSERT/DELETE한다.
+ */
+@RequiredArgsConstructor
+@Repository
+public class LeaderboardSnapshotJdbcRepository {
+
+    private static final String UPSERT_LEADERBOARD = """
+            insert into v1_leaderboard_snapshots (board, period_key, entry, score, snapshot_at)
+            values (:board, :periodKey, :entry, :score, :snapshotAt)
+            on duplicate key update score = values(score), snapshot_at = values(snapshot_at)
+            """;
+
+    private static final String DELETE_LEADERBOARD = """
+            delete from v1_leaderboard_snapshots
+            where board = :board and entry = :entry
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    // 점수가 있으면 UPSERT, 보드에서 빠졌으면 DELETE (둘 다 멱등)
+    public void applyLeaderboardSnapshots(List<LeaderboardScore> scores, LocalDateTime now) {
+        Timestamp snapshotAt = Timestamp.valueOf(now);
+        List<SqlParameterSource> upserts = new ArrayList<>();
+        List<SqlParameterSource> deletes = new ArrayList<>();
+        for (LeaderboardScore s : scores) {
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("board", s.board())
+                    .addValue("entry", s.entry());
+            if (s.score() == null) {
+                deletes.add(params);
+            } else {
+                upserts.add(params
+                        .addValue("periodKey", s.periodKey())
+                        .addValue("score", s.score())
+                        .addValue("snapshotAt", snapshotAt));
+            }
+        }
+        if (!upserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_LEADERBOARD, upserts.toArray(SqlParameterSource[]::new));
+        }
+        if (!deletes.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_LEADERBOARD, deletes.toArray(SqlParameterSource[]::new));
+        }
+    }
+
+    /**
+     * @param score null이면 보드에서 빠진 항목
+     */
+    public record LeaderboardScore(
+            String board,
+            String periodKey,
+            String entry,
+            Long score
+    ) {
+
+    }
+}
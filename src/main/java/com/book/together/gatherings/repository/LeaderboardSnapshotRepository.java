@@ -0,0 +1,27 @@
+package com.book.together.gatherings.repository;
+
+import com.book.together.gatherings.entity.LeaderboardSnapshot;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface LeaderboardSnapshotRepository extends JpaRepository<LeaderboardSnapshot, Long> {
+
+    boolean existsByPeriodKey(String periodKey);
+
+    // 복구용: (period_key, id) 인덱스를 id 커서로 읽음
+    @Query("""
+            select s from LeaderboardSnapshot s
+            where s.periodKey in :periodKeys
+              and s.id > :afterId
+            order by s.id asc
+            """)
+    List<LeaderboardSnapshot> findChunk(
+            @Param("periodKeys") Collection<String> periodKeys,
+            @Param("afterId") Long afterId,
+            Pageable pageable
+    );
+}
@@ -0,0 +1,79 @@
+package com.book.together.gatherings.repository;
+
+import com.book.together.gatherings.entity.GatheringType;
+import com.book.together.gatherings.entity.ReviewScope;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 후기 집계 증분 UPSERT. 집계 행을 다시 계산하지 않고 후기 1건의 점수만 더한다.
+ */
+@RequiredArgsConstructor
+@Repository
+public class ReviewAggregateJdbcRepository {
+
+    // 같은 키가 있으면 증가분만 더함. ON DUPLICATE KEY UPDATE는 왼쪽부터 대입하므로 avg_score는 갱신된 합/개수로 계산됨
+    private static final String ADD_REVIEW_SCORE = """
+            insert into v1_review_aggregates
+                (scope, scope_key, gathering_type, review_count, score_sum, avg_score,
+                 score1, score2, score3, score4, score5, updated_at)
+            values
+                (:scope, :scopeKey, :gatheringType, 1, :score, :score,
+                 :score1, :score2, :score3, :score4, :score5, :now)
+            on duplicate key update
+                review_count = review_count + 1,
+                score_sum = score_sum + values(score_sum),
+                avg_score = score_sum / review_count,
+                score1 = score1 + values(score1),
+                score2 = score2 + values(score2),
+                score3 = score3 + values(score3),
+                score4 = score4 + values(score4),
+                score5 = score5 + values(score5),
+                updated_at = values(updated_at)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 후기 1건의 점수를 집계 행들에 더한다. 호출 측 트랜잭션에 참여하므로 후기 INSERT와 함께 커밋/롤백된다.
+     *
+     * @implNote 행 잠금 순서를 항상 (scope, scope_key) 순으로 맞춰 동시 후기끼리 교착이 생기지 않게 한다.
+     */
+    public void addReviewScores(List<ReviewScore> rows, LocalDateTime now) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        Timestamp updatedAt = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(ADD_REVIEW_SCORE, rows.stream()
+                .sorted(Comparator.comparing(ReviewScore::scope).thenComparing(ReviewScore::scopeKey))
+                .map(r -> {
+                    MapSqlParameterSource params = new MapSqlParameterSource()
+                            .addValue("scope", r.scope().name())
+                            .addValue("scopeKey", r.scopeKey())
+                            .addValue("gatheringType", r.gatheringType() == null ? null : r.gatheringType().name())
+                            .addValue("score", r.score())
+                            .addValue("now", updatedAt);
+                    for (int s = 1; s <= 5; s++) {
+                        params.addValue("score" + s, r.score() == s ? 1 : 0);
+                    }
+                    return params;
+                })
+                .toArray(SqlParameterSource[]::new));
+    }
+
+    public record ReviewScore(
+            ReviewScope scope,
+            String scopeKey,
+            GatheringType gatheringType,
+            int score
+    ) {
+
+    }
+}
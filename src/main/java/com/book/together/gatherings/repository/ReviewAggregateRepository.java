@@ -0,0 +1,35 @@
+package com.book.together.gatherings.repository;
+
+import com.book.together.gatherings.entity.GatheringType;
+import com.book.together.gatherings.entity.ReviewAggregate;
+import com.book.together.gatherings.entity.ReviewScope;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ReviewAggregateRepository extends JpaRepository<ReviewAggregate, Long> {
+
+    Optional<ReviewAggregate> findByScopeAndScopeKey(ReviewScope scope, String scopeKey);
+
+    List<ReviewAggregate> findByScopeAndScopeKeyIn(ReviewScope scope, Collection<String> scopeKeys);
+
+    List<ReviewAggregate> findByScope(ReviewScope scope);
+
+    // (scope, gathering_type, avg_score) 인덱스 역순 스캔
+    @Query("""
+            select a from ReviewAggregate a
+            where a.scope = com.book.together.gatherings.entity.ReviewScope.GATHERING
+              and a.gatheringType = :type
+              and a.reviewCount >= :minReviews
+            order by a.avgScore desc, a.reviewCount desc
+            """)
+    List<ReviewAggregate> findTopRated(
+            @Param("type") GatheringType type,
+            @Param("minReviews") long minReviews,
+            Pageable pageable
+    );
+}
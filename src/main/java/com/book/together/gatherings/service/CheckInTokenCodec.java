@@ -0,0 +1,99 @@
+package com.book.together.gatherings.service;
+
+import com.book.together.common.jwt.JwtProvider;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import org.springframework.stereotype.Component;
+
+/**
+ * 체크인 QR 토큰 (JWT와 별개의 고정 길이 바이너리 형식)
+ *
+ * <pre>
+ * version(1) | gatheringId(8) | participantId(8) | memberId(8) | expiresAtSec(4) | tag(12)
+ * </pre>
+ *
+ * <p>tag는 앞 29바이트의 HMAC-SHA256을 96비트로 자른 값이며, 키는 {@link JwtProvider#deriveKey}로
+ * access 시크릿에서 파생한다. 전체 41바이트 → base64url 55자라서 QR 버전이 작고, 검증은 DB 조회 없이
+ * HMAC 한 번(스레드별 {@link Mac} 재사용)으로 끝난다.</p>
+ */
+@Component
+public class CheckInTokenCodec {
+
+    private static final byte VERSION = 1;
+    private static final int BODY_LENGTH = 1 + 8 + 8 + 8 + 4;
+    private static final int TAG_LENGTH = 12;
+    private static final int TOKEN_LENGTH = BODY_LENGTH + TAG_LENGTH;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final ThreadLocal<Mac> macs;
+
+    public CheckInTokenCodec(JwtProvider jwtProvider) {
+        SecretKey key = jwtProvider.deriveKey("gathering-check-in");
+        this.macs = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance("HmacSHA256");
+                mac.init(key);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    public String encode(long gatheringId, long participantId, long memberId, long expiresAtSec) {
+        ByteBuffer buf = ByteBuffer.allocate(TOKEN_LENGTH);
+        buf.put(VERSION)
+                .putLong(gatheringId)
+                .putLong(participantId)
+                .putLong(memberId)
+                .putInt((int) expiresAtSec);
+        buf.put(tag(buf.array()));
+        return ENCODER.encodeToString(buf.array());
+    }
+
+    /**
+     * @return 서명이 맞고 만료되지 않았으면 토큰 내용, 아니면 null
+     */
+    public Claims decode(String token, long nowSec) {
+        byte[] raw;
+        try {
+            raw = DECODER.decode(token);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (raw.length != TOKEN_LENGTH || raw[0] != VERSION) {
+            return null;
+        }
+
+        byte[] expected = tag(raw);
+        if (!MessageDigest.isEqual(expected, Arrays.copyOfRange(raw, BODY_LENGTH, TOKEN_LENGTH))) {
+            return null;
+        }
+
+        ByteBuffer buf = ByteBuffer.wrap(raw, 1, BODY_LENGTH - 1);
+        Claims claims = new Claims(
+                buf.getLong(),
+                buf.getLong(),
+                buf.getLong(),
+                Integer.toUnsignedLong(buf.getInt())
+        );
+        return claims.expiresAtSec() < nowSec ? null : claims;
+    }
+
+    private byte[] tag(byte[] token) {
+        Mac mac = macs.get();
+        mac.update(token, 0, BODY_LENGTH);
+        return Arrays.copyOf(mac.doFinal(), TAG_LENGTH);
+    }
+
+    public record Claims(long gatheringId, long participantId, long memberId, long expiresAtSec) {
+
+    }
+}
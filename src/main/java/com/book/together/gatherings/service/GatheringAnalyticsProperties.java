@@ -0,0 +1,19 @@
+package com.book.together.gatherings.service;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@ConfigurationProperties(prefix = "gathering.analytics")
+@Component
+public class GatheringAnalyticsProperties {
+
+    // 단위별 최대 조회 기간 (조회 행 수 상한)
+    private Duration maxMinuteRange = Duration.ofDays(1);
+
+    private Duration maxHourRange = Duration.ofDays(31);
+
+    private Duration maxDayRange = Duration.ofDays(366);
+}
@@ -0,0 +1,99 @@
+package com.book.together.gatherings.service;
+
+import com.book.together.gatherings.cache.GatheringRollupBuffer;
+import com.book.together.gatherings.dto.response.AnalyticsResponse;
+import com.book.together.gatherings.dto.response.AnalyticsRowResponse;
+import com.book.together.gatherings.entity.AnalyticsGroupBy;
+import com.book.together.gatherings.entity.GatheringLocation;
+import com.book.together.gatherings.entity.GatheringType;
+import com.book.together.gatherings.entity.RollupGranularity;
+import com.book.together.gatherings.exception.GatheringErrorCode;
+import com.book.together.gatherings.exception.GatheringException;
+import com.book.together.gatherings.repository.GatheringRollupRepository;
+import com.book.together.gatherings.repository.GatheringRollupRepository.Sums;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 모임 수요 분석 (관리자). 미리 집계된 {@code v1_gathering_rollups}만 읽고 비율은 합계에서 계산한다.
+ */
+@RequiredArgsConstructor
+@Service
+public class GatheringAnalyticsService {
+
+    private final GatheringRollupRepository rollupRepository;
+
+    private final GatheringAnalyticsProperties properties;
+
+    @Transactional(readOnly = true)
+    public AnalyticsResponse query(
+            RollupGranularity granularity,
+            LocalDateTime from,
+            LocalDateTime to,
+            AnalyticsGroupBy groupBy,
+            GatheringType type,
+            String locationValue
+    ) {
+        LocalDateTime start = granularity.truncate(from);
+        if (!to.isAfter(start) || Duration.between(start, to).compareTo(maxRange(granularity)) > 0) {
+            throw new GatheringException(GatheringErrorCode.INVALID_DATE_RANGE);
+        }
+        GatheringLocation location = locationValue == null || locationValue.isBlank()
+                ? null
+                : GatheringLocation.from(locationValue.trim());
+
+        List<AnalyticsRowResponse> rows = new ArrayList<>();
+        if (groupBy == AnalyticsGroupBy.BUCKET) {
+            for (Sums s : rollupRepository.sumByBucket(granularity, start, to, type, location)) {
+                rows.add(AnalyticsRowResponse.of(s.getBucketStart().toString(), toMetrics(s)));
+            }
+        } else {
+            // 차원 조합(최대 유형 × 장소 × 24행)을 읽어 요청한 차원으로 접음
+            Map<String, long[]> folded = new TreeMap<>();
+            for (Sums s : rollupRepository.sumByDimensions(granularity, start, to, type, location)) {
+                String key = switch (groupBy) {
+                    case TYPE -> s.getType().name();
+                    case LOCATION -> s.getLocation().name();
+                    case HOUR_OF_DAY -> String.format("%02d", s.getHourOfDay());
+                    case BUCKET -> throw new IllegalStateException();
+                };
+                long[] sum = folded.computeIfAbsent(key, k -> new long[GatheringRollupBuffer.METRICS]);
+                long[] m = toMetrics(s);
+                for (int i = 0; i < m.length; i++) {
+                    sum[i] += m[i];
+                }
+            }
+            folded.forEach((key, m) -> rows.add(AnalyticsRowResponse.of(key, m)));
+        }
+        return AnalyticsResponse.of(granularity, start, to, groupBy, rows);
+    }
+
+    private Duration maxRange(RollupGranularity granularity) {
+        return switch (granularity) {
+            case MINUTE -> properties.getMaxMinuteRange();
+            case HOUR -> properties.getMaxHourRange();
+            case DAY -> properties.getMaxDayRange();
+        };
+    }
+
+    private static long[] toMetrics(Sums s) {
+        long[] m = new long[GatheringRollupBuffer.METRICS];
+        m[GatheringRollupBuffer.CREATED] = s.getCreated();
+        m[GatheringRollupBuffer.CAPACITY] = s.getCapacity();
+        m[GatheringRollupBuffer.JOINED] = s.getJoined();
+        m[GatheringRollupBuffer.LEFT] = s.getLeftCount();
+        m[GatheringRollupBuffer.SEATS] = s.getSeats();
+        m[GatheringRollupBuffer.FILLED] = s.getFilled();
+        m[GatheringRollupBuffer.TIME_TO_FULL_SEC] = s.getTimeToFullSec();
+        m[GatheringRollupBuffer.CANCELED] = s.getCanceled();
+        m[GatheringRollupBuffer.CANCELED_CAPACITY] = s.getCanceledCapacity();
+        return m;
+    }
+}
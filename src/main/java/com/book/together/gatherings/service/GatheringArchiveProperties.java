@@ -0,0 +1,26 @@
+package com.book.together.gatherings.service;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@ConfigurationProperties(prefix = "gathering.archive")
+@Component
+public class GatheringArchiveProperties {
+
+    private boolean enabled = true;
+
+    // 모임 시각이 이 기간보다 오래되면 보관 테이블로 이동
+    private Duration archiveAfter = Duration.ofDays(7);
+
+    // 청크 1개(트랜잭션 1개)에서 옮길 모임 수
+    private int chunkSize = 200;
+
+    // 청크 사이 쉬는 시간 (운영 트래픽에 양보)
+    private Duration pauseBetweenChunks = Duration.ofMillis(200);
+
+    // 1회 실행에서 처리할 최대 청크 수 (나머지는 다음 실행)
+    private int maxChunksPerRun = 100;
+}
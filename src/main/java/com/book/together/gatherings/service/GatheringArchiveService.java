@@ -0,0 +1,182 @@
+package com.book.together.gatherings.service;
+
+import com.book.together.common.util.CurrentUserInfo;
+import com.book.together.gatherings.dto.response.GatheringHistoryResponse;
+import com.book.together.gatherings.dto.response.GatheringSummaryResponse;
+import com.book.together.gatherings.repository.GatheringArchiveRepository;
+import com.book.together.gatherings.repository.GatheringRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 지난 모임 보관(hot/cold 분리)과 이력 조회.
+ *
+ * <p>모임 시각이 {@code archive-after}보다 오래된 모임과 참가자를 청크 단위로 보관 테이블에 복사하고 원본에서
+ * 지운다. 청크마다 짧은 트랜잭션 하나(INSERT 2 + DELETE 2)만 쓰고 청크 사이에 쉬므로, 운영 테이블과 인덱스는
+ * 예정 모임 수 수준으로 유지되면서 참여 요청을 오래 막지 않는다. 청크 사이 대기가 스케줄러 스레드를 잡지 않도록
+ * 보관 작업은 전용 스레드 1개에서 실행하고, 이전 실행이 아직 돌고 있으면 이번 실행은 건너뛴다.</p>
+ *
+ * <p>이력 조회는 운영 테이블의 아직 보관되지 않은 지난 모임과 보관 테이블을 같은 (dateTime, id) 커서로
+ * 읽어 합친다.</p>
+ */
+@Slf4j(topic = "GatheringArchiveService")
+@Service
+public class GatheringArchiveService {
+
+    private static final int MAX_HISTORY_SIZE = 100;
+
+    private final GatheringRepository gatheringRepository;
+
+    private final GatheringArchiveRepository archiveRepository;
+
+    private final GatheringArchiveProperties properties;
+
+    private final TransactionTemplate chunkTransaction;
+
+    private final Counter archivedGatherings;
+
+    private final Counter archivedParticipants;
+
+    private final ThreadPoolExecutor runner;
+
+    public GatheringArchiveService(
+            GatheringRepository gatheringRepository,
+            GatheringArchiveRepository archiveRepository,
+            GatheringArchiveProperties properties,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry
+    ) {
+        this.gatheringRepository = gatheringRepository;
+        this.archiveRepository = archiveRepository;
+        this.properties = properties;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.archivedGatherings = Counter.builder("gathering.archive.gatherings")
+                .description("보관 테이블로 옮긴 모임 수")
+                .register(meterRegistry);
+        this.archivedParticipants = Counter.builder("gathering.archive.participants")
+                .description("보관 테이블로 옮긴 참가자 수")
+                .register(meterRegistry);
+        this.runner = new ThreadPoolExecutor(
+                1, 1,
+                0L, TimeUnit.MILLISECONDS,
+                new SynchronousQueue<>(),
+                r -> {
+                    Thread t = new Thread(r, "gathering-archive");
+                    t.setDaemon(true);
+                    return t;
+                }
+        );
+    }
+
+    @PreDestroy
+    void shutdown() {
+        runner.shutdownNow();
+    }
+
+    @Scheduled(cron = "${gathering.archive.cron:0 30 4 * * *}")
+    public void archive() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            runner.execute(() -> {
+                try {
+                    run();
+                } catch (RuntimeException e) {
+                    log.error("지난 모임 보관 실패", e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("이전 보관 작업이 아직 실행 중이라 이번 실행 건너뜀");
+        }
+    }
+
+    // 전용 보관 스레드에서 실행
+    private void run() {
+
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.getArchiveAfter());
+        int gatherings = 0;
+        int participants = 0;
+
+        for (int chunk = 0; chunk < properties.getMaxChunksPerRun(); chunk++) {
+            List<Long> ids = archiveRepository.findArchivableIds(cutoff, properties.getChunkSize());
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            Integer moved = chunkTransaction.execute(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                int p = archiveRepository.copyParticipants(ids);
+                archiveRepository.copyGatherings(ids, now);
+                archiveRepository.deleteParticipants(ids);
+                archiveRepository.deleteGatherings(ids);
+                return p;
+            });
+
+            gatherings += ids.size();
+            participants += moved == null ? 0 : moved;
+            archivedGatherings.increment(ids.size());
+            archivedParticipants.increment(moved == null ? 0 : moved);
+
+            if (ids.size() < properties.getChunkSize()) {
+                break;
+            }
+            try {
+                TimeUnit.MILLISECONDS.sleep(properties.getPauseBetweenChunks().toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        if (gatherings > 0) {
+            log.info("지난 모임 보관: 모임 {}건, 참가자 {}건 (cutoff={})", gatherings, participants, cutoff);
+        }
+    }
+
+    // 로그인된 사용자의 지난 참여 이력 (운영 + 보관 테이블, 커서 페이지)
+    @Transactional(readOnly = true)
+    public GatheringHistoryResponse getHistory(
+            CurrentUserInfo info,
+            LocalDateTime before,
+            Long beforeId,
+            int size
+    ) {
+        int limit = Math.min(Math.max(size, 1), MAX_HISTORY_SIZE);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime cursor = before == null || before.isAfter(now) ? now : before;
+        Long cursorId = beforeId == null ? Long.MAX_VALUE : beforeId;
+        PageRequest fetch = PageRequest.of(0, limit + 1);
+
+        List<GatheringSummaryResponse> rows = new ArrayList<>(2 * (limit + 1));
+        gatheringRepository.findPastJoinedGatherings(info.userId(), now, cursor, cursorId, fetch)
+                .forEach(g -> rows.add(GatheringSummaryResponse.from(g)));
+        archiveRepository.findHistory(info.userId(), cursor, cursorId, fetch)
+                .forEach(g -> rows.add(GatheringSummaryResponse.from(g)));
+
+        rows.sort(Comparator.comparing(GatheringSummaryResponse::dateTime)
+                .thenComparing(GatheringSummaryResponse::id)
+                .reversed());
+
+        return GatheringHistoryResponse.of(
+                rows.size() > limit + 1 ? rows.subList(0, limit + 1) : rows,
+                limit
+        );
+    }
+}
@@ -0,0 +1,42 @@
+package com.book.together.gatherings.service;
+
+import com.book.together.common.cache.TotalCountCache;
+import com.book.together.gatherings.cache.NearbyGatheringIndex;
+import com.book.together.gatherings.cache.OccupancyGrid;
+import com.book.together.gatherings.event.GatheringCanceledEvent;
+import com.book.together.gatherings.event.GatheringSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 모임 취소 커밋 이후 노드 로컬 캐시/인덱스 정리. 요청 스레드가 기다리지 않도록 비동기로 처리한다.
+ */
+@Slf4j(topic = "GatheringCanceledListener")
+@RequiredArgsConstructor
+@Component
+public class GatheringCanceledListener {
+
+    private final OccupancyGrid occupancyGrid;
+
+    private final NearbyGatheringIndex nearbyGatheringIndex;
+
+    private final PopularGatheringService popularGatheringService;
+
+    private final TotalCountCache totalCountCache;
+
+    @Async
+    @TransactionalEventListener
+    public void on(GatheringCanceledEvent event) {
+        GatheringSnapshot g = event.gathering();
+
+        occupancyGrid.remove(g.location(), g.dateTime(), g.capacity(), g.participantCount());
+        nearbyGatheringIndex.remove(g.id());
+        popularGatheringService.remove(g.id());
+        totalCountCache.evictByPrefix(GatheringService.OPEN_GATHERINGS_COUNT_KEY);
+
+        log.info("모임 취소 반영: gatheringId={}, 취소된 참가자={}명", g.id(), event.canceledParticipants());
+    }
+}
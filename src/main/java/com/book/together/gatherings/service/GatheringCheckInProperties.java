@@ -0,0 +1,21 @@
+package com.book.together.gatherings.service;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@ConfigurationProperties(prefix = "gathering.check-in")
+@Component
+public class GatheringCheckInProperties {
+
+    // 모임 시작 이 시간 전부터 체크인 가능
+    private Duration opensBefore = Duration.ofHours(1);
+
+    // 모임 시작 이 시간 후에 QR 토큰 만료
+    private Duration closesAfter = Duration.ofHours(3);
+
+    // 체크인 기록 배치 UPDATE 크기
+    private int flushBatchSize = 500;
+}
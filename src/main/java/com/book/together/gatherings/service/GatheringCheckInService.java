@@ -0,0 +1,192 @@
+package com.book.together.gatherings.service;
+
+import com.book.together.auth.entity.MemberRole;
+import com.book.together.common.util.CurrentUserInfo;
+import com.book.together.gatherings.cache.CheckInBoard;
+import com.book.together.gatherings.cache.CheckInBoard.Board;
+import com.book.together.gatherings.dto.request.CheckInRequest;
+import com.book.together.gatherings.dto.response.CheckInResponse;
+import com.book.together.gatherings.dto.response.CheckInTokenResponse;
+import com.book.together.gatherings.entity.Gathering;
+import com.book.together.gatherings.entity.GatheringParticipant;
+import com.book.together.gatherings.exception.GatheringErrorCode;
+import com.book.together.gatherings.exception.GatheringException;
+import com.book.together.gatherings.repository.GatheringParticipantJdbcRepository;
+import com.book.together.gatherings.repository.GatheringParticipantJdbcRepository.CheckIn;
+import com.book.together.gatherings.repository.GatheringParticipantRepository;
+import com.book.together.gatherings.repository.GatheringRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * QR 체크인.
+ *
+ * <p>참가자는 {@link CheckInTokenCodec} 형식의 토큰을 받아 QR로 보여 주고, 주최자(또는 관리자)가 스캔한다.
+ * 스캔 처리는 HMAC 검증 → {@link CheckInBoard} 비트 CAS → 대기열 추가뿐이라 DB 트랜잭션이 없고, 대기열은
+ * {@code flush-interval}마다 배치 UPDATE 한 번으로 {@code checked_in_at}에 기록한다.</p>
+ *
+ * @implNote 중복 스캔 판정은 노드별이다. 여러 노드로 나뉜 스캔도 UPDATE가 {@code checked_in_at is null}
+ * 조건이라 처음 시각만 남는다. 스캔 후 참여를 취소한 참가자는 기록 시 걸러진다.
+ */
+@Slf4j(topic = "GatheringCheckInService")
+@Service
+public class GatheringCheckInService {
+
+    private final GatheringRepository gatheringRepository;
+
+    private final GatheringParticipantRepository gatheringParticipantRepository;
+
+    private final GatheringParticipantJdbcRepository jdbcRepository;
+
+    private final CheckInTokenCodec tokenCodec;
+
+    private final CheckInBoard checkInBoard;
+
+    private final GatheringCheckInProperties properties;
+
+    private final TransactionTemplate flushTransaction;
+
+    private final Queue<CheckIn> pending = new ConcurrentLinkedQueue<>();
+
+    private final Counter scans;
+
+    private final Counter rejected;
+
+    public GatheringCheckInService(
+            GatheringRepository gatheringRepository,
+            GatheringParticipantRepository gatheringParticipantRepository,
+            GatheringParticipantJdbcRepository jdbcRepository,
+            CheckInTokenCodec tokenCodec,
+            CheckInBoard checkInBoard,
+            GatheringCheckInProperties properties,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry
+    ) {
+        this.gatheringRepository = gatheringRepository;
+        this.gatheringParticipantRepository = gatheringParticipantRepository;
+        this.jdbcRepository = jdbcRepository;
+        this.tokenCodec = tokenCodec;
+        this.checkInBoard = checkInBoard;
+        this.properties = properties;
+        this.flushTransaction = new TransactionTemplate(transactionManager);
+        this.scans = Counter.builder("gathering.checkin.scans")
+                .description("처리된 체크인 스캔 수")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("gathering.checkin.rejected")
+                .description("서명/만료/모임 불일치로 거절된 스캔 수")
+                .register(meterRegistry);
+    }
+
+    // 참가자 본인의 QR 토큰 발급 (만료: 모임 시작 + closes-after)
+    @Transactional(readOnly = true)
+    public CheckInTokenResponse issueToken(Long gatheringId, CurrentUserInfo info) {
+        GatheringParticipant participant = gatheringParticipantRepository
+                .findByGathering_IdAndMemberIdAndCanceledAtIsNull(gatheringId, info.userId())
+                .orElseThrow(() -> new GatheringException(GatheringErrorCode.NOT_JOINED));
+
+        Gathering gathering = participant.getGathering();
+        if (gathering.getCanceledAt() != null) {
+            throw new GatheringException(GatheringErrorCode.GATHERING_CANCELED);
+        }
+
+        LocalDateTime expiresAt = gathering.getDateTime().plus(properties.getClosesAfter());
+        String token = tokenCodec.encode(
+                gatheringId,
+                participant.getId(),
+                info.userId(),
+                expiresAt.atZone(ZoneId.systemDefault()).toEpochSecond()
+        );
+        return CheckInTokenResponse.of(token, expiresAt);
+    }
+
+    // 스캔 처리: 모임당 첫 스캔에서만 모임을 읽고, 이후에는 DB를 보지 않음
+    public CheckInResponse checkIn(Long gatheringId, CheckInRequest request, CurrentUserInfo info) {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+
+        CheckInTokenCodec.Claims claims = tokenCodec.decode(
+                request.token(), now.atZone(ZoneId.systemDefault()).toEpochSecond());
+        if (claims == null || claims.gatheringId() != gatheringId) {
+            rejected.increment();
+            throw new GatheringException(GatheringErrorCode.INVALID_CHECK_IN_TOKEN);
+        }
+
+        Board board = checkInBoard.get(gatheringId, this::loadBoard);
+
+        if (board.hostId() != info.userId() && info.memberRole() != MemberRole.ADMIN) {
+            throw new GatheringException(GatheringErrorCode.NOT_CHECK_IN_STAFF);
+        }
+        if (now.isBefore(board.dateTime().minus(properties.getOpensBefore()))) {
+            throw new GatheringException(GatheringErrorCode.CHECK_IN_NOT_OPEN);
+        }
+
+        boolean first = board.mark(claims.participantId());
+        if (first) {
+            pending.add(new CheckIn(gatheringId, claims.participantId(), now));
+        }
+        scans.increment();
+
+        return CheckInResponse.of(claims.memberId(), !first, board.checkedIn().get());
+    }
+
+    private Board loadBoard(Long gatheringId) {
+        Gathering gathering = gatheringRepository.findById(gatheringId)
+                .orElseThrow(() -> new GatheringException(GatheringErrorCode.NOT_FOUND_ID));
+        if (gathering.getCanceledAt() != null) {
+            throw new GatheringException(GatheringErrorCode.GATHERING_CANCELED);
+        }
+        return Board.of(gathering.getCreatedBy(), gathering.getDateTime());
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${gathering.check-in.flush-interval:PT1S}")
+    public void flush() {
+        List<CheckIn> batch = new ArrayList<>(properties.getFlushBatchSize());
+        CheckIn next;
+        while ((next = pending.poll()) != null) {
+            batch.add(next);
+            if (batch.size() == properties.getFlushBatchSize()) {
+                if (!write(batch)) {
+                    return;
+                }
+                batch = new ArrayList<>(properties.getFlushBatchSize());
+            }
+        }
+        write(batch);
+    }
+
+    // 실패한 배치는 다음 주기에 다시 시도 (UPDATE가 멱등)
+    private boolean write(List<CheckIn> batch) {
+        if (batch.isEmpty()) {
+            return true;
+        }
+        try {
+            Integer updated = flushTransaction.execute(status -> jdbcRepository.markCheckedIn(batch));
+            log.debug("체크인 기록: {}건 중 {}건 반영", batch.size(), updated);
+            return true;
+        } catch (DataAccessException e) {
+            log.warn("체크인 기록 실패, 다음 주기에 재시도: {}건: {}", batch.size(), e.toString());
+            pending.addAll(batch);
+            return false;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${gathering.check-in.prune-interval:PT10M}")
+    public void prune() {
+        checkInBoard.prune(LocalDateTime.now().minus(properties.getClosesAfter()));
+    }
+}
@@ -0,0 +1,30 @@
+package com.book.together.gatherings.service;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@ConfigurationProperties(prefix = "gathering.comment")
+@Component
+public class GatheringCommentProperties {
+
+    // 모임별로 메모리에 들고 있는 최신 댓글 수 (첫 페이지 크기 이상)
+    private int tailSize = 100;
+
+    // tail을 유지할 최대 모임 수 (LRU)
+    private int maxCachedGatherings = 10_000;
+
+    // 다른 노드의 댓글을 반영하기 위한 tail 재적재 주기
+    private Duration tailTtl = Duration.ofSeconds(3);
+
+    // 쓰기 대기열 크기 (가득 차면 즉시 거절)
+    private int queueCapacity = 10_000;
+
+    // 한 번에 묶어 INSERT할 최대 댓글 수
+    private int maxBatchSize = 200;
+
+    // 요청 스레드가 커밋 결과를 기다리는 최대 시간
+    private Duration writeTimeout = Duration.ofSeconds(3);
+}
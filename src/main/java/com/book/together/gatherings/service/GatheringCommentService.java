@@ -0,0 +1,106 @@
+package com.book.together.gatherings.service;
+
+import com.book.together.auth.entity.MemberRole;
+import com.book.together.common.util.CurrentUserInfo;
+import com.book.together.gatherings.cache.CommentTailCache;
+import com.book.together.gatherings.dto.request.CreateCommentRequest;
+import com.book.together.gatherings.dto.response.CommentPageResponse;
+import com.book.together.gatherings.dto.response.CommentResponse;
+import com.book.together.gatherings.entity.Gathering;
+import com.book.together.gatherings.exception.GatheringErrorCode;
+import com.book.together.gatherings.exception.GatheringException;
+import com.book.together.gatherings.repository.GatheringCommentJdbcRepository.NewComment;
+import com.book.together.gatherings.repository.GatheringCommentRepository;
+import com.book.together.gatherings.repository.GatheringParticipantRepository;
+import com.book.together.gatherings.repository.GatheringRepository;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+/**
+ * 모임 댓글: 쓰기는 {@link GatheringCommentWriter}로 묶어서 추가만 하고, 읽기는 최신순 커서로
+ * {@link CommentTailCache}를 먼저 본 뒤 부족할 때만 (gathering_id, id) 인덱스를 읽는다.
+ */
+@RequiredArgsConstructor
+@Service
+public class GatheringCommentService {
+
+    private final GatheringRepository gatheringRepository;
+
+    private final GatheringParticipantRepository gatheringParticipantRepository;
+
+    private final GatheringCommentRepository gatheringCommentRepository;
+
+    private final GatheringCommentWriter commentWriter;
+
+    private final CommentTailCache tailCache;
+
+    // 참가자(주최자 포함) 또는 관리자만 작성. 트랜잭션 없이 커밋 대기 → 대기 중 커넥션을 잡지 않음
+    public CommentResponse write(Long gatheringId, CreateCommentRequest request, CurrentUserInfo info) {
+        Gathering gathering = gatheringRepository.findById(gatheringId)
+                .orElseThrow(() -> new GatheringException(GatheringErrorCode.NOT_FOUND_ID));
+
+        if (gathering.getCanceledAt() != null) {
+            throw new GatheringException(GatheringErrorCode.GATHERING_CANCELED);
+        }
+
+        if (info.memberRole() != MemberRole.ADMIN
+                && !gatheringParticipantRepository.existsByGathering_IdAndMemberIdAndCanceledAtIsNull(
+                gatheringId, info.userId())) {
+            throw new GatheringException(GatheringErrorCode.NOT_JOINED);
+        }
+
+        return commentWriter.write(new NewComment(
+                gatheringId,
+                info.userId(),
+                request.content().strip(),
+                LocalDateTime.now().truncatedTo(ChronoUnit.MICROS)
+        ));
+    }
+
+    /**
+     * @param before 이 id보다 오래된 댓글부터 (null이면 최신부터)
+     */
+    public CommentPageResponse getComments(Long gatheringId, Long before, int size) {
+        long beforeId = before == null ? Long.MAX_VALUE : before;
+        int limit = size + 1; // hasNext 판단용 1건 더
+
+        // 첫 페이지 조회가 tail 적재/갱신을 맡고, 커서 조회는 이미 있는 tail만 활용
+        if (before == null && limit <= tailCache.getTailSize()) {
+            loadTailIfNeeded(gatheringId);
+        }
+
+        List<CommentResponse> rows = limit <= tailCache.getTailSize()
+                ? tailCache.read(gatheringId, beforeId, limit)
+                : null;
+
+        if (rows == null) {
+            rows = findPage(gatheringId, beforeId, limit);
+        }
+        return CommentPageResponse.of(rows, size);
+    }
+
+    private void loadTailIfNeeded(Long gatheringId) {
+        long nowMs = System.currentTimeMillis();
+        CommentTailCache.Tail tail = tailCache.beginLoad(gatheringId, nowMs);
+        if (tail == null) {
+            return;
+        }
+        try {
+            tail.complete(findPage(gatheringId, Long.MAX_VALUE, tailCache.getTailSize()), nowMs);
+        } catch (RuntimeException e) {
+            tailCache.abortLoad(gatheringId, tail);
+            throw e;
+        }
+    }
+
+    private List<CommentResponse> findPage(Long gatheringId, long beforeId, int limit) {
+        return gatheringCommentRepository.findPage(gatheringId, beforeId, PageRequest.of(0, limit))
+                .stream()
+                .map(CommentResponse::from)
+                .toList();
+    }
+}
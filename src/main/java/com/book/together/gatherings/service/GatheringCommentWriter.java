@@ -0,0 +1,156 @@
+package com.book.together.gatherings.service;
+
+import com.book.together.gatherings.cache.CommentTailCache;
+import com.book.together.gatherings.dto.response.CommentResponse;
+import com.book.together.gatherings.exception.GatheringErrorCode;
+import com.book.together.gatherings.exception.GatheringException;
+import com.book.together.gatherings.repository.GatheringCommentJdbcRepository;
+import com.book.together.gatherings.repository.GatheringCommentJdbcRepository.NewComment;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 댓글 group commit 기록기.
+ *
+ * <p>요청 스레드는 댓글을 대기열에 넣고 커밋 결과를 기다린다. 전용 스레드 하나가 대기열에 쌓인 댓글을 최대
+ * {@code max-batch-size}개씩 꺼내 다중 행 INSERT 한 번으로 커밋하므로, 한 모임에 댓글이 몰려도 트랜잭션과
+ * 커넥션 수는 요청 수가 아니라 배치 수에 비례한다. 한산할 때는 배치가 1건이라 지연이 늘지 않는다.</p>
+ *
+ * <p>커밋된 댓글은 응답 전에 {@link CommentTailCache}에 반영된다. 대기열이 가득 차거나 제한 시간 안에
+ * 커밋되지 않으면 {@link GatheringErrorCode#COMMENT_BUSY}로 거절한다 (시간 초과 시에는 이미 저장됐을 수 있다).</p>
+ */
+@Slf4j(topic = "GatheringCommentWriter")
+@Component
+public class GatheringCommentWriter {
+
+    private final GatheringCommentJdbcRepository jdbcRepository;
+
+    private final CommentTailCache tailCache;
+
+    private final GatheringCommentProperties properties;
+
+    private final TransactionTemplate transaction;
+
+    private final BlockingQueue<Pending> queue;
+
+    private final DistributionSummary batchSizes;
+
+    private final Thread flusher;
+
+    private volatile boolean running = true;
+
+    public GatheringCommentWriter(
+            GatheringCommentJdbcRepository jdbcRepository,
+            CommentTailCache tailCache,
+            GatheringCommentProperties properties,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry
+    ) {
+        this.jdbcRepository = jdbcRepository;
+        this.tailCache = tailCache;
+        this.properties = properties;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.batchSizes = DistributionSummary.builder("gathering.comment.batch.size")
+                .description("INSERT 1회에 묶인 댓글 수")
+                .register(meterRegistry);
+        this.flusher = new Thread(this::run, "gathering-comment-writer");
+        this.flusher.setDaemon(true);
+    }
+
+    @PostConstruct
+    void start() {
+        flusher.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        flusher.interrupt();
+    }
+
+    public CommentResponse write(NewComment comment) {
+        Pending pending = new Pending(comment, new CompletableFuture<>());
+        if (!running || !queue.offer(pending)) {
+            throw new GatheringException(GatheringErrorCode.COMMENT_BUSY);
+        }
+
+        try {
+            return pending.result().get(properties.getWriteTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new GatheringException(GatheringErrorCode.COMMENT_BUSY);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GatheringException(GatheringErrorCode.COMMENT_BUSY);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private void run() {
+        List<Pending> batch = new ArrayList<>(properties.getMaxBatchSize());
+        while (running) {
+            try {
+                Pending first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+            } catch (InterruptedException e) {
+                break;
+            }
+            // 첫 건을 기다리는 동안 쌓인 댓글을 함께 커밋
+            queue.drainTo(batch, properties.getMaxBatchSize() - 1);
+            flush(batch);
+            batch.clear();
+        }
+
+        // 종료 시 남은 댓글도 커밋해 대기 중인 요청에 결과를 돌려줌
+        while (queue.drainTo(batch, properties.getMaxBatchSize()) > 0) {
+            flush(batch);
+            batch.clear();
+        }
+    }
+
+    private void flush(List<Pending> batch) {
+        List<NewComment> rows = batch.stream().map(Pending::comment).toList();
+        try {
+            List<Long> ids = transaction.execute(status -> jdbcRepository.insertComments(rows));
+            batchSizes.record(batch.size());
+
+            for (int i = 0; i < batch.size(); i++) {
+                NewComment c = rows.get(i);
+                CommentResponse saved = new CommentResponse(
+                        ids.get(i), c.gatheringId(), c.memberId(), c.content(), c.createdAt());
+                tailCache.append(saved);
+                batch.get(i).result().complete(saved);
+            }
+        } catch (RuntimeException e) {
+            log.error("댓글 배치 저장 실패: {}건", batch.size(), e);
+            for (Pending p : batch) {
+                p.result().completeExceptionally(e);
+            }
+        }
+    }
+
+    private record Pending(NewComment comment, CompletableFuture<CommentResponse> result) {
+
+    }
+}
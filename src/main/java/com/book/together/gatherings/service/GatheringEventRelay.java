@@ -0,0 +1,170 @@
+package com.book.together.gatherings.service;
+
+import com.book.together.gatherings.entity.GatheringEventOutbox;
+import com.book.together.gatherings.event.GatheringEvent;
+import com.book.together.gatherings.event.GatheringEventType;
+import com.book.together.gatherings.repository.GatheringEventOutboxJdbcRepository;
+import com.book.together.gatherings.repository.GatheringEventOutboxRepository;
+import com.book.together.gatherings.repository.GatheringEventStreamRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 모임 도메인 이벤트 outbox 적재 + Redis Streams relay.
+ *
+ * <p>트랜잭션 안에서 발행된 이벤트를 모아 두었다가 커밋 직전에 JDBC batch 한 번으로 적재하므로
+ * 도메인 변경과 함께 커밋/롤백된다. 적재 직전에 flush해 모임 행 UPDATE(행 락)를 먼저 실행하므로,
+ * 같은 모임의 outbox id 순서는 커밋 순서와 같다.</p>
+ *
+ * <p>relay는 lease를 가진 한 노드만 돌며, 미발행 행을 id 순으로 읽어 파이프라인 XADD 후 한 번에
+ * 발행 처리한다. XADD 후 발행 처리 전에 중단되면 같은 이벤트가 다시 나갈 수 있다(at-least-once).</p>
+ */
+@Slf4j(topic = "GatheringEventRelay")
+@Component
+public class GatheringEventRelay {
+
+    private static final String RELAY_LEASE = "relay";
+
+    // 트랜잭션에 묶어 두는 미적재 이벤트 목록의 리소스 키
+    private static final Object PENDING_EVENTS = new Object();
+
+    private final GatheringEventOutboxRepository outboxRepository;
+
+    private final GatheringEventOutboxJdbcRepository jdbcRepository;
+
+    private final GatheringEventStreamRepository streamRepository;
+
+    private final GatheringEventStreamProperties properties;
+
+    private final ObjectMapper objectMapper;
+
+    private final EntityManager entityManager;
+
+    private final String owner = ManagementFactory.getRuntimeMXBean().getName();
+
+    private final AtomicLong backlog = new AtomicLong();
+
+    public GatheringEventRelay(
+            GatheringEventOutboxRepository outboxRepository,
+            GatheringEventOutboxJdbcRepository jdbcRepository,
+            GatheringEventStreamRepository streamRepository,
+            GatheringEventStreamProperties properties,
+            ObjectMapper objectMapper,
+            EntityManager entityManager,
+            MeterRegistry meterRegistry
+    ) {
+        this.outboxRepository = outboxRepository;
+        this.jdbcRepository = jdbcRepository;
+        this.streamRepository = streamRepository;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.entityManager = entityManager;
+
+        Gauge.builder("gathering.events.outbox.backlog", backlog, AtomicLong::get)
+                .description("Redis Streams로 아직 옮기지 않은 outbox 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    // 발행 트랜잭션에 이벤트를 모아 두고, 첫 이벤트에서 커밋 직전 적재를 등록
+    @SuppressWarnings("unchecked")
+    @EventListener
+    public void on(GatheringEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            log.warn("트랜잭션 밖에서 발행된 모임 이벤트는 스트림으로 내보내지 않음: {}",
+                    event.getClass().getSimpleName());
+            return;
+        }
+
+        List<GatheringEventOutbox> pending =
+                (List<GatheringEventOutbox>) TransactionSynchronizationManager.getResource(PENDING_EVENTS);
+        if (pending == null) {
+            List<GatheringEventOutbox> events = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(PENDING_EVENTS, events);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    entityManager.flush();
+                    jdbcRepository.insertEvents(events);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_EVENTS);
+                }
+            });
+            pending = events;
+        }
+
+        pending.add(GatheringEventOutbox.of(
+                event.gathering().id(),
+                GatheringEventType.of(event),
+                serialize(event)
+        ));
+    }
+
+    private String serialize(GatheringEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("모임 이벤트 직렬화 실패", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${gathering.events.relay-interval:PT0.5S}")
+    public void relay() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            if (!streamRepository.renewLease(RELAY_LEASE, owner, properties.getLeaseTtl())
+                    && !streamRepository.tryLease(RELAY_LEASE, owner, properties.getLeaseTtl())) {
+                return; // 다른 노드가 relay 중
+            }
+
+            // 밀린 이벤트가 많아 오래 도는 동안 lease가 만료되어 다른 노드와 겹치지 않도록 TTL의 1/3마다 연장
+            long renewAt = System.currentTimeMillis() + properties.getLeaseTtl().toMillis() / 3;
+            List<GatheringEventOutbox> batch;
+            do {
+                if (System.currentTimeMillis() >= renewAt) {
+                    if (!streamRepository.renewLease(RELAY_LEASE, owner, properties.getLeaseTtl())) {
+                        log.warn("모임 이벤트 relay lease를 잃어 중단");
+                        return;
+                    }
+                    renewAt = System.currentTimeMillis() + properties.getLeaseTtl().toMillis() / 3;
+                }
+                batch = outboxRepository.findUnpublished(PageRequest.of(0, properties.getRelayBatchSize()));
+                if (batch.isEmpty()) {
+                    break;
+                }
+                streamRepository.append(batch, properties.getPartitions(), properties.getStreamMaxLen());
+                outboxRepository.markPublished(
+                        batch.stream().map(GatheringEventOutbox::getId).toList(),
+                        LocalDateTime.now()
+                );
+            } while (batch.size() == properties.getRelayBatchSize());
+        } catch (DataAccessException e) {
+            log.warn("모임 이벤트 relay 실패, 다음 주기에 재시도: {}", e.toString());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${gathering.events.metrics-interval:PT10S}")
+    public void refreshBacklog() {
+        backlog.set(outboxRepository.countByPublishedAtIsNull());
+    }
+}
@@ -0,0 +1,38 @@
+package com.book.together.gatherings.service;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@ConfigurationProperties(prefix = "gathering.events")
+@Component
+public class GatheringEventStreamProperties {
+
+    private boolean enabled = true;
+
+    // 파티션 수 (gatheringId % partitions). 바꾸면 순서 보장이 깨지므로 운영 중 변경 금지
+    private int partitions = 8;
+
+    // relay 1회에 옮길 outbox 건수
+    private int relayBatchSize = 500;
+
+    // 파티션 스트림 최대 길이 (근사 trim)
+    private long streamMaxLen = 100_000;
+
+    // 파티션 1회 읽기 건수
+    private int readCount = 100;
+
+    // 읽을 것이 없을 때 쉬는 시간
+    private Duration idleBackoff = Duration.ofMillis(200);
+
+    // relay / 파티션 소유권 lease
+    private Duration leaseTtl = Duration.ofSeconds(15);
+
+    // 처리 완료 eventId 보관 기간 (중복 전달 필터)
+    private Duration processedTtl = Duration.ofDays(1);
+
+    // 이 횟수만큼 연속 실패한 이벤트는 dead-letter 스트림(gathering:events:dead:{group})에 남기고 건너뜀
+    private int maxAttempts = 10;
+}
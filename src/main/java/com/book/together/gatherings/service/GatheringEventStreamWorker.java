@@ -0,0 +1,317 @@
+package com.book.together.gatherings.service;
+
+import com.book.together.gatherings.event.GatheringEvent;
+import com.book.together.gatherings.event.GatheringEventHandler;
+import com.book.together.gatherings.event.GatheringEventType;
+import com.book.together.gatherings.repository.GatheringEventStreamRepository;
+import com.book.together.gatherings.repository.GatheringEventStreamRepository.GroupLag;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.lettuce.core.RedisCommandTimeoutException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PreDestroy;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link GatheringEventHandler}마다 전용 스레드를 띄워 Redis Streams 파티션을 소비한다.
+ *
+ * <p>파티션별 lease를 잡은 노드만 그 파티션을 읽으므로 노드를 늘리면 파티션이 나뉘어 처리량이 늘고,
+ * 같은 모임의 이벤트는 한 노드에서 순서대로 처리된다. 처리 실패 시 ack하지 않고 그 파티션의 남은 메시지도
+ * 미뤄서(순서 유지) 다음 루프에 pending부터 다시 읽는다.</p>
+ *
+ * <p>핸들러 예외(MySQL 오류 포함)는 시도 횟수에 넣어 {@code max-attempts}를 넘으면 dead-letter 스트림으로 보내고
+ * 넘어간다. Redis 연결/명령 실패만 인프라 장애로 보고 횟수 없이 lease를 반납한 뒤 다시 시도한다.</p>
+ *
+ * <p>컨슈머 lag/pending은 {@code gathering.events.consumer.lag}, {@code gathering.events.consumer.pending}
+ * 게이지(group, partition 태그)로 노출한다.</p>
+ */
+@Slf4j(topic = "GatheringEventStreamWorker")
+@Component
+public class GatheringEventStreamWorker {
+
+    private final List<GatheringEventHandler> handlers;
+
+    private final GatheringEventStreamRepository streamRepository;
+
+    private final GatheringEventStreamProperties properties;
+
+    private final ObjectMapper objectMapper;
+
+    private final String owner = ManagementFactory.getRuntimeMXBean().getName();
+
+    private final List<GroupWorker> workers = new ArrayList<>();
+
+    private volatile boolean running = true;
+
+    public GatheringEventStreamWorker(
+            List<GatheringEventHandler> handlers,
+            GatheringEventStreamRepository streamRepository,
+            GatheringEventStreamProperties properties,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        this.handlers = handlers;
+        this.streamRepository = streamRepository;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+
+        for (GatheringEventHandler handler : handlers) {
+            GroupWorker worker = new GroupWorker(handler, properties.getPartitions());
+            workers.add(worker);
+            for (int p = 0; p < properties.getPartitions(); p++) {
+                Tags tags = Tags.of("group", handler.group(), "partition", String.valueOf(p));
+                Gauge.builder("gathering.events.consumer.lag", worker.lag[p], AtomicLong::get)
+                        .description("컨슈머 그룹에 아직 전달되지 않은 이벤트 수")
+                        .tags(tags)
+                        .register(meterRegistry);
+                Gauge.builder("gathering.events.consumer.pending", worker.pending[p], AtomicLong::get)
+                        .description("전달됐지만 아직 ack되지 않은 이벤트 수")
+                        .tags(tags)
+                        .register(meterRegistry);
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        for (GroupWorker worker : workers) {
+            Thread t = new Thread(worker, "gathering-events-" + worker.handler.group());
+            t.setDaemon(true);
+            t.start();
+        }
+        log.info("모임 이벤트 컨슈머 시작: groups={}, partitions={}",
+                handlers.stream().map(GatheringEventHandler::group).toList(), properties.getPartitions());
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        for (GroupWorker worker : workers) {
+            worker.releaseAll();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${gathering.events.metrics-interval:PT10S}")
+    public void refreshLag() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            for (GroupWorker worker : workers) {
+                for (int p = 0; p < properties.getPartitions(); p++) {
+                    GroupLag lag = streamRepository.lag(p, worker.handler.group());
+                    worker.lag[p].set(lag.lag());
+                    worker.pending[p].set(lag.pending());
+                }
+            }
+        } catch (DataAccessException e) {
+            log.debug("컨슈머 lag 조회 실패: {}", e.toString());
+        }
+    }
+
+    // Redis 연결 실패, 명령 오류, 명령 타임아웃 (핸들러가 Redis를 쓰다 난 경우 포함)
+    private static boolean isRedisFailure(Exception e) {
+        return e instanceof RedisConnectionFailureException
+                || e instanceof RedisSystemException
+                || (e instanceof QueryTimeoutException && e.getCause() instanceof RedisCommandTimeoutException);
+    }
+
+    private final class GroupWorker implements Runnable {
+
+        private final GatheringEventHandler handler;
+
+        private final String group;
+
+        private final boolean[] owned;
+
+        private final boolean[] recovering; // true면 pending부터 읽음
+
+        private final long[] leaseRenewAt;
+
+        private final AtomicLong[] lag;
+
+        private final AtomicLong[] pending;
+
+        // 파티션별 연속 실패 (eventId, 횟수)
+        private final long[] failingEventId;
+
+        private final int[] failures;
+
+        private GroupWorker(GatheringEventHandler handler, int partitions) {
+            this.handler = handler;
+            this.group = handler.group();
+            this.owned = new boolean[partitions];
+            this.recovering = new boolean[partitions];
+            this.leaseRenewAt = new long[partitions];
+            this.lag = new AtomicLong[partitions];
+            this.pending = new AtomicLong[partitions];
+            this.failingEventId = new long[partitions];
+            this.failures = new int[partitions];
+            for (int p = 0; p < partitions; p++) {
+                lag[p] = new AtomicLong();
+                pending[p] = new AtomicLong();
+            }
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                boolean worked = false;
+                try {
+                    for (int p = 0; p < owned.length; p++) {
+                        if (hold(p)) {
+                            worked |= poll(p);
+                        }
+                    }
+                } catch (DataAccessException e) {
+                    log.warn("모임 이벤트 소비 실패 (group={}): {}", group, e.toString());
+                    resetOwnership();
+                }
+
+                if (!worked) {
+                    try {
+                        TimeUnit.MILLISECONDS.sleep(properties.getIdleBackoff().toMillis());
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }
+        }
+
+        // 파티션 lease 획득/연장. 새로 얻은 파티션은 pending부터 이어받음
+        private boolean hold(int p) {
+            long now = System.currentTimeMillis();
+            String lease = group + ":" + p;
+
+            if (owned[p]) {
+                if (now < leaseRenewAt[p]) {
+                    return true;
+                }
+                owned[p] = streamRepository.renewLease(lease, owner, properties.getLeaseTtl());
+            } else {
+                owned[p] = streamRepository.tryLease(lease, owner, properties.getLeaseTtl());
+                if (owned[p]) {
+                    streamRepository.ensureGroup(p, group);
+                    recovering[p] = true;
+                }
+            }
+
+            if (owned[p]) {
+                leaseRenewAt[p] = now + properties.getLeaseTtl().toMillis() / 3;
+            }
+            return owned[p];
+        }
+
+        private boolean poll(int p) {
+            List<MapRecord<String, String, String>> records = streamRepository.read(
+                    p, group, properties.getReadCount(), recovering[p]);
+
+            if (records.isEmpty()) {
+                recovering[p] = false;
+                return false;
+            }
+
+            for (MapRecord<String, String, String> record : records) {
+                if (!hold(p)) {
+                    return true; // 처리 도중 lease를 잃음 → 남은 메시지는 새 소유자가 pending부터 이어받음
+                }
+                if (!process(p, record)) {
+                    recovering[p] = true; // 남은 메시지는 다음 루프에 pending부터 순서대로
+                    return false;
+                }
+                streamRepository.ack(p, group, record.getId());
+            }
+            return true;
+        }
+
+        private boolean process(int p, MapRecord<String, String, String> record) {
+            Map<String, String> fields = record.getValue();
+            long eventId = Long.parseLong(fields.get(GatheringEventStreamRepository.F_ID));
+
+            if (streamRepository.isProcessed(group, eventId)) {
+                return true; // relay 재전송 또는 ack 전 중단으로 다시 온 이벤트
+            }
+
+            try {
+                GatheringEventType type = GatheringEventType.valueOf(
+                        fields.get(GatheringEventStreamRepository.F_TYPE));
+                GatheringEvent event = objectMapper.readValue(
+                        fields.get(GatheringEventStreamRepository.F_PAYLOAD), type.getEventClass());
+
+                handler.handle(eventId, event);
+            } catch (Exception e) {
+                if (isRedisFailure(e)) {
+                    throw (DataAccessException) e; // Redis 장애는 루프에서 처리 (시도 횟수에 넣지 않음)
+                }
+                if (failingEventId[p] != eventId) {
+                    failingEventId[p] = eventId;
+                    failures[p] = 0;
+                }
+                if (++failures[p] >= properties.getMaxAttempts()) {
+                    log.error("모임 이벤트 처리 포기 → dead-letter: group={}, eventId={}, fields={}",
+                            group, eventId, fields, e);
+                    streamRepository.deadLetter(group, fields, e.toString(), properties.getStreamMaxLen());
+                    failures[p] = 0;
+                    return true;
+                }
+                log.warn("모임 이벤트 처리 실패 ({}회): group={}, eventId={}: {}",
+                        failures[p], group, eventId, e.toString());
+                return false;
+            }
+
+            streamRepository.markProcessed(group, eventId, properties.getProcessedTtl());
+            failures[p] = 0;
+            return true;
+        }
+
+        // lease를 반납해 다른 노드가 TTL을 기다리지 않고 바로 이어받게 함.
+        // 반납이 한 번이라도 실패하면 Redis 장애로 보고 나머지는 TTL 만료에 맡김
+        private void resetOwnership() {
+            for (int p = 0; p < owned.length; p++) {
+                if (owned[p]) {
+                    owned[p] = false;
+                    try {
+                        streamRepository.releaseLease(group + ":" + p, owner);
+                    } catch (DataAccessException e) {
+                        for (int q = p + 1; q < owned.length; q++) {
+                            owned[q] = false;
+                        }
+                        return;
+                    }
+                }
+            }
+        }
+
+        private void releaseAll() {
+            for (int p = 0; p < owned.length; p++) {
+                if (owned[p]) {
+                    try {
+                        streamRepository.releaseLease(group + ":" + p, owner);
+                    } catch (DataAccessException ignored) {
+                        // 종료 중: lease는 TTL로 만료됨
+                    }
+                }
+            }
+        }
+    }
+}
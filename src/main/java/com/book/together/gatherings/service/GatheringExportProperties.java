@@ -0,0 +1,17 @@
+package com.book.together.gatherings.service;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@ConfigurationProperties(prefix = "gathering.export")
+@Component
+public class GatheringExportProperties {
+
+    // SELECT 한 문장이 읽을 모임 수 (참가자는 정원만큼 붙으므로 행 수도 이에 비례해 묶임)
+    private int pageSize = 200;
+
+    // 동시에 실행할 수 있는 내보내기 수 (각각 MVC async 스레드 1개를 끝까지 점유)
+    private int maxConcurrent = 2;
+}
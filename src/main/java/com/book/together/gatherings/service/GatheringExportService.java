@@ -0,0 +1,247 @@
+package com.book.together.gatherings.service;
+
+import com.book.together.common.util.AsyncPermit;
+import com.book.together.gatherings.entity.ExportFormat;
+import com.book.together.gatherings.exception.GatheringErrorCode;
+import com.book.together.gatherings.exception.GatheringException;
+import com.book.together.gatherings.repository.GatheringExportRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * 모임 × 참가자 내보내기 (정산용, 관리자).
+ *
+ * <p>{@link GatheringExportRepository}에서 모임 {@code page-size}개씩 keyset 페이지로 읽어 CSV/NDJSON으로 쓰고
+ * 페이지마다 내려보낸다. 한 페이지와 출력 버퍼만 힙에 있으므로 메모리는 데이터 양과 무관하고, DB 연결은
+ * 페이지를 읽는 동안만 잡으므로 느린 클라이언트가 연결이나 read view를 붙잡지 않는다.
+ * 운영 테이블 다음에 보관 테이블을 같은 형식으로 이어서 쓴다.</p>
+ *
+ * <p>응답이 이미 시작된 뒤의 실패는 상태 코드로 알릴 수 없으므로 로그만 남기고 연결을 끊는다.
+ * 클라이언트는 끝이 잘린 파일을 받는다.</p>
+ */
+@Slf4j(topic = "GatheringExportService")
+@Service
+public class GatheringExportService {
+
+    // MySQL DATETIME 범위 안의 "전체 기간"
+    private static final LocalDateTime MIN_TIME = LocalDateTime.of(1000, 1, 1, 0, 0);
+    private static final LocalDateTime MAX_TIME = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    private static final byte[] UTF8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+    private final GatheringExportRepository exportRepository;
+
+    private final GatheringExportProperties properties;
+
+    private final ObjectMapper objectMapper;
+
+    private final Semaphore permits;
+
+    public GatheringExportService(
+            GatheringExportRepository exportRepository,
+            GatheringExportProperties properties,
+            ObjectMapper objectMapper
+    ) {
+        this.exportRepository = exportRepository;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.permits = new Semaphore(properties.getMaxConcurrent());
+    }
+
+    /**
+     * 동시 실행 수를 넘으면 응답을 시작하기 전에 {@link GatheringErrorCode#EXPORT_BUSY}로 거절한다.
+     */
+    public StreamingResponseBody export(ExportFormat format, LocalDateTime from, LocalDateTime to,
+            boolean includeArchived) {
+        LocalDateTime start = from == null ? MIN_TIME : from;
+        LocalDateTime end = to == null ? MAX_TIME : to;
+        if (!end.isAfter(start)) {
+            throw new GatheringException(GatheringErrorCode.INVALID_DATE_RANGE);
+        }
+        AsyncPermit permit = AsyncPermit.tryAcquire(permits);
+        if (permit == null) {
+            throw new GatheringException(GatheringErrorCode.EXPORT_BUSY);
+        }
+
+        return out -> {
+            if (!permit.begin()) {
+                return;
+            }
+            long startedAt = System.nanoTime();
+            try (RowSink sink = format == ExportFormat.CSV ? new CsvSink(out) : new NdjsonSink(out, objectMapper)) {
+                stream(false, start, end, sink);
+                if (includeArchived) {
+                    stream(true, start, end, sink);
+                }
+                log.info("내보내기 완료: format={}, rows={}, {}ms", format, sink.rows(),
+                        (System.nanoTime() - startedAt) / 1_000_000);
+            } catch (UncheckedIOException e) {
+                log.warn("내보내기 중단 (클라이언트 연결 종료 등): {}", e.getCause().toString());
+                throw e.getCause();
+            } finally {
+                permit.release();
+            }
+        };
+    }
+
+    private void stream(boolean archived, LocalDateTime from, LocalDateTime to, RowSink sink) {
+        long afterId = 0;
+        while (true) {
+            List<Object[]> rows = exportRepository.page(archived, from, to, afterId, properties.getPageSize());
+            if (rows.isEmpty()) {
+                return;
+            }
+            try {
+                for (Object[] row : rows) {
+                    sink.write(row);
+                }
+                sink.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            afterId = ((Number) rows.get(rows.size() - 1)[0]).longValue();
+        }
+    }
+
+    // 드라이버 설정에 따라 DATETIME이 Timestamp 또는 LocalDateTime으로 옴 → ISO-8601로 통일
+    private static String text(Object value) {
+        if (value instanceof Timestamp ts) {
+            return ts.toLocalDateTime().toString();
+        }
+        return value.toString();
+    }
+
+    private interface RowSink extends AutoCloseable {
+
+        void write(Object[] row) throws IOException;
+
+        long rows();
+
+        void flush() throws IOException;
+
+        @Override
+        void close() throws IOException;
+    }
+
+    // RFC 4180 + 엑셀에서 수식으로 해석되지 않도록 =,+,-,@ 로 시작하는 문자열 앞에 작은따옴표
+    private static final class CsvSink implements RowSink {
+
+        private final Writer writer;
+        private long rows;
+
+        private CsvSink(OutputStream out) throws IOException {
+            out.write(UTF8_BOM); // 엑셀에서 한글 깨짐 방지
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+            writer.write(String.join(",", GatheringExportRepository.COLUMNS));
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void write(Object[] row) throws IOException {
+            for (int i = 0; i < row.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                Object value = row[i];
+                if (value != null) {
+                    writeField(text(value), value instanceof String);
+                }
+            }
+            writer.write("\r\n");
+            rows++;
+        }
+
+        private void writeField(String s, boolean text) throws IOException {
+            boolean formula = text && !s.isEmpty() && "=+-@".indexOf(s.charAt(0)) >= 0;
+            boolean quote = formula || s.indexOf(',') >= 0 || s.indexOf('"') >= 0
+                    || s.indexOf('\n') >= 0 || s.indexOf('\r') >= 0;
+            if (!quote) {
+                writer.write(s);
+                return;
+            }
+            writer.write('"');
+            if (formula) {
+                writer.write('\'');
+            }
+            writer.write(s.replace("\"", "\"\""));
+            writer.write('"');
+        }
+
+        @Override
+        public long rows() {
+            return rows;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.flush();
+        }
+    }
+
+    // 한 행 = JSON 객체 한 줄. 객체/맵을 만들지 않고 JsonGenerator로 바로 씀
+    private static final class NdjsonSink implements RowSink {
+
+        private final JsonGenerator generator;
+        private long rows;
+
+        private NdjsonSink(OutputStream out, ObjectMapper objectMapper) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(out);
+            generator.setRootValueSeparator(new SerializedString("\n"));
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        }
+
+        @Override
+        public void write(Object[] row) throws IOException {
+            generator.writeStartObject();
+            for (int i = 0; i < row.length; i++) {
+                String name = GatheringExportRepository.COLUMNS[i];
+                Object value = row[i];
+                if (value == null) {
+                    generator.writeNullField(name);
+                } else if (value instanceof Number n) {
+                    generator.writeNumberField(name, n.longValue());
+                } else {
+                    generator.writeStringField(name, text(value));
+                }
+            }
+            generator.writeEndObject();
+            rows++;
+        }
+
+        @Override
+        public long rows() {
+            return rows;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            generator.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.writeRaw('\n');
+            generator.close();
+        }
+    }
+}
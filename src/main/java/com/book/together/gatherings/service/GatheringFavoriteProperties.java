@@ -0,0 +1,21 @@
+package com.book.together.gatherings.service;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@ConfigurationProperties(prefix = "gathering.favorite")
+@Component
+public class GatheringFavoriteProperties {
+
+    // 회원당 최대 찜 수
+    private int maxPerMember = 500;
+
+    // 반영 1회에 처리할 최대 (회원, 모임) 쌍 수
+    private int flushBatchSize = 500;
+
+    // 반영 작업 lease (여러 노드 중 한 곳만 반영)
+    private Duration flushLease = Duration.ofSeconds(30);
+}
@@ -0,0 +1,231 @@
+package com.book.together.gatherings.service;
+
+import com.book.together.common.util.CurrentUserInfo;
+import com.book.together.gatherings.dto.response.FavoriteResponse;
+import com.book.together.gatherings.dto.response.GatheringSummaryResponse;
+import com.book.together.gatherings.entity.Gathering;
+import com.book.together.gatherings.exception.GatheringErrorCode;
+import com.book.together.gatherings.exception.GatheringException;
+import com.book.together.gatherings.repository.GatheringFavoriteCacheRepository;
+import com.book.together.gatherings.repository.GatheringFavoriteJdbcRepository;
+import com.book.together.gatherings.repository.GatheringFavoriteJdbcRepository.FavoritePair;
+import com.book.together.gatherings.repository.GatheringRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 모임 찜.
+ *
+ * <p>찜/해제는 Redis 회원 집합과 찜 수에 즉시 반영하고, 바뀐 (회원, 모임) 쌍만 dirty로 표시한다.
+ * {@code flush-interval}마다 한 노드가 dirty 쌍을 최대 {@code flush-batch-size}개 꺼내, 그 시점의 Redis 상태를
+ * 읽어 INSERT IGNORE / DELETE 배치로 반영한다. 따라서 같은 쌍을 몇 번 토글하든 마지막 상태 1건만 쓰이고
+ * (last-write-wins), MySQL 쓰기는 토글 빈도와 무관하게 주기당 배치 크기 이하로 묶인다.</p>
+ *
+ * <p>Redis가 비어 있으면(재시작, 장애 조치) MySQL이 원본이다. 회원 집합이 없으면 그 회원의 찜을
+ * {@code v1_gathering_favorites}에서 읽어 채우고, 찜 수 해시가 없으면 {@code COUNT(*) GROUP BY gathering_id}로
+ * 다시 만든다. 적재는 키가 없을 때만 일어나므로 dirty 쌍이 남은 채 키만 축출되면 그만큼 어긋난다 → 찜 키는
+ * TTL 없이 두고 Redis는 {@code noeviction}으로 운영한다. 적재되지 않은 회원의 dirty 쌍은 상태를 알 수 없으므로
+ * 반영하지 않고 버린다(MySQL 값 유지).</p>
+ *
+ * <p>밀린 dirty 쌍 수는 {@code gathering.favorite.dirty} 게이지로 노출한다.</p>
+ */
+@Slf4j(topic = "GatheringFavoriteService")
+@Service
+public class GatheringFavoriteService {
+
+    private final GatheringFavoriteCacheRepository favoriteCacheRepository;
+
+    private final GatheringRepository gatheringRepository;
+
+    private final GatheringFavoriteJdbcRepository jdbcRepository;
+
+    private final GatheringFavoriteProperties properties;
+
+    private final TransactionTemplate flushTransaction;
+
+    private final String owner = ManagementFactory.getRuntimeMXBean().getName();
+
+    private final AtomicLong dirty = new AtomicLong();
+
+    public GatheringFavoriteService(
+            GatheringFavoriteCacheRepository favoriteCacheRepository,
+            GatheringRepository gatheringRepository,
+            GatheringFavoriteJdbcRepository jdbcRepository,
+            GatheringFavoriteProperties properties,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry
+    ) {
+        this.favoriteCacheRepository = favoriteCacheRepository;
+        this.gatheringRepository = gatheringRepository;
+        this.jdbcRepository = jdbcRepository;
+        this.properties = properties;
+        this.flushTransaction = new TransactionTemplate(transactionManager);
+        Gauge.builder("gathering.favorite.dirty", dirty, AtomicLong::get)
+                .description("MySQL 반영을 기다리는 찜 변경 수")
+                .register(meterRegistry);
+    }
+
+    // 찜 (이미 찜한 상태면 그대로)
+    public FavoriteResponse add(Long gatheringId, CurrentUserInfo info) {
+        Gathering gathering = gatheringRepository.findById(gatheringId)
+                .orElseThrow(() -> new GatheringException(GatheringErrorCode.NOT_FOUND_ID));
+        if (gathering.getCanceledAt() != null) {
+            throw new GatheringException(GatheringErrorCode.GATHERING_CANCELED);
+        }
+
+        long count = set(info.userId(), gatheringId, true);
+        if (count == GatheringFavoriteCacheRepository.LIMIT_EXCEEDED) {
+            throw new GatheringException(GatheringErrorCode.FAVORITE_LIMIT, properties.getMaxPerMember());
+        }
+        return FavoriteResponse.of(gatheringId, true, count);
+    }
+
+    // 찜 해제 (찜하지 않은 상태면 그대로)
+    public FavoriteResponse remove(Long gatheringId, CurrentUserInfo info) {
+        long count = set(info.userId(), gatheringId, false);
+        return FavoriteResponse.of(gatheringId, false, count);
+    }
+
+    // 모임 상세의 찜 수
+    public long count(Long gatheringId) {
+        Long count = favoriteCacheRepository.count(gatheringId);
+        if (count == null) {
+            loadCounts();
+            count = favoriteCacheRepository.count(gatheringId);
+        }
+        return count == null ? 0L : count;
+    }
+
+    // 내 찜 목록: 집합 1회 + 모임 IN 조회 1회, 모임 시각 순
+    public List<GatheringSummaryResponse> getFavorites(CurrentUserInfo info) {
+        Set<String> members = favoriteCacheRepository.members(info.userId());
+        if (members == null) {
+            loadMember(info.userId());
+            members = favoriteCacheRepository.members(info.userId());
+        }
+        if (members == null || members.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = members.stream().map(Long::valueOf).toList();
+        List<Gathering> gatherings = gatheringRepository.findAllById(ids);
+
+        // 보관/정리되어 사라진 모임은 찜에서도 해제
+        Set<Long> found = new HashSet<>();
+        for (Gathering g : gatherings) {
+            found.add(g.getId());
+        }
+        for (Long id : ids) {
+            if (!found.contains(id)) {
+                set(info.userId(), id, false);
+            }
+        }
+
+        return gatherings.stream()
+                .sorted(Comparator.comparing(Gathering::getDateTime).thenComparing(Gathering::getId))
+                .map(GatheringSummaryResponse::from)
+                .toList();
+    }
+
+    // 미적재면 MySQL에서 채우고 다시 시도 (회원 집합, 찜 수 해시 순으로 최대 한 번씩)
+    private long set(Long memberId, Long gatheringId, boolean favorite) {
+        long count = favoriteCacheRepository.set(memberId, gatheringId, favorite, properties.getMaxPerMember());
+        if (count == GatheringFavoriteCacheRepository.MEMBER_NOT_LOADED) {
+            loadMember(memberId);
+            count = favoriteCacheRepository.set(memberId, gatheringId, favorite, properties.getMaxPerMember());
+        }
+        if (count == GatheringFavoriteCacheRepository.COUNTS_NOT_LOADED) {
+            loadCounts();
+            count = favoriteCacheRepository.set(memberId, gatheringId, favorite, properties.getMaxPerMember());
+        }
+        if (count < GatheringFavoriteCacheRepository.LIMIT_EXCEEDED) {
+            throw new GatheringException(GatheringErrorCode.FAVORITE_UNAVAILABLE);
+        }
+        return count;
+    }
+
+    private void loadMember(Long memberId) {
+        favoriteCacheRepository.loadMember(memberId, jdbcRepository.findGatheringIds(memberId));
+        log.info("찜 회원 집합 적재: memberId={}", memberId);
+    }
+
+    // 노드 안에서는 한 번만 집계 (다른 노드와 겹쳐도 적재 스크립트가 한쪽만 반영)
+    private synchronized void loadCounts() {
+        if (favoriteCacheRepository.countsLoaded()) {
+            return;
+        }
+        Map<Long, Long> counts = jdbcRepository.countByGathering();
+        favoriteCacheRepository.loadCounts(counts);
+        log.info("찜 수 해시 적재: 모임 {}개", counts.size());
+    }
+
+    @Scheduled(fixedDelayString = "${gathering.favorite.flush-interval:PT1S}")
+    public void flush() {
+        try {
+            if (!favoriteCacheRepository.tryFlushLease(owner, properties.getFlushLease())) {
+                return;
+            }
+            try {
+                flushBatch();
+                dirty.set(favoriteCacheRepository.dirtySize());
+            } finally {
+                favoriteCacheRepository.releaseFlushLease(owner);
+            }
+        } catch (DataAccessException e) {
+            log.warn("찜 반영 실패: {}", e.toString());
+        }
+    }
+
+    private void flushBatch() {
+        List<String> pairs = favoriteCacheRepository.popDirty(properties.getFlushBatchSize());
+        if (pairs.isEmpty()) {
+            return;
+        }
+
+        // 꺼낸 시점의 Redis 상태가 최종값
+        List<Boolean> states = favoriteCacheRepository.isFavorite(pairs);
+        List<FavoritePair> added = new ArrayList<>();
+        List<FavoritePair> removed = new ArrayList<>();
+        int unknown = 0;
+        for (int i = 0; i < pairs.size(); i++) {
+            Boolean state = states.get(i);
+            if (state == null) {
+                unknown++;
+                continue;
+            }
+            String pair = pairs.get(i);
+            int sep = pair.indexOf(':');
+            FavoritePair f = new FavoritePair(
+                    Long.valueOf(pair.substring(0, sep)), Long.valueOf(pair.substring(sep + 1)));
+            (state ? added : removed).add(f);
+        }
+        if (unknown > 0) {
+            log.warn("적재되지 않은 회원의 찜 변경 {}건은 반영하지 않음", unknown);
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            flushTransaction.executeWithoutResult(
+                    status -> jdbcRepository.applyFavorites(added, removed, now));
+            log.debug("찜 반영: 추가 {}건, 해제 {}건", added.size(), removed.size());
+        } catch (DataAccessException e) {
+            favoriteCacheRepository.markDirty(pairs); // 다음 주기에 다시
+            throw e;
+        }
+    }
+}
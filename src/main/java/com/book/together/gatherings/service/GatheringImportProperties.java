@@ -0,0 +1,17 @@
+package com.book.together.gatherings.service;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@ConfigurationProperties(prefix = "gathering.import")
+@Component
+public class GatheringImportProperties {
+
+    // 요청 1건에 담을 수 있는 최대 행 수
+    private int maxRows = 10_000;
+
+    // 중복 검사 IN 목록 / JDBC batch 한 번에 보내는 행 수
+    private int batchSize = 1_000;
+}
@@ -0,0 +1,344 @@
+package com.book.together.gatherings.service;
+
+import com.book.together.common.exception.ErrorException;
+import com.book.together.common.util.CurrentUserInfo;
+import com.book.together.gatherings.dto.request.CreateGatheringRequest;
+import com.book.together.gatherings.dto.response.GatheringImportResponse;
+import com.book.together.gatherings.entity.GatheringLocation;
+import com.book.together.gatherings.entity.GatheringType;
+import com.book.together.gatherings.event.GatheringCreatedEvent;
+import com.book.together.gatherings.event.GatheringSnapshot;
+import com.book.together.gatherings.exception.GatheringErrorCode;
+import com.book.together.gatherings.exception.GatheringException;
+import com.book.together.gatherings.repository.GatheringJdbcRepository;
+import com.book.together.gatherings.repository.GatheringJdbcRepository.NewGathering;
+import com.book.together.gatherings.repository.GatheringRepository;
+import com.book.together.gatherings.repository.GatheringRepository.TakenSlot;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 모임 대량 등록 (기업 고객 분기 일정 등)
+ *
+ * <p>행마다 {@link GatheringService#validate}와 같은 규칙으로 검증하고, 중복 검사는 {@code batch-size}행마다
+ * 장소 IN × 시각 IN 쿼리 1회, 모임/주최자 참가 INSERT는 같은 크기의 JDBC batch로 넣는다. 따라서 왕복 횟수는
+ * 행 수가 아니라 {@code 행 수 / batch-size}에 비례한다.</p>
+ *
+ * <p>검증/중복에 걸린 행만 실패로 보고하고 나머지는 한 트랜잭션으로 등록한다. 응답에는 입력 순서대로 행별 결과가 담긴다.</p>
+ */
+@Slf4j(topic = "GatheringImportService")
+@RequiredArgsConstructor
+@Service
+public class GatheringImportService {
+
+    private static final List<String> CSV_REQUIRED = List.of("type", "name", "location", "dateTime", "capacity");
+
+    // v1_gathering.name / image 컬럼 길이 (VARCHAR(255)). 넘는 행은 batch INSERT 전체를 깨뜨리므로 행 단위로 거른다
+    private static final int MAX_COLUMN_LENGTH = 255;
+
+    private final GatheringRepository gatheringRepository;
+
+    private final GatheringJdbcRepository jdbcRepository;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final GatheringImportProperties properties;
+
+    @Transactional
+    public GatheringImportResponse importJson(List<CreateGatheringRequest> requests, CurrentUserInfo info) {
+        List<Row> rows = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            CreateGatheringRequest request = requests.get(i);
+            rows.add(request == null
+                    ? new Row(i + 1, null, GatheringErrorCode.INVALID_IMPORT.format("빈 항목입니다."))
+                    : new Row(i + 1, request, null));
+        }
+        return importRows(rows, info);
+    }
+
+    /**
+     * 첫 줄은 헤더이며 순서는 자유다. 필수 열: type, name, location, dateTime, capacity / 선택 열: image,
+     * registrationEnd. 시각은 ISO-8601({@code 2026-11-02T19:00}) 형식이다.
+     */
+    @Transactional
+    public GatheringImportResponse importCsv(String body, CurrentUserInfo info) {
+        return importRows(parseCsv(body), info);
+    }
+
+    private GatheringImportResponse importRows(List<Row> rows, CurrentUserInfo info) {
+        if (rows.size() > properties.getMaxRows()) {
+            throw new GatheringException(GatheringErrorCode.IMPORT_TOO_LARGE, properties.getMaxRows());
+        }
+
+        long startedAt = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+        Long hostId = info.userId();
+
+        Long[] ids = new Long[rows.size()];
+        String[] errors = new String[rows.size()];
+
+        // 1) 행별 검증 + 파일 안 중복 제거
+        List<Candidate> candidates = new ArrayList<>(rows.size());
+        Set<Slot> seen = new HashSet<>();
+        for (int i = 0; i < rows.size(); i++) {
+            Row row = rows.get(i);
+            if (row.error() != null) {
+                errors[i] = row.error();
+                continue;
+            }
+            try {
+                CreateGatheringRequest request = row.request();
+                GatheringLocation location = GatheringService.validate(request, now);
+                if (request.name() == null || request.name().isBlank()) {
+                    throw new GatheringException(GatheringErrorCode.INVALID_IMPORT, "name은 필수입니다.");
+                }
+                checkLength("name", request.name());
+                checkLength("image", request.image() == null ? null : request.image().trim());
+                Slot slot = new Slot(location, request.dateTime());
+                if (!seen.add(slot)) {
+                    throw new GatheringException(GatheringErrorCode.DUPLICATE_GATHERING);
+                }
+                candidates.add(new Candidate(i, request, slot));
+            } catch (ErrorException e) {
+                errors[i] = e.getMessage();
+            }
+        }
+
+        // 2) 이미 모임이 있는 슬롯 제외 → 3) batch INSERT
+        int batchSize = properties.getBatchSize();
+        for (int from = 0; from < candidates.size(); from += batchSize) {
+            List<Candidate> chunk = candidates.subList(from, Math.min(from + batchSize, candidates.size()));
+            Set<Slot> taken = findTaken(chunk);
+
+            List<Candidate> accepted = new ArrayList<>(chunk.size());
+            List<NewGathering> inserts = new ArrayList<>(chunk.size());
+            for (Candidate c : chunk) {
+                if (taken.contains(c.slot())) {
+                    errors[c.index()] = GatheringErrorCode.DUPLICATE_GATHERING.getMessage();
+                    continue;
+                }
+                CreateGatheringRequest r = c.request();
+                accepted.add(c);
+                inserts.add(new NewGathering(
+                        r.type(),
+                        r.name(),
+                        r.dateTime(),
+                        r.registrationEnd(),
+                        c.slot().location(),
+                        1, // 주최자
+                        r.capacity(),
+                        r.image() == null ? null : r.image().trim(),
+                        now,
+                        hostId,
+                        null
+                ));
+            }
+
+            List<Long> inserted = jdbcRepository.insertGatherings(inserts);
+            jdbcRepository.insertParticipants(inserted, hostId, now);
+
+            for (int k = 0; k < inserted.size(); k++) {
+                NewGathering g = inserts.get(k);
+                ids[accepted.get(k).index()] = inserted.get(k);
+
+                // 점유 현황/타이머/위치 인덱스/이벤트 스트림 반영 (커밋 후)
+                eventPublisher.publishEvent(new GatheringCreatedEvent(new GatheringSnapshot(
+                        inserted.get(k),
+                        g.type(),
+                        g.name(),
+                        g.location(),
+                        g.dateTime(),
+                        g.registrationEnd(),
+                        g.participantCount(),
+                        g.capacity(),
+                        g.createdBy(),
+                        g.createdAt()
+                )));
+            }
+        }
+
+        List<GatheringImportResponse.Result> results = new ArrayList<>(rows.size());
+        int created = 0;
+        for (int i = 0; i < rows.size(); i++) {
+            results.add(new GatheringImportResponse.Result(rows.get(i).line(), ids[i], errors[i]));
+            if (ids[i] != null) {
+                created++;
+            }
+        }
+
+        log.info("모임 대량 등록: hostId={}, rows={}, created={}, {}ms", hostId, rows.size(), created,
+                (System.nanoTime() - startedAt) / 1_000_000);
+        return new GatheringImportResponse(rows.size(), created, rows.size() - created, results);
+    }
+
+    // 청크의 장소/시각을 각각 IN으로 묶어 한 번에 조회한 뒤, 실제 (장소, 시각) 쌍만 남김
+    private Set<Slot> findTaken(List<Candidate> chunk) {
+        if (chunk.isEmpty()) {
+            return Set.of();
+        }
+        Set<GatheringLocation> locations = EnumSet.noneOf(GatheringLocation.class);
+        Set<LocalDateTime> dateTimes = new HashSet<>();
+        for (Candidate c : chunk) {
+            locations.add(c.slot().location());
+            dateTimes.add(c.slot().dateTime());
+        }
+
+        Set<Slot> taken = new HashSet<>();
+        for (TakenSlot t : gatheringRepository.findTakenSlots(locations, dateTimes)) {
+            taken.add(new Slot(t.getLocation(), t.getDateTime()));
+        }
+        return taken;
+    }
+
+    private List<Row> parseCsv(String body) {
+        List<CsvRecord> records = CsvReader.read(body == null ? "" : body);
+        if (records.isEmpty()) {
+            throw new GatheringException(GatheringErrorCode.INVALID_IMPORT, "헤더가 없습니다.");
+        }
+        if (records.size() - 1 > properties.getMaxRows()) {
+            throw new GatheringException(GatheringErrorCode.IMPORT_TOO_LARGE, properties.getMaxRows());
+        }
+
+        Map<String, Integer> header = new HashMap<>();
+        List<String> names = records.get(0).fields();
+        for (int i = 0; i < names.size(); i++) {
+            header.put(names.get(i).trim(), i);
+        }
+        for (String required : CSV_REQUIRED) {
+            if (!header.containsKey(required)) {
+                throw new GatheringException(GatheringErrorCode.INVALID_IMPORT, "필수 열이 없습니다: " + required);
+            }
+        }
+
+        List<Row> rows = new ArrayList<>(records.size() - 1);
+        for (CsvRecord record : records.subList(1, records.size())) {
+            List<String> f = record.fields();
+            if (f.size() == 1 && f.get(0).isBlank()) {
+                continue; // 빈 줄
+            }
+            try {
+                rows.add(new Row(record.line(), new CreateGatheringRequest(
+                        field(f, header, "location"),
+                        parseOrNull(field(f, header, "type"), GatheringType::valueOf),
+                        field(f, header, "name"),
+                        parseOrNull(field(f, header, "dateTime"), LocalDateTime::parse),
+                        parseOrNull(field(f, header, "capacity"), Integer::valueOf),
+                        field(f, header, "image"),
+                        parseOrNull(field(f, header, "registrationEnd"), LocalDateTime::parse)
+                ), null));
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                rows.add(new Row(record.line(), null,
+                        GatheringErrorCode.INVALID_IMPORT.format("값 형식 오류: " + e.getMessage())));
+            }
+        }
+        return rows;
+    }
+
+    private static void checkLength(String column, String value) {
+        if (value != null && value.codePointCount(0, value.length()) > MAX_COLUMN_LENGTH) {
+            throw new GatheringException(GatheringErrorCode.INVALID_IMPORT,
+                    column + "은(는) " + MAX_COLUMN_LENGTH + "자 이하여야 합니다.");
+        }
+    }
+
+    private static String field(List<String> fields, Map<String, Integer> header, String name) {
+        Integer i = header.get(name);
+        if (i == null || i >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(i).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static <T> T parseOrNull(String value, Function<String, T> parser) {
+        return value == null ? null : parser.apply(value);
+    }
+
+    private record Row(int line, CreateGatheringRequest request, String error) {
+
+    }
+
+    private record Candidate(int index, CreateGatheringRequest request, Slot slot) {
+
+    }
+
+    private record Slot(GatheringLocation location, LocalDateTime dateTime) {
+
+    }
+
+    private record CsvRecord(int line, List<String> fields) {
+
+    }
+
+    // RFC 4180: 따옴표 안의 쉼표/줄바꿈, "" 이스케이프, CRLF/LF 허용. 앞의 UTF-8 BOM은 무시
+    private static final class CsvReader {
+
+        static List<CsvRecord> read(String text) {
+            List<CsvRecord> records = new ArrayList<>();
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            int line = 1;
+            int recordLine = 1;
+
+            int i = !text.isEmpty() && text.charAt(0) == '\uFEFF' ? 1 : 0;
+            for (; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (quoted) {
+                    if (c == '"') {
+                        if (i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                            field.append('"');
+                            i++;
+                        } else {
+                            quoted = false;
+                        }
+                    } else {
+                        if (c == '\n') {
+                            line++;
+                        }
+                        field.append(c);
+                    }
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\r' || c == '\n') {
+                    if (c == '\r' && i + 1 < text.length() && text.charAt(i + 1) == '\n') {
+                        i++;
+                    }
+                    fields.add(field.toString());
+                    field.setLength(0);
+                    records.add(new CsvRecord(recordLine, fields));
+                    fields = new ArrayList<>();
+                    line++;
+                    recordLine = line;
+                } else {
+                    field.append(c);
+                }
+            }
+            if (quoted) {
+                throw new GatheringException(GatheringErrorCode.INVALID_IMPORT,
+                        recordLine + "번째 줄의 따옴표가 닫히지 않았습니다.");
+            }
+            if (!field.isEmpty() || !fields.isEmpty()) {
+                fields.add(field.toString());
+                records.add(new CsvRecord(recordLine, fields));
+            }
+            return records;
+        }
+    }
+}
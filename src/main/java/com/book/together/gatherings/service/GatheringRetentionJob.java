@@ -0,0 +1,124 @@
+package com.book.together.gatherings.service;
+
+import com.book.together.common.retention.ChunkedPurger;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 모임 도메인 보존 정리: 취소된 참가자, 취소된 모임, 오래된 보관 데이터, 지난 주간 리더보드,
+ * 분/시 단위 수요 집계, 발행된 이벤트 outbox.
+ * 댓글/찜은 모임 FK가 없으므로 모임(보관 모임 포함)을 지울 때 함께 지운다.
+ * 모든 대상은 인덱스 순서의 id 청크로 지운다 ({@link ChunkedPurger}).
+ */
+@RequiredArgsConstructor
+@Component
+public class GatheringRetentionJob {
+
+    private final ChunkedPurger purger;
+
+    private final GatheringRetentionProperties properties;
+
+    @Scheduled(cron = "${gathering.retention.cron:0 0 5 * * *}")
+    public void purge() {
+        purger.submit("gathering-retention", this::run);
+    }
+
+    // 전용 정리 스레드에서 실행. deadline이 지나면 남은 대상은 바로 건너뛴다
+    private void run(long deadline) {
+        LocalDateTime now = LocalDateTime.now();
+
+        // 취소된 모임의 참가자도 여기서 먼저 지워지므로 아래 모임 삭제는 대부분 모임 행만 지운다
+        purger.purge(
+                deadline,
+                "canceled-participants",
+                """
+                select id from v1_gathering_participants
+                where canceled_at < ?
+                order by canceled_at, id
+                """,
+                List.of("delete from v1_gathering_participants where id in (%s)"),
+                now.minus(properties.getCanceledParticipants())
+        );
+
+        purger.purge(
+                deadline,
+                "canceled-gatherings",
+                """
+                select id from v1_gathering
+                where canceled_at < ?
+                order by canceled_at, id
+                """,
+                List.of(
+                        "delete from v1_gathering_participants where gathering_id in (%s)",
+                        "delete from v1_gathering_comments where gathering_id in (%s)",
+                        "delete from v1_gathering_favorites where gathering_id in (%s)",
+                        "delete from v1_gathering where id in (%s)"
+                ),
+                now.minus(properties.getCanceledGatherings())
+        );
+
+        purger.purge(
+                deadline,
+                "gathering-archive",
+                """
+                select id from v1_gathering_archive
+                where date_time < ?
+                order by date_time, id
+                """,
+                List.of(
+                        "delete from v1_gathering_participants_archive where gathering_id in (%s)",
+                        "delete from v1_gathering_comments where gathering_id in (%s)",
+                        "delete from v1_gathering_favorites where gathering_id in (%s)",
+                        "delete from v1_gathering_archive where id in (%s)"
+                ),
+                now.minus(properties.getArchive())
+        );
+
+        purger.purge(
+                deadline,
+                "weekly-leaderboard",
+                """
+                select id from v1_leaderboard_snapshots
+                where snapshot_at < ?
+                  and period_key <> 'ALL'
+                order by snapshot_at, id
+                """,
+                List.of("delete from v1_leaderboard_snapshots where id in (%s)"),
+                now.minus(properties.getWeeklyLeaderboard())
+        );
+
+        // (granularity, bucket_start) 유니크 키 앞부분으로 단위별 오래된 버킷만 읽음
+        for (String granularity : List.of("MINUTE", "HOUR")) {
+            purger.purge(
+                    deadline,
+                    "rollups-" + granularity.toLowerCase(),
+                    """
+                    select id from v1_gathering_rollups
+                    where granularity = ?
+                      and bucket_start < ?
+                    order by bucket_start, id
+                    """,
+                    List.of("delete from v1_gathering_rollups where id in (%s)"),
+                    granularity,
+                    now.minus(granularity.equals("MINUTE")
+                            ? properties.getMinuteRollups()
+                            : properties.getHourRollups())
+            );
+        }
+
+        purger.purge(
+                deadline,
+                "gathering-event-outbox",
+                """
+                select id from v1_gathering_event_outbox
+                where published_at < ?
+                order by published_at, id
+                """,
+                List.of("delete from v1_gathering_event_outbox where id in (%s)"),
+                now.minus(properties.getEventOutbox())
+        );
+    }
+}
@@ -0,0 +1,32 @@
+package com.book.together.gatherings.service;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@ConfigurationProperties(prefix = "gathering.retention")
+@Component
+public class GatheringRetentionProperties {
+
+    // 참여 취소 후 이 기간이 지난 참가자 행 삭제
+    private Duration canceledParticipants = Duration.ofDays(30);
+
+    // 모임 취소 후 이 기간이 지난 모임 삭제 (참가자 포함)
+    private Duration canceledGatherings = Duration.ofDays(30);
+
+    // 모임 시각 기준 이 기간이 지난 보관 데이터 삭제
+    private Duration archive = Duration.ofDays(730);
+
+    // 마지막 스냅샷 후 이 기간이 지난 주간 리더보드 스냅샷 삭제 (전체 기간 보드는 유지)
+    private Duration weeklyLeaderboard = Duration.ofDays(180);
+
+    // 버킷 시작 기준 이 기간이 지난 분/시 단위 수요 집계 삭제 (일 단위는 유지)
+    private Duration minuteRollups = Duration.ofDays(7);
+
+    private Duration hourRollups = Duration.ofDays(90);
+
+    // 발행 후 이 기간이 지난 이벤트 outbox 삭제
+    private Duration eventOutbox = Duration.ofDays(1);
+}
@@ -0,0 +1,26 @@
+package com.book.together.gatherings.service;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@ConfigurationProperties(prefix = "gathering.review")
+@Component
+public class GatheringReviewProperties {
+
+    // 모임 종료(시작 시각) 후 후기를 쓸 수 있는 기간
+    private Duration window = Duration.ofDays(14);
+
+    // 유형별 상위 모임 캐시 유지 시간 (노드 로컬)
+    private Duration topRatedTtl = Duration.ofMinutes(5);
+
+    // 상위 모임 후보가 되기 위한 최소 후기 수 (후기 1~2건짜리 5점 모임 제외)
+    private long topRatedMinReviews = 3;
+
+    private int topRatedMaxSize = 50;
+
+    // 평점 일괄 조회 시 최대 키 수
+    private int maxRatingKeys = 100;
+}
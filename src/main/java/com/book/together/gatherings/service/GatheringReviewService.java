@@ -0,0 +1,279 @@
+package com.book.together.gatherings.service;
+
+import com.book.together.common.util.CurrentUserInfo;
+import com.book.together.gatherings.dto.request.CreateReviewRequest;
+import com.book.together.gatherings.dto.response.GatheringSummaryResponse;
+import com.book.together.gatherings.dto.response.RatingResponse;
+import com.book.together.gatherings.dto.response.ReviewPageResponse;
+import com.book.together.gatherings.dto.response.ReviewResponse;
+import com.book.together.gatherings.dto.response.TopRatedGatheringResponse;
+import com.book.together.gatherings.entity.Gathering;
+import com.book.together.gatherings.entity.GatheringArchive;
+import com.book.together.gatherings.entity.GatheringLocation;
+import com.book.together.gatherings.entity.GatheringReview;
+import com.book.together.gatherings.entity.GatheringType;
+import com.book.together.gatherings.entity.ReviewAggregate;
+import com.book.together.gatherings.entity.ReviewScope;
+import com.book.together.gatherings.exception.GatheringErrorCode;
+import com.book.together.gatherings.exception.GatheringException;
+import com.book.together.gatherings.repository.GatheringArchiveRepository;
+import com.book.together.gatherings.repository.GatheringParticipantRepository;
+import com.book.together.gatherings.repository.GatheringRepository;
+import com.book.together.gatherings.repository.GatheringReviewRepository;
+import com.book.together.gatherings.repository.ReviewAggregateJdbcRepository;
+import com.book.together.gatherings.repository.ReviewAggregateJdbcRepository.ReviewScore;
+import com.book.together.gatherings.repository.ReviewAggregateRepository;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 모임 후기와 평점 집계.
+ *
+ * <p>후기 INSERT와 같은 트랜잭션에서 모임/장소/유형 집계 행에 점수를 UPSERT로 더하므로, 평점 조회는 집계 행만
+ * 읽는다. 유형별 상위 모임은 집계 인덱스로 고른 뒤 {@code top-rated-ttl} 동안 노드 로컬로 캐시한다.</p>
+ */
+@RequiredArgsConstructor
+@Service
+public class GatheringReviewService {
+
+    private final GatheringRepository gatheringRepository;
+
+    private final GatheringArchiveRepository gatheringArchiveRepository;
+
+    private final GatheringParticipantRepository gatheringParticipantRepository;
+
+    private final GatheringReviewRepository reviewRepository;
+
+    private final ReviewAggregateRepository aggregateRepository;
+
+    private final ReviewAggregateJdbcRepository jdbcRepository;
+
+    private final GatheringReviewProperties properties;
+
+    private final Map<GatheringType, TopRated> topRatedCache = new ConcurrentHashMap<>();
+
+    // 끝난 모임의 참가자만, 모임마다 1번
+    @Transactional
+    public ReviewResponse write(Long gatheringId, CreateReviewRequest request, CurrentUserInfo info) {
+        ReviewTarget gathering = findReviewTarget(gatheringId);
+
+        if (gathering.canceledAt() != null) {
+            throw new GatheringException(GatheringErrorCode.GATHERING_CANCELED);
+        }
+
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        if (now.isBefore(gathering.dateTime())
+                || now.isAfter(gathering.dateTime().plus(properties.getWindow()))) {
+            throw new GatheringException(GatheringErrorCode.REVIEW_NOT_OPEN, properties.getWindow().toDays());
+        }
+
+        boolean joined = gathering.archived()
+                ? gatheringArchiveRepository.existsActiveParticipant(gatheringId, info.userId())
+                : gatheringParticipantRepository.existsByGathering_IdAndMemberIdAndCanceledAtIsNull(
+                        gatheringId, info.userId());
+        if (!joined) {
+            throw new GatheringException(GatheringErrorCode.NOT_JOINED);
+        }
+        if (reviewRepository.existsByGatheringIdAndMemberId(gatheringId, info.userId())) {
+            throw new GatheringException(GatheringErrorCode.ALREADY_REVIEWED);
+        }
+
+        String content = request.content() == null || request.content().isBlank()
+                ? null
+                : request.content().strip();
+
+        GatheringReview review;
+        try {
+            // 동시에 두 번 요청하면 유니크 키에서 걸림 → 집계에 더하기 전에 실패
+            review = reviewRepository.saveAndFlush(GatheringReview.create(
+                    gatheringId, info.userId(), request.score(), content, now));
+        } catch (DataIntegrityViolationException e) {
+            throw new GatheringException(GatheringErrorCode.ALREADY_REVIEWED);
+        }
+
+        int score = request.score();
+        jdbcRepository.addReviewScores(List.of(
+                new ReviewScore(ReviewScope.GATHERING, String.valueOf(gatheringId), gathering.type(), score),
+                new ReviewScore(ReviewScope.LOCATION, gathering.location().name(), null, score),
+                new ReviewScore(ReviewScope.TYPE, gathering.type().name(), null, score)
+        ), now);
+
+        return ReviewResponse.from(review);
+    }
+
+    // 후기 작성 기간(window)이 보관 시점(archive-after)보다 길 수 있으므로, 운영 테이블에 없으면 보관 테이블에서 찾음
+    private ReviewTarget findReviewTarget(Long gatheringId) {
+        return gatheringRepository.findById(gatheringId)
+                .map(ReviewTarget::from)
+                .or(() -> gatheringArchiveRepository.findById(gatheringId).map(ReviewTarget::from))
+                .orElseThrow(() -> new GatheringException(GatheringErrorCode.NOT_FOUND_ID));
+    }
+
+    // 첫 페이지에만 모임 평점 집계를 함께 응답
+    @Transactional(readOnly = true)
+    public ReviewPageResponse getReviews(Long gatheringId, Long before, int size) {
+        List<ReviewResponse> rows = reviewRepository
+                .findPage(gatheringId, before == null ? Long.MAX_VALUE : before, PageRequest.of(0, size + 1))
+                .stream()
+                .map(ReviewResponse::from)
+                .toList();
+
+        RatingResponse rating = before == null
+                ? getRatings(ReviewScope.GATHERING, List.of(String.valueOf(gatheringId))).get(0)
+                : null;
+        return ReviewPageResponse.of(rating, rows, size);
+    }
+
+    /**
+     * 평점 일괄 조회. GATHERING은 keys(모임 id)가 필요하고, TYPE/LOCATION은 keys가 없으면 전체를 돌려준다.
+     * 후기가 없는 키는 0건으로 채워 요청 순서대로 응답한다.
+     */
+    @Transactional(readOnly = true)
+    public List<RatingResponse> getRatings(ReviewScope scope, List<String> keys) {
+        List<String> requested = normalizeKeys(scope, keys);
+
+        List<ReviewAggregate> aggregates = requested.isEmpty()
+                ? aggregateRepository.findByScope(scope)
+                : aggregateRepository.findByScopeAndScopeKeyIn(scope, requested);
+        Map<String, ReviewAggregate> byKey = aggregates.stream()
+                .collect(Collectors.toMap(ReviewAggregate::getScopeKey, Function.identity()));
+
+        if (requested.isEmpty()) {
+            requested = switch (scope) {
+                case TYPE -> Arrays.stream(GatheringType.values()).map(Enum::name).toList();
+                case LOCATION -> Arrays.stream(GatheringLocation.values()).map(Enum::name).toList();
+                case GATHERING -> throw new IllegalStateException(); // normalizeKeys에서 걸러짐
+            };
+        }
+
+        List<RatingResponse> responses = new ArrayList<>(requested.size());
+        for (String key : requested) {
+            ReviewAggregate a = byKey.get(key);
+            responses.add(a == null ? RatingResponse.empty(scope, key) : RatingResponse.from(a));
+        }
+        return responses;
+    }
+
+    // 유형별 상위 모임: TTL 동안 노드 로컬 캐시 (같은 유형의 동시 갱신은 1번만 조회)
+    @Transactional(readOnly = true)
+    public List<TopRatedGatheringResponse> getTopRated(GatheringType type, int size) {
+        if (type == null) {
+            throw new GatheringException(GatheringErrorCode.INVALID_TYPE);
+        }
+        int k = Math.min(Math.max(size, 1), properties.getTopRatedMaxSize());
+
+        long now = System.nanoTime();
+        TopRated cached = topRatedCache.compute(type, (t, old) ->
+                old != null && now - old.loadedAtNanos() < properties.getTopRatedTtl().toNanos()
+                        ? old
+                        : new TopRated(loadTopRated(t), now));
+
+        List<TopRatedGatheringResponse> list = cached.gatherings();
+        return list.size() > k ? list.subList(0, k) : list;
+    }
+
+    private List<TopRatedGatheringResponse> loadTopRated(GatheringType type) {
+        List<ReviewAggregate> top = aggregateRepository.findTopRated(
+                type, properties.getTopRatedMinReviews(), PageRequest.of(0, properties.getTopRatedMaxSize()));
+        if (top.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = top.stream().map(a -> Long.parseLong(a.getScopeKey())).toList();
+        Map<Long, GatheringSummaryResponse> gatherings = new HashMap<>();
+        gatheringRepository.findAllById(ids)
+                .forEach(g -> gatherings.put(g.getId(), GatheringSummaryResponse.from(g)));
+        if (gatherings.size() < ids.size()) {
+            // 후기 기간이 지난 모임은 보관 테이블로 옮겨졌을 수 있음
+            List<Long> missing = ids.stream().filter(id -> !gatherings.containsKey(id)).toList();
+            gatheringArchiveRepository.findAllById(missing)
+                    .forEach(g -> gatherings.put(g.getId(), GatheringSummaryResponse.from(g)));
+        }
+
+        List<TopRatedGatheringResponse> responses = new ArrayList<>(top.size());
+        for (ReviewAggregate a : top) {
+            GatheringSummaryResponse g = gatherings.get(Long.parseLong(a.getScopeKey()));
+            if (g != null) {
+                responses.add(TopRatedGatheringResponse.of(responses.size() + 1, g, a));
+            }
+        }
+        return List.copyOf(responses);
+    }
+
+    private List<String> normalizeKeys(ReviewScope scope, List<String> keys) {
+        Set<String> normalized = new LinkedHashSet<>();
+        if (keys != null) {
+            for (String key : keys) {
+                if (key == null || key.isBlank()) {
+                    continue;
+                }
+                normalized.add(normalizeKey(scope, key.trim()));
+            }
+        }
+
+        if (scope == ReviewScope.GATHERING && normalized.isEmpty()) {
+            throw new GatheringException(GatheringErrorCode.INVALID_RATING_KEYS, "모임 id가 필요합니다.");
+        }
+        if (normalized.size() > properties.getMaxRatingKeys()) {
+            throw new GatheringException(GatheringErrorCode.INVALID_RATING_KEYS,
+                    "최대 " + properties.getMaxRatingKeys() + "개까지 조회할 수 있습니다.");
+        }
+        return List.copyOf(normalized);
+    }
+
+    // LOCATION은 enum 이름과 표시 이름("홍대입구") 모두 허용
+    private static String normalizeKey(ReviewScope scope, String key) {
+        try {
+            return switch (scope) {
+                case GATHERING -> String.valueOf(Long.parseLong(key));
+                case TYPE -> GatheringType.valueOf(key.toUpperCase()).name();
+                case LOCATION -> Arrays.stream(GatheringLocation.values())
+                        .filter(l -> l.name().equalsIgnoreCase(key))
+                        .findFirst()
+                        .orElseGet(() -> GatheringLocation.from(key))
+                        .name();
+            };
+        } catch (IllegalArgumentException e) {
+            throw new GatheringException(GatheringErrorCode.INVALID_RATING_KEYS, key);
+        }
+    }
+
+    // 후기 작성에 필요한 모임 값 (운영/보관 테이블 공통)
+    private record ReviewTarget(
+            GatheringType type,
+            GatheringLocation location,
+            LocalDateTime dateTime,
+            LocalDateTime canceledAt,
+            boolean archived
+    ) {
+
+        static ReviewTarget from(Gathering g) {
+            return new ReviewTarget(g.getGatheringType(), g.getGatheringLocation(), g.getDateTime(),
+                    g.getCanceledAt(), false);
+        }
+
+        static ReviewTarget from(GatheringArchive g) {
+            return new ReviewTarget(g.getGatheringType(), g.getGatheringLocation(), g.getDateTime(),
+                    g.getCanceledAt(), true);
+        }
+    }
+
+    private record TopRated(List<TopRatedGatheringResponse> gatherings, long loadedAtNanos) {
+
+    }
+}
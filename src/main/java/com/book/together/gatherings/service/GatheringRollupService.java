@@ -0,0 +1,132 @@
+package com.book.together.gatherings.service;
+
+import com.book.together.gatherings.cache.GatheringRollupBuffer;
+import com.book.together.gatherings.cache.GatheringRollupBuffer.Cell;
+import com.book.together.gatherings.event.GatheringCanceledEvent;
+import com.book.together.gatherings.event.GatheringCreatedEvent;
+import com.book.together.gatherings.event.GatheringEvent;
+import com.book.together.gatherings.event.GatheringEventHandler;
+import com.book.together.gatherings.event.GatheringSnapshot;
+import com.book.together.gatherings.event.ParticipantCanceledEvent;
+import com.book.together.gatherings.event.ParticipantJoinedEvent;
+import com.book.together.gatherings.repository.GatheringRollupJdbcRepository;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 모임 수요 집계 파이프라인: 모임 이벤트 → {@link GatheringRollupBuffer} → {@code v1_gathering_rollups}.
+ *
+ * <p>이벤트는 발생 시각의 분/시/일 버킷에, 차원은 (유형, 장소, 모임 시작 시각의 시)로 더한다. 버퍼는
+ * {@code flush-interval}마다 비워 UPSERT로 더하며, 반영에 실패한 증가분은 버퍼로 되돌린다.</p>
+ *
+ * <p>스트림({@code analytics} 그룹)에서는 이벤트가 노드 하나에만 전달되므로 노드별 증가분을 더해도 중복되지
+ * 않는다. 처리 직후 ack하므로 반영 전에 노드가 죽으면 그 주기의 증가분은 잃는다 (분석용 근사치).</p>
+ */
+@Slf4j(topic = "GatheringRollupService")
+@Service
+public class GatheringRollupService implements GatheringEventHandler {
+
+    private final GatheringRollupBuffer buffer;
+
+    private final GatheringRollupJdbcRepository jdbcRepository;
+
+    private final GatheringEventStreamProperties streamProperties;
+
+    private final TransactionTemplate flushTransaction;
+
+    public GatheringRollupService(
+            GatheringRollupBuffer buffer,
+            GatheringRollupJdbcRepository jdbcRepository,
+            GatheringEventStreamProperties streamProperties,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.buffer = buffer;
+        this.jdbcRepository = jdbcRepository;
+        this.streamProperties = streamProperties;
+        this.flushTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public String group() {
+        return "analytics";
+    }
+
+    @Override
+    public void handle(long eventId, GatheringEvent event) {
+        record(event);
+    }
+
+    // 스트림을 끈 경우에만 요청 노드에서 직접 반영
+    @TransactionalEventListener
+    public void onCommitted(GatheringEvent event) {
+        if (!streamProperties.isEnabled()) {
+            record(event);
+        }
+    }
+
+    private void record(GatheringEvent event) {
+        GatheringSnapshot g = event.gathering();
+        int hour = g.dateTime().getHour();
+
+        if (event instanceof GatheringCreatedEvent) {
+            buffer.add(orNow(g.createdAt()), g.type(), g.location(), hour,
+                    GatheringRollupBuffer.CREATED, 1,
+                    GatheringRollupBuffer.CAPACITY, g.capacity(),
+                    GatheringRollupBuffer.SEATS, g.participantCount());
+        } else if (event instanceof ParticipantJoinedEvent joined) {
+            if (g.participantCount() >= g.capacity()) {
+                // 이 참여로 정원이 찼음 (스냅샷은 참여 후 상태)
+                long toFullSec = g.createdAt() == null
+                        ? 0 : Math.max(0, Duration.between(g.createdAt(), joined.joinedAt()).toSeconds());
+                buffer.add(joined.joinedAt(), g.type(), g.location(), hour,
+                        GatheringRollupBuffer.JOINED, 1,
+                        GatheringRollupBuffer.SEATS, 1,
+                        GatheringRollupBuffer.FILLED, 1,
+                        GatheringRollupBuffer.TIME_TO_FULL_SEC, toFullSec);
+            } else {
+                buffer.add(joined.joinedAt(), g.type(), g.location(), hour,
+                        GatheringRollupBuffer.JOINED, 1,
+                        GatheringRollupBuffer.SEATS, 1);
+            }
+        } else if (event instanceof ParticipantCanceledEvent canceled) {
+            buffer.add(canceled.canceledAt(), g.type(), g.location(), hour,
+                    GatheringRollupBuffer.LEFT, 1,
+                    GatheringRollupBuffer.SEATS, -1);
+        } else if (event instanceof GatheringCanceledEvent canceled) {
+            buffer.add(canceled.canceledAt(), g.type(), g.location(), hour,
+                    GatheringRollupBuffer.CANCELED, 1,
+                    GatheringRollupBuffer.CANCELED_CAPACITY, g.capacity(),
+                    GatheringRollupBuffer.SEATS, -canceled.canceledParticipants());
+        }
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${gathering.analytics.flush-interval:PT10S}")
+    public void flush() {
+        List<Cell> cells = buffer.drain();
+        if (cells.isEmpty()) {
+            return;
+        }
+        try {
+            flushTransaction.executeWithoutResult(status -> jdbcRepository.addRollups(cells));
+            log.debug("수요 집계 반영: {}행", cells.size());
+        } catch (DataAccessException e) {
+            buffer.giveBack(cells);
+            log.warn("수요 집계 반영 실패, 다음 주기에 재시도: {}행: {}", cells.size(), e.toString());
+        }
+    }
+
+    // 예전 이벤트 페이로드에는 생성 시각이 없을 수 있음
+    private static LocalDateTime orNow(LocalDateTime time) {
+        return time == null ? LocalDateTime.now() : time;
+    }
+}
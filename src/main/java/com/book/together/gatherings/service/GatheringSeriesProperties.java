@@ -0,0 +1,18 @@
+package com.book.together.gatherings.service;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@ConfigurationProperties(prefix = "gathering.series")
+@Component
+public class GatheringSeriesProperties {
+
+    // 지금부터 이 기간 안의 회차만 실제 모임으로 생성 (이후는 연장 작업이 이어서 생성)
+    private Duration horizon = Duration.ofDays(90);
+
+    // 요청/연장 1회에 생성할 최대 회차 수
+    private int maxOccurrencesPerRun = 500;
+}
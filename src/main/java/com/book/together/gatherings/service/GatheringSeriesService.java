@@ -0,0 +1,219 @@
+package com.book.together.gatherings.service;
+
+import com.book.together.common.util.CurrentUserInfo;
+import com.book.together.gatherings.dto.request.CreateGatheringRequest;
+import com.book.together.gatherings.dto.request.CreateGatheringSeriesRequest;
+import com.book.together.gatherings.dto.response.GatheringSeriesResponse;
+import com.book.together.gatherings.entity.GatheringLocation;
+import com.book.together.gatherings.entity.GatheringRecurrence;
+import com.book.together.gatherings.entity.GatheringSeries;
+import com.book.together.gatherings.event.GatheringCreatedEvent;
+import com.book.together.gatherings.event.GatheringSnapshot;
+import com.book.together.gatherings.exception.GatheringErrorCode;
+import com.book.together.gatherings.exception.GatheringException;
+import com.book.together.gatherings.repository.GatheringJdbcRepository;
+import com.book.together.gatherings.repository.GatheringJdbcRepository.NewGathering;
+import com.book.together.gatherings.repository.GatheringRepository;
+import com.book.together.gatherings.repository.GatheringSeriesRepository;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 반복 모임 시리즈.
+ *
+ * <p>요청 1건으로 {@code horizon} 안의 회차를 한 번에 만든다. 중복 검사는 회차 시각 전체를
+ * {@code IN}으로 넘기는 쿼리 1회, 모임/주최자 참가 INSERT는 각각 JDBC batch 1회라서 회차 수와 무관하게
+ * 왕복 횟수가 일정하다. 이미 모임이 있는 시각은 건너뛰고 응답에 알려 준다.</p>
+ *
+ * <p>이후 회차는 매일 연장 작업이 {@code horizon}을 따라가며 생성한다.</p>
+ */
+@Slf4j(topic = "GatheringSeriesService")
+@Service
+public class GatheringSeriesService {
+
+    private final GatheringSeriesRepository seriesRepository;
+
+    private final GatheringRepository gatheringRepository;
+
+    private final GatheringJdbcRepository jdbcRepository;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final GatheringSeriesProperties properties;
+
+    private final TransactionTemplate seriesTransaction;
+
+    public GatheringSeriesService(
+            GatheringSeriesRepository seriesRepository,
+            GatheringRepository gatheringRepository,
+            GatheringJdbcRepository jdbcRepository,
+            ApplicationEventPublisher eventPublisher,
+            GatheringSeriesProperties properties,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.seriesRepository = seriesRepository;
+        this.gatheringRepository = gatheringRepository;
+        this.jdbcRepository = jdbcRepository;
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+        this.seriesTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Transactional
+    public GatheringSeriesResponse create(CreateGatheringSeriesRequest request, CurrentUserInfo info) {
+        // 1) 비즈니스 검증: 정원/종류/장소/모집 마감은 단건 생성 규칙 그대로 (회차는 generate에서 지금 이후로만 만든다)
+        LocalDateTime first = LocalDateTime.of(request.startDate(), request.time());
+        GatheringLocation location = GatheringService.validate(new CreateGatheringRequest(
+                request.location(),
+                request.type(),
+                request.name(),
+                first,
+                request.capacity(),
+                request.image(),
+                request.registrationCloseMinutes() == null
+                        ? null
+                        : first.minusMinutes(request.registrationCloseMinutes())
+        ), first);
+
+        int interval = request.interval() == null ? 1 : request.interval();
+        Set<DayOfWeek> daysOfWeek = request.daysOfWeek() == null ? Set.of() : request.daysOfWeek();
+
+        if (request.recurrence() == GatheringRecurrence.WEEKLY && daysOfWeek.isEmpty()) {
+            throw new GatheringException(GatheringErrorCode.INVALID_RECURRENCE, "WEEKLY는 요일이 필요합니다.");
+        }
+        if (request.startDate().isBefore(LocalDate.now())) {
+            throw new GatheringException(GatheringErrorCode.INVALID_RECURRENCE, "시작일이 지났습니다.");
+        }
+        if (request.endDate() != null && request.endDate().isBefore(request.startDate())) {
+            throw new GatheringException(GatheringErrorCode.INVALID_RECURRENCE, "종료일이 시작일보다 앞섭니다.");
+        }
+
+        String image = request.image() == null ? null : request.image().trim();
+
+        // 2) 시리즈 저장 후 첫 회차들 생성
+        GatheringSeries series = seriesRepository.save(GatheringSeries.of(
+                request.type(),
+                request.name(),
+                location,
+                request.capacity(),
+                image,
+                request.recurrence(),
+                interval,
+                request.recurrence() == GatheringRecurrence.WEEKLY ? daysOfWeek : Set.of(),
+                request.startDate(),
+                request.time(),
+                request.endDate(),
+                request.count(),
+                request.registrationCloseMinutes(),
+                info.userId()
+        ));
+
+        GatheringSeriesResponse response = generate(series, LocalDateTime.now());
+        if (response.occurrences().isEmpty()) {
+            throw new GatheringException(GatheringErrorCode.NO_OCCURRENCE);
+        }
+        return response;
+    }
+
+    // horizon을 따라 다음 회차 생성 (시리즈마다 별도 트랜잭션)
+    @Scheduled(cron = "${gathering.series.extend-cron:0 10 3 * * *}")
+    public void extend() {
+        LocalDateTime horizon = LocalDateTime.now().plus(properties.getHorizon()).truncatedTo(ChronoUnit.DAYS);
+
+        int extended = 0;
+        for (Long seriesId : seriesRepository.findIdsToExtend(horizon)) {
+            try {
+                Integer created = seriesTransaction.execute(status -> seriesRepository.findById(seriesId)
+                        .filter(s -> !s.isFinished())
+                        .map(s -> generate(s, s.getGeneratedUntil()).occurrences().size())
+                        .orElse(0));
+                extended += created == null ? 0 : created;
+            } catch (RuntimeException e) {
+                log.error("반복 모임 연장 실패: seriesId={}", seriesId, e);
+            }
+        }
+        if (extended > 0) {
+            log.info("반복 모임 회차 연장: {}건", extended);
+        }
+    }
+
+    private GatheringSeriesResponse generate(GatheringSeries series, LocalDateTime after) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime from = after.isBefore(now) ? now : after;
+        LocalDateTime until = now.plus(properties.getHorizon()).truncatedTo(ChronoUnit.DAYS);
+
+        List<LocalDateTime> candidates = series.occurrencesBetween(
+                from, until, properties.getMaxOccurrencesPerRun());
+
+        // 회차 수와 무관하게 중복 검사 쿼리 1회
+        Set<LocalDateTime> taken = candidates.isEmpty()
+                ? Set.of()
+                : new HashSet<>(gatheringRepository.findTakenDateTimes(series.getGatheringLocation(), candidates));
+
+        List<NewGathering> rows = new ArrayList<>(candidates.size());
+        List<LocalDateTime> skipped = new ArrayList<>();
+        for (LocalDateTime dateTime : candidates) {
+            if (taken.contains(dateTime)) {
+                skipped.add(dateTime);
+                continue;
+            }
+            rows.add(new NewGathering(
+                    series.getGatheringType(),
+                    series.getName(),
+                    dateTime,
+                    series.registrationEndOf(dateTime),
+                    series.getGatheringLocation(),
+                    1, // 주최자
+                    series.getCapacity(),
+                    series.getImage(),
+                    now,
+                    series.getCreatedBy(),
+                    series.getId()
+            ));
+        }
+
+        List<Long> ids = jdbcRepository.insertGatherings(rows);
+        jdbcRepository.insertParticipants(ids, series.getCreatedBy(), now);
+
+        // 최대 회차 수에 걸려 중간에 끊겼으면 마지막 회차까지만 생성한 것으로 기록
+        LocalDateTime generatedUntil = candidates.size() == properties.getMaxOccurrencesPerRun()
+                ? candidates.get(candidates.size() - 1)
+                : until;
+        series.markGenerated(candidates.size(), generatedUntil);
+
+        List<GatheringSeriesResponse.Occurrence> occurrences = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            NewGathering g = rows.get(i);
+            occurrences.add(new GatheringSeriesResponse.Occurrence(ids.get(i), g.dateTime()));
+
+            // 점유 현황/타이머/위치 인덱스/이벤트 스트림 반영 (커밋 후)
+            eventPublisher.publishEvent(new GatheringCreatedEvent(new GatheringSnapshot(
+                    ids.get(i),
+                    g.type(),
+                    g.name(),
+                    g.location(),
+                    g.dateTime(),
+                    g.registrationEnd(),
+                    g.participantCount(),
+                    g.capacity(),
+                    g.createdBy(),
+                    g.createdAt()
+            )));
+        }
+
+        return new GatheringSeriesResponse(series.getId(), generatedUntil, occurrences, skipped);
+    }
+}
@@ -1,19 +1,44 @@
 package com.book.together.gatherings.service;
 
+import com.book.together.auth.entity.MemberRole;
+import com.book.together.common.cache.TotalCountCache;
+import com.book.together.common.response.PageResponse;
+import com.book.together.common.response.TotalCount;
 import com.book.together.common.util.CurrentUserInfo;
+import com.book.together.gatherings.cache.NearbyGatheringIndex;
+import com.book.together.gatherings.cache.OccupancyGrid;
 import com.book.together.gatherings.dto.request.CreateGatheringRequest;
 import com.book.together.gatherings.dto.response.CreateGatheringResponse;
+import com.book.together.gatherings.dto.response.GatheringDetailResponse;
+import com.book.together.gatherings.dto.response.GatheringSummaryResponse;
+import com.book.together.gatherings.dto.response.NearbyGatheringResponse;
+import com.book.together.gatherings.dto.response.OccupancyResponse;
 import com.book.together.gatherings.entity.Gathering;
 import com.book.together.gatherings.entity.GatheringLocation;
 import com.book.together.gatherings.entity.GatheringParticipant;
 import com.book.together.gatherings.entity.GatheringType;
+import com.book.together.gatherings.event.GatheringCanceledEvent;
+import com.book.together.gatherings.event.GatheringCreatedEvent;
+import com.book.together.gatherings.event.GatheringSnapshot;
+import com.book.together.gatherings.event.ParticipantCanceledEvent;
+import com.book.together.gatherings.event.ParticipantJoinedEvent;
 import com.book.together.gatherings.exception.GatheringErrorCode;
 import com.book.together.gatherings.exception.GatheringException;
 import com.book.together.gatherings.repository.GatheringParticipantRepository;
 import com.book.together.gatherings.repository.GatheringRepository;
+import com.book.together.gatherings.repository.GatheringViewRepository;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Objects;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @RequiredArgsConstructor
@@ -25,42 +50,42 @@ public class GatheringService {
 
     private final GatheringParticipantRepository gatheringParticipantRepository;
 
+    private final TotalCountCache totalCountCache;
+
+    private final OccupancyGrid occupancyGrid;
+
+    private final NearbyGatheringIndex nearbyGatheringIndex;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final GatheringViewService gatheringViewService;
+
+    private final GatheringFavoriteService gatheringFavoriteService;
+
     private static final Integer MAX_CAPACITY = 3;
 
+    static final String OPEN_GATHERINGS_COUNT_KEY = "gatherings:open:";
+
+    private static final long MAX_OCCUPANCY_RANGE_DAYS = 31;
+
+    private static final double MAX_NEARBY_RADIUS_KM = 50.0;
+
+    private static final long DEFAULT_NEARBY_WINDOW_DAYS = 30;
+
     public CreateGatheringResponse create(CreateGatheringRequest request,
             CurrentUserInfo info) {
 
         String locationValue = request.location();
-        GatheringType type = request.type();
         String name = request.name();
         LocalDateTime localDateTime = request.dateTime();
-        Integer capacity = request.capacity();
         String image = request.image() == null ? null : request.image().trim();
-        LocalDateTime registrationEnd = request.registrationEnd();
-
-        // 1) 비즈니스 검증
-        if (capacity == null || capacity < MAX_CAPACITY) {
-            throw new GatheringException(GatheringErrorCode.INVALID_CAPACITY);
-        }
 
-        if (type == null) {
-            throw new GatheringException(GatheringErrorCode.INVALID_TYPE);
-        }
+        // 1) 비즈니스 검증 + 2) 모임 위치 문자열 -> enum 변환
+        GatheringLocation gatheringLocation = validate(request, LocalDateTime.now());
 
-        if (localDateTime == null || localDateTime.isBefore(LocalDateTime.now())) {
-            throw new GatheringException(GatheringErrorCode.INVALID_DATETIME);
-        }
-
-        if (registrationEnd != null && registrationEnd.isAfter(localDateTime)) {
-            throw new GatheringException(GatheringErrorCode.INVALID_REGISTRATION_END);
-        }
-
-        // 2) 모임 위치 문자열 -> enum 변환 ("건대입구" -> GatheringLocation.KONKUK_UNIVERSITY_STATION)
-        GatheringLocation gatheringLocation = GatheringLocation.from(locationValue);
-
-        // 3) 중복 체크
-        boolean duplicated = gatheringRepository
-                .existsByGatheringLocationAndDateTimeAndCanceledAtIsNull(
+        // 3) 중복 체크 (이 노드가 이미 아는 점유 슬롯이면 DB 조회 없이 거절)
+        boolean duplicated = occupancyGrid.isTaken(gatheringLocation, localDateTime)
+                || gatheringRepository.existsByGatheringLocationAndDateTimeAndCanceledAtIsNull(
                         gatheringLocation,
                         localDateTime
                 );
@@ -77,12 +102,12 @@ public class GatheringService {
         Long currentUserId = info.userId();
 
         Gathering gathering = Gathering.of(
-                type,
+                request.type(),
                 name,
                 localDateTime,
-                registrationEnd,
+                request.registrationEnd(),
                 gatheringLocation,
-                capacity,
+                request.capacity(),
                 image,
                 currentUserId
         );
@@ -95,14 +120,46 @@ public class GatheringService {
         // 5) 저장 (CascadeType.ALL 덕분에 participant도 같이 저장됨)
         Gathering saved = gatheringRepository.save(gathering);
 
-        // 6) 응답 변환
+        // 6) 커밋 이후 점유 현황 등 반영
+        eventPublisher.publishEvent(new GatheringCreatedEvent(GatheringSnapshot.from(saved)));
+
+        // 7) 응답 변환
         return CreateGatheringResponse.from(saved);
     }
 
 
+    /**
+     * 모임 생성 규칙 검증 (단건 생성과 대량 등록이 함께 사용)
+     *
+     * @return 모임 위치 문자열을 변환한 enum ("건대입구" -> GatheringLocation.KONKUK_UNIVERSITY_STATION)
+     */
+    static GatheringLocation validate(CreateGatheringRequest request, LocalDateTime now) {
+        Integer capacity = request.capacity();
+        LocalDateTime dateTime = request.dateTime();
+        LocalDateTime registrationEnd = request.registrationEnd();
+
+        if (capacity == null || capacity < MAX_CAPACITY) {
+            throw new GatheringException(GatheringErrorCode.INVALID_CAPACITY);
+        }
+
+        if (request.type() == null) {
+            throw new GatheringException(GatheringErrorCode.INVALID_TYPE);
+        }
+
+        if (dateTime == null || dateTime.isBefore(now)) {
+            throw new GatheringException(GatheringErrorCode.INVALID_DATETIME);
+        }
+
+        if (registrationEnd != null && registrationEnd.isAfter(dateTime)) {
+            throw new GatheringException(GatheringErrorCode.INVALID_REGISTRATION_END);
+        }
+
+        return GatheringLocation.from(request.location());
+    }
+
     public void join(Long id, CurrentUserInfo info) {
-        // 1) 모임 조회
-        Gathering gathering = gatheringRepository.findById(id)
+        // 1) 모임 조회 (행 잠금: 동시 모임 취소와 직렬화)
+        Gathering gathering = gatheringRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new GatheringException(GatheringErrorCode.NOT_FOUND_ID));
 
         Long memberId = info.userId();
@@ -114,9 +171,10 @@ public class GatheringService {
 
         LocalDateTime now = LocalDateTime.now();
 
-        // 모집 마감 이후면 참가 불가
-        if (gathering.getRegistrationEnd() != null &&
-                gathering.getRegistrationEnd().isBefore(now)) {
+        // 모집 마감 이후면 참가 불가 (타이머가 닫은 플래그 우선, 타이머 지연 대비 시각도 비교)
+        if (gathering.isRegistrationClosed()
+                || (gathering.getRegistrationEnd() != null
+                && gathering.getRegistrationEnd().isBefore(now))) {
             throw new GatheringException(GatheringErrorCode.GATHERING_CLOSED);
         }
 
@@ -146,5 +204,186 @@ public class GatheringService {
 
         // 6) 저장
         gatheringParticipantRepository.save(participant);
+
+        eventPublisher.publishEvent(new ParticipantJoinedEvent(
+                GatheringSnapshot.from(gathering),
+                memberId,
+                participant.getJoinedAt()
+        ));
+    }
+
+    public void leave(Long id, CurrentUserInfo info) {
+        Gathering gathering = gatheringRepository.findByIdForUpdate(id)
+                .orElseThrow(() -> new GatheringException(GatheringErrorCode.NOT_FOUND_ID));
+
+        Long memberId = info.userId();
+
+        if (gathering.getCanceledAt() != null) {
+            throw new GatheringException(GatheringErrorCode.GATHERING_CANCELED);
+        }
+
+        if (gathering.getDateTime().isBefore(LocalDateTime.now())) {
+            throw new GatheringException(GatheringErrorCode.GATHERING_STARTED);
+        }
+
+        // 주최자는 참여 취소 대신 모임 취소
+        if (Objects.equals(gathering.getCreatedBy(), memberId)) {
+            throw new GatheringException(GatheringErrorCode.HOST_CANNOT_LEAVE);
+        }
+
+        GatheringParticipant participant = gatheringParticipantRepository
+                .findByGathering_IdAndMemberIdAndCanceledAtIsNull(gathering.getId(), memberId)
+                .orElseThrow(() -> new GatheringException(GatheringErrorCode.NOT_JOINED));
+
+        participant.cancel();
+        gathering.decreaseParticipantCount();
+
+        eventPublisher.publishEvent(new ParticipantCanceledEvent(
+                GatheringSnapshot.from(gathering),
+                memberId,
+                participant.getCanceledAt()
+        ));
+    }
+
+    // 모임 취소 (주최자/관리자): 참가자 수와 무관하게 SELECT FOR UPDATE 1 + UPDATE 2, 캐시 정리와 알림은 커밋 후 비동기
+    // 모임 행을 잠가 진행 중인 참여/참여 취소가 끝난 뒤에 취소하고, 그동안 들어온 참여는 취소된 행을 보고 거절됨
+    public void cancel(Long id, CurrentUserInfo info) {
+        Gathering gathering = gatheringRepository.findByIdForUpdate(id)
+                .orElseThrow(() -> new GatheringException(GatheringErrorCode.NOT_FOUND_ID));
+
+        if (!Objects.equals(gathering.getCreatedBy(), info.userId())
+                && info.memberRole() != MemberRole.ADMIN) {
+            throw new GatheringException(GatheringErrorCode.NOT_HOST);
+        }
+
+        if (gathering.getCanceledAt() != null) {
+            throw new GatheringException(GatheringErrorCode.GATHERING_CANCELED);
+        }
+
+        // DB(datetime(6))와 같은 정밀도로 맞춰, 취소 시각으로 함께 취소된 참가자를 다시 찾을 수 있게 함
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        if (gathering.getDateTime().isBefore(now)) {
+            throw new GatheringException(GatheringErrorCode.CANNOT_CANCEL_STARTED);
+        }
+
+        // bulk UPDATE가 영속성 컨텍스트를 비우므로 이벤트용 스냅샷을 먼저 떠 둔다
+        GatheringSnapshot snapshot = GatheringSnapshot.from(gathering);
+
+        // 동시 취소 요청 중 하나만 통과
+        if (gatheringRepository.cancel(id, now) == 0) {
+            throw new GatheringException(GatheringErrorCode.GATHERING_CANCELED);
+        }
+        int canceledParticipants = gatheringParticipantRepository.cancelAllByGatheringId(id, now);
+
+        eventPublisher.publishEvent(new GatheringCanceledEvent(
+                snapshot,
+                info.userId(),
+                now,
+                canceledParticipants
+        ));
+    }
+
+    // 장소/기간별 시간 슬롯 점유 현황 (인메모리 그리드에서 응답, DB 조회 없음)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public OccupancyResponse getOccupancy(String locationValue, LocalDate from, LocalDate to) {
+        GatheringLocation location = GatheringLocation.from(locationValue);
+
+        LocalDate today = LocalDate.now();
+        LocalDate horizonEnd = today.plusDays(occupancyGrid.getHorizonDays() - 1L);
+        if (from == null || to == null
+                || from.isAfter(to)
+                || from.isBefore(today)
+                || to.isAfter(horizonEnd)
+                || from.plusDays(MAX_OCCUPANCY_RANGE_DAYS).isBefore(to)) {
+            throw new GatheringException(GatheringErrorCode.INVALID_DATE_RANGE);
+        }
+
+        return OccupancyResponse.of(
+                location.getName(),
+                OccupancyGrid.SLOT_MINUTES,
+                occupancyGrid.query(location, from, to)
+        );
+    }
+
+    // 모임 상세: 조회수는 노드 로컬 카운터에만 더하고 주기적으로 반영
+    @Transactional(readOnly = true)
+    public GatheringDetailResponse getGathering(Long id, CurrentUserInfo info) {
+        Gathering gathering = gatheringRepository.findById(id)
+                .orElseThrow(() -> new GatheringException(GatheringErrorCode.NOT_FOUND_ID));
+
+        gatheringViewService.record(id, info.userId());
+        GatheringViewRepository.Stats stats = gatheringViewService.read(id, gathering.getViewCount());
+
+        long favoriteCount;
+        try {
+            favoriteCount = gatheringFavoriteService.count(id);
+        } catch (DataAccessException e) {
+            favoriteCount = 0L; // 상세 조회는 찜 수 없이도 응답
+        }
+
+        return GatheringDetailResponse.of(gathering, stats.views(), stats.uniqueViewers(), favoriteCount);
+    }
+
+    // 모임 목록: 캐시된 total 모드 (COUNT는 필터 키별로 TTL 동안 재사용)
+    @Transactional(readOnly = true)
+    public PageResponse<GatheringSummaryResponse> getGatherings(
+            GatheringType type,
+            String locationValue,
+            Pageable pageable
+    ) {
+        GatheringLocation location = locationValue == null || locationValue.isBlank()
+                ? null
+                : GatheringLocation.from(locationValue.trim());
+
+        Slice<GatheringSummaryResponse> slice = gatheringRepository
+                .findOpenGatherings(LocalDateTime.now(), type, location, pageable)
+                .map(GatheringSummaryResponse::from);
+
+        TotalCount total = totalCountCache.get(
+                OPEN_GATHERINGS_COUNT_KEY + type + ":" + location,
+                () -> gatheringRepository.countOpenGatherings(LocalDateTime.now(), type, location)
+        );
+
+        return PageResponse.of(slice, total);
+    }
+
+    // 로그인된 사용자가 참석한 모임 목록: slice 모드 (total 없음)
+    @Transactional(readOnly = true)
+    public PageResponse<GatheringSummaryResponse> getJoinedGatherings(
+            CurrentUserInfo info,
+            Pageable pageable
+    ) {
+        Slice<GatheringSummaryResponse> slice = gatheringRepository
+                .findJoinedGatherings(info.userId(), pageable)
+                .map(GatheringSummaryResponse::from);
+
+        return PageResponse.of(slice);
+    }
+
+    // 내 주변 모임: 인메모리 위치 인덱스에서 거리 → 시간 순으로 응답 (DB 조회 없음)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<NearbyGatheringResponse> getNearby(
+            double lat,
+            double lng,
+            double radiusKm,
+            LocalDateTime from,
+            LocalDateTime to,
+            int limit
+    ) {
+        if (lat < -90 || lat > 90 || lng < -180 || lng > 180
+                || radiusKm <= 0 || radiusKm > MAX_NEARBY_RADIUS_KM) {
+            throw new GatheringException(GatheringErrorCode.INVALID_COORDINATE);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime start = from == null || from.isBefore(now) ? now : from;
+        LocalDateTime end = to == null ? start.plusDays(DEFAULT_NEARBY_WINDOW_DAYS) : to;
+        if (end.isBefore(start)) {
+            throw new GatheringException(GatheringErrorCode.INVALID_DATE_RANGE);
+        }
+
+        return nearbyGatheringIndex.search(lat, lng, radiusKm, start, end, limit).stream()
+                .map(NearbyGatheringResponse::from)
+                .toList();
     }
 }
@@ -0,0 +1,32 @@
+package com.book.together.gatherings.service;
+
+import java.time.Duration;
+import java.util.List;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@ConfigurationProperties(prefix = "gathering.timer")
+@Component
+public class GatheringTimerProperties {
+
+    // 타이밍 휠 한 칸의 크기 (타이머 정밀도)
+    private Duration tick = Duration.ofSeconds(1);
+
+    // 레벨당 2^wheelBits 슬롯, 전체 범위 = tick * 2^(wheelBits * levels)
+    private int wheelBits = 8;
+
+    private int levels = 4;
+
+    // 모집 마감 이 시간 전에 "곧 마감" 알림
+    private Duration registrationClosingNotice = Duration.ofHours(3);
+
+    // 모임 시작 N시간 전 알림
+    private List<Integer> reminderHours = List.of(24, 1);
+
+    // 만료 처리(DB 갱신, 캐시 무효화, 이벤트 발행) 스레드 수와 대기 큐 크기
+    private int handlerThreads = 2;
+
+    private int queueCapacity = 10_000;
+}
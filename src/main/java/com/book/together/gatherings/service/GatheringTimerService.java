@@ -0,0 +1,210 @@
+package com.book.together.gatherings.service;
+
+import com.book.together.common.cache.TotalCountCache;
+import com.book.together.common.scheduler.TimingWheel;
+import com.book.together.gatherings.cache.NearbyGatheringIndex;
+import com.book.together.gatherings.entity.Gathering;
+import com.book.together.gatherings.event.GatheringCreatedEvent;
+import com.book.together.gatherings.event.GatheringSnapshot;
+import com.book.together.gatherings.event.GatheringTimerEvent;
+import com.book.together.gatherings.event.GatheringTimerType;
+import com.book.together.gatherings.repository.GatheringRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 모집 마감 / 모임 시작 / N시간 전 알림 타이머.
+ *
+ * <p>기동 시 예정된 모임을 모두 {@link TimingWheel}에 올리고, 이후에는 모임 생성 커밋마다 등록한다.
+ * 등록은 건당 O(1)이며 노드에는 {@code (모임 id, 타입, 인자)}만 저장한다.</p>
+ *
+ * <p>만료 시:
+ * <ul>
+ *   <li>모집 마감: {@code registrationClosed} 플래그를 조건부 UPDATE로 올린다. 갱신된 노드만 이벤트 발행</li>
+ *   <li>모임 시작: 목록 total 캐시, 인기 랭킹, 위치 인덱스에서 제거 후 이벤트 발행</li>
+ *   <li>N시간 전 / 모집 마감 임박: 알림 발송용 {@link GatheringTimerEvent} 발행</li>
+ * </ul>
+ * 모임 취소는 타이머를 찾아 지우지 않고, 만료 시점에 취소 여부를 확인해 건너뛴다.</p>
+ *
+ * @implNote 휠 스레드는 만료 작업을 핸들러 풀에 넘기기만 한다. 풀 큐가 가득 차 버려진 모집 마감은
+ * 참여 요청의 시각 비교로 여전히 막힌다.
+ */
+@Slf4j(topic = "GatheringTimerService")
+@RequiredArgsConstructor
+@Service
+public class GatheringTimerService {
+
+    private final GatheringRepository gatheringRepository;
+
+    private final TotalCountCache totalCountCache;
+
+    private final PopularGatheringService popularGatheringService;
+
+    private final NearbyGatheringIndex nearbyGatheringIndex;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final GatheringTimerProperties properties;
+
+    private TimingWheel wheel;
+
+    private ThreadPoolExecutor handlers;
+
+    @PostConstruct
+    void start() {
+        AtomicInteger seq = new AtomicInteger();
+        this.handlers = new ThreadPoolExecutor(
+                properties.getHandlerThreads(), properties.getHandlerThreads(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                r -> {
+                    Thread t = new Thread(r, "gathering-timer-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                }
+        );
+        this.wheel = new TimingWheel(
+                "gathering-timer-wheel",
+                properties.getTick().toMillis(),
+                properties.getWheelBits(),
+                properties.getLevels(),
+                this::dispatch
+        );
+    }
+
+    @PreDestroy
+    void stop() {
+        wheel.stop();
+        handlers.shutdown();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<Gathering> upcoming = gatheringRepository
+                .findAllByCanceledAtIsNullAndDateTimeAfter(LocalDateTime.now());
+        for (Gathering g : upcoming) {
+            schedule(g.getId(), g.getRegistrationEnd(), g.isRegistrationClosed(), g.getDateTime());
+        }
+        log.info("모임 타이머 적재 완료: 모임 {}건, 타이머 {}건", upcoming.size(), wheel.size());
+    }
+
+    @TransactionalEventListener
+    public void on(GatheringCreatedEvent event) {
+        GatheringSnapshot g = event.gathering();
+        schedule(g.id(), g.registrationEnd(), false, g.dateTime());
+    }
+
+    private void schedule(Long gatheringId, LocalDateTime registrationEnd,
+            boolean registrationClosed, LocalDateTime dateTime) {
+        long startMs = toEpochMs(dateTime);
+
+        long nowMs = System.currentTimeMillis();
+
+        // 마감 시각이 이미 지났는데 아직 열려 있으면 다음 틱에 바로 닫힌다
+        if (registrationEnd != null && !registrationClosed) {
+            long closeAtMs = toEpochMs(registrationEnd);
+            wheel.schedule(closeAtMs, gatheringId, GatheringTimerType.REGISTRATION_CLOSED.ordinal(), 0);
+
+            long closingAtMs = closeAtMs - properties.getRegistrationClosingNotice().toMillis();
+            if (closingAtMs > nowMs) {
+                wheel.schedule(closingAtMs, gatheringId,
+                        GatheringTimerType.REGISTRATION_CLOSING.ordinal(), 0);
+            }
+        }
+
+        wheel.schedule(startMs, gatheringId, GatheringTimerType.GATHERING_STARTED.ordinal(), 0);
+
+        for (int hours : properties.getReminderHours()) {
+            long remindAtMs = startMs - TimeUnit.HOURS.toMillis(hours);
+            if (remindAtMs > nowMs) {
+                wheel.schedule(remindAtMs, gatheringId, GatheringTimerType.REMINDER.ordinal(), hours);
+            }
+        }
+    }
+
+    // 휠 스레드: 핸들러 풀로 넘기기만 함
+    private void dispatch(long gatheringId, int type, int arg) {
+        try {
+            handlers.execute(() -> fire(gatheringId, GatheringTimerType.of(type), arg));
+        } catch (RejectedExecutionException e) {
+            log.warn("모임 타이머 처리 대기열 초과로 건너뜀: gatheringId={}, type={}",
+                    gatheringId, GatheringTimerType.of(type));
+        }
+    }
+
+    private void fire(long gatheringId, GatheringTimerType type, int arg) {
+        try {
+            switch (type) {
+                case REGISTRATION_CLOSED -> onRegistrationClosed(gatheringId);
+                case GATHERING_STARTED -> onGatheringStarted(gatheringId);
+                case REMINDER -> onReminder(gatheringId, arg);
+                case REGISTRATION_CLOSING -> onRegistrationClosing(gatheringId);
+            }
+        } catch (RuntimeException e) {
+            log.error("모임 타이머 처리 실패: gatheringId={}, type={}", gatheringId, type, e);
+        }
+    }
+
+    private void onRegistrationClosed(long gatheringId) {
+        int updated = gatheringRepository.closeRegistration(gatheringId, LocalDateTime.now());
+        if (updated == 0) {
+            return; // 취소됐거나 다른 노드가 이미 닫음
+        }
+        eventPublisher.publishEvent(
+                new GatheringTimerEvent(gatheringId, GatheringTimerType.REGISTRATION_CLOSED, 0));
+    }
+
+    private void onGatheringStarted(long gatheringId) {
+        // 노드 로컬 캐시는 취소 여부와 관계없이 정리
+        totalCountCache.evictByPrefix(GatheringService.OPEN_GATHERINGS_COUNT_KEY);
+        nearbyGatheringIndex.remove(gatheringId);
+        popularGatheringService.remove(gatheringId);
+
+        if (isActive(gatheringId)) {
+            eventPublisher.publishEvent(
+                    new GatheringTimerEvent(gatheringId, GatheringTimerType.GATHERING_STARTED, 0));
+        }
+    }
+
+    private void onReminder(long gatheringId, int hoursBefore) {
+        if (isActive(gatheringId)) {
+            eventPublisher.publishEvent(
+                    new GatheringTimerEvent(gatheringId, GatheringTimerType.REMINDER, hoursBefore));
+        }
+    }
+
+    private void onRegistrationClosing(long gatheringId) {
+        boolean open = gatheringRepository.findById(gatheringId)
+                .map(g -> g.getCanceledAt() == null && !g.isRegistrationClosed())
+                .orElse(false);
+        if (open) {
+            eventPublisher.publishEvent(
+                    new GatheringTimerEvent(gatheringId, GatheringTimerType.REGISTRATION_CLOSING, 0));
+        }
+    }
+
+    private boolean isActive(long gatheringId) {
+        return gatheringRepository.findById(gatheringId)
+                .map(g -> g.getCanceledAt() == null)
+                .orElse(false);
+    }
+
+    private static long toEpochMs(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,18 @@
+package com.book.together.gatherings.service;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@ConfigurationProperties(prefix = "gathering.view")
+@Component
+public class GatheringViewProperties {
+
+    // 주기당 모임별로 모아 둘 최대 조회자 수 (초과분은 다음 주기 조회에서 다시 잡힘)
+    private int maxViewersPerFlush = 10_000;
+
+    // 조회자 HyperLogLog 보관 기간 (마지막 반영 기준)
+    private Duration viewersTtl = Duration.ofDays(90);
+}
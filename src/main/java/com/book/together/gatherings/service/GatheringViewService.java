@@ -0,0 +1,192 @@
+package com.book.together.gatherings.service;
+
+import com.book.together.gatherings.repository.GatheringViewJdbcRepository;
+import com.book.together.gatherings.repository.GatheringViewRepository;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 모임 조회수 / 순 조회자.
+ *
+ * <p>조회 1건은 노드 로컬 {@link LongAdder} 증가와 조회자 집합 추가뿐이다 (I/O, 잠금 없음). {@code flush-interval}마다
+ * 모임별 증가분을 {@code v1_gathering.view_count}에 UPDATE 1건으로 더하고, Redis 조회수 해시와 조회자
+ * HyperLogLog에 파이프라인으로 반영한다. 인기 모임이라도 행 갱신은 노드당 주기마다 1번이다.</p>
+ *
+ * <p>읽기는 {@code max(DB, Redis) + 이 노드의 미반영분}이므로, 다른 노드 조회분의 지연은 최대 한 주기다.</p>
+ */
+@Slf4j(topic = "GatheringViewService")
+@Service
+public class GatheringViewService {
+
+    private final GatheringViewJdbcRepository jdbcRepository;
+
+    private final GatheringViewRepository viewRepository;
+
+    private final GatheringViewProperties properties;
+
+    private final TransactionTemplate flushTransaction;
+
+    private final Map<Long, Pending> pending = new ConcurrentHashMap<>();
+
+    public GatheringViewService(
+            GatheringViewJdbcRepository jdbcRepository,
+            GatheringViewRepository viewRepository,
+            GatheringViewProperties properties,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.jdbcRepository = jdbcRepository;
+        this.viewRepository = viewRepository;
+        this.properties = properties;
+        this.flushTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 잠금 없는 경로: 맵 조회 후 {@link LongAdder} 증가. flush가 같은 순간 이 항목을 정리(retired)했으면
+     * 증가를 되돌리고 새 항목에 다시 더한다.
+     */
+    public void record(Long gatheringId, Long memberId) {
+        while (true) {
+            Pending p = pending.get(gatheringId);
+            if (p == null) {
+                p = pending.computeIfAbsent(gatheringId, k -> new Pending());
+            }
+            p.views.increment();
+            if (p.viewers.size() < properties.getMaxViewersPerFlush()) {
+                p.viewers.add(memberId);
+            }
+            if (!p.retired) {
+                return;
+            }
+            // 조회자는 집합이라 다시 더해도 무방
+            p.views.decrement();
+        }
+    }
+
+    /**
+     * @param dbViewCount 호출 측이 이미 읽은 {@code v1_gathering.view_count}
+     */
+    public GatheringViewRepository.Stats read(Long gatheringId, long dbViewCount) {
+        Pending p = pending.get(gatheringId);
+        long local = p == null ? 0 : Math.max(p.unflushed(), 0);
+
+        try {
+            GatheringViewRepository.Stats stats = viewRepository.read(gatheringId);
+            return new GatheringViewRepository.Stats(
+                    Math.max(stats.views(), dbViewCount) + local, stats.uniqueViewers());
+        } catch (DataAccessException e) {
+            log.debug("조회수 Redis 조회 실패: {}", e.toString());
+            return new GatheringViewRepository.Stats(dbViewCount + local, 0);
+        }
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${gathering.view.flush-interval:PT5S}")
+    public void flush() {
+        Map<Long, Long> deltas = new HashMap<>();
+        Map<Long, List<String>> viewers = new HashMap<>();
+
+        for (Map.Entry<Long, Pending> e : pending.entrySet()) {
+            Pending p = e.getValue();
+            long delta = p.take();
+            List<String> ids = p.drainViewers();
+
+            if (delta == 0 && ids.isEmpty()) {
+                // 한 주기 동안 조회가 없던 모임은 정리. retired를 먼저 세운 뒤 다시 확인하므로, 그 사이 증가한
+                // record()는 retired를 보고 다시 시도하거나(정리됨) 여기서 idle이 아니게 보인다(유지)
+                pending.computeIfPresent(e.getKey(), (k, current) -> {
+                    if (current != p) {
+                        return current;
+                    }
+                    p.retired = true;
+                    if (p.idle()) {
+                        return null;
+                    }
+                    p.retired = false;
+                    return current;
+                });
+                continue;
+            }
+            if (delta > 0) {
+                deltas.put(e.getKey(), delta);
+            }
+            if (!ids.isEmpty()) {
+                viewers.put(e.getKey(), ids);
+            }
+        }
+        if (deltas.isEmpty() && viewers.isEmpty()) {
+            return;
+        }
+
+        // MySQL이 기준값: 실패하면 증가분을 되돌려 다음 주기에 다시 반영
+        try {
+            flushTransaction.executeWithoutResult(status -> jdbcRepository.addViews(deltas));
+        } catch (DataAccessException e) {
+            log.warn("조회수 DB 반영 실패, 다음 주기에 재시도: {}건: {}", deltas.size(), e.toString());
+            deltas.forEach((id, delta) -> pending.computeIfAbsent(id, k -> new Pending()).giveBack(delta));
+            return;
+        }
+
+        try {
+            viewRepository.flush(deltas, viewers, properties.getViewersTtl());
+        } catch (DataAccessException e) {
+            log.warn("조회수 Redis 반영 실패 (DB에는 반영됨): {}", e.toString());
+        }
+    }
+
+    private static final class Pending {
+
+        private final LongAdder views = new LongAdder();
+
+        private final Set<Long> viewers = ConcurrentHashMap.newKeySet();
+
+        private long flushed; // flush 스레드만 변경
+
+        // 맵에서 빠졌거나 빠지는 중. record()가 증가 후 확인해 다시 시도
+        private volatile boolean retired;
+
+        private long unflushed() {
+            return views.sum() - flushed;
+        }
+
+        private boolean idle() {
+            return unflushed() == 0 && viewers.isEmpty();
+        }
+
+        // 누적값 기준으로 증가분을 잘라 가므로 동시 증가가 사라지지 않음.
+        // record()가 되돌리는 중이면 잠깐 음수가 될 수 있어 그때는 기준을 옮기지 않음
+        private long take() {
+            long total = views.sum();
+            long delta = total - flushed;
+            if (delta <= 0) {
+                return 0;
+            }
+            flushed = total;
+            return delta;
+        }
+
+        private void giveBack(long delta) {
+            flushed -= delta;
+        }
+
+        private List<String> drainViewers() {
+            List<String> ids = new ArrayList<>();
+            for (Long id : viewers) {
+                viewers.remove(id);
+                ids.add(String.valueOf(id));
+            }
+            return ids;
+        }
+    }
+}
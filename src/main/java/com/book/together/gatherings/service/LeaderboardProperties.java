@@ -0,0 +1,29 @@
+package com.book.together.gatherings.service;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@ConfigurationProperties(prefix = "gathering.leaderboard")
+@Component
+public class LeaderboardProperties {
+
+    // 주간 보드는 그 주(ISO 주차)가 끝난 뒤 이 기간까지 Redis에 유지
+    private Duration weeklyGrace = Duration.ofDays(28);
+
+    // 스트림 재전달 중복 제거 키 유지 기간
+    private Duration dedupeTtl = Duration.ofDays(3);
+
+    // 스냅샷 1회에 꺼낼 최대 변경 항목 수
+    private int snapshotBatchSize = 1_000;
+
+    // 스냅샷/복구 작업 lease (한 번에 한 노드만)
+    private Duration snapshotLease = Duration.ofMinutes(2);
+
+    // 복구 시 한 번에 읽을 스냅샷 행 수
+    private int restoreChunkSize = 5_000;
+
+    private int maxSize = 100;
+}
@@ -0,0 +1,365 @@
+package com.book.together.gatherings.service;
+
+import com.book.together.auth.entity.Member;
+import com.book.together.auth.repository.MemberRepository;
+import com.book.together.common.util.CurrentUserInfo;
+import com.book.together.gatherings.dto.response.LeaderboardEntryResponse;
+import com.book.together.gatherings.dto.response.LeaderboardRankResponse;
+import com.book.together.gatherings.dto.response.LeaderboardResponse;
+import com.book.together.gatherings.entity.LeaderboardPeriod;
+import com.book.together.gatherings.entity.LeaderboardSnapshot;
+import com.book.together.gatherings.event.GatheringCanceledEvent;
+import com.book.together.gatherings.event.GatheringCreatedEvent;
+import com.book.together.gatherings.event.GatheringEvent;
+import com.book.together.gatherings.event.GatheringEventHandler;
+import com.book.together.gatherings.event.GatheringSnapshot;
+import com.book.together.gatherings.event.ParticipantCanceledEvent;
+import com.book.together.gatherings.event.ParticipantJoinedEvent;
+import com.book.together.gatherings.exception.GatheringErrorCode;
+import com.book.together.gatherings.exception.GatheringException;
+import com.book.together.gatherings.repository.GatheringParticipantRepository;
+import com.book.together.gatherings.repository.LeaderboardRepository;
+import com.book.together.gatherings.repository.LeaderboardSnapshotJdbcRepository;
+import com.book.together.gatherings.repository.LeaderboardSnapshotJdbcRepository.LeaderboardScore;
+import com.book.together.gatherings.repository.LeaderboardSnapshotRepository;
+import java.lang.management.ManagementFactory;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.IsoFields;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 회사/회원 참여 리더보드.
+ *
+ * <p>참여/참여 취소/모임 생성(주최자 참여)/모임 취소 이벤트마다 회사 보드와 회사 안 회원 보드의 전체/주간
+ * sorted set을 ±1 한다. 주간은 모임 시각의 ISO 주차 기준이라 참여와 취소가 같은 주차에 반영된다.
+ * 상위 목록은 ZREVRANGE, 내 순위는 ZREVRANK(O(log N))로 답하며 참가자 테이블을 GROUP BY 하지 않는다.</p>
+ *
+ * <p>Redis 반영은 모임 이벤트 스트림({@code leaderboard} 그룹)에서 이벤트 id로 중복을 걸러 한 번만 하고,
+ * 바뀐 항목은 {@code snapshot-interval}마다 MySQL에 UPSERT한다. 기동 시 Redis 보드가 비어 있으면 스냅샷으로
+ * 전체/이번 주 보드를 복구한다 (마지막 스냅샷 이후의 증감은 잃는다).</p>
+ */
+@Slf4j(topic = "LeaderboardService")
+@Service
+public class LeaderboardService implements GatheringEventHandler {
+
+    private static final String ALL = "ALL";
+
+    private final LeaderboardRepository leaderboardRepository;
+
+    private final LeaderboardSnapshotRepository snapshotRepository;
+
+    private final LeaderboardSnapshotJdbcRepository jdbcRepository;
+
+    private final GatheringParticipantRepository gatheringParticipantRepository;
+
+    private final MemberRepository memberRepository;
+
+    private final LeaderboardProperties properties;
+
+    private final GatheringEventStreamProperties streamProperties;
+
+    private final TransactionTemplate snapshotTransaction;
+
+    private final String owner = ManagementFactory.getRuntimeMXBean().getName();
+
+    public LeaderboardService(
+            LeaderboardRepository leaderboardRepository,
+            LeaderboardSnapshotRepository snapshotRepository,
+            LeaderboardSnapshotJdbcRepository jdbcRepository,
+            GatheringParticipantRepository gatheringParticipantRepository,
+            MemberRepository memberRepository,
+            LeaderboardProperties properties,
+            GatheringEventStreamProperties streamProperties,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.leaderboardRepository = leaderboardRepository;
+        this.snapshotRepository = snapshotRepository;
+        this.jdbcRepository = jdbcRepository;
+        this.gatheringParticipantRepository = gatheringParticipantRepository;
+        this.memberRepository = memberRepository;
+        this.properties = properties;
+        this.streamProperties = streamProperties;
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public String group() {
+        return "leaderboard";
+    }
+
+    // 스트림 처리 중 오류는 워커가 재시도하도록 그대로 던짐 (이미 반영한 회원은 dedupe 키로 건너뜀)
+    @Override
+    public void handle(long eventId, GatheringEvent event) {
+        apply(String.valueOf(eventId), event);
+    }
+
+    // 스트림을 끈 경우에만 요청 노드에서 직접 반영
+    @TransactionalEventListener
+    public void onCommitted(GatheringEvent event) {
+        if (streamProperties.isEnabled()) {
+            return;
+        }
+        try {
+            apply(null, event);
+        } catch (DataAccessException e) {
+            log.warn("리더보드 반영 실패: {} gatheringId={}: {}",
+                    event.getClass().getSimpleName(), event.gathering().id(), e.toString());
+        }
+    }
+
+    private void apply(String eventId, GatheringEvent event) {
+        GatheringSnapshot g = event.gathering();
+
+        if (event instanceof GatheringCreatedEvent) {
+            apply(eventId, g, List.of(g.createdBy()), 1);
+        } else if (event instanceof ParticipantJoinedEvent joined) {
+            apply(eventId, g, List.of(joined.memberId()), 1);
+        } else if (event instanceof ParticipantCanceledEvent canceled) {
+            apply(eventId, g, List.of(canceled.memberId()), -1);
+        } else if (event instanceof GatheringCanceledEvent canceled) {
+            apply(eventId, g, gatheringParticipantRepository.findMemberIdsCanceledAt(
+                    g.id(), canceled.canceledAt()), -1);
+        }
+    }
+
+    private void apply(String eventId, GatheringSnapshot g, List<Long> memberIds, int delta) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+        LocalDate date = g.dateTime().toLocalDate();
+        String week = weekKey(date);
+        Instant weeklyExpireAt = weeklyExpireAt(date);
+
+        for (Member member : memberRepository.findAllById(memberIds)) {
+            String company = company(member);
+            if (company == null) {
+                continue; // 회사 정보가 없는 회원은 집계하지 않음
+            }
+            leaderboardRepository.apply(
+                    eventId == null ? null : eventId + ":" + member.getId(),
+                    properties.getDedupeTtl(),
+                    delta,
+                    company,
+                    member.getId(),
+                    week,
+                    weeklyExpireAt
+            );
+        }
+    }
+
+    public LeaderboardResponse getCompanies(LeaderboardPeriod period, int size) {
+        String periodKey = periodKey(period);
+        int k = clamp(size);
+
+        List<LeaderboardEntryResponse> entries = new ArrayList<>(k);
+        for (TypedTuple<String> t : leaderboardRepository.top(LeaderboardRepository.companyBoard(periodKey), k)) {
+            if (t.getValue() == null || t.getScore() == null) {
+                continue;
+            }
+            entries.add(new LeaderboardEntryResponse(
+                    entries.size() + 1, t.getValue(), t.getValue(), t.getScore().longValue()));
+        }
+        return LeaderboardResponse.of(period, periodKey, null, entries);
+    }
+
+    // 회원 이름은 상위 k명만 PK로 조회
+    public LeaderboardResponse getMembers(String company, LeaderboardPeriod period, int size) {
+        String periodKey = periodKey(period);
+        String normalized = normalize(company);
+        if (normalized == null) {
+            throw new GatheringException(GatheringErrorCode.NO_COMPANY);
+        }
+
+        List<TypedTuple<String>> top = leaderboardRepository
+                .top(LeaderboardRepository.memberBoard(periodKey, normalized), clamp(size)).stream()
+                .filter(t -> t.getValue() != null && t.getScore() != null)
+                .toList();
+
+        Map<Long, String> names = memberRepository
+                .findAllById(top.stream().map(t -> Long.parseLong(t.getValue())).toList()).stream()
+                .collect(Collectors.toMap(Member::getId, Member::getName));
+
+        List<LeaderboardEntryResponse> entries = new ArrayList<>(top.size());
+        for (TypedTuple<String> t : top) {
+            entries.add(new LeaderboardEntryResponse(entries.size() + 1, t.getValue(),
+                    names.get(Long.parseLong(t.getValue())), t.getScore().longValue()));
+        }
+        return LeaderboardResponse.of(period, periodKey, normalized, entries);
+    }
+
+    public LeaderboardRankResponse getMyCompanyRank(LeaderboardPeriod period, CurrentUserInfo info) {
+        String periodKey = periodKey(period);
+        String company = myCompany(info);
+        return LeaderboardRankResponse.of(period, periodKey, company, company,
+                leaderboardRepository.rank(LeaderboardRepository.companyBoard(periodKey), company));
+    }
+
+    public LeaderboardRankResponse getMyRank(LeaderboardPeriod period, CurrentUserInfo info) {
+        String periodKey = periodKey(period);
+        String company = myCompany(info);
+        String key = String.valueOf(info.userId());
+        return LeaderboardRankResponse.of(period, periodKey, company, key,
+                leaderboardRepository.rank(LeaderboardRepository.memberBoard(periodKey, company), key));
+    }
+
+    /**
+     * 바뀐 항목만 현재 점수로 MySQL에 반영한다. 실패하면 꺼낸 항목을 다시 dirty로 돌려 다음 주기에 재시도한다.
+     */
+    @Scheduled(fixedDelayString = "${gathering.leaderboard.snapshot-interval:PT1M}")
+    public void snapshot() {
+        try {
+            if (!leaderboardRepository.tryLease("snapshot", owner, properties.getSnapshotLease())) {
+                return;
+            }
+            try {
+                List<String> dirty;
+                do {
+                    dirty = leaderboardRepository.popDirty(properties.getSnapshotBatchSize());
+                    if (!dirty.isEmpty()) {
+                        snapshotBatch(dirty);
+                    }
+                } while (dirty.size() == properties.getSnapshotBatchSize());
+            } finally {
+                leaderboardRepository.releaseLease("snapshot", owner);
+            }
+        } catch (DataAccessException e) {
+            log.warn("리더보드 스냅샷 실패: {}", e.toString());
+        }
+    }
+
+    private void snapshotBatch(List<String> dirty) {
+        List<Double> scores = leaderboardRepository.scores(dirty);
+
+        List<LeaderboardScore> rows = new ArrayList<>(dirty.size());
+        for (int i = 0; i < dirty.size(); i++) {
+            String d = dirty.get(i);
+            int sep = d.indexOf(LeaderboardRepository.SEPARATOR);
+            String board = d.substring(0, sep);
+            Double score = scores.get(i);
+            rows.add(new LeaderboardScore(board, periodOf(board), d.substring(sep + 1),
+                    score == null ? null : score.longValue()));
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            snapshotTransaction.executeWithoutResult(status -> jdbcRepository.applyLeaderboardSnapshots(rows, now));
+        } catch (DataAccessException e) {
+            leaderboardRepository.markDirty(dirty);
+            throw e;
+        }
+    }
+
+    // Redis가 비워졌으면 (재시작/장애 복구) 스냅샷으로 전체/이번 주 보드를 다시 채움
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        try {
+            if (leaderboardRepository.exists(LeaderboardRepository.companyBoard(ALL))
+                    || !snapshotRepository.existsByPeriodKey(ALL)
+                    || !leaderboardRepository.tryLease("restore", owner, properties.getSnapshotLease())) {
+                return;
+            }
+            try {
+                String week = weekKey(LocalDate.now());
+                int restored = 0;
+                long afterId = 0L;
+                List<LeaderboardSnapshot> chunk;
+                do {
+                    chunk = snapshotRepository.findChunk(List.of(ALL, week), afterId,
+                            PageRequest.of(0, properties.getRestoreChunkSize()));
+                    if (chunk.isEmpty()) {
+                        break;
+                    }
+                    restoreChunk(chunk);
+                    restored += chunk.size();
+                    afterId = chunk.get(chunk.size() - 1).getId();
+                } while (chunk.size() == properties.getRestoreChunkSize());
+                log.info("리더보드 복구 완료: {}건", restored);
+            } finally {
+                leaderboardRepository.releaseLease("restore", owner);
+            }
+        } catch (DataAccessException e) {
+            log.warn("리더보드 복구 실패: {}", e.toString());
+        }
+    }
+
+    private void restoreChunk(List<LeaderboardSnapshot> chunk) {
+        Map<String, List<TypedTuple<String>>> byBoard = new LinkedHashMap<>();
+        Map<String, String> periods = new HashMap<>();
+        for (LeaderboardSnapshot s : chunk) {
+            byBoard.computeIfAbsent(s.getBoard(), b -> new ArrayList<>())
+                    .add(new DefaultTypedTuple<>(s.getEntry(), (double) s.getScore()));
+            periods.put(s.getBoard(), s.getPeriodKey());
+        }
+        // 복구 대상 주간 보드는 이번 주뿐
+        Instant weeklyExpireAt = weeklyExpireAt(LocalDate.now());
+        byBoard.forEach((board, entries) -> leaderboardRepository.add(board, entries,
+                ALL.equals(periods.get(board)) ? null : weeklyExpireAt));
+    }
+
+    private String myCompany(CurrentUserInfo info) {
+        String company = memberRepository.findById(info.userId()).map(LeaderboardService::company).orElse(null);
+        if (company == null) {
+            throw new GatheringException(GatheringErrorCode.NO_COMPANY);
+        }
+        return company;
+    }
+
+    private int clamp(int size) {
+        return Math.min(Math.max(size, 1), properties.getMaxSize());
+    }
+
+    private static String company(Member member) {
+        return normalize(member.getCompanyName());
+    }
+
+    private static String normalize(String company) {
+        return company == null || company.isBlank() ? null : company.strip();
+    }
+
+    private static String periodKey(LeaderboardPeriod period) {
+        return period == LeaderboardPeriod.ALL_TIME ? ALL : weekKey(LocalDate.now());
+    }
+
+    // company:{period} / member:{period}:{company}
+    private static String periodOf(String board) {
+        int start = board.indexOf(':') + 1;
+        int end = board.indexOf(':', start);
+        return end < 0 ? board.substring(start) : board.substring(start, end);
+    }
+
+    // 주간 보드 만료 시각: 그 주(월요일 시작)가 끝난 뒤 weekly-grace
+    private Instant weeklyExpireAt(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+                .plusWeeks(1)
+                .atStartOfDay(ZoneId.systemDefault())
+                .toInstant()
+                .plus(properties.getWeeklyGrace());
+    }
+
+    static String weekKey(LocalDate date) {
+        return String.format("%d-W%02d",
+                date.get(IsoFields.WEEK_BASED_YEAR), date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
+    }
+}
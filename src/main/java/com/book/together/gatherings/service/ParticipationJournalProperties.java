@@ -0,0 +1,33 @@
+package com.book.together.gatherings.service;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+@Data
+@ConfigurationProperties(prefix = "gathering.journal")
+@Component
+public class ParticipationJournalProperties {
+
+    private boolean enabled = true;
+
+    // 세그먼트 파일 디렉터리 (노드 로컬 디스크)
+    private String dir = "./data/journal";
+
+    // 세그먼트 1개 크기 (최대 2GB, 레코드 40B)
+    private DataSize segmentSize = DataSize.ofMegabytes(64);
+
+    // 그룹 커밋 주기: 이 간격마다 새로 쓴 범위를 한 번에 fsync
+    private Duration flushInterval = Duration.ofMillis(50);
+
+    // true면 append가 자기 레코드의 fsync까지 기다림 (최대 flush-interval 지연)
+    private boolean syncOnAppend = false;
+
+    // 마지막 레코드가 이 기간보다 오래된 세그먼트는 삭제
+    private Duration retention = Duration.ofDays(400);
+
+    // 이력 조회 1회 최대 건수
+    private int maxHistorySize = 1_000;
+}
@@ -0,0 +1,93 @@
+package com.book.together.gatherings.service;
+
+import com.book.together.gatherings.dto.response.JournalHistoryResponse;
+import com.book.together.gatherings.event.GatheringCanceledEvent;
+import com.book.together.gatherings.event.ParticipantCanceledEvent;
+import com.book.together.gatherings.event.ParticipantJoinedEvent;
+import com.book.together.gatherings.exception.GatheringErrorCode;
+import com.book.together.gatherings.exception.GatheringException;
+import com.book.together.gatherings.journal.ParticipationAction;
+import com.book.together.gatherings.journal.ParticipationJournal;
+import com.book.together.gatherings.journal.ParticipationSource;
+import com.book.together.gatherings.repository.GatheringParticipantRepository;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 참여/취소 감사 기록.
+ *
+ * <p>커밋된 참여/취소를 이 노드의 {@link ParticipationJournal}에 남긴다. MySQL 쓰기를 늘리지 않고, 기록 실패가
+ * 요청을 실패시키지 않는다. 각 노드는 자기가 처리한 요청만 기록하므로 전체 이력은 노드별 저널을 합쳐서 본다.</p>
+ *
+ * <p>모임 취소는 취소한 회원의 {@code GATHERING_CANCEL} 1건과, 함께 취소된 참가자마다 {@code LEAVE} 1건을 남긴다.</p>
+ */
+@Slf4j(topic = "ParticipationJournalService")
+@RequiredArgsConstructor
+@Service
+public class ParticipationJournalService {
+
+    private final ParticipationJournal journal;
+
+    private final ParticipationJournalProperties properties;
+
+    private final GatheringParticipantRepository gatheringParticipantRepository;
+
+    @TransactionalEventListener
+    public void on(ParticipantJoinedEvent event) {
+        append(event.joinedAt(), event.gathering().id(), event.memberId(),
+                ParticipationAction.JOIN, ParticipationSource.MEMBER);
+    }
+
+    @TransactionalEventListener
+    public void on(ParticipantCanceledEvent event) {
+        append(event.canceledAt(), event.gathering().id(), event.memberId(),
+                ParticipationAction.LEAVE, ParticipationSource.MEMBER);
+    }
+
+    @TransactionalEventListener
+    public void on(GatheringCanceledEvent event) {
+        ParticipationSource source = Objects.equals(event.canceledBy(), event.gathering().createdBy())
+                ? ParticipationSource.HOST
+                : ParticipationSource.ADMIN;
+        append(event.canceledAt(), event.gathering().id(), event.canceledBy(),
+                ParticipationAction.GATHERING_CANCEL, source);
+
+        // 모임 취소로 함께 취소된 참가자도 각각 LEAVE로 남겨, 회원별 이력이 모임 취소 레코드 해석 없이 닫히게 한다
+        List<Long> memberIds;
+        try {
+            memberIds = gatheringParticipantRepository.findMemberIdsCanceledAt(
+                    event.gathering().id(), event.canceledAt());
+        } catch (RuntimeException e) {
+            log.error("참가 저널 기록 실패: 모임 취소 참가자 조회 실패 gatheringId={}", event.gathering().id(), e);
+            return;
+        }
+        for (Long memberId : memberIds) {
+            append(event.canceledAt(), event.gathering().id(), memberId, ParticipationAction.LEAVE, source);
+        }
+    }
+
+    public JournalHistoryResponse getHistory(Long gatheringId, Long afterSeq, int size) {
+        if (!journal.isAvailable()) {
+            throw new GatheringException(GatheringErrorCode.JOURNAL_UNAVAILABLE);
+        }
+        int limit = Math.min(Math.max(size, 1), properties.getMaxHistorySize());
+        return JournalHistoryResponse.of(
+                journal.history(gatheringId, afterSeq == null ? -1 : afterSeq, limit), limit);
+    }
+
+    private void append(LocalDateTime at, Long gatheringId, Long memberId,
+            ParticipationAction action, ParticipationSource source) {
+        try {
+            journal.append(at.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(),
+                    gatheringId, memberId == null ? 0L : memberId, action, source);
+        } catch (RuntimeException e) {
+            log.error("참가 저널 기록 실패: gatheringId={}, memberId={}, action={}", gatheringId, memberId, action, e);
+        }
+    }
+}
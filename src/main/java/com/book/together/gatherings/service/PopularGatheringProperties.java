@@ -0,0 +1,23 @@
+package com.book.together.gatherings.service;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@ConfigurationProperties(prefix = "gathering.popular")
+@Component
+public class PopularGatheringProperties {
+
+    // 참여 1건의 영향력이 절반으로 줄어드는 시간
+    private Duration halfLife = Duration.ofHours(6);
+
+    // 이 기간 동안 참여가 없으면 랭킹에서 제외
+    private Duration window = Duration.ofHours(48);
+
+    // Redis 장애 감지 후 로컬 랭킹만 사용하는 시간
+    private Duration redisRetryAfter = Duration.ofSeconds(30);
+
+    private int maxSize = 50;
+}
@@ -0,0 +1,192 @@
+package com.book.together.gatherings.service;
+
+import com.book.together.gatherings.cache.LocalPopularRanking;
+import com.book.together.gatherings.dto.response.PopularGatheringResponse;
+import com.book.together.gatherings.entity.Gathering;
+import com.book.together.gatherings.event.GatheringEvent;
+import com.book.together.gatherings.event.GatheringEventHandler;
+import com.book.together.gatherings.event.GatheringSnapshot;
+import com.book.together.gatherings.event.ParticipantJoinedEvent;
+import com.book.together.gatherings.repository.GatheringRankingRepository;
+import com.book.together.gatherings.repository.GatheringRepository;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * "지금 인기 있는 모임" 피드.
+ *
+ * <p>참여가 커밋될 때마다 {@code (1 + 참여 후 정원 충족률)}을 시간 가중치와 곱해 점수에 더한다.
+ * 읽기는 Redis 랭킹이 기본이며, Redis 장애 시에는 {@code redis-retry-after} 동안 로컬 랭킹으로 응답한다.</p>
+ *
+ * <p>Redis 랭킹 반영은 모임 이벤트 스트림({@code popular-ranking} 그룹)에서 한 번만 수행하고, 가중치 시각으로
+ * 참여 시각을 써서 재전달/지연 처리에도 점수가 같다. 로컬 랭킹은 이 노드의 커밋 이벤트로 바로 갱신한다.</p>
+ */
+@Slf4j(topic = "PopularGatheringService")
+@RequiredArgsConstructor
+@Service
+public class PopularGatheringService implements GatheringEventHandler {
+
+    private static final int MAX_HALF_LIVES = 32; // 가중치가 2^32 배를 넘기 전에 rebase
+
+    private final GatheringRankingRepository rankingRepository;
+
+    private final LocalPopularRanking localRanking;
+
+    private final GatheringRepository gatheringRepository;
+
+    private final PopularGatheringProperties properties;
+
+    private final GatheringEventStreamProperties streamProperties;
+
+    private volatile long redisDownUntilMs = 0L;
+
+    @TransactionalEventListener
+    public void onJoined(ParticipantJoinedEvent event) {
+        GatheringSnapshot g = event.gathering();
+        long nowMs = System.currentTimeMillis();
+
+        localRanking.increment(g.id(), baseWeight(g), expireAtSec(g), nowMs,
+                properties.getHalfLife().toMillis());
+
+        // 스트림을 끈 경우에만 요청 노드에서 직접 Redis 반영
+        if (!streamProperties.isEnabled()) {
+            incrementRedis(g, nowMs);
+        }
+    }
+
+    @Override
+    public String group() {
+        return "popular-ranking";
+    }
+
+    @Override
+    public void handle(long eventId, GatheringEvent event) {
+        if (event instanceof ParticipantJoinedEvent joined) {
+            long joinedAtMs = joined.joinedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            // 스트림 처리 중 Redis 오류는 워커가 재시도하도록 그대로 던짐
+            rankingRepository.increment(joined.gathering().id(), baseWeight(joined.gathering()),
+                    expireAtSec(joined.gathering()), joinedAtMs, properties.getHalfLife().toMillis());
+        }
+    }
+
+    private void incrementRedis(GatheringSnapshot g, long nowMs) {
+        if (isRedisDown(nowMs)) {
+            return;
+        }
+        try {
+            rankingRepository.increment(g.id(), baseWeight(g), expireAtSec(g), nowMs,
+                    properties.getHalfLife().toMillis());
+        } catch (DataAccessException e) {
+            markRedisDown(e);
+        }
+    }
+
+    private static double baseWeight(GatheringSnapshot g) {
+        double fillRatio = g.capacity() == 0 ? 0.0 : (double) g.participantCount() / g.capacity();
+        return 1.0 + Math.min(fillRatio, 1.0);
+    }
+
+    private static long expireAtSec(GatheringSnapshot g) {
+        return g.dateTime().atZone(ZoneId.systemDefault()).toEpochSecond();
+    }
+
+    @Transactional(readOnly = true)
+    public List<PopularGatheringResponse> getPopular(int size) {
+        int k = Math.min(Math.max(size, 1), properties.getMaxSize());
+
+        List<LocalPopularRanking.Ranked> ranked = readTop(k);
+        if (ranked.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = ranked.stream().map(LocalPopularRanking.Ranked::gatheringId).toList();
+        Map<Long, Gathering> gatherings = gatheringRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Gathering::getId, Function.identity()));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<PopularGatheringResponse> responses = new ArrayList<>(ranked.size());
+        for (LocalPopularRanking.Ranked r : ranked) {
+            Gathering g = gatherings.get(r.gatheringId());
+            if (g == null || g.getCanceledAt() != null || g.getDateTime().isBefore(now)) {
+                continue; // 다음 정리 주기 전까지 남아 있는 항목
+            }
+            responses.add(PopularGatheringResponse.of(responses.size() + 1, r.score(), g));
+        }
+        return responses;
+    }
+
+    public void remove(Long gatheringId) {
+        localRanking.remove(gatheringId);
+        if (isRedisDown(System.currentTimeMillis())) {
+            return;
+        }
+        try {
+            rankingRepository.remove(gatheringId);
+        } catch (DataAccessException e) {
+            markRedisDown(e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${gathering.popular.prune-interval:PT5M}")
+    public void prune() {
+        long nowMs = System.currentTimeMillis();
+        long nowSec = nowMs / 1000;
+        long windowStartMs = nowMs - properties.getWindow().toMillis();
+        long halfLifeMs = properties.getHalfLife().toMillis();
+
+        int localRemoved = localRanking.prune(nowSec, windowStartMs);
+        localRanking.rebase(nowMs, halfLifeMs, MAX_HALF_LIVES);
+
+        if (isRedisDown(nowMs)) {
+            return;
+        }
+        try {
+            int removed = rankingRepository.prune(nowSec, windowStartMs);
+            rankingRepository.rebase(nowMs, halfLifeMs, MAX_HALF_LIVES);
+            log.debug("인기 랭킹 정리: redis={}건, local={}건", removed, localRemoved);
+        } catch (DataAccessException e) {
+            markRedisDown(e);
+        }
+    }
+
+    private List<LocalPopularRanking.Ranked> readTop(int k) {
+        if (!isRedisDown(System.currentTimeMillis())) {
+            try {
+                List<LocalPopularRanking.Ranked> ranked = new ArrayList<>(k);
+                for (TypedTuple<String> t : rankingRepository.top(k)) {
+                    if (t.getValue() == null || t.getScore() == null) {
+                        continue;
+                    }
+                    ranked.add(new LocalPopularRanking.Ranked(Long.parseLong(t.getValue()), t.getScore()));
+                }
+                return ranked;
+            } catch (DataAccessException e) {
+                markRedisDown(e);
+            }
+        }
+        return localRanking.top(k);
+    }
+
+    private boolean isRedisDown(long nowMs) {
+        return nowMs < redisDownUntilMs;
+    }
+
+    private void markRedisDown(DataAccessException e) {
+        redisDownUntilMs = System.currentTimeMillis() + properties.getRedisRetryAfter().toMillis();
+        log.warn("인기 랭킹 Redis 사용 불가 → {} 동안 로컬 랭킹 사용: {}",
+                properties.getRedisRetryAfter(), e.toString());
+    }
+}
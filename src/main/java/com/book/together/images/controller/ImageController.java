@@ -0,0 +1,104 @@
+package com.book.together.images.controller;
+
+import com.book.together.auth.entity.MemberRole;
+import com.book.together.common.annotation.RequireRole;
+import com.book.together.common.response.ApiResponse;
+import com.book.together.images.dto.response.ImageUploadResponse;
+import com.book.together.images.exception.ImageErrorCode;
+import com.book.together.images.exception.ImageException;
+import com.book.together.images.service.ImageStorageProperties;
+import com.book.together.images.service.ImageStorageService;
+import com.book.together.images.service.ImageStorageService.StoredImage;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+@RequiredArgsConstructor
+@RestController
+public class ImageController {
+
+    private static final Pattern NAME = Pattern.compile("^[0-9a-f]{64}(_\\d{2,4})?\\.(jpg|png|gif|webp)$");
+
+    // Tomcat NIO 커넥터의 sendfile 요청 속성
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final ImageStorageService imageStorageService;
+
+    private final ImageStorageProperties properties;
+
+    // 이미지 업로드 → 모임/프로필 image 필드에 넣을 경로 반환
+    @RequireRole(value = {MemberRole.USER, MemberRole.ADMIN})
+    @PostMapping(value = "/api/v1/images", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<ImageUploadResponse>> upload(@RequestPart("file") MultipartFile file) {
+        ImageUploadResponse response = imageStorageService.upload(file);
+        return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(response));
+    }
+
+    /**
+     * 이미지 파일 응답. 파일 이름이 내용 해시라 내용이 바뀌지 않으므로 immutable로 길게 캐시한다.
+     *
+     * <p>Tomcat이 sendfile을 지원하면 파일 경로만 요청 속성으로 넘기고 바로 반환한다. 전송은 커넥터 poller가
+     * 커널 sendfile로 처리하므로 요청 스레드가 전송 내내 묶이지 않고 힙을 거치지도 않는다. 지원하지 않으면
+     * {@link FileChannel#transferTo}로 응답 스트림에 넘긴다.</p>
+     */
+    @GetMapping("/images/{name}")
+    public void serve(@PathVariable String name, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        if (!NAME.matcher(name).matches()) {
+            throw new ImageException(ImageErrorCode.NOT_FOUND);
+        }
+        StoredImage image = imageStorageService.find(name);
+
+        String etag = "\"" + image.path().getFileName() + "\"";
+        long maxAge = (image.fallback() ? properties.getFallbackMaxAge() : properties.getCacheMaxAge()).toSeconds();
+        response.setHeader(HttpHeaders.CACHE_CONTROL,
+                image.fallback() ? "public, max-age=" + maxAge : "public, max-age=" + maxAge + ", immutable");
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader("X-Content-Type-Options", "nosniff");
+
+        if (etag.equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+
+        response.setContentType(image.format().getContentType());
+        response.setContentLengthLong(image.size());
+        if ("HEAD".equals(request.getMethod())) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, image.path().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, image.size());
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(image.path(), StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = 0;
+            while (position < image.size()) {
+                position += channel.transferTo(position, image.size() - position, out);
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.book.together.images.dto.response;
+
+import java.util.Map;
+
+/**
+ * @param url        모임/회원 image 필드에 그대로 넣을 원본 경로
+ * @param thumbnails 너비 → 썸네일 경로. 백그라운드에서 만들어지며, 만들어지기 전에는 원본을 짧은 캐시로 응답한다
+ */
+public record ImageUploadResponse(
+        String hash,
+        String url,
+        Map<Integer, String> thumbnails,
+        String contentType,
+        long size
+) {
+
+}
@@ -0,0 +1,52 @@
+package com.book.together.images.entity;
+
+import java.util.Arrays;
+import java.util.Optional;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 업로드 허용 형식. 확장자/Content-Type 헤더가 아니라 파일 앞부분(매직 바이트)으로 판별한다.
+ */
+@RequiredArgsConstructor
+@Getter
+public enum ImageFormat {
+    JPEG("image/jpeg", "jpg", "jpeg", false),
+    PNG("image/png", "png", "png", true),
+    GIF("image/gif", "gif", "gif", true),
+    WEBP("image/webp", "webp", null, true); // JDK ImageIO에 코덱이 없어 썸네일 없이 원본만 제공
+
+    public static final int HEADER_BYTES = 12;
+
+    private final String contentType;
+    private final String extension;
+    private final String imageIoName; // 썸네일 인코딩용, null이면 썸네일 생성 안 함
+    private final boolean alpha;
+
+    public boolean hasThumbnails() {
+        return imageIoName != null;
+    }
+
+    public static Optional<ImageFormat> detect(byte[] h, int length) {
+        if (length >= 3 && (h[0] & 0xFF) == 0xFF && (h[1] & 0xFF) == 0xD8 && (h[2] & 0xFF) == 0xFF) {
+            return Optional.of(JPEG);
+        }
+        if (length >= 8 && (h[0] & 0xFF) == 0x89 && h[1] == 'P' && h[2] == 'N' && h[3] == 'G'
+                && h[4] == 0x0D && h[5] == 0x0A && h[6] == 0x1A && h[7] == 0x0A) {
+            return Optional.of(PNG);
+        }
+        if (length >= 6 && h[0] == 'G' && h[1] == 'I' && h[2] == 'F' && h[3] == '8'
+                && (h[4] == '7' || h[4] == '9') && h[5] == 'a') {
+            return Optional.of(GIF);
+        }
+        if (length >= 12 && h[0] == 'R' && h[1] == 'I' && h[2] == 'F' && h[3] == 'F'
+                && h[8] == 'W' && h[9] == 'E' && h[10] == 'B' && h[11] == 'P') {
+            return Optional.of(WEBP);
+        }
+        return Optional.empty();
+    }
+
+    public static Optional<ImageFormat> fromExtension(String extension) {
+        return Arrays.stream(values()).filter(f -> f.extension.equals(extension)).findFirst();
+    }
+}
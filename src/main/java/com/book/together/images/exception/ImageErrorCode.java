@@ -0,0 +1,29 @@
+package com.book.together.images.exception;
+
+import com.book.together.common.exception.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+@RequiredArgsConstructor
+@Getter
+public enum ImageErrorCode implements ErrorCode {
+    EMPTY_FILE(HttpStatus.BAD_REQUEST, "이미지: 업로드할 파일이 없습니다."),
+    UNSUPPORTED_FORMAT(HttpStatus.UNSUPPORTED_MEDIA_TYPE, "이미지: 지원하지 않는 형식입니다. (JPEG, PNG, GIF, WEBP)"),
+    TOO_MANY_PIXELS(HttpStatus.BAD_REQUEST, "이미지: 해상도가 너무 큽니다. 최대 %s 픽셀까지 업로드할 수 있습니다."),
+    NOT_FOUND(HttpStatus.NOT_FOUND, "이미지: 이미지를 찾을 수 없습니다."),
+    STORAGE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "이미지: 이미지를 저장하지 못했습니다.");
+
+
+    private final HttpStatus httpStatus;
+    private final String message;
+    @Override
+    public HttpStatus getHttpStatus() {
+        return httpStatus;
+    }
+
+    @Override
+    public String getMessage() {
+        return message;
+    }
+}
@@ -0,0 +1,16 @@
+package com.book.together.images.exception;
+
+import com.book.together.common.exception.ErrorCode;
+import com.book.together.common.exception.ErrorException;
+
+public class ImageException extends ErrorException {
+
+    public ImageException(ErrorCode errorCode) {
+        super(errorCode);
+    }
+
+
+    public ImageException(ErrorCode errorCode, Object... args) {
+        super(errorCode, args);
+    }
+}
@@ -0,0 +1,32 @@
+package com.book.together.images.service;
+
+import java.time.Duration;
+import java.util.List;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@ConfigurationProperties(prefix = "image.storage")
+@Component
+public class ImageStorageProperties {
+
+    // 이미지 파일 루트 디렉터리 (노드 로컬 디스크 또는 공유 볼륨)
+    private String root = "./data/images";
+
+    // 해상도 상한 (디코딩 전에 헤더로 검사 → 압축 폭탄 방지)
+    private long maxPixels = 40_000_000L;
+
+    // 생성할 썸네일 너비
+    private List<Integer> thumbnailWidths = List.of(200, 640);
+
+    // 썸네일 생성 스레드 수 / 대기열 길이 (가득 차면 건너뛰고 첫 조회 때 다시 시도)
+    private int thumbnailThreads = 2;
+    private int thumbnailQueueCapacity = 200;
+
+    // 내용 주소 파일이라 내용이 바뀌지 않으므로 길게 캐시
+    private Duration cacheMaxAge = Duration.ofDays(365);
+
+    // 썸네일이 아직 없어 원본으로 대신 응답할 때의 캐시 시간
+    private Duration fallbackMaxAge = Duration.ofMinutes(1);
+}
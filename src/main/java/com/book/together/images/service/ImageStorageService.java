@@ -0,0 +1,352 @@
+package com.book.together.images.service;
+
+import com.book.together.images.dto.response.ImageUploadResponse;
+import com.book.together.images.entity.ImageFormat;
+import com.book.together.images.exception.ImageErrorCode;
+import com.book.together.images.exception.ImageException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 이미지 업로드/저장 (노드 로컬 디스크, 내용 주소 방식)
+ *
+ * <p>멀티파트 본문은 컨테이너가 임시 파일로 받은 것을({@code file-size-threshold: 0}) 스테이징 디렉터리로 옮긴 뒤,
+ * direct 버퍼로 읽으며 SHA-256을 계산하고 {@code {root}/{해시 앞 2자}/{해시}.{확장자}}로 원자적 이동한다. 힙에
+ * 파일 전체를 올리지 않으며, 같은 파일을 다시 올리면 기존 파일을 그대로 쓴다.</p>
+ *
+ * <p>형식은 매직 바이트로 판별하고 해상도는 헤더만 읽어 검사한다(디코딩 전 압축 폭탄 차단). 썸네일은 크기가
+ * 정해진 전용 풀에서 만들며, 대기열이 가득 차 건너뛴 썸네일은 처음 조회될 때 다시 요청한다.</p>
+ */
+@Slf4j(topic = "ImageStorageService")
+@Service
+public class ImageStorageService {
+
+    public static final String URL_PREFIX = "/images/";
+
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private final ImageStorageProperties properties;
+
+    private final ThreadPoolExecutor thumbnailers;
+
+    // 생성 중이거나 대기 중인 썸네일의 원본 해시 (같은 이미지 중복 작업 방지)
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+    private Path root;
+
+    private Path staging;
+
+    public ImageStorageService(ImageStorageProperties properties) {
+        this.properties = properties;
+
+        AtomicInteger seq = new AtomicInteger();
+        this.thumbnailers = new ThreadPoolExecutor(
+                properties.getThumbnailThreads(), properties.getThumbnailThreads(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getThumbnailQueueCapacity()),
+                r -> {
+                    Thread t = new Thread(r, "image-thumbnail-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                }
+        );
+    }
+
+    @PostConstruct
+    public void init() throws IOException {
+        root = Path.of(properties.getRoot()).toAbsolutePath().normalize();
+        staging = root.resolve(".staging");
+        Files.createDirectories(staging);
+        log.info("이미지 저장소: root={}", root);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        thumbnailers.shutdownNow();
+    }
+
+    public ImageUploadResponse upload(MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new ImageException(ImageErrorCode.EMPTY_FILE);
+        }
+
+        Path temp = staging.resolve(UUID.randomUUID() + ".upload");
+        try {
+            file.transferTo(temp); // 같은 파일 시스템이면 rename, 아니면 커널 복사
+
+            byte[] header = new byte[ImageFormat.HEADER_BYTES];
+            String hash = hash(temp, header);
+            ImageFormat format = ImageFormat.detect(header, header.length)
+                    .orElseThrow(() -> new ImageException(ImageErrorCode.UNSUPPORTED_FORMAT));
+            checkPixels(temp, format);
+
+            Path target = original(hash, format);
+            long size = Files.size(temp);
+            Files.createDirectories(target.getParent());
+            if (Files.exists(target)) {
+                Files.delete(temp);
+            } else {
+                move(temp, target);
+            }
+
+            Map<Integer, String> thumbnails = new LinkedHashMap<>();
+            if (format.hasThumbnails()) {
+                for (int width : properties.getThumbnailWidths()) {
+                    thumbnails.put(width, URL_PREFIX + thumbnailName(hash, width, format));
+                }
+                requestThumbnails(hash, format);
+            }
+            return new ImageUploadResponse(hash, URL_PREFIX + target.getFileName(), thumbnails,
+                    format.getContentType(), size);
+        } catch (IOException e) {
+            log.error("이미지 저장 실패: name={}", file.getOriginalFilename(), e);
+            throw new ImageException(ImageErrorCode.STORAGE_FAILED);
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+
+    /**
+     * 파일 이름({@code {해시}.{확장자}} 또는 {@code {해시}_{너비}.{확장자}})으로 저장된 이미지를 찾는다.
+     * 썸네일이 아직 없으면 생성을 요청하고 원본을 짧은 캐시로 대신 내준다.
+     *
+     * @param name 호출 측에서 형식을 검증한 이름
+     */
+    public StoredImage find(String name) {
+        int dot = name.lastIndexOf('.');
+        ImageFormat format = ImageFormat.fromExtension(name.substring(dot + 1))
+                .orElseThrow(() -> new ImageException(ImageErrorCode.NOT_FOUND));
+        String base = name.substring(0, dot);
+        int underscore = base.indexOf('_');
+        String hash = underscore < 0 ? base : base.substring(0, underscore);
+
+        Path path = directory(hash).resolve(name);
+        Optional<StoredImage> stored = stored(path, format, false);
+        if (stored.isPresent()) {
+            return stored.get();
+        }
+
+        if (underscore >= 0 && format.hasThumbnails()) {
+            int width = Integer.parseInt(base.substring(underscore + 1));
+            if (properties.getThumbnailWidths().contains(width)) {
+                Optional<StoredImage> fallback = stored(original(hash, format), format, true);
+                if (fallback.isPresent()) {
+                    requestThumbnails(hash, format);
+                    return fallback.get();
+                }
+            }
+        }
+        throw new ImageException(ImageErrorCode.NOT_FOUND);
+    }
+
+    private Optional<StoredImage> stored(Path path, ImageFormat format, boolean fallback) {
+        try {
+            return Optional.of(new StoredImage(path, format, Files.size(path), fallback));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private void requestThumbnails(String hash, ImageFormat format) {
+        if (!pending.add(hash)) {
+            return;
+        }
+        try {
+            thumbnailers.execute(() -> {
+                try {
+                    createThumbnails(hash, format);
+                } catch (IOException | RuntimeException e) {
+                    log.warn("썸네일 생성 실패: hash={}", hash, e);
+                } finally {
+                    pending.remove(hash);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pending.remove(hash);
+            log.warn("썸네일 대기열이 가득 차 건너뜀 (첫 조회 때 다시 시도): hash={}", hash);
+        }
+    }
+
+    private void createThumbnails(String hash, ImageFormat format) throws IOException {
+        Path source = original(hash, format);
+        for (int width : properties.getThumbnailWidths()) {
+            Path target = directory(hash).resolve(thumbnailName(hash, width, format));
+            if (Files.exists(target)) {
+                continue;
+            }
+
+            Path temp = staging.resolve(UUID.randomUUID() + ".thumb");
+            try {
+                BufferedImage image = readSubsampled(source, format, width);
+                if (image == null) { // 원본이 더 작으면 원본을 그대로 씀
+                    Files.copy(source, temp, StandardCopyOption.REPLACE_EXISTING);
+                } else if (!ImageIO.write(resize(image, width, format), format.getImageIoName(), temp.toFile())) {
+                    throw new IOException("썸네일 인코더 없음: " + format);
+                }
+                move(temp, target);
+            } finally {
+                deleteQuietly(temp);
+            }
+        }
+    }
+
+    // 목표 너비의 2배 정도로 줄여 디코딩해 원본 전체 해상도의 픽셀 배열을 만들지 않음. 원본이 목표보다 작으면 null
+    private BufferedImage readSubsampled(Path source, ImageFormat format, int width) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(source.toFile())) {
+            ImageReader reader = reader(in, format);
+            try {
+                int sourceWidth = reader.getWidth(0);
+                if (sourceWidth <= width) {
+                    return null;
+                }
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, sourceWidth / (width * 2));
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static BufferedImage resize(BufferedImage image, int width, ImageFormat format) {
+        int height = Math.max(1, (int) Math.round((double) image.getHeight() * width / image.getWidth()));
+        BufferedImage resized = new BufferedImage(width, height,
+                format.isAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = resized.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return resized;
+    }
+
+    // 헤더만 읽어 가로×세로 확인. WEBP는 서버에서 디코딩하지 않으므로 검사 대상 아님
+    private void checkPixels(Path file, ImageFormat format) throws IOException {
+        if (!format.hasThumbnails()) {
+            return;
+        }
+        try (ImageInputStream in = ImageIO.createImageInputStream(file.toFile())) {
+            ImageReader reader = reader(in, format);
+            try {
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > properties.getMaxPixels()) {
+                    throw new ImageException(ImageErrorCode.TOO_MANY_PIXELS, properties.getMaxPixels());
+                }
+            } catch (IOException e) {
+                throw new ImageException(ImageErrorCode.UNSUPPORTED_FORMAT);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static ImageReader reader(ImageInputStream in, ImageFormat format) {
+        Iterator<ImageReader> readers = ImageIO.getImageReadersByFormatName(format.getImageIoName());
+        if (in == null || !readers.hasNext()) {
+            throw new ImageException(ImageErrorCode.UNSUPPORTED_FORMAT);
+        }
+        ImageReader reader = readers.next();
+        reader.setInput(in, true, true);
+        return reader;
+    }
+
+    // 파일을 direct 버퍼로 읽으며 해시 (힙 복사 없음). 앞부분은 형식 판별용으로 header에 채움
+    private static String hash(Path file, byte[] header) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+        boolean first = true;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (channel.read(buffer) >= 0 || buffer.position() > 0) {
+                buffer.flip();
+                if (first) {
+                    buffer.get(0, header, 0, Math.min(header.length, buffer.remaining()));
+                    first = false;
+                }
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            // 같은 이미지를 동시에 올린 경우: 내용이 같으므로 먼저 들어간 파일을 씀
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패: {}", path, e);
+        }
+    }
+
+    private Path directory(String hash) {
+        return root.resolve(hash.substring(0, 2));
+    }
+
+    private Path original(String hash, ImageFormat format) {
+        return directory(hash).resolve(hash + "." + format.getExtension());
+    }
+
+    private static String thumbnailName(String hash, int width, ImageFormat format) {
+        return hash + "_" + width + "." + format.getExtension();
+    }
+
+    /**
+     * @param fallback 요청한 썸네일 대신 원본을 내주는 경우
+     */
+    public record StoredImage(Path path, ImageFormat format, long size, boolean fallback) {
+
+    }
+}
@@ -0,0 +1,61 @@
+package com.book.together.notifications.controller;
+
+import com.book.together.auth.entity.MemberRole;
+import com.book.together.common.annotation.CurrentUser;
+import com.book.together.common.annotation.RequireRole;
+import com.book.together.common.response.ApiResponse;
+import com.book.together.common.util.CurrentUserInfo;
+import com.book.together.notifications.dto.response.InboxEntryResponse;
+import com.book.together.notifications.dto.response.UnreadCountResponse;
+import com.book.together.notifications.service.InboxService;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/inbox")
+@RestController
+public class InboxController {
+
+    private final InboxService inboxService;
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    // 내 알림 목록 (최신순)
+    @RequireRole(value = {MemberRole.USER, MemberRole.ADMIN})
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<InboxEntryResponse>>> getInbox(
+            @RequestParam(defaultValue = "20") int size,
+            @CurrentUser CurrentUserInfo info
+    ) {
+        List<InboxEntryResponse> response =
+                inboxService.getInbox(info, Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    // 안 읽은 알림 수
+    @RequireRole(value = {MemberRole.USER, MemberRole.ADMIN})
+    @GetMapping("/unread-count")
+    public ResponseEntity<ApiResponse<UnreadCountResponse>> getUnreadCount(
+            @CurrentUser CurrentUserInfo info
+    ) {
+        return ResponseEntity.ok(ApiResponse.success(inboxService.getUnreadCount(info)));
+    }
+
+    // 모두 읽음 처리
+    @RequireRole(value = {MemberRole.USER, MemberRole.ADMIN})
+    @PostMapping("/read")
+    public ResponseEntity<ApiResponse<String>> markAllRead(
+            @CurrentUser CurrentUserInfo info
+    ) {
+        inboxService.markAllRead(info);
+
+        return ResponseEntity.ok(ApiResponse.success("알림을 모두 읽음 처리했습니다.", null));
+    }
+}
@@ -0,0 +1,27 @@
+package com.book.together.notifications.dto.response;
+
+import com.book.together.notifications.entity.InboxEntry;
+import com.book.together.notifications.entity.InboxType;
+import java.time.LocalDateTime;
+
+public record InboxEntryResponse(
+        InboxType type,
+        Long gatheringId,
+        String message,
+        LocalDateTime createdAt
+) {
+
+    public static InboxEntryResponse of(InboxType type, Long gatheringId, String gatheringName,
+            LocalDateTime createdAt) {
+        return new InboxEntryResponse(type, gatheringId, type.message(gatheringName), createdAt);
+    }
+
+    public static InboxEntryResponse from(InboxEntry entry) {
+        return new InboxEntryResponse(
+                entry.getType(),
+                entry.getGatheringId(),
+                entry.getMessage(),
+                entry.getCreatedAt()
+        );
+    }
+}
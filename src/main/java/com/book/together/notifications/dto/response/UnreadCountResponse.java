@@ -0,0 +1,8 @@
+package com.book.together.notifications.dto.response;
+
+public record UnreadCountResponse(long unread) {
+
+    public static UnreadCountResponse of(long unread) {
+        return new UnreadCountResponse(unread);
+    }
+}
@@ -0,0 +1,58 @@
+package com.book.together.notifications.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 인박스 알림 영구 기록.
+ *
+ * <p>조회는 Redis 인박스가 담당하고, 이 테이블은 Redis 장애 시 대체 조회와 이력 보관용이다. 쓰기는
+ * {@code InboxEntryBuffer}가 모아서 배치 INSERT IGNORE 한다. {@code member_id}가 null인 행은 큰 모임의
+ * 브로드캐스트(fan-out-on-read) 1건이다.</p>
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "v1_inbox_entries",
+        indexes = {
+                @Index(name = "idx_inbox_member_id", columnList = "member_id, id"),
+                @Index(name = "idx_inbox_created_at", columnList = "created_at, id")
+        }
+)
+@Entity
+public class InboxEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "dedupe_key", nullable = false, unique = true, length = 128)
+    private String dedupeKey;
+
+    @Column(name = "member_id")
+    private Long memberId;
+
+    @Column(name = "gathering_id", nullable = false)
+    private Long gatheringId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 32)
+    private InboxType type;
+
+    @Column(name = "message", nullable = false)
+    private String message;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
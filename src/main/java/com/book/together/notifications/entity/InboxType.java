@@ -0,0 +1,21 @@
+package com.book.together.notifications.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 인박스 알림 종류와 표시 문구 (모임 이름이 %s 자리에 들어간다)
+ */
+@RequiredArgsConstructor
+@Getter
+public enum InboxType {
+    PARTICIPANT_JOINED("'%s' 모임에 새 참가자가 들어왔습니다."),
+    REGISTRATION_CLOSING("'%s' 모임의 모집이 곧 마감됩니다."),
+    GATHERING_CANCELED("'%s' 모임이 취소되었습니다.");
+
+    private final String messageFormat;
+
+    public String message(String gatheringName) {
+        return String.format(messageFormat, gatheringName);
+    }
+}
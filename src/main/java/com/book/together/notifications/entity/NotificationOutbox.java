@@ -0,0 +1,96 @@
+package com.book.together.notifications.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 메일 알림 outbox.
+ *
+ * <p>도메인 변경과 같은 트랜잭션에서 INSERT ... SELECT로 적재하며, 발송에 필요한 수신자/모임 정보를 함께 복사해
+ * 워커가 다른 테이블을 조회하지 않도록 한다. {@code dedupe_key}가 유니크라서 같은 알림이 여러 노드에서
+ * 적재돼도 한 건만 남는다.</p>
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "v1_notification_outbox",
+        indexes = {
+                @Index(name = "idx_outbox_status_next", columnList = "status, next_attempt_at"),
+                @Index(name = "idx_outbox_claim_token", columnList = "claim_token"),
+                @Index(name = "idx_outbox_created_at", columnList = "created_at, id")
+        }
+)
+@Entity
+public class NotificationOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "dedupe_key", nullable = false, unique = true, length = 128)
+    private String dedupeKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 32)
+    private NotificationType type;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "gathering_id", nullable = false)
+    private Long gatheringId;
+
+    @Column(name = "recipient_email", nullable = false, length = 100)
+    private String recipientEmail;
+
+    @Column(name = "recipient_name", nullable = false, length = 50)
+    private String recipientName;
+
+    @Column(name = "gathering_name")
+    private String gatheringName;
+
+    @Column(name = "gathering_date_time")
+    private LocalDateTime gatheringDateTime;
+
+    @Column(name = "gathering_location", length = 64)
+    private String gatheringLocation;
+
+    @Column(name = "hours_before")
+    private Integer hoursBefore;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 16)
+    private NotificationStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "last_error", length = 512)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+}
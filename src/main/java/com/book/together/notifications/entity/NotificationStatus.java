@@ -0,0 +1,8 @@
+package com.book.together.notifications.entity;
+
+public enum NotificationStatus {
+    PENDING,  // 발송 대기 (재시도 대기 포함)
+    SENDING,  // 워커가 점유 중 (locked_until 경과 시 다시 PENDING 취급)
+    SENT,
+    FAILED    // 최대 재시도 초과
+}
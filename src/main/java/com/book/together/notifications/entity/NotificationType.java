@@ -0,0 +1,20 @@
+package com.book.together.notifications.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Getter
+public enum NotificationType {
+    JOINED("mail/joined", "[Together] '%s' 모임에 참여했습니다"),
+    GATHERING_CANCELED("mail/gathering-canceled", "[Together] '%s' 모임이 취소되었습니다"),
+    REMINDER("mail/reminder", "[Together] '%s' 모임이 곧 시작됩니다");
+
+    private final String template;
+
+    private final String subjectFormat;
+
+    public String subject(String gatheringName) {
+        return subjectFormat.formatted(gatheringName);
+    }
+}
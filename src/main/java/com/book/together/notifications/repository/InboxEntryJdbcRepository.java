@@ -0,0 +1,60 @@
+package com.book.together.notifications.repository;
+
+import com.book.together.notifications.entity.InboxType;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 인박스 기록 배치 INSERT. {@code dedupe_key}가 유니크라서 재전달/다중 노드 중복은 IGNORE로 버려진다.
+ */
+@RequiredArgsConstructor
+@Repository
+public class InboxEntryJdbcRepository {
+
+    private static final String INSERT_ENTRY = """
+            insert ignore into v1_inbox_entries
+                (dedupe_key, member_id, gathering_id, type, message, created_at)
+            values (:dedupeKey, :memberId, :gatheringId, :type, :message, :createdAt)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<NewInboxEntry> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        SqlParameterSource[] params = new SqlParameterSource[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            NewInboxEntry e = rows.get(i);
+            params[i] = new MapSqlParameterSource()
+                    .addValue("dedupeKey", e.dedupeKey())
+                    .addValue("memberId", e.memberId())
+                    .addValue("gatheringId", e.gatheringId())
+                    .addValue("type", e.type().name())
+                    .addValue("message", e.message())
+                    .addValue("createdAt", Timestamp.valueOf(e.createdAt()));
+        }
+        jdbcTemplate.batchUpdate(INSERT_ENTRY, params);
+    }
+
+    /**
+     * @param memberId null이면 브로드캐스트 1건
+     */
+    public record NewInboxEntry(
+            String dedupeKey,
+            Long memberId,
+            Long gatheringId,
+            InboxType type,
+            String message,
+            LocalDateTime createdAt
+    ) {
+
+    }
+}
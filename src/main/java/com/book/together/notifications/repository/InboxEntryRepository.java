@@ -0,0 +1,12 @@
+package com.book.together.notifications.repository;
+
+import com.book.together.notifications.entity.InboxEntry;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface InboxEntryRepository extends JpaRepository<InboxEntry, Long> {
+
+    // Redis 장애 시 대체 조회: (member_id, id) 인덱스 역순
+    List<InboxEntry> findByMemberIdOrderByIdDesc(Long memberId, Pageable pageable);
+}
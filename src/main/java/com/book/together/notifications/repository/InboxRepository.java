@@ -0,0 +1,207 @@
+package com.book.together.notifications.repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 회원 인박스 (Redis)
+ *
+ * <ul>
+ *   <li>{@code inbox:{memberId}}: 최신순 알림 리스트 (fan-out-on-write, {@code capacity}개로 잘림)</li>
+ *   <li>{@code inbox:{memberId}:unread}: 위 리스트의 안 읽은 수</li>
+ *   <li>{@code inbox:channel:{gatheringId}} / {@code :seq}: 큰 모임의 공용 알림 리스트와 누적 건수
+ *   (fan-out-on-read)</li>
+ *   <li>{@code inbox:{memberId}:subs}: 참여 중인 큰 모임(채널 알림을 받을 수 있는 모임) → 만료 시각(epoch sec).
+ *   채널을 찾을 때만 쓴다</li>
+ *   <li>{@code inbox:{memberId}:read}: 모임 → 마지막으로 읽은 채널 seq</li>
+ * </ul>
+ *
+ * <p>안 읽은 수는 {@code unread + Σ(채널 seq - 읽은 seq)}를 스크립트 한 번으로 계산한다. 정원이 채널 기준 이하인
+ * 모임에는 채널이 생길 수 없으므로 subs에 넣지 않고({@code InboxFanOutService}), 만료된 항목은 점수 범위로
+ * 건너뛴다. 따라서 비용은 회원이 참여 중인 큰 모임 수에 비례하고, 참여한 전체 모임 수나 알림 수와는 무관하다.
+ * 스크립트가 KEYS 밖의 채널 키를 읽으므로 단일 노드 Redis 기준이다.</p>
+ */
+@RequiredArgsConstructor
+@Repository
+public class InboxRepository {
+
+    private static final String PREFIX = "inbox:";
+    private static final String CHANNEL_PREFIX = PREFIX + "channel:";
+    private static final String DEDUPE_PREFIX = PREFIX + "dedupe:";
+
+    private final StringRedisTemplate template;
+
+    // KEYS: channel, seq / ARGV: entryJson, capacity, ttlSec
+    private static final RedisScript<Long> BROADCAST = RedisScript.of("""
+            redis.call('LPUSH', KEYS[1], ARGV[1])
+            redis.call('LTRIM', KEYS[1], 0, tonumber(ARGV[2]) - 1)
+            local seq = redis.call('INCR', KEYS[2])
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            redis.call('EXPIRE', KEYS[2], ARGV[3])
+            return seq
+            """, Long.class);
+
+    // KEYS: subs, read / ARGV: channelPrefix, gatheringId, expireAtSec, nowSec
+    // 참여 시점의 채널 seq를 읽음 처리 → 참여 전 공지는 안 읽은 수에 넣지 않음
+    private static final RedisScript<Long> SUBSCRIBE = RedisScript.of("""
+            local expired = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', '(' .. ARGV[4])
+            if #expired > 0 then
+              redis.call('ZREM', KEYS[1], unpack(expired))
+              redis.call('HDEL', KEYS[2], unpack(expired))
+            end
+            redis.call('ZADD', KEYS[1], ARGV[3], ARGV[2])
+            redis.call('HSET', KEYS[2], ARGV[2], redis.call('GET', ARGV[1] .. ARGV[2] .. ':seq') or '0')
+            return 1
+            """, Long.class);
+
+    // KEYS: unread, subs, read / ARGV: channelPrefix, nowSec
+    private static final RedisScript<Long> UNREAD = RedisScript.of("""
+            local n = tonumber(redis.call('GET', KEYS[1]) or '0')
+            for _, g in ipairs(redis.call('ZRANGEBYSCORE', KEYS[2], ARGV[2], '+inf')) do
+              local seq = redis.call('GET', ARGV[1] .. g .. ':seq')
+              if seq then
+                n = n + math.max(0, tonumber(seq) - tonumber(redis.call('HGET', KEYS[3], g) or '0'))
+              end
+            end
+            return n
+            """, Long.class);
+
+    // KEYS: unread, subs, read / ARGV: channelPrefix, nowSec
+    private static final RedisScript<Long> MARK_ALL_READ = RedisScript.of("""
+            redis.call('DEL', KEYS[1])
+            for _, g in ipairs(redis.call('ZRANGEBYSCORE', KEYS[2], ARGV[2], '+inf')) do
+              local seq = redis.call('GET', ARGV[1] .. g .. ':seq')
+              if seq then
+                redis.call('HSET', KEYS[3], g, seq)
+              end
+            end
+            return 1
+            """, Long.class);
+
+    // 여러 노드/재전달 중 한 번만 fan-out
+    public boolean claim(String dedupeKey, Duration ttl) {
+        return Boolean.TRUE.equals(template.opsForValue().setIfAbsent(DEDUPE_PREFIX + dedupeKey, "1", ttl));
+    }
+
+    public void release(String dedupeKey) {
+        template.delete(DEDUPE_PREFIX + dedupeKey);
+    }
+
+    // 수신자 수만큼 LPUSH/LTRIM/INCR를 파이프라인 1회로
+    public void push(Collection<Long> memberIds, String entryJson, int capacity, Duration ttl) {
+        long ttlSec = ttl.toSeconds();
+        template.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (Long memberId : memberIds) {
+                String list = listKey(memberId);
+                conn.lPush(list, entryJson);
+                conn.lTrim(list, 0, capacity - 1L);
+                conn.incr(unreadKey(memberId));
+                conn.expire(list, ttlSec);
+                conn.expire(unreadKey(memberId), ttlSec);
+            }
+            return null;
+        });
+    }
+
+    public void broadcast(Long gatheringId, String entryJson, int capacity, Duration ttl) {
+        template.execute(
+                BROADCAST,
+                List.of(CHANNEL_PREFIX + gatheringId, CHANNEL_PREFIX + gatheringId + ":seq"),
+                entryJson,
+                String.valueOf(capacity),
+                String.valueOf(ttl.toSeconds())
+        );
+    }
+
+    public void subscribe(Long memberId, Long gatheringId, long expireAtSec, long nowSec) {
+        template.execute(
+                SUBSCRIBE,
+                List.of(subsKey(memberId), readKey(memberId)),
+                CHANNEL_PREFIX,
+                String.valueOf(gatheringId),
+                String.valueOf(expireAtSec),
+                String.valueOf(nowSec)
+        );
+    }
+
+    public void unsubscribe(Long memberId, Long gatheringId) {
+        template.opsForZSet().remove(subsKey(memberId), String.valueOf(gatheringId));
+        template.opsForHash().delete(readKey(memberId), String.valueOf(gatheringId));
+    }
+
+    public List<String> recent(Long memberId, int size) {
+        List<String> entries = template.opsForList().range(listKey(memberId), 0, size - 1L);
+        return entries == null ? List.of() : entries;
+    }
+
+    // 참여 중인 모임의 채널 최신 항목들 (채널이 없는 모임은 빈 결과)
+    public List<String> channelEntries(Long memberId, int size, long nowSec) {
+        Set<String> subs = template.opsForZSet().rangeByScore(subsKey(memberId), nowSec, Double.POSITIVE_INFINITY);
+        if (subs == null || subs.isEmpty()) {
+            return List.of();
+        }
+
+        List<Object> results = template.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (String gatheringId : subs) {
+                conn.lRange(CHANNEL_PREFIX + gatheringId, 0, size - 1L);
+            }
+            return null;
+        });
+
+        List<String> entries = new ArrayList<>();
+        for (Object result : results) {
+            if (result instanceof List<?> list) {
+                for (Object entry : list) {
+                    entries.add((String) entry);
+                }
+            }
+        }
+        return entries;
+    }
+
+    public long unread(Long memberId, long nowSec) {
+        Long unread = template.execute(
+                UNREAD,
+                List.of(unreadKey(memberId), subsKey(memberId), readKey(memberId)),
+                CHANNEL_PREFIX,
+                String.valueOf(nowSec)
+        );
+        return unread == null ? 0 : unread;
+    }
+
+    public void markAllRead(Long memberId, long nowSec) {
+        template.execute(
+                MARK_ALL_READ,
+                List.of(unreadKey(memberId), subsKey(memberId), readKey(memberId)),
+                CHANNEL_PREFIX,
+                String.valueOf(nowSec)
+        );
+    }
+
+    private static String listKey(Long memberId) {
+        return PREFIX + memberId;
+    }
+
+    private static String unreadKey(Long memberId) {
+        return PREFIX + memberId + ":unread";
+    }
+
+    private static String subsKey(Long memberId) {
+        return PREFIX + memberId + ":subs";
+    }
+
+    private static String readKey(Long memberId) {
+        return PREFIX + memberId + ":read";
+    }
+}
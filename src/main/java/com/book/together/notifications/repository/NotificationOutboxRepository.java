@@ -0,0 +1,157 @@
+package com.book.together.notifications.repository;
+
+import com.book.together.notifications.entity.NotificationOutbox;
+import com.book.together.notifications.entity.NotificationStatus;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    // 회원 1명 적재 (참여 등). 호출 측 트랜잭션에 참여
+    @Modifying
+    @Query(value = """
+            insert ignore into v1_notification_outbox
+                (dedupe_key, type, member_id, gathering_id, recipient_email, recipient_name,
+                 gathering_name, gathering_date_time, gathering_location, hours_before,
+                 status, attempts, next_attempt_at, created_at)
+            select :dedupeKey, :type, m.member_id, g.id, m.email, m.name,
+                   g.name, g.date_time, g.gathering_location, :hoursBefore,
+                   'PENDING', 0, :now, :now
+            from v1_members m
+            join v1_gathering g on g.id = :gatheringId
+            where m.member_id = :memberId
+            """, nativeQuery = true)
+    int enqueueForMember(
+            @Param("dedupeKey") String dedupeKey,
+            @Param("type") String type,
+            @Param("gatheringId") Long gatheringId,
+            @Param("memberId") Long memberId,
+            @Param("hoursBefore") Integer hoursBefore,
+            @Param("now") LocalDateTime now
+    );
+
+    // 모임 취소와 함께 취소된 참가자 전원 적재: 참가자 수와 무관하게 INSERT 1회
+    @Modifying
+    @Query(value = """
+            insert ignore into v1_notification_outbox
+                (dedupe_key, type, member_id, gathering_id, recipient_email, recipient_name,
+                 gathering_name, gathering_date_time, gathering_location, hours_before,
+                 status, attempts, next_attempt_at, created_at)
+            select concat(:keyPrefix, p.member_id), :type, m.member_id, g.id, m.email, m.name,
+                   g.name, g.date_time, g.gathering_location, null,
+                   'PENDING', 0, :now, :now
+            from v1_gathering_participants p
+            join v1_members m on m.member_id = p.member_id
+            join v1_gathering g on g.id = p.gathering_id
+            where p.gathering_id = :gatheringId
+              and p.canceled_at = :canceledAt
+              and p.member_id <> :excludeMemberId
+            """, nativeQuery = true)
+    int enqueueForCanceledParticipants(
+            @Param("keyPrefix") String keyPrefix,
+            @Param("type") String type,
+            @Param("gatheringId") Long gatheringId,
+            @Param("canceledAt") LocalDateTime canceledAt,
+            @Param("excludeMemberId") Long excludeMemberId,
+            @Param("now") LocalDateTime now
+    );
+
+    // 현재 참여 중인 참가자 전원 적재 (리마인더). 타이머 스레드에서 호출되므로 자체 트랜잭션
+    @Transactional
+    @Modifying
+    @Query(value = """
+            insert ignore into v1_notification_outbox
+                (dedupe_key, type, member_id, gathering_id, recipient_email, recipient_name,
+                 gathering_name, gathering_date_time, gathering_location, hours_before,
+                 status, attempts, next_attempt_at, created_at)
+            select concat(:keyPrefix, p.member_id), :type, m.member_id, g.id, m.email, m.name,
+                   g.name, g.date_time, g.gathering_location, :hoursBefore,
+                   'PENDING', 0, :now, :now
+            from v1_gathering_participants p
+            join v1_members m on m.member_id = p.member_id
+            join v1_gathering g on g.id = p.gathering_id
+            where p.gathering_id = :gatheringId
+              and p.canceled_at is null
+              and g.canceled_at is null
+            """, nativeQuery = true)
+    int enqueueForActiveParticipants(
+            @Param("keyPrefix") String keyPrefix,
+            @Param("type") String type,
+            @Param("gatheringId") Long gatheringId,
+            @Param("hoursBefore") Integer hoursBefore,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * 발송 시각이 된 PENDING 행 id를 잠근다. {@code idx_outbox_status_next} 범위만 읽고, 다른 워커가 잠근 행은
+     * SKIP LOCKED로 건너뛰므로 노드끼리 기다리지 않는다. 호출 측 트랜잭션 안에서 {@link #claim}과 함께 쓴다.
+     */
+    @Query(value = """
+            select id
+            from v1_notification_outbox force index (idx_outbox_status_next)
+            where status = 'PENDING' and next_attempt_at <= :now
+            order by next_attempt_at
+            limit :limit
+            for update skip locked
+            """, nativeQuery = true)
+    List<Long> lockDue(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // lockedUntil이 지난 SENDING 행(워커 중단) id를 잠근다. SENDING 구간은 짧아 인덱스 범위도 작음
+    @Query(value = """
+            select id
+            from v1_notification_outbox force index (idx_outbox_status_next)
+            where status = 'SENDING' and locked_until < :now
+            limit :limit
+            for update skip locked
+            """, nativeQuery = true)
+    List<Long> lockExpired(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // 잠근 행을 claimToken으로 점유. PK로만 갱신하므로 잠금이 잠근 행 밖으로 번지지 않음
+    @Modifying
+    @Query("""
+            update NotificationOutbox o
+            set o.status = com.book.together.notifications.entity.NotificationStatus.SENDING,
+                o.claimToken = :token, o.lockedUntil = :lockedUntil
+            where o.id in :ids
+            """)
+    int claim(
+            @Param("ids") Collection<Long> ids,
+            @Param("token") String token,
+            @Param("lockedUntil") LocalDateTime lockedUntil
+    );
+
+    List<NotificationOutbox> findAllByClaimToken(String claimToken);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update NotificationOutbox o
+            set o.status = com.book.together.notifications.entity.NotificationStatus.SENT,
+                o.sentAt = :now, o.claimToken = null, o.lockedUntil = null,
+                o.attempts = o.attempts + 1
+            where o.id in :ids
+            """)
+    int markSent(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update NotificationOutbox o
+            set o.status = :status, o.attempts = :attempts, o.nextAttemptAt = :nextAttemptAt,
+                o.lastError = :lastError, o.claimToken = null, o.lockedUntil = null
+            where o.id = :id
+            """)
+    int markFailed(
+            @Param("id") Long id,
+            @Param("status") NotificationStatus status,
+            @Param("attempts") int attempts,
+            @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+            @Param("lastError") String lastError
+    );
+}
@@ -0,0 +1,59 @@
+package com.book.together.notifications.service;
+
+import com.book.together.notifications.repository.InboxEntryJdbcRepository;
+import com.book.together.notifications.repository.InboxEntryJdbcRepository.NewInboxEntry;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인박스 기록 write-behind 버퍼.
+ *
+ * <p>fan-out 시점에는 대기열에 넣기만 하고, {@code flush-interval}마다 최대 {@code flush-batch-size}개씩
+ * 배치 INSERT 한다. 대기열이 가득 차면 넣는 쪽에서 바로 비운다. MySQL 기록은 대체 조회/이력용이라
+ * 저장 실패한 배치는 로그만 남기고 버린다 (Redis 인박스에는 이미 반영됨).</p>
+ */
+@Slf4j(topic = "InboxEntryBuffer")
+@Component
+public class InboxEntryBuffer {
+
+    private final InboxEntryJdbcRepository jdbcRepository;
+
+    private final InboxProperties properties;
+
+    private final BlockingQueue<NewInboxEntry> queue;
+
+    public InboxEntryBuffer(InboxEntryJdbcRepository jdbcRepository, InboxProperties properties) {
+        this.jdbcRepository = jdbcRepository;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getBufferCapacity());
+    }
+
+    public void addAll(List<NewInboxEntry> rows) {
+        for (NewInboxEntry row : rows) {
+            while (!queue.offer(row)) {
+                flush();
+            }
+        }
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${notification.inbox.flush-interval:PT1S}")
+    public synchronized void flush() {
+        List<NewInboxEntry> batch = new ArrayList<>(properties.getFlushBatchSize());
+        while (queue.drainTo(batch, properties.getFlushBatchSize()) > 0) {
+            try {
+                jdbcRepository.insertAll(batch);
+            } catch (DataAccessException e) {
+                log.error("인박스 기록 저장 실패: {}건 버림", batch.size(), e);
+            }
+            batch.clear();
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.book.together.notifications.service;
+
+import com.book.together.gatherings.entity.Gathering;
+import com.book.together.gatherings.event.GatheringCanceledEvent;
+import com.book.together.gatherings.event.GatheringCreatedEvent;
+import com.book.together.gatherings.event.GatheringEvent;
+import com.book.together.gatherings.event.GatheringEventHandler;
+import com.book.together.gatherings.event.GatheringSnapshot;
+import com.book.together.gatherings.event.GatheringTimerEvent;
+import com.book.together.gatherings.event.GatheringTimerType;
+import com.book.together.gatherings.event.ParticipantCanceledEvent;
+import com.book.together.gatherings.event.ParticipantJoinedEvent;
+import com.book.together.gatherings.repository.GatheringParticipantRepository;
+import com.book.together.gatherings.repository.GatheringRepository;
+import com.book.together.gatherings.service.GatheringEventStreamProperties;
+import com.book.together.notifications.dto.response.InboxEntryResponse;
+import com.book.together.notifications.entity.InboxType;
+import com.book.together.notifications.repository.InboxEntryJdbcRepository.NewInboxEntry;
+import com.book.together.notifications.repository.InboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 모임 이벤트 → 회원 인박스 fan-out.
+ *
+ * <ul>
+ *   <li>참여: 주최자에게 "새 참가자" 알림</li>
+ *   <li>모집 마감 임박(타이머): 현재 참가자 전원</li>
+ *   <li>모임 취소: 함께 취소된 참가자 (취소한 사람 제외)</li>
+ * </ul>
+ *
+ * <p>수신자가 {@code fan-out-threshold} 이하면 회원별 리스트에 쓰고(fan-out-on-write), 넘으면 모임 채널에
+ * 1건만 쓴다(fan-out-on-read). 채널을 찾을 수 있도록 생성/참여/참여 취소 때 회원의 채널 구독 목록을 갱신하는데,
+ * 수신자는 정원을 넘을 수 없으므로 정원이 {@code fan-out-threshold} 이하인 모임은 구독하지 않는다.
+ * 같은 알림은 dedupe 키로 한 번만 fan-out 하므로, 모든 노드에서 울리는 타이머나 스트림 재전달에도 중복되지 않는다.</p>
+ */
+@Slf4j(topic = "InboxFanOutService")
+@RequiredArgsConstructor
+@Component
+public class InboxFanOutService implements GatheringEventHandler {
+
+    private final InboxRepository inboxRepository;
+
+    private final InboxEntryBuffer entryBuffer;
+
+    private final GatheringRepository gatheringRepository;
+
+    private final GatheringParticipantRepository gatheringParticipantRepository;
+
+    private final InboxProperties properties;
+
+    private final GatheringEventStreamProperties streamProperties;
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public String group() {
+        return "inbox";
+    }
+
+    // 스트림 처리 중 오류는 워커가 재시도하도록 그대로 던짐
+    @Override
+    public void handle(long eventId, GatheringEvent event) {
+        apply(event);
+    }
+
+    // 스트림을 끈 경우에만 요청 노드에서 직접 반영
+    @TransactionalEventListener
+    public void onCommitted(GatheringEvent event) {
+        if (streamProperties.isEnabled()) {
+            return;
+        }
+        try {
+            apply(event);
+        } catch (DataAccessException e) {
+            log.warn("인박스 반영 실패: {} gatheringId={}: {}",
+                    event.getClass().getSimpleName(), event.gathering().id(), e.toString());
+        }
+    }
+
+    // 타이머 스레드에서 트랜잭션 없이 발행됨
+    @EventListener
+    public void on(GatheringTimerEvent event) {
+        if (event.type() != GatheringTimerType.REGISTRATION_CLOSING) {
+            return;
+        }
+        try {
+            onRegistrationClosing(event.gatheringId());
+        } catch (DataAccessException e) {
+            log.warn("모집 마감 임박 알림 실패: gatheringId={}: {}", event.gatheringId(), e.toString());
+        }
+    }
+
+    private void apply(GatheringEvent event) {
+        GatheringSnapshot g = event.gathering();
+
+        if (event instanceof GatheringCreatedEvent) {
+            subscribe(g.createdBy(), g);
+        } else if (event instanceof ParticipantJoinedEvent joined) {
+            subscribe(joined.memberId(), g);
+            if (!Objects.equals(joined.memberId(), g.createdBy())) {
+                long joinedAtMs = joined.joinedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+                fanOut("joined:" + g.id() + ":" + joined.memberId() + ":" + joinedAtMs,
+                        InboxType.PARTICIPANT_JOINED, g.id(), g.name(), joined.joinedAt(),
+                        List.of(g.createdBy()));
+            }
+        } else if (event instanceof ParticipantCanceledEvent canceled) {
+            inboxRepository.unsubscribe(canceled.memberId(), g.id());
+        } else if (event instanceof GatheringCanceledEvent canceled) {
+            onGatheringCanceled(canceled);
+        }
+    }
+
+    private void onGatheringCanceled(GatheringCanceledEvent event) {
+        GatheringSnapshot g = event.gathering();
+        String key = "canceled:" + g.id();
+
+        if (event.canceledParticipants() > properties.getFanOutThreshold()) {
+            broadcast(key, InboxType.GATHERING_CANCELED, g.id(), g.name(), event.canceledAt());
+            return;
+        }
+
+        List<Long> recipients = gatheringParticipantRepository
+                .findMemberIdsCanceledAt(g.id(), event.canceledAt()).stream()
+                .filter(memberId -> !Objects.equals(memberId, event.canceledBy()))
+                .toList();
+        fanOut(key, InboxType.GATHERING_CANCELED, g.id(), g.name(), event.canceledAt(), recipients);
+    }
+
+    private void onRegistrationClosing(Long gatheringId) {
+        Gathering g = gatheringRepository.findById(gatheringId).orElse(null);
+        if (g == null || g.getCanceledAt() != null) {
+            return;
+        }
+
+        String key = "closing:" + gatheringId;
+        LocalDateTime now = LocalDateTime.now();
+
+        if (g.getParticipantCount() > properties.getFanOutThreshold()) {
+            broadcast(key, InboxType.REGISTRATION_CLOSING, gatheringId, g.getName(), now);
+            return;
+        }
+        fanOut(key, InboxType.REGISTRATION_CLOSING, gatheringId, g.getName(), now,
+                gatheringParticipantRepository.findActiveMemberIds(gatheringId));
+    }
+
+    // 채널이 생길 수 있는 모임만 구독 → 안 읽은 수 계산이 참여한 작은 모임 수에 끌려가지 않음 (정원은 바뀌지 않음)
+    private void subscribe(Long memberId, GatheringSnapshot g) {
+        if (g.capacity() <= properties.getFanOutThreshold()) {
+            return;
+        }
+        long nowSec = System.currentTimeMillis() / 1000;
+        long expireAtSec = g.dateTime().atZone(ZoneId.systemDefault()).toEpochSecond()
+                + properties.getTtl().toSeconds();
+        inboxRepository.subscribe(memberId, g.id(), expireAtSec, nowSec);
+    }
+
+    private void fanOut(String key, InboxType type, Long gatheringId, String gatheringName,
+            LocalDateTime at, List<Long> recipients) {
+        if (recipients.isEmpty() || !inboxRepository.claim(key, properties.getDedupeTtl())) {
+            return;
+        }
+
+        InboxEntryResponse entry = InboxEntryResponse.of(type, gatheringId, gatheringName, at);
+        entryBuffer.addAll(recipients.stream()
+                .map(memberId -> new NewInboxEntry(key + ":" + memberId, memberId, gatheringId,
+                        type, entry.message(), at))
+                .toList());
+
+        try {
+            inboxRepository.push(recipients, toJson(entry), properties.getCapacity(), properties.getTtl());
+        } catch (DataAccessException e) {
+            inboxRepository.release(key);
+            throw e;
+        }
+    }
+
+    private void broadcast(String key, InboxType type, Long gatheringId, String gatheringName,
+            LocalDateTime at) {
+        if (!inboxRepository.claim(key, properties.getDedupeTtl())) {
+            return;
+        }
+
+        InboxEntryResponse entry = InboxEntryResponse.of(type, gatheringId, gatheringName, at);
+        entryBuffer.addAll(List.of(new NewInboxEntry(key, null, gatheringId, type, entry.message(), at)));
+
+        try {
+            inboxRepository.broadcast(gatheringId, toJson(entry), properties.getCapacity(), properties.getTtl());
+        } catch (DataAccessException e) {
+            inboxRepository.release(key);
+            throw e;
+        }
+        log.info("인박스 채널 알림: gatheringId={}, type={}", gatheringId, type);
+    }
+
+    private String toJson(InboxEntryResponse entry) {
+        try {
+            return objectMapper.writeValueAsString(entry);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.book.together.notifications.service;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@ConfigurationProperties(prefix = "notification.inbox")
+@Component
+public class InboxProperties {
+
+    // 회원/채널 인박스 리스트 최대 길이
+    private int capacity = 200;
+
+    // 수신자가 이보다 많으면 회원별로 쓰지 않고 모임 채널에 1건만 쓴다 (fan-out-on-read)
+    private int fanOutThreshold = 500;
+
+    // 인박스/채널 키 TTL (마지막 알림 기준)
+    private Duration ttl = Duration.ofDays(30);
+
+    // 같은 알림의 중복 fan-out 방지 키 보관 기간
+    private Duration dedupeTtl = Duration.ofDays(2);
+
+    // MySQL 기록 대기열 크기와 배치 INSERT 크기
+    private int bufferCapacity = 50_000;
+
+    private int flushBatchSize = 1_000;
+
+    // MySQL 기록 보관 기간
+    private Duration retention = Duration.ofDays(90);
+}
@@ -0,0 +1,76 @@
+package com.book.together.notifications.service;
+
+import com.book.together.common.util.CurrentUserInfo;
+import com.book.together.notifications.dto.response.InboxEntryResponse;
+import com.book.together.notifications.dto.response.UnreadCountResponse;
+import com.book.together.notifications.repository.InboxEntryRepository;
+import com.book.together.notifications.repository.InboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+/**
+ * 인박스 조회. Redis의 회원 리스트와 참여 중인 큰 모임 채널만 읽고, 모임 테이블은 보지 않는다.
+ * Redis 장애 시에는 MySQL 기록(회원별 알림)으로 대신 응답한다.
+ */
+@Slf4j(topic = "InboxService")
+@RequiredArgsConstructor
+@Service
+public class InboxService {
+
+    private static final Comparator<InboxEntryResponse> NEWEST_FIRST =
+            Comparator.comparing(InboxEntryResponse::createdAt).reversed();
+
+    private final InboxRepository inboxRepository;
+
+    private final InboxEntryRepository inboxEntryRepository;
+
+    private final ObjectMapper objectMapper;
+
+    public List<InboxEntryResponse> getInbox(CurrentUserInfo info, int size) {
+        Long memberId = info.userId();
+        long nowSec = System.currentTimeMillis() / 1000;
+
+        try {
+            List<InboxEntryResponse> entries = new ArrayList<>();
+            for (String json : inboxRepository.recent(memberId, size)) {
+                entries.add(parse(json));
+            }
+            for (String json : inboxRepository.channelEntries(memberId, size, nowSec)) {
+                entries.add(parse(json));
+            }
+            entries.sort(NEWEST_FIRST);
+            return entries.size() > size ? entries.subList(0, size) : entries;
+        } catch (DataAccessException e) {
+            log.warn("인박스 Redis 조회 실패 → MySQL 기록으로 응답: {}", e.toString());
+            return inboxEntryRepository.findByMemberIdOrderByIdDesc(memberId, PageRequest.of(0, size))
+                    .stream()
+                    .map(InboxEntryResponse::from)
+                    .toList();
+        }
+    }
+
+    public UnreadCountResponse getUnreadCount(CurrentUserInfo info) {
+        return UnreadCountResponse.of(
+                inboxRepository.unread(info.userId(), System.currentTimeMillis() / 1000));
+    }
+
+    public void markAllRead(CurrentUserInfo info) {
+        inboxRepository.markAllRead(info.userId(), System.currentTimeMillis() / 1000);
+    }
+
+    private InboxEntryResponse parse(String json) {
+        try {
+            return objectMapper.readValue(json, InboxEntryResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package com.book.together.notifications.service;
+
+import com.book.together.gatherings.entity.GatheringLocation;
+import com.book.together.notifications.entity.NotificationOutbox;
+import com.book.together.notifications.entity.NotificationStatus;
+import com.book.together.notifications.repository.NotificationOutboxRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
+
+/**
+ * 메일 outbox 발송 워커.
+ *
+ * <p>폴링은 스케줄러 스레드에서 배치를 가상 스레드로 넘기기만 하고 바로 돌아온다(배치는 노드당 한 번에 하나).
+ * 배치마다 최대 {@code batch-size}건을 점유한 뒤 {@code messages-per-connection}건씩 나눠 가상 스레드에서
+ * 보낸다. 묶음 하나는 {@link JavaMailSender#send(MimeMessage...)} 한 번, 즉 SMTP 연결 하나를 재사용해 보내고,
+ * 동시에 열리는 연결 수는 {@code max-connections}로 제한한다.</p>
+ *
+ * <p>템플릿은 Thymeleaf 템플릿 캐시(기본 활성)로 최초 1회만 파싱된다. 실패한 메시지는 지수 백오프로 재시도하고
+ * {@code max-attempts}를 넘으면 FAILED로 남긴다.</p>
+ *
+ * <p>점유는 짧은 트랜잭션 하나에서 {@code SELECT ... FOR UPDATE SKIP LOCKED}로 id를 잠근 뒤 PK로 UPDATE한다.
+ * 여러 노드가 동시에 폴링해도 서로 잠근 행을 건너뛰므로 대기 없이 다른 행을 가져간다.</p>
+ */
+@Slf4j(topic = "NotificationDispatcher")
+@Component
+public class NotificationDispatcher {
+
+    private final NotificationOutboxRepository outboxRepository;
+
+    private final JavaMailSender mailSender;
+
+    private final ITemplateEngine templateEngine;
+
+    private final NotificationMailProperties properties;
+
+    private final TransactionTemplate claimTransaction;
+
+    private final ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public NotificationDispatcher(
+            NotificationOutboxRepository outboxRepository,
+            JavaMailSender mailSender,
+            ITemplateEngine templateEngine,
+            NotificationMailProperties properties,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.outboxRepository = outboxRepository;
+        this.mailSender = mailSender;
+        this.templateEngine = templateEngine;
+        this.properties = properties;
+        this.claimTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdown();
+    }
+
+    // 스케줄러 스레드는 배치를 가상 스레드에 넘기기만 함. 이전 배치가 아직 돌고 있으면 이번 폴링은 건너뜀
+    @Scheduled(fixedDelayString = "${notification.mail.poll-interval:PT2S}")
+    public void dispatch() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            workers.execute(() -> {
+                try {
+                    dispatchBatch();
+                } catch (RuntimeException e) {
+                    log.error("메일 발송 배치 실패", e);
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            running.set(false);
+        }
+    }
+
+    // 한 배치 점유 → 발송 → 결과 기록 (호출 스레드에서 끝까지 실행)
+    void dispatchBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        String token = UUID.randomUUID().toString();
+
+        if (claim(token, now) == 0) {
+            return;
+        }
+
+        List<NotificationOutbox> batch = outboxRepository.findAllByClaimToken(token);
+        Semaphore connections = new Semaphore(properties.getMaxConnections());
+        List<Future<?>> futures = new ArrayList<>();
+
+        int chunk = properties.getMessagesPerConnection();
+        for (int from = 0; from < batch.size(); from += chunk) {
+            List<NotificationOutbox> part = batch.subList(from, Math.min(from + chunk, batch.size()));
+            futures.add(workers.submit(() -> {
+                connections.acquireUninterruptibly();
+                try {
+                    sendPart(part);
+                } finally {
+                    connections.release();
+                }
+            }));
+        }
+
+        // 다음 배치가 겹치지 않도록 이번 배치가 끝날 때까지 대기. lease가 지나면 다른 워커가 재점유할 수 있으므로
+        // 그 이상은 기다리지 않고 남은 발송을 중단한다
+        long deadline = System.nanoTime() + properties.getLease().toNanos();
+        for (Future<?> f : futures) {
+            try {
+                f.get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (TimeoutException e) {
+                log.warn("메일 발송 배치가 lease({}) 안에 끝나지 않아 남은 발송 중단", properties.getLease());
+                futures.forEach(pending -> pending.cancel(true));
+                return;
+            } catch (Exception e) {
+                log.error("메일 발송 작업 실패", e);
+            }
+        }
+    }
+
+    // 중단된 SENDING 행을 먼저, 남은 자리만큼 발송 시각이 된 PENDING 행을 점유
+    private int claim(String token, LocalDateTime now) {
+        int limit = properties.getBatchSize();
+        Integer claimed = claimTransaction.execute(status -> {
+            List<Long> ids = new ArrayList<>(outboxRepository.lockExpired(now, limit));
+            if (ids.size() < limit) {
+                ids.addAll(outboxRepository.lockDue(now, limit - ids.size()));
+            }
+            return ids.isEmpty() ? 0 : outboxRepository.claim(ids, token, now.plus(properties.getLease()));
+        });
+        return claimed == null ? 0 : claimed;
+    }
+
+    private void sendPart(List<NotificationOutbox> part) {
+        Map<MimeMessage, NotificationOutbox> messages = new IdentityHashMap<>();
+        for (NotificationOutbox o : part) {
+            try {
+                messages.put(render(o), o);
+            } catch (MessagingException | RuntimeException e) {
+                fail(o, e);
+            }
+        }
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        List<Long> sent = new ArrayList<>(messages.size());
+        try {
+            mailSender.send(messages.keySet().toArray(MimeMessage[]::new));
+            messages.values().forEach(o -> sent.add(o.getId()));
+        } catch (MailSendException e) {
+            Map<Object, Exception> failed = e.getFailedMessages();
+            for (Map.Entry<MimeMessage, NotificationOutbox> m : messages.entrySet()) {
+                Exception cause = failed.get(m.getKey());
+                if (cause == null && !failed.isEmpty()) {
+                    sent.add(m.getValue().getId());
+                } else {
+                    fail(m.getValue(), cause != null ? cause : e);
+                }
+            }
+        } catch (MailException e) {
+            // 인증 실패 등 연결 단위 오류 → 묶음 전체 재시도
+            messages.values().forEach(o -> fail(o, e));
+        }
+
+        if (!sent.isEmpty()) {
+            outboxRepository.markSent(sent, LocalDateTime.now());
+        }
+    }
+
+    private MimeMessage render(NotificationOutbox o) throws MessagingException {
+        Context context = new Context();
+        context.setVariable("name", o.getRecipientName());
+        context.setVariable("gatheringName", o.getGatheringName());
+        context.setVariable("dateTime", o.getGatheringDateTime());
+        context.setVariable("location", locationName(o.getGatheringLocation()));
+        context.setVariable("hoursBefore", o.getHoursBefore());
+
+        String html = templateEngine.process(o.getType().getTemplate(), context);
+
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, false, "UTF-8");
+        helper.setFrom(properties.getFrom());
+        helper.setTo(o.getRecipientEmail());
+        helper.setSubject(o.getType().subject(o.getGatheringName()));
+        helper.setText(html, true);
+        return message;
+    }
+
+    private void fail(NotificationOutbox o, Exception e) {
+        int attempts = o.getAttempts() + 1;
+        boolean giveUp = attempts >= properties.getMaxAttempts();
+
+        Duration backoff = properties.getBackoffBase().multipliedBy(1L << Math.min(attempts - 1, 20));
+        if (backoff.compareTo(properties.getBackoffMax()) > 0) {
+            backoff = properties.getBackoffMax();
+        }
+
+        String message = String.valueOf(e.getMessage());
+        outboxRepository.markFailed(
+                o.getId(),
+                giveUp ? NotificationStatus.FAILED : NotificationStatus.PENDING,
+                attempts,
+                LocalDateTime.now().plus(backoff),
+                message.length() > 512 ? message.substring(0, 512) : message
+        );
+
+        if (giveUp) {
+            log.warn("메일 발송 최종 실패: outboxId={}, to={}, cause={}", o.getId(), o.getRecipientEmail(), message);
+        }
+    }
+
+    private static String locationName(String location) {
+        if (location == null) {
+            return null;
+        }
+        try {
+            return GatheringLocation.valueOf(location).getName();
+        } catch (IllegalArgumentException e) {
+            return location;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.book.together.notifications.service;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@ConfigurationProperties(prefix = "notification.mail")
+@Component
+public class NotificationMailProperties {
+
+    private String from = "no-reply@together.local";
+
+    // 한 번의 폴링에서 점유할 최대 건수
+    private int batchSize = 500;
+
+    // SMTP 연결 1개로 보낼 메시지 수 (JavaMailSender.send(MimeMessage...) 한 번)
+    private int messagesPerConnection = 50;
+
+    // 동시에 열 SMTP 연결 수
+    private int maxConnections = 4;
+
+    // 점유 후 이 시간 안에 결과를 기록하지 못하면 다른 워커가 다시 가져감
+    private Duration lease = Duration.ofMinutes(5);
+
+    private int maxAttempts = 6;
+
+    // 재시도 간격: backoffBase * 2^(attempts-1), 최대 backoffMax
+    private Duration backoffBase = Duration.ofSeconds(30);
+
+    private Duration backoffMax = Duration.ofHours(1);
+
+    // 발송 완료/최종 실패 후 outbox 보관 기간
+    private Duration retention = Duration.ofDays(14);
+}
@@ -0,0 +1,78 @@
+package com.book.together.notifications.service;
+
+import com.book.together.gatherings.event.GatheringCanceledEvent;
+import com.book.together.gatherings.event.GatheringTimerEvent;
+import com.book.together.gatherings.event.GatheringTimerType;
+import com.book.together.gatherings.event.ParticipantJoinedEvent;
+import com.book.together.notifications.entity.NotificationType;
+import com.book.together.notifications.repository.NotificationOutboxRepository;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 도메인 이벤트 → 메일 outbox 적재.
+ *
+ * <p>참여/모임 취소는 {@code BEFORE_COMMIT}에서 적재하므로 도메인 변경과 같은 트랜잭션으로 커밋되거나
+ * 함께 롤백된다. 발송은 {@link NotificationDispatcher}가 별도로 하므로 요청 스레드는 SMTP를 기다리지 않는다.</p>
+ */
+@Slf4j(topic = "NotificationOutboxWriter")
+@RequiredArgsConstructor
+@Component
+public class NotificationOutboxWriter {
+
+    private final NotificationOutboxRepository outboxRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void on(ParticipantJoinedEvent event) {
+        Long gatheringId = event.gathering().id();
+        long joinedAt = event.joinedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+        outboxRepository.enqueueForMember(
+                NotificationType.JOINED + ":" + gatheringId + ":" + event.memberId() + ":" + joinedAt,
+                NotificationType.JOINED.name(),
+                gatheringId,
+                event.memberId(),
+                null,
+                LocalDateTime.now()
+        );
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void on(GatheringCanceledEvent event) {
+        Long gatheringId = event.gathering().id();
+
+        // 취소한 사람(주최자/관리자)은 제외
+        int enqueued = outboxRepository.enqueueForCanceledParticipants(
+                NotificationType.GATHERING_CANCELED + ":" + gatheringId + ":",
+                NotificationType.GATHERING_CANCELED.name(),
+                gatheringId,
+                event.canceledAt(),
+                event.canceledBy(),
+                LocalDateTime.now()
+        );
+        log.info("모임 취소 알림 적재: gatheringId={}, {}건", gatheringId, enqueued);
+    }
+
+    // 타이머 스레드에서 트랜잭션 없이 발행됨 → 리포지토리 메서드 자체 트랜잭션
+    @EventListener
+    public void on(GatheringTimerEvent event) {
+        if (event.type() != GatheringTimerType.REMINDER) {
+            return;
+        }
+
+        // dedupe_key에 모임/시간/회원이 들어가므로 여러 노드가 동시에 적재해도 1건
+        outboxRepository.enqueueForActiveParticipants(
+                NotificationType.REMINDER + ":" + event.gatheringId() + ":" + event.hoursBefore() + ":",
+                NotificationType.REMINDER.name(),
+                event.gatheringId(),
+                event.hoursBefore(),
+                LocalDateTime.now()
+        );
+    }
+}
@@ -0,0 +1,55 @@
+package com.book.together.notifications.service;
+
+import com.book.together.common.retention.ChunkedPurger;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 발송 완료/최종 실패한 메일 outbox, 보관 기간이 지난 인박스 기록 정리
+ */
+@RequiredArgsConstructor
+@Component
+public class NotificationRetentionJob {
+
+    private final ChunkedPurger purger;
+
+    private final NotificationMailProperties properties;
+
+    private final InboxProperties inboxProperties;
+
+    @Scheduled(cron = "${notification.mail.retention-cron:0 15 5 * * *}")
+    public void purge() {
+        purger.submit("notification-retention", this::run);
+    }
+
+    // 전용 정리 스레드에서 실행. deadline이 지나면 남은 대상은 바로 건너뛴다
+    private void run(long deadline) {
+        purger.purge(
+                deadline,
+                "notification-outbox",
+                """
+                select id from v1_notification_outbox
+                where created_at < ?
+                  and status in ('SENT', 'FAILED')
+                order by created_at, id
+                """,
+                List.of("delete from v1_notification_outbox where id in (%s)"),
+                LocalDateTime.now().minus(properties.getRetention())
+        );
+
+        purger.purge(
+                deadline,
+                "inbox-entries",
+                """
+                select id from v1_inbox_entries
+                where created_at < ?
+                order by created_at, id
+                """,
+                List.of("delete from v1_inbox_entries where id in (%s)"),
+                LocalDateTime.now().minus(inboxProperties.getRetention())
+        );
+    }
+}
@@ -0,0 +1,49 @@
+package com.book.together.gatherings.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.book.together.gatherings.entity.GatheringLocation;
+import com.book.together.gatherings.entity.GatheringType;
+import com.book.together.gatherings.event.GatheringSnapshot;
+import com.book.together.gatherings.repository.GatheringRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class NearbyGatheringIndexTest {
+
+    private NearbyGatheringIndex index;
+
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        index = new NearbyGatheringIndex(mock(GatheringRepository.class), 0.02);
+        now = LocalDateTime.now();
+        GatheringLocation venue = GatheringLocation.KONKUK_UNIVERSITY_STATION;
+        index.add(new GatheringSnapshot(1L, GatheringType.DALLAEMFIT, "건대 모임", venue,
+                now.plusDays(1), null, 1, 10, 1L, now));
+    }
+
+    @Test
+    @DisplayName("반경 안의 장소에 있는 예정 모임을 찾는다")
+    void findsNearby() {
+        assertThat(index.search(37.54, 127.07, 1.0, now, now.plusDays(7), 10))
+                .extracting(NearbyGatheringIndex.Hit::id)
+                .containsExactly(1L);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"90, 0", "-90, 0", "89.9999, 179.9999", "37.54, -180", "0, 180"})
+    @DisplayName("극지방/날짜변경선 좌표도 장소 수에 비례하는 비용으로 바로 끝난다")
+    void extremeCoordinatesAreBounded(double lat, double lng) {
+        long started = System.nanoTime();
+        assertThat(index.search(lat, lng, 50.0, now, now.plusDays(7), 10)).isEmpty();
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(1));
+    }
+}
@@ -0,0 +1,170 @@
+package com.book.together.gatherings.journal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.book.together.gatherings.service.ParticipationJournalProperties;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+class ParticipationJournalTest {
+
+    private static final long GATHERING_ID = 7L;
+
+    @TempDir
+    Path dir;
+
+    private ParticipationJournal journal;
+
+    @AfterEach
+    void tearDown() {
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    @Test
+    @DisplayName("세그먼트가 차면 다음 세그먼트로 넘어가고, 다시 열어도 seq가 이어진다")
+    void rollsOverAndContinuesAfterReopen() throws IOException {
+        journal = open(3);
+        for (int i = 0; i < 7; i++) {
+            assertThat(append(i)).isEqualTo(i);
+        }
+
+        assertThat(segmentFiles()).hasSize(3);
+        assertThat(journal.history(GATHERING_ID, -1, 100))
+                .extracting(JournalEntry::seq)
+                .containsExactly(0L, 1L, 2L, 3L, 4L, 5L, 6L);
+
+        journal.close();
+        journal = open(3);
+
+        assertThat(append(7)).isEqualTo(7);
+        assertThat(journal.history(GATHERING_ID, 4, 100))
+                .extracting(JournalEntry::seq)
+                .containsExactly(5L, 6L, 7L);
+    }
+
+    @Test
+    @DisplayName("끝에서 끊긴 쓰기(0으로 남은 레코드)는 기동 시 버리고 그 자리부터 다시 쓴다")
+    void recoversTornTail() throws IOException {
+        journal = open(100);
+        for (int i = 0; i < 3; i++) {
+            append(i);
+        }
+        journal.close();
+
+        overwrite(2, new byte[JournalSegment.RECORD_SIZE]);
+        journal = open(100);
+
+        assertThat(journal.history(GATHERING_ID, -1, 100))
+                .extracting(JournalEntry::seq)
+                .containsExactly(0L, 1L);
+        assertThat(append(99)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("crc가 맞지 않는 레코드에서 끝으로 보고 그 뒤 레코드도 버린다")
+    void stopsAtCrcMismatch() throws IOException {
+        journal = open(100);
+        for (int i = 0; i < 4; i++) {
+            append(i);
+        }
+        journal.close();
+
+        // memberId 바이트 하나만 바꿔 crc 불일치를 만든다
+        byte[] record = read(1);
+        record[30] ^= 0x01;
+        overwrite(1, record);
+        journal = open(100);
+
+        assertThat(journal.history(GATHERING_ID, -1, 100))
+                .extracting(JournalEntry::seq)
+                .containsExactly(0L);
+        assertThat(append(99)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재생으로 모임별 참가자 수를 다시 만들고, 돌려받은 seq부터 이어 재생한다")
+    void replayRebuildsParticipantCounts() {
+        journal = open(3);
+        append(1L, 10L, ParticipationAction.JOIN);
+        append(1L, 11L, ParticipationAction.JOIN);
+        append(2L, 10L, ParticipationAction.JOIN);
+        append(1L, 10L, ParticipationAction.LEAVE);
+        append(2L, 12L, ParticipationAction.JOIN);
+
+        Map<Long, Integer> counts = new HashMap<>();
+        Consumer<JournalEntry> counter = entry -> counts.merge(entry.gatheringId(),
+                entry.action() == ParticipationAction.JOIN ? 1 : -1, Integer::sum);
+
+        long next = journal.replay(0, counter);
+        assertThat(next).isEqualTo(5);
+        assertThat(counts).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 1, 2L, 2));
+
+        // 세그먼트 경계를 넘어 새로 쓴 레코드만 이어 재생
+        append(2L, 10L, ParticipationAction.LEAVE);
+        append(1L, 13L, ParticipationAction.JOIN);
+
+        assertThat(journal.replay(next, counter)).isEqualTo(7);
+        assertThat(counts).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 2, 2L, 1));
+    }
+
+    private ParticipationJournal open(int recordsPerSegment) {
+        ParticipationJournalProperties properties = new ParticipationJournalProperties();
+        properties.setDir(dir.toString());
+        properties.setSegmentSize(DataSize.ofBytes(
+                JournalSegment.HEADER_SIZE + (long) recordsPerSegment * JournalSegment.RECORD_SIZE));
+
+        ParticipationJournal opened = new ParticipationJournal(properties);
+        opened.open();
+        assertThat(opened.isAvailable()).isTrue();
+        return opened;
+    }
+
+    private long append(long memberId) {
+        return journal.append(System.currentTimeMillis(), GATHERING_ID, memberId,
+                ParticipationAction.JOIN, ParticipationSource.MEMBER);
+    }
+
+    private void append(long gatheringId, long memberId, ParticipationAction action) {
+        journal.append(System.currentTimeMillis(), gatheringId, memberId, action, ParticipationSource.MEMBER);
+    }
+
+    private Path firstSegment() {
+        return dir.resolve(JournalSegment.fileName(0));
+    }
+
+    private byte[] read(int n) throws IOException {
+        ByteBuffer dst = ByteBuffer.allocate(JournalSegment.RECORD_SIZE);
+        try (FileChannel channel = FileChannel.open(firstSegment(), StandardOpenOption.READ)) {
+            channel.read(dst, JournalSegment.HEADER_SIZE + (long) n * JournalSegment.RECORD_SIZE);
+        }
+        return dst.array();
+    }
+
+    private void overwrite(int n, byte[] record) throws IOException {
+        try (FileChannel channel = FileChannel.open(firstSegment(), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(record), JournalSegment.HEADER_SIZE + (long) n * JournalSegment.RECORD_SIZE);
+        }
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> list = Files.list(dir)) {
+            return list.filter(p -> p.getFileName().toString().endsWith(".seg")).toList();
+        }
+    }
+}
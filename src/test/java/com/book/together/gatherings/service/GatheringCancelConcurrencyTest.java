@@ -0,0 +1,143 @@
+package com.book.together.gatherings.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.book.together.auth.entity.MemberRole;
+import com.book.together.common.cache.TotalCountCache;
+import com.book.together.common.util.CurrentUserInfo;
+import com.book.together.gatherings.cache.NearbyGatheringIndex;
+import com.book.together.gatherings.cache.OccupancyGrid;
+import com.book.together.gatherings.entity.Gathering;
+import com.book.together.gatherings.entity.GatheringLocation;
+import com.book.together.gatherings.entity.GatheringParticipant;
+import com.book.together.gatherings.entity.GatheringType;
+import com.book.together.gatherings.exception.GatheringErrorCode;
+import com.book.together.gatherings.exception.GatheringException;
+import com.book.together.gatherings.repository.GatheringParticipantRepository;
+import com.book.together.gatherings.repository.GatheringRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.RepeatedTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 모임 취소와 참여가 동시에 들어와도 취소된 모임이 되살아나거나 활성 참가자가 남지 않는지 (MySQL 행 잠금 기준)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 각 요청이 실제로 커밋되어야 함
+@Import(GatheringService.class)
+class GatheringCancelConcurrencyTest {
+
+    private static final long HOST_ID = 1L;
+    private static final int JOINERS = 16;
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    private GatheringService gatheringService;
+
+    @Autowired
+    private GatheringRepository gatheringRepository;
+
+    @Autowired
+    private GatheringParticipantRepository gatheringParticipantRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private TotalCountCache totalCountCache;
+
+    @MockitoBean
+    private OccupancyGrid occupancyGrid;
+
+    @MockitoBean
+    private NearbyGatheringIndex nearbyGatheringIndex;
+
+    @MockitoBean
+    private GatheringViewService gatheringViewService;
+
+    @MockitoBean
+    private GatheringFavoriteService gatheringFavoriteService;
+
+    @RepeatedTest(5)
+    @DisplayName("취소와 동시에 들어온 참여는 취소 전에 끝나 함께 취소되거나, 취소된 모임으로 거절된다")
+    void cancelWhileJoining() throws Exception {
+        Long gatheringId = createGathering();
+
+        ExecutorService pool = Executors.newFixedThreadPool(JOINERS + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < JOINERS; i++) {
+                long memberId = 100L + i;
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    try {
+                        gatheringService.join(gatheringId, CurrentUserInfo.of(memberId, MemberRole.USER));
+                    } catch (GatheringException e) {
+                        assertThat(e.getErrorCode()).isEqualTo(GatheringErrorCode.GATHERING_CANCELED);
+                    }
+                    return null;
+                }));
+            }
+            futures.add(pool.submit(() -> {
+                start.await();
+                gatheringService.cancel(gatheringId, CurrentUserInfo.of(HOST_ID, MemberRole.USER));
+                return null;
+            }));
+
+            start.countDown();
+            for (Future<?> f : futures) {
+                f.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        Gathering gathering = gatheringRepository.findById(gatheringId).orElseThrow();
+        assertThat(gathering.getCanceledAt()).isNotNull();
+        assertThat(gatheringParticipantRepository.findActiveMemberIds(gatheringId)).isEmpty();
+    }
+
+    private Long createGathering() {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            Gathering gathering = Gathering.of(
+                    GatheringType.DALLAEMFIT,
+                    "동시성 테스트",
+                    LocalDateTime.now().plusDays(7),
+                    LocalDateTime.now().plusDays(6),
+                    GatheringLocation.KONKUK_UNIVERSITY_STATION,
+                    JOINERS + 10,
+                    null,
+                    HOST_ID
+            );
+            gathering.addParticipant(GatheringParticipant.join(gathering, HOST_ID));
+            gathering.increaseParticipantCount();
+            return gatheringRepository.save(gathering).getId();
+        });
+    }
+}
@@ -0,0 +1,91 @@
+package com.book.together.gatherings.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.book.together.auth.entity.MemberRole;
+import com.book.together.common.util.CurrentUserInfo;
+import com.book.together.gatherings.dto.request.CreateGatheringRequest;
+import com.book.together.gatherings.dto.response.GatheringImportResponse;
+import com.book.together.gatherings.entity.GatheringLocation;
+import com.book.together.gatherings.entity.GatheringType;
+import com.book.together.gatherings.exception.GatheringErrorCode;
+import com.book.together.gatherings.repository.GatheringJdbcRepository;
+import com.book.together.gatherings.repository.GatheringRepository;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 컬럼 길이를 넘는 행이 있어도 나머지 행은 등록되고, 그 행만 실패로 보고되는지
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 대량 등록 트랜잭션이 실제로 커밋되어야 함
+@Import({GatheringImportService.class, GatheringJdbcRepository.class, GatheringImportProperties.class})
+class GatheringImportServiceTest {
+
+    private static final long HOST_ID = 1L;
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    private GatheringImportService importService;
+
+    @Autowired
+    private GatheringRepository gatheringRepository;
+
+    @Test
+    @DisplayName("name/image가 255자를 넘는 행은 INVALID_IMPORT로 거르고 나머지는 등록한다")
+    void rejectsOversizedColumnsPerRow() {
+        LocalDateTime dateTime = LocalDateTime.now().plusDays(3).truncatedTo(ChronoUnit.HOURS);
+
+        GatheringImportResponse response = importService.importJson(List.of(
+                request("정상 모임", null, dateTime),
+                request("가".repeat(256), null, dateTime.plusHours(1)),
+                request("이미지 긴 모임", "/images/" + "a".repeat(300) + ".jpg", dateTime.plusHours(2)),
+                request("가".repeat(255), null, dateTime.plusHours(3))
+        ), CurrentUserInfo.of(HOST_ID, MemberRole.USER));
+
+        assertThat(response.created()).isEqualTo(2);
+        assertThat(response.failed()).isEqualTo(2);
+
+        List<GatheringImportResponse.Result> results = response.results();
+        assertThat(results.get(0).id()).isNotNull();
+        assertThat(results.get(1).id()).isNull();
+        assertThat(results.get(1).error())
+                .isEqualTo(GatheringErrorCode.INVALID_IMPORT.format("name은(는) 255자 이하여야 합니다."));
+        assertThat(results.get(2).id()).isNull();
+        assertThat(results.get(2).error())
+                .isEqualTo(GatheringErrorCode.INVALID_IMPORT.format("image은(는) 255자 이하여야 합니다."));
+        assertThat(results.get(3).id()).isNotNull();
+
+        assertThat(gatheringRepository.findAllById(List.of(results.get(0).id(), results.get(3).id()))).hasSize(2);
+    }
+
+    private static CreateGatheringRequest request(String name, String image, LocalDateTime dateTime) {
+        return new CreateGatheringRequest(
+                GatheringLocation.KONKUK_UNIVERSITY_STATION.getName(),
+                GatheringType.DALLAEMFIT,
+                name,
+                dateTime,
+                10,
+                image,
+                null
+        );
+    }
+}
@@ -0,0 +1,163 @@
+package com.book.together.notifications.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.book.together.notifications.entity.NotificationStatus;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.internet.MimeMessage;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.mail.MailSenderAutoConfiguration;
+import org.springframework.boot.autoconfigure.thymeleaf.ThymeleafAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 메일 outbox 발송: 점유 → 실제 SMTP(GreenMail) 발송 → 실패 시 재시도 → 한도 초과 시 FAILED
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 점유/결과 기록이 실제로 커밋되어야 함
+@ImportAutoConfiguration({MailSenderAutoConfiguration.class, ThymeleafAutoConfiguration.class})
+@Import({NotificationDispatcher.class, NotificationMailProperties.class})
+class NotificationDispatcherTest {
+
+    private static final int MAX_ATTEMPTS = 2;
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @DynamicPropertySource
+    static void mail(DynamicPropertyRegistry registry) {
+        registry.add("spring.mail.host", () -> "127.0.0.1");
+        registry.add("spring.mail.port", ServerSetupTest.SMTP::getPort);
+    }
+
+    @Autowired
+    private NotificationDispatcher dispatcher;
+
+    @Autowired
+    private NotificationMailProperties properties;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        properties.setMaxAttempts(MAX_ATTEMPTS);
+        properties.setBackoffBase(Duration.ZERO); // 실패 직후 다시 점유할 수 있게
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from v1_notification_outbox");
+    }
+
+    @Test
+    @DisplayName("점유한 메일을 SMTP로 보내고 SENT로 기록한다")
+    void send() throws Exception {
+        enqueue("a@together.local");
+        enqueue("b@together.local");
+        enqueue("c@together.local");
+
+        dispatcher.dispatchBatch();
+
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertThat(received).hasSize(3);
+        assertThat(received[0].getSubject()).contains("저녁 독서 모임");
+        assertThat(rows()).allSatisfy(row -> {
+            assertThat(row.get("status")).isEqualTo(NotificationStatus.SENT.name());
+            assertThat(row.get("attempts")).isEqualTo(1);
+            assertThat(row.get("claim_token")).isNull();
+        });
+    }
+
+    @Test
+    @DisplayName("SMTP 연결이 실패하면 PENDING으로 되돌리고, 다음 폴링에서 다시 보낸다")
+    void retry() {
+        enqueue("a@together.local");
+
+        greenMail.stop();
+        dispatcher.dispatchBatch();
+
+        assertThat(rows()).singleElement().satisfies(row -> {
+            assertThat(row.get("status")).isEqualTo(NotificationStatus.PENDING.name());
+            assertThat(row.get("attempts")).isEqualTo(1);
+            assertThat(row.get("last_error")).isNotNull();
+        });
+
+        greenMail.start();
+        dispatcher.dispatchBatch();
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(1);
+        assertThat(rows()).singleElement().satisfies(row -> {
+            assertThat(row.get("status")).isEqualTo(NotificationStatus.SENT.name());
+            assertThat(row.get("attempts")).isEqualTo(2);
+        });
+    }
+
+    @Test
+    @DisplayName("max-attempts번 실패하면 FAILED로 남기고 더는 점유하지 않는다")
+    void deadLetter() {
+        enqueue("a@together.local");
+
+        greenMail.stop();
+        for (int i = 0; i < MAX_ATTEMPTS; i++) {
+            dispatcher.dispatchBatch();
+        }
+
+        assertThat(rows()).singleElement().satisfies(row -> {
+            assertThat(row.get("status")).isEqualTo(NotificationStatus.FAILED.name());
+            assertThat(row.get("attempts")).isEqualTo(MAX_ATTEMPTS);
+        });
+
+        greenMail.start();
+        dispatcher.dispatchBatch();
+
+        assertThat(greenMail.getReceivedMessages()).isEmpty();
+        assertThat(rows()).singleElement()
+                .satisfies(row -> assertThat(row.get("status")).isEqualTo(NotificationStatus.FAILED.name()));
+    }
+
+    private void enqueue(String email) {
+        LocalDateTime now = LocalDateTime.now().minusSeconds(1);
+        jdbcTemplate.update("""
+                insert into v1_notification_outbox
+                    (dedupe_key, type, member_id, gathering_id, recipient_email, recipient_name,
+                     gathering_name, gathering_date_time, gathering_location, hours_before,
+                     status, attempts, next_attempt_at, created_at)
+                values (?, 'JOINED', 1, 1, ?, '회원', '저녁 독서 모임', ?, 'KONKUK_UNIVERSITY_STATION', null,
+                        'PENDING', 0, ?, ?)
+                """, "joined:1:" + email, email, now.plusDays(1), now, now);
+    }
+
+    private List<Map<String, Object>> rows() {
+        return jdbcTemplate.queryForList(
+                "select status, attempts, claim_token, last_error from v1_notification_outbox order by id");
+    }
+}